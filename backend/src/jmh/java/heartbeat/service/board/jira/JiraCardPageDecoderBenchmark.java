@@ -0,0 +1,175 @@
+package heartbeat.service.board.jira;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.reflect.TypeToken;
+import heartbeat.client.dto.board.jira.AllCardsResponseDTO;
+import heartbeat.client.dto.board.jira.JiraCard;
+import heartbeat.client.dto.board.jira.Sprint;
+import heartbeat.controller.board.dto.response.CardCustomFieldKey;
+import heartbeat.controller.board.dto.response.TargetField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JiraCardPageDecoderBenchmark {
+
+	private static final List<TargetField> TARGET_FIELDS = List.of(
+			new TargetField("customfield_10016", "Story point estimate", false),
+			new TargetField("customfield_10020", "Sprint", false),
+			new TargetField("customfield_10021", "Flagged", false), new TargetField("labels", "Labels", false));
+
+	@Param({ "100", "1000", "10000" })
+	private int issueCount;
+
+	private final Gson gson = new Gson();
+
+	private final JiraCardPageDecoder decoder = new JiraCardPageDecoder(gson);
+
+	private CardCustomFieldKey cardCustomFieldKey;
+
+	private String page;
+
+	@Setup
+	public void setUp() throws IOException {
+		String issue;
+		try (InputStream inputStream = getClass().getResourceAsStream("/jira-issue-sample.json")) {
+			issue = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+		}
+		StringJoiner issues = new StringJoiner(",", "[", "]");
+		for (int index = 0; index < issueCount; index++) {
+			issues.add(issue.replace("ADM-455", "ADM-" + index));
+		}
+		page = "{\"expand\":\"schema,names\",\"startAt\":0,\"maxResults\":" + issueCount + ",\"total\":" + issueCount
+				+ ",\"issues\":" + issues + "}";
+		cardCustomFieldKey = CardCustomFieldKey.builder()
+			.storyPoints("customfield_10016")
+			.sprint("customfield_10020")
+			.flagged("customfield_10021")
+			.build();
+	}
+
+	@Benchmark
+	public AllCardsResponseDTO streamingDecoder() {
+		return decoder.decode(page, TARGET_FIELDS, cardCustomFieldKey);
+	}
+
+	@Benchmark
+	public AllCardsResponseDTO legacyFormatAllCards() {
+		return LegacyFormatAllCards.format(page, TARGET_FIELDS, cardCustomFieldKey);
+	}
+
+	// formatAllCards as it was before JiraCardPageDecoder, kept as the baseline
+	private static final class LegacyFormatAllCards {
+
+		private static AllCardsResponseDTO format(String allCardResponse, List<TargetField> targetFields,
+				CardCustomFieldKey cardCustomFieldKey) {
+			AllCardsResponseDTO allCardsResponseDTO = new Gson().fromJson(allCardResponse, AllCardsResponseDTO.class);
+			List<JiraCard> jiraCards = allCardsResponseDTO.getIssues();
+
+			JsonArray elements = JsonParser.parseString(allCardResponse)
+				.getAsJsonObject()
+				.get("issues")
+				.getAsJsonArray();
+			List<Map<String, JsonElement>> customFieldMapList = new ArrayList<>();
+			ArrayList<Double> storyPointList = new ArrayList<>();
+			Map<String, Sprint> sprintMap = new HashMap<>();
+			Map<String, String> resultMap = targetFields.stream()
+				.collect(Collectors.toMap(TargetField::getKey, TargetField::getName));
+			for (JsonElement element : elements) {
+				JsonObject jsonElement = element.getAsJsonObject().get("fields").getAsJsonObject();
+				JsonElement storyPoints = jsonElement.getAsJsonObject().get(cardCustomFieldKey.getStoryPoints());
+				if (storyPoints == null || storyPoints.isJsonNull() || cardCustomFieldKey.isInTargetField()) {
+					storyPointList.add(0.0);
+				}
+				else {
+					storyPointList.add(storyPoints.getAsDouble());
+				}
+				for (int index = 0; index < jiraCards.size(); index++) {
+					if (storyPointList.size() > index) {
+						jiraCards.get(index).getFields().setStoryPoints(storyPointList.get(index));
+					}
+				}
+				customFieldMapList.add(getCustomFieldMap(element, resultMap, jsonElement, sprintMap));
+			}
+			for (int index = 0; index < customFieldMapList.size(); index++) {
+				jiraCards.get(index).getFields().setCustomFields(customFieldMapList.get(index));
+			}
+			jiraCards.forEach(jiraCard -> jiraCard.getFields().setSprint(sprintMap.get(jiraCard.getKey())));
+			return allCardsResponseDTO;
+		}
+
+		private static Map<String, JsonElement> getCustomFieldMap(JsonElement element, Map<String, String> resultMap,
+				JsonObject jsonElement, Map<String, Sprint> sprintMap) {
+			Map<String, JsonElement> customFieldMap = new HashMap<>();
+			resultMap.forEach((customFieldKey, customFieldValue) -> {
+				if (jsonElement.has(customFieldKey)) {
+					JsonElement fieldValue = jsonElement.get(customFieldKey);
+					switch (customFieldValue) {
+						case "Sprint" -> {
+							Sprint sprint = getSprint(fieldValue);
+							if (sprint != null) {
+								sprintMap.put(element.getAsJsonObject().get("key").getAsString(), sprint);
+							}
+						}
+						case "Story point estimate" -> {
+							if (fieldValue.isJsonPrimitive() && fieldValue.getAsJsonPrimitive().isNumber()) {
+								fieldValue = new JsonPrimitive(fieldValue.getAsDouble());
+							}
+						}
+						case "Flagged" -> {
+							if (fieldValue.isJsonArray() && !fieldValue.getAsJsonArray().isEmpty()) {
+								JsonArray jsonArray = fieldValue.getAsJsonArray();
+								fieldValue = jsonArray.get(jsonArray.size() - 1).getAsJsonObject().get("value");
+							}
+						}
+						default -> {
+						}
+					}
+					customFieldMap.put(customFieldKey, fieldValue);
+				}
+			});
+			return customFieldMap;
+		}
+
+		private static Sprint getSprint(JsonElement fieldValue) {
+			if (fieldValue.isJsonArray() && !fieldValue.getAsJsonArray().isEmpty()) {
+				Type listType = new TypeToken<List<Sprint>>() {
+				}.getType();
+				List<Sprint> sprints = new Gson().fromJson(fieldValue.getAsJsonArray(), listType);
+				sprints.sort(Comparator.comparing(Sprint::getCompleteDate,
+						Comparator.nullsLast(Comparator.comparing(ZonedDateTime::parse))));
+				return sprints.get(sprints.size() - 1);
+			}
+			return null;
+		}
+
+	}
+
+}
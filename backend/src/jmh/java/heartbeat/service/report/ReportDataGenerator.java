@@ -0,0 +1,289 @@
+package heartbeat.service.report;
+
+import com.google.gson.JsonPrimitive;
+import heartbeat.client.dto.board.jira.Assignee;
+import heartbeat.client.dto.board.jira.JiraCard;
+import heartbeat.client.dto.board.jira.JiraCardField;
+import heartbeat.client.dto.board.jira.Status;
+import heartbeat.client.dto.codebase.github.LeadTime;
+import heartbeat.client.dto.codebase.github.PipelineLeadTime;
+import heartbeat.client.dto.codebase.github.SourceControlLeadTime;
+import heartbeat.client.dto.pipeline.buildkite.DeployInfo;
+import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
+import heartbeat.controller.board.dto.request.RequestJiraBoardColumnSetting;
+import heartbeat.controller.board.dto.response.CardCollection;
+import heartbeat.controller.board.dto.response.CycleTimeInfo;
+import heartbeat.controller.board.dto.response.JiraCardDTO;
+import heartbeat.controller.board.dto.response.StatusChangedItem;
+import heartbeat.controller.board.dto.response.TargetField;
+import heartbeat.controller.pipeline.dto.request.DeploymentEnvironment;
+import heartbeat.controller.report.dto.request.BuildKiteSetting;
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.controller.report.dto.request.CodeBase;
+import heartbeat.controller.report.dto.request.CodebaseSetting;
+import heartbeat.controller.report.dto.request.GenerateReportRequest;
+import heartbeat.service.report.calculator.model.FetchedData;
+import heartbeat.service.report.calculator.model.FetchedData.BuildKiteData;
+import heartbeat.service.report.calculator.model.FetchedData.RepoData;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// deterministic synthetic report inputs, so results of different runs can be compared
+public final class ReportDataGenerator {
+
+	public static final long START_TIME = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+	public static final long END_TIME = Instant.parse("2024-03-31T00:00:00Z").toEpochMilli();
+
+	public static final int PIPELINE_COUNT = 10;
+
+	public static final List<String> REAL_DONE_STATUS = List.of("DONE");
+
+	private static final long ONE_HOUR = 1000L * 60 * 60;
+
+	private static final long ONE_DAY = ONE_HOUR * 24;
+
+	private static final String[] STATUSES = { "To do", "Doing", "Blocked", "Review", "Testing", "Done" };
+
+	private static final String[] STATUS_VALUES = { "To do", "In Dev", "Block", "Review", "Testing", "Done" };
+
+	private static final String[] ASSIGNEES = { "Alice", "Bob", "Carol", "Dave", "Eve" };
+
+	private static final String[] LABELS = { "backend", "frontend", "ops", "bug", "tech-debt" };
+
+	private static final String TEAM_FIELD = "customfield_10030";
+
+	private ReportDataGenerator() {
+	}
+
+	public static List<List<StatusChangedItem>> statusHistories(int cardCount) {
+		Random random = new Random(42);
+		List<List<StatusChangedItem>> histories = new ArrayList<>(cardCount);
+		for (int card = 0; card < cardCount; card++) {
+			List<StatusChangedItem> history = new ArrayList<>();
+			long timestamp = START_TIME + random.nextInt(60) * ONE_DAY;
+			for (String status : STATUSES) {
+				history.add(StatusChangedItem.builder().timestamp(timestamp).status(status).build());
+				if (random.nextInt(4) == 0) {
+					long flaggedAt = timestamp + random.nextInt(8) * ONE_HOUR;
+					history.add(StatusChangedItem.builder().timestamp(flaggedAt).status("FLAG").build());
+					history.add(StatusChangedItem.builder()
+						.timestamp(flaggedAt + (1 + random.nextInt(48)) * ONE_HOUR)
+						.status("removeFlag")
+						.build());
+				}
+				timestamp += (1 + random.nextInt(72)) * ONE_HOUR;
+			}
+			histories.add(history);
+		}
+		return histories;
+	}
+
+	public static CardCollection cards(int cardCount) {
+		Random random = new Random(42);
+		List<JiraCardDTO> jiraCards = new ArrayList<>(cardCount);
+		double storyPointSum = 0;
+		for (int card = 0; card < cardCount; card++) {
+			double storyPoints = 1 + random.nextInt(8);
+			storyPointSum += storyPoints;
+			List<CycleTimeInfo> cycleTime = new ArrayList<>();
+			for (String status : STATUSES) {
+				cycleTime.add(new CycleTimeInfo(status.toUpperCase(), random.nextInt(500) / 100.0));
+			}
+			if (random.nextInt(4) == 0) {
+				cycleTime.add(new CycleTimeInfo("FLAG", random.nextInt(200) / 100.0));
+			}
+			JiraCardField fields = JiraCardField.builder()
+				.summary("Card " + card)
+				.status(Status.builder().name("Done").displayValue("Done").build())
+				.assignee(Assignee.builder().displayName(ASSIGNEES[random.nextInt(ASSIGNEES.length)]).build())
+				.labels(List.of(LABELS[random.nextInt(LABELS.length)]))
+				.storyPoints(storyPoints)
+				.customFields(Map.of(TEAM_FIELD, new JsonPrimitive("Team " + random.nextInt(4))))
+				.build();
+			jiraCards.add(JiraCardDTO.builder()
+				.baseInfo(JiraCard.builder().key("ADM-" + card).fields(fields).build())
+				.cycleTime(cycleTime)
+				.build());
+		}
+		return CardCollection.builder()
+			.cardsNumber(cardCount)
+			.storyPointSum(storyPointSum)
+			.jiraCardDTOList(jiraCards)
+			.build();
+	}
+
+	public static List<RequestJiraBoardColumnSetting> boardColumns() {
+		List<RequestJiraBoardColumnSetting> boardColumns = new ArrayList<>();
+		for (int index = 0; index < STATUSES.length; index++) {
+			boardColumns.add(new RequestJiraBoardColumnSetting(STATUSES[index], STATUS_VALUES[index]));
+		}
+		return boardColumns;
+	}
+
+	public static List<TargetField> classificationFields() {
+		return List.of(new TargetField("assignee", "Assignee", true), new TargetField("labels", "Labels", true),
+				new TargetField(TEAM_FIELD, "Team", true), new TargetField("summary", "Summary", false));
+	}
+
+	public static List<DeployTimes> deployTimes(int buildCount) {
+		Random random = new Random(42);
+		List<DeployTimes> deployTimes = new ArrayList<>(PIPELINE_COUNT);
+		int buildsPerPipeline = buildCount / PIPELINE_COUNT;
+		for (int pipeline = 0; pipeline < PIPELINE_COUNT; pipeline++) {
+			List<DeployInfo> passed = new ArrayList<>();
+			List<DeployInfo> failed = new ArrayList<>();
+			long interval = (END_TIME - START_TIME) / buildsPerPipeline;
+			for (int build = 0; build < buildsPerPipeline; build++) {
+				long createdAt = START_TIME + build * interval;
+				boolean isPassed = random.nextInt(5) != 0;
+				DeployInfo deployInfo = DeployInfo.builder()
+					.pipelineCreateTime(Instant.ofEpochMilli(createdAt).toString())
+					.jobStartTime(Instant.ofEpochMilli(createdAt + ONE_HOUR / 4).toString())
+					.jobFinishTime(Instant.ofEpochMilli(createdAt + ONE_HOUR / 2).toString())
+					.commitId(commitId(pipeline, build))
+					.state(isPassed ? "passed" : "failed")
+					.isPipelineCanceled(false)
+					.jobName(pipelineStep(pipeline))
+					.build();
+				(isPassed ? passed : failed).add(deployInfo);
+			}
+			deployTimes.add(DeployTimes.builder()
+				.pipelineId("pipeline-" + pipeline)
+				.pipelineName(pipelineName(pipeline))
+				.pipelineStep(pipelineStep(pipeline))
+				.passed(passed)
+				.failed(failed)
+				.build());
+		}
+		return deployTimes;
+	}
+
+	public static FetchedData leadTimeData(int leadTimeCount) {
+		Random random = new Random(42);
+		List<PipelineLeadTime> pipelineLeadTimes = new ArrayList<>(PIPELINE_COUNT);
+		List<SourceControlLeadTime> sourceControlLeadTimes = new ArrayList<>(PIPELINE_COUNT);
+		int leadTimesPerPipeline = leadTimeCount / PIPELINE_COUNT;
+		for (int pipeline = 0; pipeline < PIPELINE_COUNT; pipeline++) {
+			List<LeadTime> leadTimes = new ArrayList<>(leadTimesPerPipeline);
+			for (int index = 0; index < leadTimesPerPipeline; index++) {
+				leadTimes.add(leadTime(random, pipeline, index));
+			}
+			pipelineLeadTimes.add(PipelineLeadTime.builder()
+				.pipelineName(pipelineName(pipeline))
+				.pipelineStep(pipelineStep(pipeline))
+				.leadTimes(leadTimes)
+				.build());
+			sourceControlLeadTimes.add(SourceControlLeadTime.builder()
+				.organization("au-heartbeat")
+				.repo("repo-" + pipeline)
+				.branch("main")
+				.leadTimes(leadTimes)
+				.build());
+		}
+		FetchedData fetchedData = new FetchedData();
+		BuildKiteData buildKiteData = new BuildKiteData();
+		buildKiteData.setPipelineLeadTimes(pipelineLeadTimes);
+		fetchedData.setBuildKiteData(buildKiteData);
+		fetchedData.setRepoData(RepoData.builder().sourceControlLeadTimes(sourceControlLeadTimes).build());
+		return fetchedData;
+	}
+
+	public static GenerateReportRequest request() {
+		List<DeploymentEnvironment> deploymentEnvironments = new ArrayList<>();
+		List<CodeBase> codeBases = new ArrayList<>();
+		for (int pipeline = 0; pipeline < PIPELINE_COUNT; pipeline++) {
+			deploymentEnvironments.add(DeploymentEnvironment.builder()
+				.id("pipeline-" + pipeline)
+				.name(pipelineName(pipeline))
+				.step(pipelineStep(pipeline))
+				.build());
+			codeBases.add(CodeBase.builder()
+				.organization("au-heartbeat")
+				.repo("repo-" + pipeline)
+				.branches(List.of("main"))
+				.build());
+		}
+		return GenerateReportRequest.builder()
+			.startTime(String.valueOf(START_TIME))
+			.endTime(String.valueOf(END_TIME))
+			.timezone("Asia/Shanghai")
+			.calendarType(CalendarTypeEnum.REGULAR)
+			.buildKiteSetting(BuildKiteSetting.builder().deploymentEnvList(deploymentEnvironments).build())
+			.codebaseSetting(CodebaseSetting.builder().codebases(codeBases).build())
+			.build();
+	}
+
+	public static long[][] timeRanges(int rangeCount) {
+		Random random = new Random(42);
+		long[][] timeRanges = new long[rangeCount][];
+		for (int index = 0; index < rangeCount; index++) {
+			long start = START_TIME + (long) (random.nextDouble() * (END_TIME - START_TIME));
+			timeRanges[index] = new long[] { start, start + (long) (random.nextDouble() * 30 * ONE_DAY) };
+		}
+		return timeRanges;
+	}
+
+	// a holiday week every other month plus a few single days, roughly the size of a real country calendar
+	public static WorkDay workDay() {
+		RegularHoliday holidays = new RegularHoliday(null) {
+			@Override
+			public Map<String, Boolean> loadHolidayList(String year) {
+				Map<String, Boolean> holidayMap = new HashMap<>();
+				for (int month = 1; month <= 12; month += 2) {
+					LocalDate firstDay = LocalDate.of(Integer.parseInt(year), month, 1);
+					for (int day = 0; day < 7; day++) {
+						holidayMap.put(firstDay.plusDays(day).toString(), true);
+					}
+					holidayMap.put(firstDay.plusDays(10).toString(), false);
+					holidayMap.put(firstDay.plusDays(20).toString(), true);
+				}
+				return holidayMap;
+			}
+		};
+		return new WorkDay(new CalendarRegistry(new HolidayFactory(null, null, holidays), Runnable::run));
+	}
+
+	private static LeadTime leadTime(Random random, int pipeline, int index) {
+		long firstCommitTime = START_TIME + (long) (random.nextDouble() * (END_TIME - START_TIME));
+		long prCreatedTime = firstCommitTime + random.nextInt(48) * ONE_HOUR;
+		long prMergedTime = prCreatedTime + random.nextInt(72) * ONE_HOUR;
+		long jobStartTime = prMergedTime + random.nextInt(4) * ONE_HOUR;
+		long jobFinishTime = jobStartTime + ONE_HOUR / 2;
+		return LeadTime.builder()
+			.commitId(commitId(pipeline, index))
+			.committer(ASSIGNEES[random.nextInt(ASSIGNEES.length)])
+			.pullNumber(index)
+			.firstCommitTimeInPr(firstCommitTime)
+			.firstCommitTime(firstCommitTime)
+			.prCreatedTime(prCreatedTime)
+			.prMergedTime(prMergedTime)
+			.pipelineCreateTime(jobStartTime)
+			.jobStartTime(jobStartTime)
+			.jobFinishTime(jobFinishTime)
+			.isRevert(false)
+			.prLeadTime(prMergedTime - firstCommitTime)
+			.pipelineLeadTime(jobFinishTime - prMergedTime)
+			.totalTime(jobFinishTime - firstCommitTime)
+			.build();
+	}
+
+	private static String pipelineName(int pipeline) {
+		return "pipeline-" + pipeline;
+	}
+
+	private static String pipelineStep(int pipeline) {
+		return ":rocket: deploy " + pipeline;
+	}
+
+	private static String commitId(int pipeline, int index) {
+		return String.format("%08x%08x", pipeline, index);
+	}
+
+}
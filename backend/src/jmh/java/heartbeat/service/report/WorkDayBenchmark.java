@@ -0,0 +1,56 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkDayBenchmark {
+
+	private static final ZoneId TIMEZONE = ZoneId.of("Asia/Shanghai");
+
+	@Param({ "1000", "10000", "100000" })
+	private int rangeCount;
+
+	private final WorkDay workDay = ReportDataGenerator.workDay();
+
+	private long[][] timeRanges;
+
+	@Setup
+	public void setUp() {
+		timeRanges = ReportDataGenerator.timeRanges(rangeCount);
+	}
+
+	@Benchmark
+	public double calculateWorkDaysToTwoScale() {
+		double total = 0;
+		for (long[] timeRange : timeRanges) {
+			total += workDay.calculateWorkDaysToTwoScale(timeRange[0], timeRange[1], CalendarTypeEnum.REGULAR,
+					TIMEZONE);
+		}
+		return total;
+	}
+
+	@Benchmark
+	public long calculateWorkTimeAndHolidayBetween() {
+		long total = 0;
+		for (long[] timeRange : timeRanges) {
+			total += workDay
+				.calculateWorkTimeAndHolidayBetween(timeRange[0], timeRange[1], CalendarTypeEnum.REGULAR, TIMEZONE)
+				.getWorkTime();
+		}
+		return total;
+	}
+
+}
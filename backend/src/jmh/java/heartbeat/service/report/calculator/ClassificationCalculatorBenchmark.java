@@ -0,0 +1,44 @@
+package heartbeat.service.report.calculator;
+
+import heartbeat.controller.board.dto.response.CardCollection;
+import heartbeat.controller.board.dto.response.TargetField;
+import heartbeat.controller.report.dto.response.Classification;
+import heartbeat.service.report.ReportDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassificationCalculatorBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int cardCount;
+
+	private final ClassificationCalculator classificationCalculator = new ClassificationCalculator();
+
+	private CardCollection cards;
+
+	private List<TargetField> classificationFields;
+
+	@Setup
+	public void setUp() {
+		cards = ReportDataGenerator.cards(cardCount);
+		classificationFields = ReportDataGenerator.classificationFields();
+	}
+
+	@Benchmark
+	public List<Classification> calculate() {
+		return classificationCalculator.calculate(classificationFields, cards);
+	}
+
+}
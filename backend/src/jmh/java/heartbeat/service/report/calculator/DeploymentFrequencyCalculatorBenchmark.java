@@ -0,0 +1,44 @@
+package heartbeat.service.report.calculator;
+
+import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.controller.report.dto.response.DeploymentFrequency;
+import heartbeat.service.report.ReportDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeploymentFrequencyCalculatorBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int buildCount;
+
+	private final DeploymentFrequencyCalculator deploymentFrequencyCalculator = new DeploymentFrequencyCalculator(
+			ReportDataGenerator.workDay());
+
+	private List<DeployTimes> deployTimes;
+
+	@Setup
+	public void setUp() {
+		deployTimes = ReportDataGenerator.deployTimes(buildCount);
+	}
+
+	@Benchmark
+	public DeploymentFrequency calculate() {
+		return deploymentFrequencyCalculator.calculate(deployTimes, ReportDataGenerator.START_TIME,
+				ReportDataGenerator.END_TIME, CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
+	}
+
+}
@@ -0,0 +1,43 @@
+package heartbeat.service.report.calculator;
+
+import heartbeat.controller.report.dto.request.GenerateReportRequest;
+import heartbeat.controller.report.dto.response.LeadTimeForChanges;
+import heartbeat.service.report.ReportDataGenerator;
+import heartbeat.service.report.calculator.model.FetchedData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LeadTimeForChangesCalculatorBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int leadTimeCount;
+
+	private final LeadTimeForChangesCalculator leadTimeForChangesCalculator = new LeadTimeForChangesCalculator();
+
+	private FetchedData fetchedData;
+
+	private GenerateReportRequest request;
+
+	@Setup
+	public void setUp() {
+		fetchedData = ReportDataGenerator.leadTimeData(leadTimeCount);
+		request = ReportDataGenerator.request();
+	}
+
+	@Benchmark
+	public LeadTimeForChanges calculate() {
+		return leadTimeForChangesCalculator.calculate(fetchedData, request);
+	}
+
+}
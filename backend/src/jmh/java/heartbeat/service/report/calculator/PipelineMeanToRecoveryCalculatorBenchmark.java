@@ -0,0 +1,45 @@
+package heartbeat.service.report.calculator;
+
+import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
+import heartbeat.controller.report.dto.request.GenerateReportRequest;
+import heartbeat.controller.report.dto.response.PipelineMeanTimeToRecovery;
+import heartbeat.service.report.ReportDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PipelineMeanToRecoveryCalculatorBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int buildCount;
+
+	private final PipelineMeanToRecoveryCalculator meanToRecoveryCalculator = new PipelineMeanToRecoveryCalculator(
+			ReportDataGenerator.workDay());
+
+	private List<DeployTimes> deployTimes;
+
+	private GenerateReportRequest request;
+
+	@Setup
+	public void setUp() {
+		deployTimes = ReportDataGenerator.deployTimes(buildCount);
+		request = ReportDataGenerator.request();
+	}
+
+	@Benchmark
+	public PipelineMeanTimeToRecovery calculate() {
+		return meanToRecoveryCalculator.calculate(deployTimes, request);
+	}
+
+}
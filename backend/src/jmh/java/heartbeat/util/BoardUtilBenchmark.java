@@ -0,0 +1,55 @@
+package heartbeat.util;
+
+import heartbeat.controller.board.dto.response.StatusChangedItem;
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.service.report.ReportDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardUtilBenchmark {
+
+	private static final ZoneId TIMEZONE = ZoneId.of("Asia/Shanghai");
+
+	@Param({ "1000", "10000", "100000" })
+	private int cardCount;
+
+	private final BoardUtil boardUtil = new BoardUtil(ReportDataGenerator.workDay());
+
+	private List<List<StatusChangedItem>> statusHistories;
+
+	@Setup
+	public void setUp() {
+		statusHistories = ReportDataGenerator.statusHistories(cardCount);
+	}
+
+	@Benchmark
+	public void getCycleTimeInfos(Blackhole blackhole) {
+		for (List<StatusChangedItem> statusHistory : statusHistories) {
+			blackhole.consume(boardUtil.getCycleTimeInfos(statusHistory, ReportDataGenerator.REAL_DONE_STATUS, true,
+					CalendarTypeEnum.REGULAR, TIMEZONE));
+		}
+	}
+
+	@Benchmark
+	public void getOriginCycleTimeInfos(Blackhole blackhole) {
+		for (List<StatusChangedItem> statusHistory : statusHistories) {
+			blackhole.consume(boardUtil.getOriginCycleTimeInfos(statusHistory, true, CalendarTypeEnum.REGULAR,
+					TIMEZONE));
+		}
+	}
+
+}
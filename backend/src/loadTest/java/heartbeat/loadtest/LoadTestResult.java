@@ -0,0 +1,105 @@
+package heartbeat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestResult {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private int reports;
+
+	private int concurrency;
+
+	private long latencyMs;
+
+	private int cardPages;
+
+	private int buildPages;
+
+	private int pipelines;
+
+	private int completed;
+
+	private int failed;
+
+	private double throughputPerMinute;
+
+	private long p50Millis;
+
+	private long p99Millis;
+
+	private long maxMillis;
+
+	private int peakActiveThreads;
+
+	private int peakQueueSize;
+
+	private long peakHeapBytes;
+
+	private long upstreamRequests;
+
+	public static long percentile(long[] sortedMillis, double percentile) {
+		if (sortedMillis.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sortedMillis.length) - 1;
+		return sortedMillis[Math.max(0, Math.min(index, sortedMillis.length - 1))];
+	}
+
+	public static long[] sorted(List<Long> millis) {
+		long[] sortedMillis = millis.stream().mapToLong(Long::longValue).toArray();
+		Arrays.sort(sortedMillis);
+		return sortedMillis;
+	}
+
+	public void write(Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		OBJECT_MAPPER.writeValue(file.toFile(), this);
+	}
+
+	public static LoadTestResult read(Path file) throws IOException {
+		return OBJECT_MAPPER.readValue(file.toFile(), LoadTestResult.class);
+	}
+
+	// slower completions and lower throughput beyond the tolerance count as regressions
+	public List<String> compareWith(LoadTestResult baseline, double tolerance, StringBuilder report) {
+		List<String> regressions = new ArrayList<>();
+		report.append(String.format("%-22s %12s %12s %9s%n", "metric", "baseline", "current", "change"));
+		compare("throughputPerMinute", baseline.throughputPerMinute, throughputPerMinute, false, tolerance, report,
+				regressions);
+		compare("p50Millis", baseline.p50Millis, p50Millis, true, tolerance, report, regressions);
+		compare("p99Millis", baseline.p99Millis, p99Millis, true, tolerance, report, regressions);
+		compare("peakQueueSize", baseline.peakQueueSize, peakQueueSize, true, tolerance, report, regressions);
+		compare("peakHeapBytes", baseline.peakHeapBytes, peakHeapBytes, true, tolerance, report, regressions);
+		compare("failed", baseline.failed, failed, true, 0, report, regressions);
+		return regressions;
+	}
+
+	private static void compare(String metric, double baseline, double current, boolean lowerIsBetter,
+			double tolerance, StringBuilder report, List<String> regressions) {
+		double change = baseline == 0 ? (current == 0 ? 0 : 1) : (current - baseline) / baseline;
+		boolean regressed = lowerIsBetter ? change > tolerance : change < -tolerance;
+		report.append(String.format("%-22s %12.1f %12.1f %+8.1f%%%s%n", metric, baseline, current, change * 100,
+				regressed ? "  REGRESSION" : ""));
+		if (regressed) {
+			regressions.add(metric);
+		}
+	}
+
+}
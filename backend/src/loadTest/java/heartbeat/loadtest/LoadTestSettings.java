@@ -0,0 +1,60 @@
+package heartbeat.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@Builder
+public class LoadTestSettings {
+
+	public static final long START_TIME = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+	public static final long END_TIME = Instant.parse("2024-01-31T23:59:59Z").toEpochMilli();
+
+	private final int reports;
+
+	private final int concurrency;
+
+	private final Duration latency;
+
+	private final int cardPages;
+
+	private final int buildPages;
+
+	private final int pipelines;
+
+	private final boolean githubGraphQL;
+
+	private final Duration timeout;
+
+	private final Path outputDir;
+
+	private final Path baseline;
+
+	private final double tolerance;
+
+	private final boolean failOnRegression;
+
+	public static LoadTestSettings fromSystemProperties() {
+		String baseline = System.getProperty("loadTest.baseline");
+		return LoadTestSettings.builder()
+			.reports(Integer.getInteger("loadTest.reports", 20))
+			.concurrency(Integer.getInteger("loadTest.concurrency", 10))
+			.latency(Duration.ofMillis(Long.getLong("loadTest.latencyMs", 50L)))
+			.cardPages(Integer.getInteger("loadTest.cardPages", 2))
+			.buildPages(Integer.getInteger("loadTest.buildPages", 3))
+			.pipelines(Integer.getInteger("loadTest.pipelines", 2))
+			.githubGraphQL(Boolean.getBoolean("loadTest.githubGraphQL"))
+			.timeout(Duration.ofSeconds(Long.getLong("loadTest.timeoutSeconds", 300L)))
+			.outputDir(Path.of(System.getProperty("loadTest.outputDir", "build/reports/load-test")))
+			.baseline(baseline == null || baseline.isBlank() ? null : Path.of(baseline))
+			.tolerance(Double.parseDouble(System.getProperty("loadTest.tolerance", "0.2")))
+			.failOnRegression(Boolean.getBoolean("loadTest.failOnRegression"))
+			.build();
+	}
+
+}
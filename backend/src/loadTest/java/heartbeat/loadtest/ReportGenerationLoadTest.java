@@ -0,0 +1,236 @@
+package heartbeat.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// drives concurrent report generations through the public API while the upstreams are served by local stubs
+@Log4j2
+@ActiveProfiles("e2e")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReportGenerationLoadTest {
+
+	private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+
+	private static final UpstreamStubServer STUBS = UpstreamStubServer.start(SETTINGS);
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+	private static final long POLL_INTERVAL_MILLIS = 200;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	@Qualifier("customTaskExecutor")
+	private ThreadPoolTaskExecutor customTaskExecutor;
+
+	@DynamicPropertySource
+	static void upstreamProperties(DynamicPropertyRegistry registry) {
+		registry.add("jira.url", () -> STUBS.baseUrl("jira"));
+		registry.add("buildKite.url", () -> STUBS.baseUrl("buildkite"));
+		registry.add("github.url", () -> STUBS.baseUrl("github"));
+		registry.add("heartbeat.github.graphql.enabled", SETTINGS::isGithubGraphQL);
+		// every run should pay for the GitHub lookups instead of reading what the previous run stored
+		registry.add("heartbeat.github.metadataStore.enabled", () -> false);
+		// the stubs never throttle, so pacing would only measure the configured request rates
+		registry.add("heartbeat.rateLimit.requestsPerSecond.jira", () -> 10_000);
+		registry.add("heartbeat.rateLimit.requestsPerSecond.buildKite", () -> 10_000);
+		registry.add("heartbeat.rateLimit.requestsPerSecond.github", () -> 10_000);
+	}
+
+	@AfterAll
+	static void stopStubs() {
+		STUBS.close();
+	}
+
+	@Test
+	void shouldGenerateReportsConcurrentlyWithinBaseline() throws Exception {
+		AtomicInteger peakActiveThreads = new AtomicInteger();
+		AtomicInteger peakQueueSize = new AtomicInteger();
+		AtomicLong peakHeapBytes = new AtomicLong();
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+		sampler.scheduleAtFixedRate(() -> {
+			peakActiveThreads.accumulateAndGet(customTaskExecutor.getActiveCount(), Math::max);
+			peakQueueSize.accumulateAndGet(customTaskExecutor.getThreadPoolExecutor().getQueue().size(), Math::max);
+			peakHeapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+		}, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+		List<Long> durations = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger failed = new AtomicInteger();
+		ExecutorService clients = Executors.newFixedThreadPool(SETTINGS.getConcurrency());
+		long start = System.nanoTime();
+		List<Future<?>> generations = IntStream.range(0, SETTINGS.getReports())
+			.<Future<?>>mapToObj(index -> clients.submit(() -> {
+				try {
+					durations.add(generateReport());
+				}
+				catch (Exception e) {
+					failed.incrementAndGet();
+					log.error("Failed to generate load test report, cause is {}", e.getMessage());
+				}
+			}))
+			.toList();
+		for (Future<?> generation : generations) {
+			generation.get();
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		clients.shutdown();
+		sampler.shutdownNow();
+
+		long[] sortedMillis = LoadTestResult.sorted(durations);
+		LoadTestResult result = LoadTestResult.builder()
+			.reports(SETTINGS.getReports())
+			.concurrency(SETTINGS.getConcurrency())
+			.latencyMs(SETTINGS.getLatency().toMillis())
+			.cardPages(SETTINGS.getCardPages())
+			.buildPages(SETTINGS.getBuildPages())
+			.pipelines(SETTINGS.getPipelines())
+			.completed(sortedMillis.length)
+			.failed(failed.get())
+			.throughputPerMinute(sortedMillis.length * 60_000.0 / Math.max(1, elapsedMillis))
+			.p50Millis(LoadTestResult.percentile(sortedMillis, 0.5))
+			.p99Millis(LoadTestResult.percentile(sortedMillis, 0.99))
+			.maxMillis(sortedMillis.length == 0 ? 0 : sortedMillis[sortedMillis.length - 1])
+			.peakActiveThreads(peakActiveThreads.get())
+			.peakQueueSize(peakQueueSize.get())
+			.peakHeapBytes(peakHeapBytes.get())
+			.upstreamRequests(STUBS.getRequestCount())
+			.build();
+		result.write(SETTINGS.getOutputDir().resolve("results.json"));
+		log.info("Load test finished, result: {}", result);
+
+		List<String> regressions = writeRegressionReport(result);
+		assertEquals(0, result.getFailed(), "some report generations failed or timed out");
+		if (SETTINGS.isFailOnRegression()) {
+			assertTrue(regressions.isEmpty(), "regressed against baseline: " + regressions);
+		}
+	}
+
+	private long generateReport() throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		String reportId = send(HttpRequest.newBuilder(uri("/reports")).POST(HttpRequest.BodyPublishers.noBody()))
+			.get("reportId")
+			.asText();
+		String body = OBJECT_MAPPER.writeValueAsString(reportRequest());
+		String callbackUrl = send(HttpRequest.newBuilder(uri("/reports/" + reportId))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))).get("callbackUrl").asText();
+
+		long deadline = start + SETTINGS.getTimeout().toNanos();
+		while (System.nanoTime() < deadline) {
+			JsonNode report = send(HttpRequest.newBuilder(uri(callbackUrl)).GET());
+			JsonNode error = report.path("reportMetricsError");
+			if (error.isObject() && error.findValues("status").stream().anyMatch(status -> !status.isNull())) {
+				throw new IllegalStateException("report " + reportId + " has metrics errors: " + error);
+			}
+			if (report.path("allMetricsCompleted").asBoolean()) {
+				return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			}
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+		}
+		throw new IllegalStateException("report " + reportId + " did not complete in " + SETTINGS.getTimeout());
+	}
+
+	private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		HttpResponse<String> response = httpClient.send(request.build(),
+				HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+		if (response.statusCode() >= 400) {
+			throw new IllegalStateException(response.uri() + " answered " + response.statusCode());
+		}
+		return OBJECT_MAPPER.readTree(response.body());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + "/api/v1" + path);
+	}
+
+	private List<String> writeRegressionReport(LoadTestResult result) throws IOException {
+		StringBuilder report = new StringBuilder("# Report generation load test\n\n```\n");
+		List<String> regressions = List.of();
+		Path baseline = SETTINGS.getBaseline();
+		if (baseline != null && Files.exists(baseline)) {
+			regressions = result.compareWith(LoadTestResult.read(baseline), SETTINGS.getTolerance(), report);
+		}
+		else {
+			report.append("no baseline given, pass -DloadTest.baseline=<results.json> to compare\n")
+				.append(OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(result))
+				.append('\n');
+		}
+		report.append("```\n");
+		Files.writeString(SETTINGS.getOutputDir().resolve("regression-report.md"), report);
+		return regressions;
+	}
+
+	private Map<String, Object> reportRequest() {
+		List<Map<String, Object>> deployments = IntStream.range(0, SETTINGS.getPipelines())
+			.<Map<String, Object>>mapToObj(index -> Map.of("id", "pipeline-" + index, "name", "pipeline-" + index,
+					"orgId", "loadtest", "orgName", "loadtest", "step", UpstreamStubServer.DEPLOY_STEP, "repository",
+					"https://github.com/au-heartbeat/load-test-" + index + ".git", "branches", List.of("main")))
+			.toList();
+		return Map.of("startTime", String.valueOf(LoadTestSettings.START_TIME), "endTime",
+				String.valueOf(LoadTestSettings.END_TIME), "timezone", "Asia/Shanghai", "calendarType", "REGULAR",
+				"csvTimeStamp", String.valueOf(System.currentTimeMillis()), "metrics",
+				List.of("velocity", "cycle time", "classification", "deployment frequency",
+						"pipeline change failure rate", "pipeline mean time to recovery", "lead time for changes"),
+				"metricTypes", List.of("BOARD", "DORA"), "jiraBoardSetting", jiraBoardSetting(), "buildKiteSetting",
+				Map.of("type", "BuildKite", "token", "load-test", "deploymentEnvList", deployments, "pipelineCrews",
+						List.of()),
+				"codebaseSetting", Map.of("type", "Github", "token", "load-test", "leadTime", deployments, "crews",
+						List.of(), "codebases", List.of()));
+	}
+
+	private Map<String, Object> jiraBoardSetting() {
+		return Map.ofEntries(Map.entry("type", "jira"), Map.entry("token", "load-test"), Map.entry("site", "loadtest"),
+				Map.entry("projectKey", "LT"), Map.entry("boardId", "1"), Map.entry("doneColumn", List.of("DONE")),
+				Map.entry("boardColumns",
+						List.of(Map.of("name", "To Do", "value", "To do"), Map.of("name", "In Dev", "value", "In Dev"),
+								Map.of("name", "Review", "value", "Review"), Map.of("name", "Done", "value", "Done"))),
+				Map.entry("treatFlagCardAsBlock", true), Map.entry("users", UpstreamStubServer.USERS),
+				Map.entry("assigneeFilter", "lastAssignee"),
+				Map.entry("targetFields",
+						List.of(Map.of("key", "customfield_10016", "name", "Story point estimate", "flag", false))));
+	}
+
+}
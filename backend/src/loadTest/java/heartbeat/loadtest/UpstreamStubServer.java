@@ -0,0 +1,330 @@
+package heartbeat.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// stands in for Jira, BuildKite and GitHub with generated payloads and a fixed delay per call
+@Log4j2
+public class UpstreamStubServer implements AutoCloseable {
+
+	public static final String DEPLOY_STEP = ":rocket: deploy";
+
+	public static final List<String> USERS = List.of("Alice", "Bob", "Carol");
+
+	private static final int CARDS_PER_PAGE = 100;
+
+	private static final int BUILDS_PER_PAGE = 100;
+
+	private static final long ONE_HOUR = 1000L * 60 * 60;
+
+	private static final String[] STATUSES = { "To Do", "In Dev", "Review", "Done" };
+
+	private static final Pattern JIRA_CARDS = Pattern.compile("/jira/rest/agile/1.0/board/[^/]+/issue");
+
+	private static final Pattern JIRA_HISTORY = Pattern.compile("/jira/rest/internal/2/issue/LT-(\\d+)/activityfeed");
+
+	private static final Pattern JIRA_BOARD_CONFIGURATION = Pattern
+		.compile("/jira/rest/agile/1.0/board/[^/]+/configuration");
+
+	private static final Pattern JIRA_STATUS = Pattern.compile("/jira/rest/api/2/status/(\\d+)");
+
+	private static final Pattern JIRA_FIELDS = Pattern.compile("/jira/rest/api/2/issue/createmeta");
+
+	private static final Pattern BUILDKITE_BUILDS = Pattern
+		.compile("/buildkite/v2/organizations/[^/]+/pipelines/pipeline-(\\d+)/builds");
+
+	private static final Pattern GITHUB_COMMIT_PULLS = Pattern.compile("/github/repos/.+/commits/(\\w+)/pulls");
+
+	private static final Pattern GITHUB_PULL_COMMITS = Pattern.compile("/github/repos/.+/pulls/(\\d+)/commits");
+
+	private static final Pattern GITHUB_COMMIT = Pattern.compile("/github/repos/.+/commits/(\\w+)");
+
+	private static final String GITHUB_GRAPHQL = "/github/graphql";
+
+	private final LoadTestSettings settings;
+
+	private final HttpServer server;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final AtomicLong requestCount = new AtomicLong();
+
+	private UpstreamStubServer(LoadTestSettings settings) throws IOException {
+		this.settings = settings;
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public static UpstreamStubServer start(LoadTestSettings settings) {
+		try {
+			return new UpstreamStubServer(settings);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Failed to start upstream stubs", e);
+		}
+	}
+
+	public String baseUrl(String upstream) {
+		return "http://localhost:" + server.getAddress().getPort() + "/" + upstream;
+	}
+
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		try (exchange) {
+			Thread.sleep(settings.getLatency().toMillis());
+			respond(exchange);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void respond(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		Object body;
+		try {
+			body = route(exchange, path, parseQuery(exchange.getRequestURI().getRawQuery()));
+		}
+		catch (RuntimeException e) {
+			log.error("Upstream stub failed to answer {}", exchange.getRequestURI(), e);
+			exchange.sendResponseHeaders(500, -1);
+			return;
+		}
+		if (body == null) {
+			exchange.sendResponseHeaders(404, -1);
+			return;
+		}
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+
+	private Object route(HttpExchange exchange, String path, Map<String, String> query) {
+		Matcher matcher;
+		if (JIRA_CARDS.matcher(path).matches()) {
+			return jiraCards(query);
+		}
+		if ((matcher = JIRA_HISTORY.matcher(path)).matches()) {
+			return jiraHistory(Integer.parseInt(matcher.group(1)));
+		}
+		if (JIRA_BOARD_CONFIGURATION.matcher(path).matches()) {
+			return jiraBoardConfiguration();
+		}
+		if ((matcher = JIRA_STATUS.matcher(path)).matches()) {
+			return jiraStatus(Integer.parseInt(matcher.group(1)));
+		}
+		if (JIRA_FIELDS.matcher(path).matches()) {
+			return jiraFields();
+		}
+		if ((matcher = BUILDKITE_BUILDS.matcher(path)).matches()) {
+			int page = Integer.parseInt(query.getOrDefault("page", "1"));
+			exchange.getResponseHeaders()
+				.add("Link", "<" + baseUrl("") + path.substring(1) + "?page=" + settings.getBuildPages()
+						+ "&per_page=" + BUILDS_PER_PAGE + ">; rel=\"last\"");
+			return buildKiteBuilds(Integer.parseInt(matcher.group(1)), page);
+		}
+		if (GITHUB_GRAPHQL.equals(path)) {
+			return gitHubGraphQL(readBody(exchange).path("variables"));
+		}
+		if ((matcher = GITHUB_COMMIT_PULLS.matcher(path)).matches()) {
+			return List.of(pullRequest(path.substring("/github/repos/".length(), path.indexOf("/commits/")),
+					matcher.group(1)));
+		}
+		if ((matcher = GITHUB_PULL_COMMITS.matcher(path)).matches()) {
+			return List.of(commit("first-" + matcher.group(1), LoadTestSettings.START_TIME));
+		}
+		if ((matcher = GITHUB_COMMIT.matcher(path)).matches()) {
+			return commit(matcher.group(1), LoadTestSettings.START_TIME);
+		}
+		return null;
+	}
+
+	private Map<String, Object> jiraCards(Map<String, String> query) {
+		if (query.getOrDefault("jql", "").contains("not in")) {
+			return Map.of("startAt", 0, "maxResults", 0, "total", 0, "issues", List.of());
+		}
+		int total = settings.getCardPages() * CARDS_PER_PAGE;
+		int startAt = Integer.parseInt(query.getOrDefault("startAt", "0"));
+		int maxResults = Integer.parseInt(query.getOrDefault("maxResults", String.valueOf(CARDS_PER_PAGE)));
+		List<Map<String, Object>> issues = new ArrayList<>();
+		for (int card = startAt; card < Math.min(total, startAt + maxResults); card++) {
+			Map<String, Object> fields = new HashMap<>();
+			fields.put("summary", "Load test card " + card);
+			fields.put("status", Map.of("name", "Done"));
+			fields.put("assignee", Map.of("displayName", USERS.get(card % USERS.size())));
+			fields.put("issuetype", Map.of("name", "Story"));
+			fields.put("labels", List.of("load-test"));
+			fields.put("customfield_10016", 1 + card % 5);
+			issues.add(Map.of("key", "LT-" + card, "fields", fields));
+		}
+		return Map.of("startAt", startAt, "maxResults", maxResults, "total", total, "issues", issues);
+	}
+
+	private Map<String, Object> jiraHistory(int card) {
+		List<Map<String, Object>> items = new ArrayList<>();
+		long timestamp = LoadTestSettings.START_TIME + (card % 20) * 24 * ONE_HOUR;
+		for (int index = 1; index < STATUSES.length; index++) {
+			timestamp += (1 + card % 7) * ONE_HOUR;
+			items.add(Map.of("fieldId", "status", "fieldDisplayName", "Status", "timestamp", timestamp, "from",
+					Map.of("displayValue", STATUSES[index - 1]), "to", Map.of("displayValue", STATUSES[index])));
+		}
+		items.add(Map.of("fieldId", "assignee", "fieldDisplayName", "Assignee", "timestamp", timestamp, "from",
+				Map.of(), "to", Map.of("displayValue", USERS.get(card % USERS.size()))));
+		return Map.of("isLast", true, "items", items);
+	}
+
+	private Map<String, Object> jiraBoardConfiguration() {
+		List<Map<String, Object>> columns = new ArrayList<>();
+		for (int index = 0; index < STATUSES.length; index++) {
+			columns.add(Map.of("name", STATUSES[index], "statuses", List.of(Map.of("id", String.valueOf(index)))));
+		}
+		return Map.of("id", "1", "name", "Load test board", "columnConfig", Map.of("columns", columns));
+	}
+
+	private Map<String, Object> jiraStatus(int status) {
+		String category = status == STATUSES.length - 1 ? "done" : "indeterminate";
+		return Map.of("untranslatedName", STATUSES[status % STATUSES.length], "statusCategory",
+				Map.of("key", category, "name", category));
+	}
+
+	private Map<String, Object> jiraFields() {
+		Map<String, Object> fields = Map.of("customfield_10016",
+				Map.of("key", "customfield_10016", "name", "Story point estimate"), "assignee",
+				Map.of("key", "assignee", "name", "Assignee"), "labels", Map.of("key", "labels", "name", "Labels"));
+		return Map.of("projects", List.of(Map.of("issuetypes", List.of(Map.of("fields", fields)))));
+	}
+
+	private List<Map<String, Object>> buildKiteBuilds(int pipeline, int page) {
+		List<Map<String, Object>> builds = new ArrayList<>();
+		long interval = (LoadTestSettings.END_TIME - LoadTestSettings.START_TIME)
+				/ ((long) settings.getBuildPages() * BUILDS_PER_PAGE + 1);
+		for (int index = 0; index < BUILDS_PER_PAGE; index++) {
+			int number = (page - 1) * BUILDS_PER_PAGE + index + 1;
+			long createdAt = LoadTestSettings.START_TIME + number * interval;
+			String state = number % 5 == 0 ? "failed" : "passed";
+			Map<String, Object> job = Map.of("name", DEPLOY_STEP, "state", state, "started_at",
+					Instant.ofEpochMilli(createdAt + ONE_HOUR / 6).toString(), "finished_at",
+					Instant.ofEpochMilli(createdAt + ONE_HOUR / 3).toString());
+			builds.add(Map.of("state", state, "number", number, "branch", "main", "commit",
+					commitId(pipeline, number), "created_at", Instant.ofEpochMilli(createdAt).toString(), "author",
+					Map.of("username", "alice", "name", "Alice"), "jobs", List.of(job)));
+		}
+		return builds;
+	}
+
+	private Map<String, Object> pullRequest(String repository, String commitId) {
+		int number = Math.abs(commitId.hashCode() % 100_000);
+		return Map.of("number", number, "url", "https://api.github.com/repos/" + repository + "/pulls/" + number,
+				"created_at", Instant.ofEpochMilli(LoadTestSettings.START_TIME + ONE_HOUR).toString(), "merged_at",
+				Instant.ofEpochMilli(LoadTestSettings.START_TIME + 2 * ONE_HOUR).toString(), "merge_commit_sha",
+				commitId, "user", Map.of("login", "alice"));
+	}
+
+	private Map<String, Object> commit(String commitId, long time) {
+		Map<String, Object> person = Map.of("name", "Alice", "email", "alice@example.com", "date",
+				Instant.ofEpochMilli(time).toString());
+		return Map.of("sha", commitId, "commit",
+				Map.of("author", person, "committer", person, "message", "load test"));
+	}
+
+	// answers the aliased commit and pull request lookups with the same data as the REST routes
+	private Map<String, Object> gitHubGraphQL(JsonNode variables) {
+		String repository = variables.path("owner").asText() + "/" + variables.path("name").asText();
+		Map<String, Object> found = new HashMap<>();
+		variables.fields().forEachRemaining(variable -> {
+			String alias = variable.getKey();
+			if (alias.matches("c\\d+")) {
+				String commitId = variable.getValue().asText();
+				Map<String, Object> pullRequest = pullRequest(repository, commitId);
+				Map<String, Object> node = new HashMap<>(graphQLCommit(commitId, LoadTestSettings.START_TIME));
+				node.put("associatedPullRequests", Map.of("nodes", List.of(Map.of("number", pullRequest.get("number"),
+						"url", pullRequest.get("url"), "createdAt", pullRequest.get("created_at"), "mergedAt",
+						pullRequest.get("merged_at"), "mergeCommit", Map.of("oid", commitId), "author",
+						Map.of("login", "alice"), "commits", graphQLFirstCommit((int) pullRequest.get("number"))))));
+				found.put(alias, node);
+			}
+			else if (alias.matches("p\\d+")) {
+				found.put(alias, Map.of("commits", graphQLFirstCommit(variable.getValue().asInt())));
+			}
+		});
+		return Map.of("data", Map.of("repository", found));
+	}
+
+	private Map<String, Object> graphQLFirstCommit(int pullNumber) {
+		return Map.of("nodes",
+				List.of(Map.of("commit", graphQLCommit("first-" + pullNumber, LoadTestSettings.START_TIME))));
+	}
+
+	private Map<String, Object> graphQLCommit(String commitId, long time) {
+		String date = Instant.ofEpochMilli(time).toString();
+		return Map.of("oid", commitId, "committedDate", date, "message", "load test", "committer",
+				Map.of("name", "Alice", "email", "alice@example.com"), "author",
+				Map.of("name", "Alice", "email", "alice@example.com", "date", date));
+	}
+
+	private JsonNode readBody(HttpExchange exchange) {
+		try {
+			return objectMapper.readTree(exchange.getRequestBody());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String commitId(int pipeline, int number) {
+		return String.format("%08x%032x", pipeline, number);
+	}
+
+	private static Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int separator = pair.indexOf('=');
+			if (separator > 0) {
+				query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+						URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+			}
+		}
+		return query;
+	}
+
+}
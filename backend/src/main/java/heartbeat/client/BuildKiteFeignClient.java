@@ -21,12 +21,12 @@ import java.util.List;
 @FeignClient(name = "buildKiteFeignClient", url = "${buildKite.url}", configuration = BuildKiteFeignClientDecoder.class)
 public interface BuildKiteFeignClient {
 
-	@Cacheable(cacheNames = "tokenInfo", key = "#token")
+	@Cacheable(cacheNames = "tokenInfo", key = "@cacheKeyGenerator.tenant(#token)")
 	@GetMapping(path = "v2/access-token")
 	@ResponseStatus(HttpStatus.OK)
 	BuildKiteTokenInfo getTokenInfo(@RequestHeader("Authorization") String token);
 
-	@Cacheable(cacheNames = "buildKiteOrganizationInfo", key = "#token")
+	@Cacheable(cacheNames = "buildKiteOrganizationInfo", key = "@cacheKeyGenerator.tenant(#token)")
 	@GetMapping(path = "v2/organizations")
 	@ResponseStatus(HttpStatus.OK)
 	List<BuildKiteOrganizationsInfo> getBuildKiteOrganizationsInfo(@RequestHeader("Authorization") String token);
@@ -45,7 +45,7 @@ public interface BuildKiteFeignClient {
 			@RequestParam("created_to") String createdTo, @RequestParam("branch[]") List<String> branch);
 
 	@Cacheable(cacheNames = "pipelineStepsInfo",
-			key = "#token+'-'+#organizationId+'-'+#pipelineId+'-'+#page+'-'+#perPage+'-'"
+			key = "@cacheKeyGenerator.tenant(#token)+'-'+#organizationId+'-'+#pipelineId+'-'+#page+'-'+#perPage+'-'"
 					+ "+#createdFrom+'-'+#createdTo+'-'+(#branch!=null ? #branch.toString() : '')")
 	@GetMapping(path = "v2/organizations/{organizationId}/pipelines/{pipelineId}/builds",
 			consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
@@ -1,5 +1,6 @@
 package heartbeat.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import heartbeat.client.decoder.GitHubFeignClientDecoder;
 import heartbeat.client.dto.codebase.github.BranchesInfoDTO;
 import heartbeat.client.dto.codebase.github.CommitInfo;
@@ -13,11 +14,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "githubFeignClient", url = "${github.url}", configuration = GitHubFeignClientDecoder.class)
 public interface GitHubFeignClient {
@@ -29,19 +33,21 @@ public interface GitHubFeignClient {
 	void verifyCanReadTargetBranch(@PathVariable String repository, @PathVariable String branchName,
 			@RequestHeader("Authorization") String token);
 
-	@Cacheable(cacheNames = "commitInfo", key = "#repository+'-'+#commitId+'-'+#token")
+	@Cacheable(cacheNames = "commitInfo", key = "#repository+'-'+#commitId+'-'+@cacheKeyGenerator.tenant(#token)")
 	@GetMapping(path = "/repos/{repository}/commits/{commitId}")
 	@ResponseStatus(HttpStatus.OK)
 	CommitInfo getCommitInfo(@PathVariable String repository, @PathVariable String commitId,
 			@RequestHeader("Authorization") String token);
 
-	@Cacheable(cacheNames = "pullRequestCommitInfo", key = "#repository+'-'+#mergedPullNumber+'-'+#token")
+	@Cacheable(cacheNames = "pullRequestCommitInfo",
+			key = "#repository+'-'+#mergedPullNumber+'-'+@cacheKeyGenerator.tenant(#token)")
 	@GetMapping(path = "/repos/{repository}/pulls/{mergedPullNumber}/commits")
 	@ResponseStatus(HttpStatus.OK)
 	List<CommitInfo> getPullRequestCommitInfo(@PathVariable String repository, @PathVariable String mergedPullNumber,
 			@RequestHeader("Authorization") String token);
 
-	@Cacheable(cacheNames = "pullRequestListInfo", key = "#repository+'-'+#deployId+'-'+#token")
+	@Cacheable(cacheNames = "pullRequestListInfo",
+			key = "#repository+'-'+#deployId+'-'+@cacheKeyGenerator.tenant(#token)")
 	@GetMapping(path = "/repos/{repository}/commits/{deployId}/pulls")
 	@ResponseStatus(HttpStatus.OK)
 	List<PullRequestInfo> getPullRequestListInfo(@PathVariable String repository, @PathVariable String deployId,
@@ -69,4 +75,8 @@ public interface GitHubFeignClient {
 			@PathVariable("org") String org, @PathVariable("repo") String repo, @RequestParam("per_page") int perPage,
 			@RequestParam("page") int page, @RequestParam("base") String base, @RequestParam("state") String state);
 
+	@PostMapping(path = "/graphql")
+	@ResponseStatus(HttpStatus.OK)
+	JsonNode queryGraphQL(@RequestHeader("Authorization") String token, @RequestBody Map<String, Object> body);
+
 }
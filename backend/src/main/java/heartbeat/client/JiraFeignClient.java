@@ -19,35 +19,36 @@ import java.net.URI;
 @FeignClient(value = "jiraFeignClient", url = "${jira.url}", configuration = JiraFeignClientDecoder.class)
 public interface JiraFeignClient {
 
-	@Cacheable(cacheNames = "jiraConfig", key = "#boardId+'-'+#authorization")
+	@Cacheable(cacheNames = "jiraConfig", key = "#boardId+'-'+@cacheKeyGenerator.tenant(#authorization)")
 	@GetMapping(path = "/rest/agile/1.0/board/{boardId}/configuration")
 	JiraBoardConfigDTO getJiraBoardConfiguration(URI baseUrl, @PathVariable String boardId,
 			@RequestHeader String authorization);
 
-	@Cacheable(cacheNames = "jiraStatusCategory", key = "#statusNum+'-'+#authorization")
+	@Cacheable(cacheNames = "jiraStatusCategory", key = "#statusNum+'-'+@cacheKeyGenerator.tenant(#authorization)")
 	@GetMapping(path = "/rest/api/2/status/{statusNum}")
 	StatusSelfDTO getColumnStatusCategory(URI baseUrl, @PathVariable String statusNum,
 			@RequestHeader String authorization);
 
-	@Cacheable(cacheNames = "jiraCards", key = "#boardId+'-'+#queryCount+'-'+#startAt+'-'+#jql+'-'+#authorization")
+	@Cacheable(cacheNames = "jiraCards",
+			key = "#boardId+'-'+#queryCount+'-'+#startAt+'-'+#jql+'-'+@cacheKeyGenerator.tenant(#authorization)")
 	@GetMapping(path = "/rest/agile/1.0/board/{boardId}/issue?maxResults={queryCount}&startAt={startAt}&jql={jql}")
 	String getJiraCards(URI baseUrl, @PathVariable String boardId, @PathVariable int queryCount,
 			@PathVariable int startAt, @PathVariable String jql, @RequestHeader String authorization);
 
 	@GetMapping(path = "/rest/internal/2/issue/{jiraCardKey}/activityfeed?startAt={startAt}&maxResults={queryCount}")
 	@Cacheable(cacheNames = "jiraCardHistoryByCount",
-			key = "#jiraCardKey+'-'+#queryCount+'-'+#startAt+'-'+#authorization")
+			key = "#jiraCardKey+'-'+#queryCount+'-'+#startAt+'-'+@cacheKeyGenerator.tenant(#authorization)")
 	CardHistoryResponseDTO getJiraCardHistoryByCount(URI baseUrl, @PathVariable String jiraCardKey,
 			@PathVariable int startAt, @PathVariable int queryCount, @RequestHeader String authorization);
 
-	@Cacheable(cacheNames = "targetField", key = "#projectKey+'-'+#authorization")
+	@Cacheable(cacheNames = "targetField", key = "#projectKey+'-'+@cacheKeyGenerator.tenant(#authorization)")
 	@GetMapping(path = "/rest/api/2/issue/createmeta?projectKeys={projectKey}&expand=projects.issuetypes.fields")
 	FieldResponseDTO getTargetField(URI baseUrl, @PathVariable String projectKey, @RequestHeader String authorization);
 
 	@GetMapping(path = "/rest/agile/1.0/board/{boardId}")
 	JiraBoardVerifyDTO getBoard(URI baseUrl, @PathVariable String boardId, @RequestHeader String authorization);
 
-	@Cacheable(cacheNames = "boardProject", key = "#projectIdOrKey+'-'+#authorization")
+	@Cacheable(cacheNames = "boardProject", key = "#projectIdOrKey+'-'+@cacheKeyGenerator.tenant(#authorization)")
 	@GetMapping(path = "rest/api/2/project/{projectIdOrKey}")
 	JiraBoardProject getProject(URI baseUrl, @PathVariable String projectIdOrKey, @RequestHeader String authorization);
 
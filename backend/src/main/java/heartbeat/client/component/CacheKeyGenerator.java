@@ -0,0 +1,66 @@
+package heartbeat.client.component;
+
+import heartbeat.exception.InternalServerErrorException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+// cache keys carry a keyed fingerprint of the token, so raw tokens never reach the off-heap or disk tiers
+@Component
+public class CacheKeyGenerator {
+
+	private static final String HMAC_SHA_256 = "HmacSHA256";
+
+	private static final int SECRET_BYTES = 32;
+
+	private static final int FINGERPRINT_BYTES = 12;
+
+	private final String algorithm;
+
+	private final byte[] secret;
+
+	private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+	public CacheKeyGenerator() {
+		this(HMAC_SHA_256, newSecret());
+	}
+
+	CacheKeyGenerator(String algorithm, byte[] secret) {
+		this.algorithm = algorithm;
+		this.secret = secret;
+	}
+
+	public String tenant(String token) {
+		if (token == null) {
+			return "";
+		}
+		byte[] digest = macs.get().doFinal(token.getBytes(StandardCharsets.UTF_8));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, FINGERPRINT_BYTES));
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(algorithm);
+			mac.init(new SecretKeySpec(secret, algorithm));
+			return mac;
+		}
+		catch (GeneralSecurityException e) {
+			throw new InternalServerErrorException(
+					String.format("Failed to create cache key generator, cause is %s", e.getMessage()));
+		}
+	}
+
+	// the secret lives only as long as the process, like every tier of the cache it keys
+	private static byte[] newSecret() {
+		byte[] secret = new byte[SECRET_BYTES];
+		new SecureRandom().nextBytes(secret);
+		return secret;
+	}
+
+}
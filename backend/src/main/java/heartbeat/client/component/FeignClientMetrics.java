@@ -0,0 +1,61 @@
+package heartbeat.client.component;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FeignClientMetrics implements Capability {
+
+	public static final String REQUEST_TIMER = "heartbeat.feign.requests";
+
+	public static final String ERROR_COUNTER = "heartbeat.feign.errors";
+
+	private static final String UNKNOWN = "unknown";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String status = "IO_ERROR";
+			try {
+				Response response = client.execute(request, options);
+				status = String.valueOf(response.status());
+				return response;
+			}
+			finally {
+				record(sample, request, status);
+			}
+		};
+	}
+
+	private void record(Timer.Sample sample, Request request, String status) {
+		RequestTemplate template = request.requestTemplate();
+		String clientName = template == null || template.feignTarget() == null ? UNKNOWN
+				: template.feignTarget().name();
+		MethodMetadata metadata = template == null ? null : template.methodMetadata();
+		String methodName = metadata == null ? UNKNOWN : metadata.method().getName();
+		// a cached method only reaches the client on a miss, hits are counted by the cache.gets metric
+		String cache = metadata != null && AnnotatedElementUtils.hasAnnotation(metadata.method(), Cacheable.class)
+				? "miss" : "none";
+		sample.stop(meterRegistry.timer(REQUEST_TIMER, "client", clientName, "method", methodName, "status", status,
+				"cache", cache));
+		if (!status.startsWith("2")) {
+			meterRegistry.counter(ERROR_COUNTER, "client", clientName, "method", methodName, "status", status)
+				.increment();
+		}
+	}
+
+}
@@ -0,0 +1,303 @@
+package heartbeat.client.component;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import heartbeat.client.component.UpstreamExecutor.Upstream;
+import heartbeat.exception.InternalServerErrorException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+@Log4j2
+@Component
+public class RateLimitScheduler implements Capability {
+
+	public static final String QUEUE_GAUGE = "heartbeat.upstream.queue";
+
+	public static final String THROTTLED_COUNTER = "heartbeat.upstream.throttled";
+
+	private static final Map<String, Upstream> UPSTREAMS = Map.of("jiraFeignClient", Upstream.JIRA,
+			"buildKiteFeignClient", Upstream.BUILDKITE, "githubFeignClient", Upstream.GITHUB);
+
+	private static final long BASE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	static final int MAX_BUCKETS = 1000;
+
+	static final long BUCKET_IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Upstream, Double> requestsPerSecond = new EnumMap<>(Upstream.class);
+
+	private final Map<Upstream, AtomicInteger> queueDepths = new EnumMap<>(Upstream.class);
+
+	// access ordered, so the buckets that went unused longest are always at the head
+	private final Map<String, TokenBucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final int maxRetries;
+
+	private final long maxBackoffNanos;
+
+	private final LongSupplier nanoTime;
+
+	private final Sleeper sleeper;
+
+	@Autowired
+	public RateLimitScheduler(MeterRegistry meterRegistry,
+			@Value("${heartbeat.rateLimit.requestsPerSecond.jira:20}") double jiraRequestsPerSecond,
+			@Value("${heartbeat.rateLimit.requestsPerSecond.buildKite:3}") double buildKiteRequestsPerSecond,
+			@Value("${heartbeat.rateLimit.requestsPerSecond.github:10}") double gitHubRequestsPerSecond,
+			@Value("${heartbeat.rateLimit.maxRetries:5}") int maxRetries,
+			@Value("${heartbeat.rateLimit.maxBackoffSeconds:60}") long maxBackoffSeconds) {
+		this(meterRegistry, Map.of(Upstream.JIRA, jiraRequestsPerSecond, Upstream.BUILDKITE,
+				buildKiteRequestsPerSecond, Upstream.GITHUB, gitHubRequestsPerSecond), maxRetries,
+				TimeUnit.SECONDS.toNanos(maxBackoffSeconds), System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+	}
+
+	RateLimitScheduler(MeterRegistry meterRegistry, Map<Upstream, Double> requestsPerSecond, int maxRetries,
+			long maxBackoffNanos, LongSupplier nanoTime, Sleeper sleeper) {
+		this.meterRegistry = meterRegistry;
+		this.requestsPerSecond.putAll(requestsPerSecond);
+		this.maxRetries = maxRetries;
+		this.maxBackoffNanos = maxBackoffNanos;
+		this.nanoTime = nanoTime;
+		this.sleeper = sleeper;
+		for (Upstream upstream : Upstream.values()) {
+			AtomicInteger queueDepth = new AtomicInteger();
+			queueDepths.put(upstream, queueDepth);
+			Gauge.builder(QUEUE_GAUGE, queueDepth, AtomicInteger::get)
+				.tag("upstream", upstream.name().toLowerCase())
+				.register(meterRegistry);
+		}
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			Upstream upstream = upstreamOf(request);
+			if (upstream == null) {
+				return client.execute(request, options);
+			}
+			TokenBucket bucket = bucketOf(upstream, bucketKey(upstream, request));
+			for (int attempt = 0;; attempt++) {
+				waitForTurn(upstream, bucket);
+				Response response = client.execute(request, options);
+				long now = nanoTime.getAsLong();
+				long delayNanos = rateLimitDelayNanos(response, attempt, now);
+				if (delayNanos < 0) {
+					if ("0".equals(header(response, "X-RateLimit-Remaining"))) {
+						bucket.pauseUntil(Math.min(resetNanos(response, now), now + maxBackoffNanos));
+					}
+					return response;
+				}
+				if (delayNanos > maxBackoffNanos) {
+					log.error("Failed to call {} within rate limit, status: {}, asked to retry after {} s",
+							upstream.name().toLowerCase(), response.status(),
+							TimeUnit.NANOSECONDS.toSeconds(delayNanos));
+					bucket.pauseUntil(now + maxBackoffNanos);
+					return response;
+				}
+				if (attempt >= maxRetries) {
+					log.error("Failed to call {} within rate limit after {} retries, status: {}",
+							upstream.name().toLowerCase(), attempt, response.status());
+					return response;
+				}
+				log.warn("Rate limited by {}, status: {}, retry in {} ms", upstream.name().toLowerCase(),
+						response.status(), TimeUnit.NANOSECONDS.toMillis(delayNanos));
+				meterRegistry
+					.counter(THROTTLED_COUNTER, "upstream", upstream.name().toLowerCase(), "status",
+							String.valueOf(response.status()))
+					.increment();
+				response.close();
+				bucket.pauseUntil(now + delayNanos);
+			}
+		};
+	}
+
+	public int queueDepth(Upstream upstream) {
+		return queueDepths.get(upstream).get();
+	}
+
+	int bucketCount() {
+		synchronized (buckets) {
+			return buckets.size();
+		}
+	}
+
+	// an idle bucket has refilled completely, so dropping it and starting afresh later changes no pacing
+	private TokenBucket bucketOf(Upstream upstream, String key) {
+		long now = nanoTime.getAsLong();
+		synchronized (buckets) {
+			Iterator<TokenBucket> leastRecentlyUsed = buckets.values().iterator();
+			while (leastRecentlyUsed.hasNext()) {
+				TokenBucket bucket = leastRecentlyUsed.next();
+				if (buckets.size() < MAX_BUCKETS && !bucket.isIdle(now)) {
+					break;
+				}
+				leastRecentlyUsed.remove();
+			}
+			return buckets.computeIfAbsent(key, ignored -> new TokenBucket(requestsPerSecond.get(upstream), now));
+		}
+	}
+
+	private void waitForTurn(Upstream upstream, TokenBucket bucket) {
+		long waitNanos = bucket.reserve(nanoTime.getAsLong());
+		if (waitNanos <= 0) {
+			return;
+		}
+		AtomicInteger queueDepth = queueDepths.get(upstream);
+		queueDepth.incrementAndGet();
+		try {
+			sleeper.sleep(waitNanos);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InternalServerErrorException(String.format("Failed to call %s, cause is interrupted",
+					upstream.name().toLowerCase()));
+		}
+		finally {
+			queueDepth.decrementAndGet();
+		}
+	}
+
+	// a negative delay means the response is not a rate limit rejection
+	private long rateLimitDelayNanos(Response response, int attempt, long now) {
+		boolean rateLimited = response.status() == 429 || (response.status() == 403
+				&& ("0".equals(header(response, "X-RateLimit-Remaining")) || header(response, "Retry-After") != null));
+		if (!rateLimited) {
+			return -1;
+		}
+		Long retryAfterSeconds = parseLong(header(response, "Retry-After"));
+		if (retryAfterSeconds != null) {
+			long retryAfterNanos = TimeUnit.SECONDS.toNanos(retryAfterSeconds);
+			// a wait beyond the cap is passed on as is, the caller gives up rather than hold its thread that long
+			return retryAfterNanos > maxBackoffNanos ? retryAfterNanos
+					: Math.min(withJitter(retryAfterNanos), maxBackoffNanos);
+		}
+		long resetNanos = resetNanos(response, now);
+		if (resetNanos > now) {
+			return Math.min(withJitter(resetNanos - now), maxBackoffNanos);
+		}
+		long backoffNanos = Math.min(maxBackoffNanos, BASE_BACKOFF_NANOS << Math.min(attempt, 20));
+		return backoffNanos / 2 + ThreadLocalRandom.current().nextLong(backoffNanos / 2 + 1);
+	}
+
+	// GitHub sends the reset as epoch seconds, BuildKite sends the seconds left in the window
+	private long resetNanos(Response response, long now) {
+		Long epochSeconds = parseLong(header(response, "X-RateLimit-Reset"));
+		if (epochSeconds != null) {
+			long remainingMillis = TimeUnit.SECONDS.toMillis(epochSeconds) - System.currentTimeMillis();
+			return now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+		Long secondsLeft = parseLong(header(response, "RateLimit-Reset"));
+		return secondsLeft == null ? now : now + TimeUnit.SECONDS.toNanos(secondsLeft);
+	}
+
+	private static long withJitter(long delayNanos) {
+		return delayNanos + ThreadLocalRandom.current().nextLong(delayNanos / 10 + 1);
+	}
+
+	private static Upstream upstreamOf(Request request) {
+		RequestTemplate template = request.requestTemplate();
+		return template == null || template.feignTarget() == null ? null
+				: UPSTREAMS.get(template.feignTarget().name());
+	}
+
+	// buckets are kept per upstream host and credential, the credential itself is only kept as a digest
+	private static String bucketKey(Upstream upstream, Request request) {
+		Collection<String> authorization = request.headers().getOrDefault("Authorization", List.of());
+		String digest = DigestUtils.md5DigestAsHex(String.join(",", authorization).getBytes(StandardCharsets.UTF_8));
+		return upstream.name() + "|" + URI.create(request.url()).getHost() + "|" + digest;
+	}
+
+	private static String header(Response response, String name) {
+		Collection<String> values = response.headers().get(name);
+		return values == null || values.isEmpty() ? null : values.iterator().next();
+	}
+
+	private static Long parseLong(String value) {
+		try {
+			return value == null ? null : Long.parseLong(value.trim());
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	interface Sleeper {
+
+		void sleep(long nanos) throws InterruptedException;
+
+	}
+
+	static class TokenBucket {
+
+		private final double nanosPerPermit;
+
+		private final double capacity;
+
+		private double permits;
+
+		private long refilledAt;
+
+		private long pausedUntil;
+
+		private long usedAt;
+
+		TokenBucket(double requestsPerSecond, long now) {
+			this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+			this.capacity = Math.max(1, requestsPerSecond);
+			this.permits = capacity;
+			this.refilledAt = now;
+			this.usedAt = now;
+		}
+
+		// takes a permit now and returns how long the caller has to wait before using it
+		synchronized long reserve(long now) {
+			usedAt = now;
+			long from = Math.max(now, pausedUntil);
+			if (from > refilledAt) {
+				permits = Math.min(capacity, permits + (from - refilledAt) / nanosPerPermit);
+				refilledAt = from;
+			}
+			permits -= 1;
+			long deficitNanos = permits >= 0 ? 0 : (long) Math.ceil(-permits * nanosPerPermit);
+			return from - now + deficitNanos;
+		}
+
+		synchronized boolean isIdle(long now) {
+			return now - Math.max(usedAt, pausedUntil) > BUCKET_IDLE_NANOS;
+		}
+
+		synchronized void pauseUntil(long until) {
+			if (until > pausedUntil) {
+				pausedUntil = until;
+				// nothing accrues while the upstream asked us to stay away, one request may probe when it reopens
+				permits = Math.min(permits, 1);
+				refilledAt = Math.max(refilledAt, until);
+			}
+		}
+
+	}
+
+}
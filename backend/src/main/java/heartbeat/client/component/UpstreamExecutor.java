@@ -0,0 +1,118 @@
+package heartbeat.client.component;
+
+import heartbeat.exception.InternalServerErrorException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+@Component
+public class UpstreamExecutor {
+
+	public enum Upstream {
+
+		JIRA, BUILDKITE, GITHUB
+
+	}
+
+	private final Executor ioTaskExecutor;
+
+	private final Executor forkExecutor;
+
+	private final Map<Upstream, Semaphore> permits = new EnumMap<>(Upstream.class);
+
+	public UpstreamExecutor(@Qualifier("ioTaskExecutor") Executor ioTaskExecutor,
+			@Value("${heartbeat.io.maxConcurrency.jira:50}") int jiraConcurrency,
+			@Value("${heartbeat.io.maxConcurrency.buildKite:20}") int buildKiteConcurrency,
+			@Value("${heartbeat.io.maxConcurrency.github:40}") int gitHubConcurrency) {
+		this.ioTaskExecutor = ioTaskExecutor;
+		// tasks that wait on further fan-out must not hold a bounded pool thread, virtual threads are cheap to park
+		this.forkExecutor = ioTaskExecutor instanceof ThreadPoolTaskExecutor pool ? forkPool(pool.getMaxPoolSize())
+				: ioTaskExecutor;
+		permits.put(Upstream.JIRA, new Semaphore(jiraConcurrency));
+		permits.put(Upstream.BUILDKITE, new Semaphore(buildKiteConcurrency));
+		permits.put(Upstream.GITHUB, new Semaphore(gitHubConcurrency));
+	}
+
+	public <T> CompletableFuture<T> supplyAsync(Upstream upstream, Supplier<T> call) {
+		return CompletableFuture.supplyAsync(() -> call(upstream, call), ioTaskExecutor);
+	}
+
+	public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, ioTaskExecutor);
+	}
+
+	public CompletableFuture<Void> runAsync(Runnable task) {
+		return CompletableFuture.runAsync(task, ioTaskExecutor);
+	}
+
+	public <T> CompletableFuture<T> fork(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, forkExecutor);
+	}
+
+	public CompletableFuture<Void> fork(Runnable task) {
+		return CompletableFuture.runAsync(task, forkExecutor);
+	}
+
+	public <T> T call(Upstream upstream, Supplier<T> call) {
+		Semaphore semaphore = permits.get(upstream);
+		try {
+			semaphore.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InternalServerErrorException(
+					String.format("Failed to call %s, cause is interrupted", upstream.name().toLowerCase()));
+		}
+		try {
+			return call.get();
+		}
+		finally {
+			semaphore.release();
+		}
+	}
+
+	public int availablePermits(Upstream upstream) {
+		return permits.get(upstream).availablePermits();
+	}
+
+	public void shutdown() {
+		shutdown(ioTaskExecutor);
+		if (forkExecutor != ioTaskExecutor) {
+			shutdown(forkExecutor);
+		}
+	}
+
+	private static void shutdown(Executor taskExecutor) {
+		if (taskExecutor instanceof ExecutorConfigurationSupport executor) {
+			executor.shutdown();
+		}
+		else if (taskExecutor instanceof ExecutorService executor) {
+			executor.shutdown();
+		}
+	}
+
+	// without a queue a fork that finds every thread waiting runs on its caller instead of behind the calls it awaits
+	private static ThreadPoolTaskExecutor forkPool(int maxPoolSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(0);
+		executor.setKeepAliveSeconds(60);
+		executor.setThreadNamePrefix("Heartbeat-Fork-");
+		executor.initialize();
+		return executor;
+	}
+
+}
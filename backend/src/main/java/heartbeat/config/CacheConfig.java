@@ -15,88 +15,141 @@ import heartbeat.client.dto.codebase.github.PageReposInfoDTO;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteTokenInfo;
 import heartbeat.client.dto.pipeline.buildkite.PageBuildKitePipelineInfoDTO;
 import heartbeat.client.dto.pipeline.buildkite.PageStepsInfoDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
+import org.ehcache.impl.copy.SerializingCopier;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.cache.CacheManager;
 import javax.cache.Caching;
-import javax.cache.spi.CachingProvider;
-import java.time.Duration;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
+@EnableConfigurationProperties(TieredCacheProperties.class)
 public class CacheConfig {
 
+	private final TieredCacheProperties cacheProperties;
+
 	@Bean
 	public CacheManager ehCacheManager() {
-		CachingProvider provider = Caching.getCachingProvider();
-		CacheManager cacheManager = provider.getCacheManager();
-		cacheManager.createCache("sprintInfo", getCacheConfiguration(String.class));
-		cacheManager.createCache("jiraConfig", getCacheConfiguration(JiraBoardConfigDTO.class));
-		cacheManager.createCache("jiraStatusCategory", getCacheConfiguration(StatusSelfDTO.class));
-		cacheManager.createCache("jiraActivityFeed", getCacheConfiguration(CardHistoryResponseDTO.class));
-		cacheManager.createCache("targetField", getCacheConfiguration(FieldResponseDTO.class));
-		cacheManager.createCache("boardVerification", getCacheConfiguration(JiraBoardVerifyDTO.class));
-		cacheManager.createCache("boardProject", getCacheConfiguration(JiraBoardProject.class));
-		cacheManager.createCache("jiraCards", getCacheConfiguration(String.class));
-		cacheManager.createCache("jiraCardHistoryByCount", getCacheConfiguration(CardHistoryResponseDTO.class));
-		cacheManager.createCache("holidayResult", getCacheConfiguration(HolidaysResponseDTO.class));
-		cacheManager.createCache("tokenInfo", getCacheConfiguration(BuildKiteTokenInfo.class));
-		cacheManager.createCache("buildKiteOrganizationInfo", getCacheConfiguration(List.class));
-		cacheManager.createCache("pagePipelineInfo", getCacheConfiguration(PageBuildKitePipelineInfoDTO.class));
-		cacheManager.createCache("pageStepsInfo", getCacheConfiguration(PageStepsInfoDto.class));
-		cacheManager.createCache("pipelineStepsInfo", getCacheConfiguration(List.class));
-		cacheManager.createCache("githubOrganizationInfo", getCacheConfiguration(List.class));
-		cacheManager.createCache("githubAllRepos", getCacheConfiguration(List.class));
-		cacheManager.createCache("githubRepos", getCacheConfiguration(List.class));
-		cacheManager.createCache("commitInfo", getCacheConfiguration(CommitInfo.class));
-		cacheManager.createCache("pullRequestCommitInfo", getCacheConfiguration(List.class));
-		cacheManager.createCache("pullRequestListInfo", getCacheConfiguration(List.class));
-		cacheManager.createCache("calendarResult", getCacheConfiguration(String.class, true));
-		cacheManager.createCache("pageOrganization", getCacheConfiguration(PageOrganizationsInfoDTO.class));
-		cacheManager.createCache("pageRepo", getCacheConfiguration(PageReposInfoDTO.class));
-		cacheManager.createCache("pageBranch", getCacheConfiguration(PageBranchesInfoDTO.class));
-		cacheManager.createCache("pagePullRequest", getCacheConfiguration(PagePullRequestInfo.class));
+		EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+			.getCachingProvider(EhcacheCachingProvider.class.getName());
+		// the disk tier needs a persistence directory, so it is only configured when a cache asks for disk
+		boolean hasDiskTier = cacheProperties.getDefaults().getDiskMB() > 0 || cacheProperties.getCaches()
+			.values()
+			.stream()
+			.anyMatch(tier -> tier.getDiskMB() != null && tier.getDiskMB() > 0);
+		CacheManager cacheManager = hasDiskTier
+				? provider.getCacheManager(provider.getDefaultURI(),
+						new DefaultConfiguration(provider.getDefaultClassLoader(),
+								new DefaultPersistenceConfiguration(new File(cacheProperties.getDiskPath()))))
+				: provider.getCacheManager();
+		createCache(cacheManager, "sprintInfo", String.class);
+		createCache(cacheManager, "jiraConfig", JiraBoardConfigDTO.class);
+		createCache(cacheManager, "jiraStatusCategory", StatusSelfDTO.class);
+		createCache(cacheManager, "jiraActivityFeed", CardHistoryResponseDTO.class);
+		createCache(cacheManager, "targetField", FieldResponseDTO.class);
+		createCache(cacheManager, "boardVerification", JiraBoardVerifyDTO.class);
+		createCache(cacheManager, "boardProject", JiraBoardProject.class);
+		createCache(cacheManager, "jiraCards", String.class);
+		createCache(cacheManager, "jiraCardHistoryByCount", CardHistoryResponseDTO.class);
+		createCache(cacheManager, "holidayResult", HolidaysResponseDTO.class);
+		createCache(cacheManager, "tokenInfo", BuildKiteTokenInfo.class);
+		createCache(cacheManager, "buildKiteOrganizationInfo", List.class);
+		createCache(cacheManager, "pagePipelineInfo", PageBuildKitePipelineInfoDTO.class);
+		createCache(cacheManager, "pageStepsInfo", PageStepsInfoDto.class);
+		createCache(cacheManager, "pipelineStepsInfo", List.class);
+		createCache(cacheManager, "githubOrganizationInfo", List.class);
+		createCache(cacheManager, "githubAllRepos", List.class);
+		createCache(cacheManager, "githubRepos", List.class);
+		createCache(cacheManager, "commitInfo", CommitInfo.class);
+		createCache(cacheManager, "pullRequestCommitInfo", List.class);
+		createCache(cacheManager, "pullRequestListInfo", List.class);
+		createCache(cacheManager, "calendarResult", String.class);
+		createCache(cacheManager, "pageOrganization", PageOrganizationsInfoDTO.class);
+		createCache(cacheManager, "pageRepo", PageReposInfoDTO.class);
+		createCache(cacheManager, "pageBranch", PageBranchesInfoDTO.class);
+		createCache(cacheManager, "pagePullRequest", PagePullRequestInfo.class);
+		// statistics back the cache.gets hit and miss metrics
+		cacheManager.getCacheNames().forEach(cacheName -> cacheManager.enableStatistics(cacheName, true));
 		return cacheManager;
 	}
 
-	@SuppressWarnings("unchecked")
-	private <K, V> javax.cache.configuration.Configuration<K, V> getCacheConfiguration(Class<V> valueType,
-			boolean isSaveLongTime) {
-		ResourcePoolsBuilder offHeap;
-		if (valueType == String.class) {
-			offHeap = ResourcePoolsBuilder.newResourcePoolsBuilder().offheap(8, MemoryUnit.MB);
-		}
-		else {
-			offHeap = ResourcePoolsBuilder.newResourcePoolsBuilder().offheap(4, MemoryUnit.MB);
+	@Bean
+	public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		return registry -> cacheManager.getCacheNames()
+			.forEach(cacheName -> Gauge
+				.builder("cache.hit.ratio", mBeanServer, server -> getHitPercentage(server, cacheName) / 100)
+				.tag("cache", cacheName)
+				.description("The ratio of cache requests which were hits")
+				.register(registry));
+	}
+
+	private static double getHitPercentage(MBeanServer mBeanServer, String cacheName) {
+		try {
+			Set<ObjectName> names = mBeanServer
+				.queryNames(new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null);
+			return names.isEmpty() ? Double.NaN
+					: ((Number) mBeanServer.getAttribute(names.iterator().next(), "CacheHitPercentage")).doubleValue();
 		}
-		Duration timeToLive;
-		if (valueType == HolidaysResponseDTO.class) {
-			timeToLive = Duration.ofSeconds(300);
+		catch (JMException e) {
+			return Double.NaN;
 		}
-		else {
-			timeToLive = Duration.ofSeconds(90);
+	}
+
+	private <V> void createCache(CacheManager cacheManager, String cacheName, Class<V> valueType) {
+		cacheManager.createCache(cacheName, getCacheConfiguration(cacheName, valueType));
+	}
+
+	@SuppressWarnings("unchecked")
+	<K, V> javax.cache.configuration.Configuration<K, V> getCacheConfiguration(String cacheName,
+			Class<V> valueType) {
+		TieredCacheProperties.Tier tier = cacheProperties.tierOf(cacheName);
+		ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(tier.getHeapEntries());
+		if (tier.getOffHeapMB() > 0) {
+			resourcePools = resourcePools.offheap(tier.getOffHeapMB(), MemoryUnit.MB);
 		}
-		if (isSaveLongTime) {
-			timeToLive = Duration.ofDays(356);
+		if (tier.getDiskMB() > 0) {
+			resourcePools = resourcePools.disk(tier.getDiskMB(), MemoryUnit.MB, false);
 		}
+		// reads extend an entry by the time to idle, while creates and updates live for the time to live
+		ExpiryPolicy<Object, Object> expiry = tier.getTti() == null
+				? ExpiryPolicyBuilder.timeToLiveExpiration(tier.getTtl())
+				: ExpiryPolicyBuilder.expiry()
+					.create(tier.getTtl())
+					.access(tier.getTti())
+					.update(tier.getTtl())
+					.build();
 		CacheConfigurationBuilder<K, V> configuration = CacheConfigurationBuilder
-			.newCacheConfigurationBuilder((Class<K>) String.class, valueType, offHeap)
-			.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+			.newCacheConfigurationBuilder((Class<K>) String.class, valueType, resourcePools)
+			.withExpiry(expiry)
+			// the heap tier would otherwise hand out the stored instance, so a caller changing it changes the entry
+			.withKeyCopier(SerializingCopier.<K>asCopierClass())
+			.withValueCopier(SerializingCopier.<V>asCopierClass());
 
 		return Eh107Configuration.fromEhcacheCacheConfiguration(configuration);
 	}
 
-	@SuppressWarnings("unchecked")
-	private <K, V> javax.cache.configuration.Configuration<K, V> getCacheConfiguration(Class<V> valueType) {
-		return getCacheConfiguration(valueType, false);
-	}
-
 }
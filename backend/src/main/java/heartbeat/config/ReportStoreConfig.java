@@ -0,0 +1,62 @@
+package heartbeat.config;
+
+import heartbeat.repository.FileRepository;
+import heartbeat.repository.FileSystemReportStore;
+import heartbeat.repository.MVStoreReportStore;
+import heartbeat.repository.ReportStore;
+import heartbeat.repository.ReportStoreMigration;
+import org.h2.mvstore.MVStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// without heartbeat.reportStore.type=mvstore the json artefacts stay in the directory layout of FileRepository
+@Configuration
+public class ReportStoreConfig {
+
+	private static final String MEMORY_MAPPED_FILE_SYSTEM = "nioMapped:";
+
+	@Bean
+	@ConditionalOnProperty(prefix = "heartbeat.reportStore", name = "type", havingValue = "file",
+			matchIfMissing = true)
+	public ReportStore fileSystemReportStore() {
+		return new FileSystemReportStore();
+	}
+
+	@Configuration
+	@ConditionalOnProperty(prefix = "heartbeat.reportStore", name = "type", havingValue = "mvstore")
+	static class MVStoreReportStoreConfig {
+
+		@Bean(destroyMethod = "close")
+		public MVStore reportMVStore(@Value("${heartbeat.reportStore.path}") String path,
+				@Value("${heartbeat.reportStore.memoryMapped:true}") boolean memoryMapped) throws IOException {
+			Files.createDirectories(Path.of(path).toAbsolutePath().getParent());
+			return new MVStore.Builder().fileName((memoryMapped ? MEMORY_MAPPED_FILE_SYSTEM : "") + path)
+				.compress()
+				.open();
+		}
+
+		@Bean
+		public ReportStore reportStore(MVStore reportMVStore) {
+			return new MVStoreReportStore(reportMVStore);
+		}
+
+		@Bean
+		public ApplicationRunner reportStoreMigration(ReportStore reportStore,
+				@Value("${heartbeat.reportStore.migrate:true}") boolean migrate) {
+			return args -> {
+				if (migrate) {
+					new ReportStoreMigration(reportStore).migrate(Path.of(FileRepository.BASE_OUTPUT_PATH));
+				}
+			};
+		}
+
+	}
+
+}
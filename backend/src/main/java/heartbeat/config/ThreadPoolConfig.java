@@ -1,14 +1,23 @@
 package heartbeat.config;
 
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 
+@Log4j2
 @Configuration
 public class ThreadPoolConfig {
 
+	@Primary
 	@Bean("customTaskExecutor")
 	public ThreadPoolTaskExecutor taskExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -27,4 +36,50 @@ public class ThreadPoolConfig {
 		return executor;
 	}
 
+	@Bean("calendarTaskExecutor")
+	public ThreadPoolTaskExecutor calendarTaskExecutor() {
+		// holiday loads must not wait behind report tasks that are themselves waiting for a calendar
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setCorePoolSize(3);
+		executor.setMaxPoolSize(3);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("Heartbeat-Calendar-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean("reportProgressExecutor")
+	public ThreadPoolTaskExecutor reportProgressExecutor() {
+		// report generators only queue progress events, the network writes to subscribers happen here
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setThreadNamePrefix("Heartbeat-Progress-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean("ioTaskExecutor")
+	public Executor ioTaskExecutor(@Value("${heartbeat.io.virtualThreads:false}") boolean virtualThreads,
+			@Qualifier("customTaskExecutor") ThreadPoolTaskExecutor customTaskExecutor) {
+		if (virtualThreads) {
+			try {
+				// looked up reflectively so the build stays on Java 17 while a Java 21 runtime can opt in
+				return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch (ReflectiveOperationException e) {
+				log.warn("Virtual threads are not available on Java {}, outbound calls stay on the platform pool",
+						Runtime.version().feature());
+			}
+		}
+		return customTaskExecutor;
+	}
+
+	@Bean("buildKitePipelineBudget")
+	public Semaphore buildKitePipelineBudget(@Qualifier("customTaskExecutor") ThreadPoolTaskExecutor executor) {
+		// pipelines hold an executor thread while their pages run on the same pool, keep half of the core free
+		return new Semaphore(Math.max(1, executor.getCorePoolSize() / 2));
+	}
+
 }
@@ -0,0 +1,61 @@
+package heartbeat.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Data
+@ConfigurationProperties(prefix = "heartbeat.cache")
+public class TieredCacheProperties {
+
+	private String diskPath = "./app/cache";
+
+	private Tier defaults = Tier.of(100L, 4L, 0L, Duration.ofSeconds(90), null);
+
+	private Map<String, Tier> caches = new LinkedHashMap<>();
+
+	// unset fields of a cache fall back to the defaults, and names ignore case so env overrides bind as well
+	public Tier tierOf(String cacheName) {
+		Tier tier = caches.entrySet()
+			.stream()
+			.filter(entry -> entry.getKey().equalsIgnoreCase(cacheName))
+			.map(Map.Entry::getValue)
+			.findFirst()
+			.orElseGet(Tier::new);
+		return Tier.of(Optional.ofNullable(tier.getHeapEntries()).orElse(defaults.getHeapEntries()),
+				Optional.ofNullable(tier.getOffHeapMB()).orElse(defaults.getOffHeapMB()),
+				Optional.ofNullable(tier.getDiskMB()).orElse(defaults.getDiskMB()),
+				Optional.ofNullable(tier.getTtl()).orElse(defaults.getTtl()),
+				Optional.ofNullable(tier.getTti()).orElse(defaults.getTti()));
+	}
+
+	@Data
+	public static class Tier {
+
+		private Long heapEntries;
+
+		private Long offHeapMB;
+
+		private Long diskMB;
+
+		private Duration ttl;
+
+		private Duration tti;
+
+		static Tier of(Long heapEntries, Long offHeapMB, Long diskMB, Duration ttl, Duration tti) {
+			Tier tier = new Tier();
+			tier.setHeapEntries(heapEntries);
+			tier.setOffHeapMB(offHeapMB);
+			tier.setDiskMB(diskMB);
+			tier.setTtl(ttl);
+			tier.setTti(tti);
+			return tier;
+		}
+
+	}
+
+}
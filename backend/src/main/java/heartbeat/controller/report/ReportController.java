@@ -7,6 +7,7 @@ import heartbeat.controller.report.dto.response.ReportResponse;
 import heartbeat.controller.report.dto.response.ShareApiDetailsResponse;
 import heartbeat.controller.report.dto.response.UuidResponse;
 import heartbeat.service.report.GenerateReporterService;
+import heartbeat.service.report.ReportProgressService;
 import heartbeat.service.report.ReportService;
 import heartbeat.util.TimeUtil;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,8 +16,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +28,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.File;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,21 +44,32 @@ public class ReportController {
 
 	private final ReportService reportService;
 
+	private final ReportProgressService reportProgressService;
+
+	private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
 	@Value("${callback.interval}")
 	private Integer interval;
 
 	@GetMapping("/{reportType}/{reportId}")
-	public InputStreamResource exportCSV(
+	public ResponseEntity<Resource> exportCSV(
 			@Schema(type = "string", allowableValues = { "metric", "pipeline", "board" },
 					accessMode = Schema.AccessMode.READ_ONLY) @PathVariable ReportType reportType,
 			@PathVariable String reportId,
 			@Schema(type = "string", example = "20240310", pattern = "^[0-9]{8}$") @Parameter String startTime,
 			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime) {
 		log.info("Start to export CSV file_reportType: {}, reportId: {}", reportType.getValue(), reportId);
-		InputStreamResource result = reportService.exportCsv(reportType, reportId, startTime, endTime);
+		FileSystemResource result = reportService.exportCsv(reportType, reportId, startTime, endTime);
 		log.info("Successfully get CSV file_reportType: {}, reportId: {}, result description: {}",
 				reportType.getValue(), reportId, result.getDescription());
-		return result;
+		// a Resource body lets Spring answer Range requests, and the ETag lets it answer If-None-Match with 304,
+		// it is weak because Tomcat does not compress responses that carry a strong one
+		File file = result.getFile();
+		return ResponseEntity.ok()
+			.contentType(TEXT_CSV)
+			.lastModified(file.lastModified())
+			.eTag("W/\"" + Long.toHexString(file.lastModified()) + "-" + Long.toHexString(file.length()) + "\"")
+			.body(result);
 	}
 
 	@GetMapping("/{reportId}/detail")
@@ -66,6 +83,14 @@ public class ReportController {
 		return composedReportResponse;
 	}
 
+	@GetMapping(path = "/{reportId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeReportProgress(@PathVariable String reportId,
+			@Schema(type = "string", example = "20240310", pattern = "^[0-9]{8}$") @Parameter String startTime,
+			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime) {
+		log.info("Start to subscribe report progress, reportId: {}", reportId);
+		return reportProgressService.subscribe(reportId, startTime, endTime);
+	}
+
 	@GetMapping("/{reportId}")
 	public ShareApiDetailsResponse getShareDetails(@PathVariable String reportId) {
 		log.info("Start to get share details, reportId: {}", reportId);
@@ -4,8 +4,8 @@ import heartbeat.controller.report.dto.request.MetricType;
 import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.repository.FileRepository;
+import heartbeat.util.StripedLock;
 import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
@@ -24,64 +24,81 @@ public class AsyncMetricsDataHandler {
 
 	private static final String GENERATE_REPORT_ERROR = "Failed to update metrics data completed through this timestamp.";
 
-	private final Object readWriteLock = new Object();
+	private static final int REPORT_LOCK_STRIPES = 64;
+
+	// the status file of one report is read, changed and written back as a unit, other reports are not blocked
+	private final StripedLock reportLocks = new StripedLock(REPORT_LOCK_STRIPES);
 
 	private final FileRepository fileRepository;
 
-	@Synchronized("readWriteLock")
+	private final ReportProgressRegistry reportProgressRegistry;
+
 	public void updateMetricsDataCompletedInHandler(String uuid, String fileName, MetricType metricType,
 			boolean isCreateCsvSuccess) {
-		MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
-				fileName, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
-		if (previousMetricsCompleted == null) {
-			String filename = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, fileName);
-			log.error(GENERATE_REPORT_ERROR + "; filename: " + filename);
-			throw new GenerateReportException(GENERATE_REPORT_ERROR);
-		}
-		if (isCreateCsvSuccess) {
-			previousMetricsCompleted.setIsSuccessfulCreateCsvFile(true);
-		}
-		if (metricType == BOARD) {
-			previousMetricsCompleted.setBoardMetricsCompleted(true);
-		}
-		else {
-			previousMetricsCompleted.setDoraMetricsCompleted(true);
+		synchronized (reportLocks.of(lockKey(uuid, fileName))) {
+			MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
+					fileName, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			if (previousMetricsCompleted == null) {
+				String filename = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, fileName);
+				log.error(GENERATE_REPORT_ERROR + "; filename: " + filename);
+				throw new GenerateReportException(GENERATE_REPORT_ERROR);
+			}
+			if (isCreateCsvSuccess) {
+				previousMetricsCompleted.setIsSuccessfulCreateCsvFile(true);
+			}
+			if (metricType == BOARD) {
+				previousMetricsCompleted.setBoardMetricsCompleted(true);
+			}
+			else {
+				previousMetricsCompleted.setDoraMetricsCompleted(true);
+			}
+			fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, fileName, previousMetricsCompleted,
+					DATA_COMPLETED_PREFIX);
+			reportProgressRegistry.updateMetricsDataCompleted(uuid, fileName, previousMetricsCompleted);
 		}
-		fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, fileName, previousMetricsCompleted,
-				DATA_COMPLETED_PREFIX);
 	}
 
-	@Synchronized("readWriteLock")
 	public void updateOverallMetricsCompletedInHandler(String uuid, String timeRangeAndStamp) {
-		MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
-				timeRangeAndStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
-		if (previousMetricsCompleted == null) {
-			String fileName = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, timeRangeAndStamp);
-			log.error(GENERATE_REPORT_ERROR + "; filename: " + fileName);
-			throw new GenerateReportException(GENERATE_REPORT_ERROR);
+		synchronized (reportLocks.of(lockKey(uuid, timeRangeAndStamp))) {
+			MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
+					timeRangeAndStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			if (previousMetricsCompleted == null) {
+				String fileName = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, timeRangeAndStamp);
+				log.error(GENERATE_REPORT_ERROR + "; filename: " + fileName);
+				throw new GenerateReportException(GENERATE_REPORT_ERROR);
+			}
+			previousMetricsCompleted.setOverallMetricCompleted(true);
+			fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, timeRangeAndStamp, previousMetricsCompleted,
+					DATA_COMPLETED_PREFIX);
+			reportProgressRegistry.updateMetricsDataCompleted(uuid, timeRangeAndStamp, previousMetricsCompleted);
 		}
-		previousMetricsCompleted.setOverallMetricCompleted(true);
-		fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, timeRangeAndStamp, previousMetricsCompleted,
-				DATA_COMPLETED_PREFIX);
 	}
 
 	public void initializeMetricsDataCompletedInHandler(String uuid, List<MetricType> metricTypes,
 			String timeRangeAndTimeStamp) {
-		MetricsDataCompleted previousMetricsDataCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
-				timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
-		Boolean initializeBoardMetricsCompleted = null;
-		Boolean initializeDoraMetricsCompleted = null;
-		if (!Objects.isNull(previousMetricsDataCompleted)) {
-			initializeBoardMetricsCompleted = previousMetricsDataCompleted.boardMetricsCompleted();
-			initializeDoraMetricsCompleted = previousMetricsDataCompleted.doraMetricsCompleted();
-		}
-		fileRepository
-			.createFileByType(METRICS_DATA_COMPLETED, uuid, timeRangeAndTimeStamp, MetricsDataCompleted.builder()
+		synchronized (reportLocks.of(lockKey(uuid, timeRangeAndTimeStamp))) {
+			MetricsDataCompleted previousMetricsDataCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED,
+					uuid, timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			Boolean initializeBoardMetricsCompleted = null;
+			Boolean initializeDoraMetricsCompleted = null;
+			if (!Objects.isNull(previousMetricsDataCompleted)) {
+				initializeBoardMetricsCompleted = previousMetricsDataCompleted.boardMetricsCompleted();
+				initializeDoraMetricsCompleted = previousMetricsDataCompleted.doraMetricsCompleted();
+			}
+			MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder()
 				.boardMetricsCompleted(metricTypes.contains(BOARD) ? Boolean.FALSE : initializeBoardMetricsCompleted)
 				.doraMetricsCompleted(metricTypes.contains(DORA) ? Boolean.FALSE : initializeDoraMetricsCompleted)
 				.overallMetricCompleted(Boolean.FALSE)
 				.isSuccessfulCreateCsvFile(Boolean.FALSE)
-				.build(), DATA_COMPLETED_PREFIX);
+				.build();
+			fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, timeRangeAndTimeStamp, metricsDataCompleted,
+					DATA_COMPLETED_PREFIX);
+			reportProgressRegistry.updateMetricsDataCompleted(uuid, timeRangeAndTimeStamp, metricsDataCompleted);
+		}
+	}
+
+	private static String lockKey(String uuid, String timeRangeAndTimeStamp) {
+		return uuid + "/" + timeRangeAndTimeStamp;
 	}
 
 }
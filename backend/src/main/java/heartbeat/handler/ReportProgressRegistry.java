@@ -0,0 +1,163 @@
+package heartbeat.handler;
+
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.handler.base.ReportProgress;
+import heartbeat.repository.FilePrefixType;
+import heartbeat.repository.FileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static heartbeat.repository.FilePrefixType.DATA_COMPLETED_PREFIX;
+
+// keeps the status and stages of the reports in progress in memory, their payloads stay on disk
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ReportProgressRegistry {
+
+	private static final String KEY_SEPARATOR = "/";
+
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private static final int MAX_REPORT_PROGRESSES = 1024;
+
+	private final FileRepository fileRepository;
+
+	private final Map<String, ReportProgress> reportProgresses = new ConcurrentHashMap<>();
+
+	private final AtomicLong changes = new AtomicLong();
+
+	private final Map<String, String> latestTimeRangeAndTimeStamps = new ConcurrentHashMap<>();
+
+	private final Map<String, List<BiConsumer<String, String>>> listeners = new ConcurrentHashMap<>();
+
+	// a report in progress is loaded from disk once, a completed one is loaded every time instead of being kept
+	public ReportProgress find(String uuid, String timeRangeAndTimeStamp, Supplier<ReportProgress> loader) {
+		String key = key(uuid, timeRangeAndTimeStamp);
+		ReportProgress reportProgress = reportProgresses.get(key);
+		if (reportProgress != null) {
+			return reportProgress;
+		}
+		long version = changes.get();
+		ReportProgress loaded = loader.get();
+		if (!isInProgress(loaded.getMetricsDataCompleted()) || reportProgresses.size() >= MAX_REPORT_PROGRESSES) {
+			return loaded;
+		}
+		ReportProgress existing = reportProgresses.putIfAbsent(key, loaded);
+		if (existing != null) {
+			return existing;
+		}
+		// a change written while the report was loaded may be missing from it, the next find loads it again
+		if (changes.get() != version) {
+			reportProgresses.remove(key);
+		}
+		return loaded;
+	}
+
+	public Optional<String> findLatestTimeRangeAndTimeStamp(String uuid, String startTime, String endTime) {
+		String timeRange = startTime + FILENAME_SEPARATOR + endTime;
+		return Optional.ofNullable(latestTimeRangeAndTimeStamps.get(key(uuid, timeRange)));
+	}
+
+	public void updateMetricsDataCompleted(String uuid, String timeRangeAndTimeStamp,
+			MetricsDataCompleted metricsDataCompleted) {
+		latestTimeRangeAndTimeStamps.put(
+				key(uuid, StringUtils.substringBeforeLast(timeRangeAndTimeStamp, FILENAME_SEPARATOR)),
+				timeRangeAndTimeStamp);
+		// a completed report is dropped, it is read back from disk from now on
+		update(uuid, timeRangeAndTimeStamp, DATA_COMPLETED_PREFIX,
+				reportProgress -> isInProgress(metricsDataCompleted)
+						? reportProgress.toBuilder().metricsDataCompleted(metricsDataCompleted).build() : null);
+	}
+
+	public void updateReport(String uuid, String timeRangeAndTimeStamp, FilePrefixType filePrefixType) {
+		update(uuid, timeRangeAndTimeStamp, filePrefixType, reportProgress -> reportProgress.toBuilder()
+			.reportedStages(with(reportProgress.getReportedStages(), filePrefixType, true))
+			.build());
+	}
+
+	public void updateError(String uuid, String timeRangeAndTimeStamp, FilePrefixType filePrefixType,
+			boolean failed) {
+		update(uuid, timeRangeAndTimeStamp, filePrefixType, reportProgress -> reportProgress.toBuilder()
+			.failedStages(with(reportProgress.getFailedStages(), filePrefixType, failed))
+			.build());
+	}
+
+	// the listener receives the time range and timestamp of the report and the stage that changed
+	public Runnable subscribe(String uuid, BiConsumer<String, String> listener) {
+		listeners.compute(uuid, (key, subscribed) -> {
+			List<BiConsumer<String, String>> updated = subscribed == null ? new CopyOnWriteArrayList<>() : subscribed;
+			updated.add(listener);
+			return updated;
+		});
+		return () -> listeners.computeIfPresent(uuid, (key, subscribed) -> {
+			subscribed.remove(listener);
+			return subscribed.isEmpty() ? null : subscribed;
+		});
+	}
+
+	public void removeExpired(long currentTimeStamp) {
+		reportProgresses.keySet().removeIf(key -> isExpired(key, currentTimeStamp));
+		latestTimeRangeAndTimeStamps.values().removeIf(value -> isExpired(value, currentTimeStamp));
+	}
+
+	private void update(String uuid, String timeRangeAndTimeStamp, FilePrefixType filePrefixType,
+			UnaryOperator<ReportProgress> change) {
+		changes.incrementAndGet();
+		reportProgresses.computeIfPresent(key(uuid, timeRangeAndTimeStamp),
+				(key, reportProgress) -> change.apply(reportProgress));
+		String stage = StringUtils.removeEnd(filePrefixType.getPrefix(), FILENAME_SEPARATOR);
+		listeners.getOrDefault(uuid, List.of()).forEach(listener -> {
+			try {
+				listener.accept(timeRangeAndTimeStamp, stage);
+			}
+			catch (Exception e) {
+				log.error("Failed to notify report progress, reportId: {}, stage: {}, reason: {}", uuid, stage,
+						e.getMessage());
+			}
+		});
+	}
+
+	private boolean isExpired(String timeRangeAndTimeStamp, long currentTimeStamp) {
+		return fileRepository.isExpired(currentTimeStamp,
+				NumberUtils.toLong(StringUtils.substringAfterLast(timeRangeAndTimeStamp, FILENAME_SEPARATOR)));
+	}
+
+	private static boolean isInProgress(MetricsDataCompleted metricsDataCompleted) {
+		return metricsDataCompleted != null && !(Boolean.TRUE.equals(metricsDataCompleted.overallMetricCompleted())
+				&& metricsDataCompleted.allMetricsCompleted());
+	}
+
+	private static Set<FilePrefixType> with(Set<FilePrefixType> stages, FilePrefixType filePrefixType,
+			boolean present) {
+		Set<FilePrefixType> updated = EnumSet.noneOf(FilePrefixType.class);
+		updated.addAll(stages);
+		if (present) {
+			updated.add(filePrefixType);
+		}
+		else {
+			updated.remove(filePrefixType);
+		}
+		return updated;
+	}
+
+	private static String key(String uuid, String timeRange) {
+		return uuid + KEY_SEPARATOR + timeRange;
+	}
+
+}
@@ -0,0 +1,22 @@
+package heartbeat.handler.base;
+
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.repository.FilePrefixType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+@Builder(toBuilder = true)
+public class ReportProgress {
+
+	private MetricsDataCompleted metricsDataCompleted;
+
+	@Builder.Default
+	private Set<FilePrefixType> reportedStages = Set.of();
+
+	@Builder.Default
+	private Set<FilePrefixType> failedStages = Set.of();
+
+}
@@ -0,0 +1,130 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSnapshotRepository {
+
+	private static final String BASE_SNAPSHOT_PATH = "./app/snapshot";
+
+	private static final String SLASH = "/";
+
+	private static final String JSON_EXTENSION = ".json";
+
+	private static final long ONE_DAY_MILLISECONDS = 1000L * 3600 * 24;
+
+	@Value("${heartbeat.jira.snapshot.enabled:true}")
+	public boolean enabled = true;
+
+	@Value("${heartbeat.jira.snapshot.expiredDays:30}")
+	public int expiredDays = 30;
+
+	private final Gson gson;
+
+	public Optional<CardHistoryResponseDTO> findCardHistory(String boardKey, String cardKey, String updated) {
+		if (!isCacheable(boardKey, cardKey, updated)) {
+			return Optional.empty();
+		}
+		File file = new File(getFileName(boardKey, cardKey));
+		if (!file.exists()) {
+			return Optional.empty();
+		}
+		try (JsonReader reader = new JsonReader(new FileReader(file))) {
+			CardHistorySnapshot snapshot = gson.fromJson(reader, CardHistorySnapshot.class);
+			if (snapshot == null || !Objects.equals(snapshot.getUpdated(), updated)) {
+				return Optional.empty();
+			}
+			log.info("Successfully read card history snapshot, board: {}, card: {}", boardKey, cardKey);
+			return Optional.ofNullable(snapshot.getHistory());
+		}
+		catch (Exception e) {
+			log.error("Failed to read card history snapshot, board: {}, card: {}, reason: {}", boardKey, cardKey,
+					e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	public void saveCardHistory(String boardKey, String cardKey, String updated, CardHistoryResponseDTO history) {
+		if (!isCacheable(boardKey, cardKey, updated)) {
+			return;
+		}
+		String realFileName = getFileName(boardKey, cardKey);
+		String tmpFileName = realFileName + FileRepository.SUFFIX_TMP + Thread.currentThread().getId();
+		try {
+			Files.createDirectories(Path.of(BASE_SNAPSHOT_PATH, boardKey));
+			try (FileWriter writer = new FileWriter(tmpFileName)) {
+				gson.toJson(CardHistorySnapshot.builder().updated(updated).history(history).build(), writer);
+			}
+			Files.move(Path.of(tmpFileName), Path.of(realFileName), StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (Exception e) {
+			log.error("Failed to write card history snapshot, board: {}, card: {}, reason: {}", boardKey, cardKey,
+					e.getMessage());
+			try {
+				Files.deleteIfExists(Path.of(tmpFileName));
+			}
+			catch (IOException ignored) {
+				log.error("Failed to remove temporary card history snapshot: {}", tmpFileName);
+			}
+		}
+	}
+
+	public void removeExpiredSnapshots(long currentTimeStamp) {
+		File baseFile = new File(BASE_SNAPSHOT_PATH);
+		if (!baseFile.exists() || !baseFile.isDirectory()) {
+			log.info("{} path don't exist", BASE_SNAPSHOT_PATH);
+			return;
+		}
+		long expiredTimeStamp = currentTimeStamp - expiredDays * ONE_DAY_MILLISECONDS;
+		int removedCount = 0;
+		for (File boardDirectory : Objects.requireNonNull(baseFile.listFiles())) {
+			File[] snapshots = Optional.ofNullable(boardDirectory.listFiles()).orElse(new File[0]);
+			for (File snapshot : snapshots) {
+				if (snapshot.lastModified() < expiredTimeStamp && FileUtils.deleteQuietly(snapshot)) {
+					removedCount++;
+				}
+			}
+			if (Optional.ofNullable(boardDirectory.list()).map(names -> names.length == 0).orElse(false)) {
+				FileUtils.deleteQuietly(boardDirectory);
+			}
+		}
+		log.info("Successfully deleted expired card history snapshots, count: {}", removedCount);
+	}
+
+	public static String getBoardKey(String host, String boardId) {
+		return (host + "-" + boardId).replaceAll("[^A-Za-z0-9._-]", "_");
+	}
+
+	private boolean isCacheable(String boardKey, String cardKey, String updated) {
+		return enabled && updated != null && isCorrectFilePath(boardKey) && isCorrectFilePath(cardKey);
+	}
+
+	private String getFileName(String boardKey, String cardKey) {
+		return BASE_SNAPSHOT_PATH + SLASH + boardKey + SLASH + cardKey + JSON_EXTENSION;
+	}
+
+	private boolean isCorrectFilePath(String filepath) {
+		return filepath != null && !filepath.isEmpty() && !filepath.contains("..") && !filepath.contains("/")
+				&& !filepath.contains("\\");
+	}
+
+}
@@ -0,0 +1,19 @@
+package heartbeat.repository;
+
+import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardHistorySnapshot {
+
+	private String updated;
+
+	private CardHistoryResponseDTO history;
+
+}
@@ -0,0 +1,147 @@
+package heartbeat.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// one manifest per time bucket lists what was written in it, so a sweep opens only the buckets that are due
+@Log4j2
+@Component
+public class ExpiryIndex {
+
+	private static final String MANIFEST_EXTENSION = ".idx";
+
+	private static final String SEPARATOR = "/";
+
+	private final Path indexPath;
+
+	private final long bucketMillis;
+
+	// rewrites of the same report only add one line per bucket
+	private final Set<String> indexedEntries = ConcurrentHashMap.newKeySet();
+
+	@Autowired
+	public ExpiryIndex(@Value("${heartbeat.expiry.indexPath:./app/expiry}") String indexPath,
+			@Value("${heartbeat.expiry.bucketMinutes:60}") long bucketMinutes) {
+		this(Path.of(indexPath), TimeUnit.MINUTES.toMillis(bucketMinutes));
+	}
+
+	public ExpiryIndex(Path indexPath, long bucketMillis) {
+		this.indexPath = indexPath;
+		this.bucketMillis = bucketMillis;
+	}
+
+	public void add(FileType fileType, String reportId, long timeStamp) {
+		String entry = new Entry(fileType, reportId, timeStamp).toString();
+		if (!indexedEntries.add(entry)) {
+			return;
+		}
+		Path manifest = indexPath.resolve(bucketOf(timeStamp) + MANIFEST_EXTENSION);
+		try {
+			synchronized (this) {
+				Files.createDirectories(indexPath);
+				Files.writeString(manifest, entry + System.lineSeparator(), StandardOpenOption.CREATE,
+						StandardOpenOption.APPEND);
+			}
+		}
+		catch (IOException e) {
+			indexedEntries.remove(entry);
+			log.error("Failed to add expiry index entry: {}, reason: {}", entry, e.getMessage());
+		}
+	}
+
+	// a bucket is due once all of it is older than expiredBefore, its manifest is kept if it cannot be handled
+	public int popDue(long expiredBefore, Consumer<List<Entry>> batchHandler) {
+		File[] manifests = indexPath.toFile().listFiles(file -> file.getName().endsWith(MANIFEST_EXTENSION));
+		if (manifests == null) {
+			return 0;
+		}
+		List<Path> dueManifests = Arrays.stream(manifests)
+			.filter(file -> isDue(file, expiredBefore))
+			.sorted(Comparator.comparingLong(manifest -> NumberUtils.toLong(bucketName(manifest))))
+			.map(File::toPath)
+			.toList();
+		int poppedCount = 0;
+		for (Path manifest : dueManifests) {
+			List<Entry> batch = read(manifest);
+			if (batch == null) {
+				continue;
+			}
+			batchHandler.accept(batch);
+			FileUtils.deleteQuietly(manifest.toFile());
+			batch.forEach(entry -> indexedEntries.remove(entry.toString()));
+			poppedCount += batch.size();
+		}
+		return poppedCount;
+	}
+
+	private long bucketOf(long timeStamp) {
+		return Math.floorDiv(timeStamp, bucketMillis) * bucketMillis;
+	}
+
+	private boolean isDue(File manifest, long expiredBefore) {
+		return NumberUtils.isDigits(bucketName(manifest))
+				&& NumberUtils.toLong(bucketName(manifest)) + bucketMillis <= expiredBefore;
+	}
+
+	private static String bucketName(File manifest) {
+		return StringUtils.removeEnd(manifest.getName(), MANIFEST_EXTENSION);
+	}
+
+	private List<Entry> read(Path manifest) {
+		try {
+			return Files.readAllLines(manifest)
+				.stream()
+				.map(line -> line.split(SEPARATOR))
+				.filter(parts -> parts.length == 3 && typeOf(parts[0]) != null && NumberUtils.isDigits(parts[2]))
+				.map(parts -> new Entry(typeOf(parts[0]), parts[1], NumberUtils.toLong(parts[2])))
+				.distinct()
+				.toList();
+		}
+		catch (IOException e) {
+			log.error("Failed to read expiry index manifest: {}, reason: {}", manifest, e.getMessage());
+			return null;
+		}
+	}
+
+	private static FileType typeOf(String type) {
+		return Arrays.stream(FileType.values()).filter(it -> it.getType().equals(type)).findFirst().orElse(null);
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class Entry {
+
+		private FileType fileType;
+
+		private String reportId;
+
+		private long timeStamp;
+
+		@Override
+		public String toString() {
+			return fileType.getType() + SEPARATOR + reportId + SEPARATOR + timeStamp;
+		}
+
+	}
+
+}
@@ -1,32 +1,31 @@
 package heartbeat.repository;
 
 import com.google.gson.Gson;
-import com.google.gson.stream.JsonReader;
 import com.opencsv.CSVWriter;
 import heartbeat.exception.FileIOException;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.NotFoundException;
+import heartbeat.util.StripedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static heartbeat.repository.FileType.CSV;
 
@@ -35,9 +34,7 @@ import static heartbeat.repository.FileType.CSV;
 @RequiredArgsConstructor
 public class FileRepository {
 
-	private static final String BASE_OUTPUT_PATH = "./app/output";
-
-	private static final String NORMALIZE_BASE_OUTPUT_PATH = "app/output";
+	public static final String BASE_OUTPUT_PATH = "./app/output";
 
 	private static final String SLASH = "/";
 
@@ -45,6 +42,8 @@ public class FileRepository {
 
 	public static final String SUFFIX_TMP = ".tmp";
 
+	private static final Pattern TIMESTAMP = Pattern.compile("\\d{1,18}");
+
 	@Value("${heartbeat.expiredDays}")
 	public int expiredDays;
 
@@ -54,8 +53,20 @@ public class FileRepository {
 
 	private static final String SUCCESSFULLY_WRITE_FILE_LOGS = "Successfully write file type: {}, reportId: {}, file name: {}";
 
+	private static final int FILE_LOCK_STRIPES = 64;
+
 	private final Gson gson;
 
+	// json artefacts go to the configured report store, csv files always stay on disk
+	private final ReportStore reportStore;
+
+	private final ExpiryIndex expiryIndex;
+
+	private final ReportStore csvFiles = new FileSystemReportStore();
+
+	// writers of the same file share its temporary file, writers of other files go on in parallel
+	private final StripedLock fileLocks = new StripedLock(FILE_LOCK_STRIPES);
+
 	public void createPath(FileType type, String reportId) {
 		isCorrectFilePath(reportId);
 
@@ -76,22 +87,19 @@ public class FileRepository {
 		isCorrectFilePath(fileName);
 
 		String realFileName = fileNamePrefix.getPrefix() + fileName;
-		File file = new File(getFileName(fileType, reportId, realFileName));
-		if (file.toPath().normalize().startsWith(NORMALIZE_BASE_OUTPUT_PATH) && file.exists()) {
-			try (JsonReader reader = new JsonReader(new FileReader(file))) {
-				T result = gson.fromJson(reader, classType);
-				log.info("Successfully read file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
-						realFileName);
-				return result;
-			}
-			catch (Exception e) {
-				log.error("Failed to read file folder: {}, reportId: {}, file name: {}, reason: {}", fileType.getType(),
-						reportId, realFileName, e);
-				throw new GenerateReportException(
-						"Failed to read file " + fileType.getType() + " " + reportId + " " + realFileName);
-			}
+		String json = storeOf(fileType).read(fileType, reportId, realFileName);
+		if (json == null) {
+			return null;
+		}
+		try {
+			return gson.fromJson(json, classType);
+		}
+		catch (Exception e) {
+			log.error("Failed to read file folder: {}, reportId: {}, file name: {}, reason: {}", fileType.getType(),
+					reportId, realFileName, e);
+			throw new GenerateReportException(
+					"Failed to read file " + fileType.getType() + " " + reportId + " " + realFileName);
 		}
-		return null;
 	}
 
 	public String getFileName(FileType fileType, String reportId, String fileName) {
@@ -107,8 +115,10 @@ public class FileRepository {
 		isCorrectFilePath(fileName);
 
 		String json = gson.toJson(data);
-		createFileHandler(fileType, reportId, fileName, fileNamePrefix,
-				realFileName -> createNormalFileHandler(fileType, reportId, json, realFileName));
+		String realFileName = fileNamePrefix.getPrefix() + fileName;
+		storeOf(fileType).write(fileType, reportId, realFileName, json);
+		addToExpiryIndex(fileType, reportId, fileName);
+		log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), reportId, realFileName);
 	}
 
 	public void createCSVFileByType(String reportId, String fileName, String[][] data, FilePrefixType fileNamePrefix) {
@@ -116,96 +126,58 @@ public class FileRepository {
 
 		FileType fileType = CSV;
 		createFileHandler(fileType, reportId, fileName + CSV_EXTENSION, fileNamePrefix,
-				realFileName -> createCSVFileHandler(fileType, reportId, data, realFileName));
+				realFileName -> createCSVFileHandler(fileType, reportId, Arrays.stream(data), realFileName));
+	}
+
+	public void createCSVFileByRows(String reportId, String fileName, Stream<String[]> rows,
+			FilePrefixType fileNamePrefix) {
+		isCorrectFilePath(reportId);
+
+		FileType fileType = CSV;
+		createFileHandler(fileType, reportId, fileName + CSV_EXTENSION, fileNamePrefix,
+				realFileName -> createCSVFileHandler(fileType, reportId, rows, realFileName));
 	}
 
 	public void removeFileByType(FileType fileType, String reportId, String fileName, FilePrefixType fileNamePrefix) {
 		isCorrectFilePath(reportId);
 		isCorrectFilePath(fileName);
 
-		String realFileName = fileNamePrefix.getPrefix() + fileName;
-		String path = getFileName(fileType, reportId, realFileName);
-
-		log.info("Start to remove file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
-				fileName);
-		try {
-			Files.deleteIfExists(Path.of(path));
-			log.info("Successfully remove file folder: {}, file name: {}", fileType.getType(), fileName);
-		}
-		catch (Exception e) {
-			log.error("Failed to remove file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
-					realFileName);
-			throw new GenerateReportException("Failed to remove " + fileType.getType() + ", reportId: " + reportId
-					+ " file with file:" + fileName);
-		}
+		storeOf(fileType).remove(fileType, reportId, fileNamePrefix.getPrefix() + fileName);
 	}
 
 	public void removeExpiredFiles(FileType fileType, long currentTimeStamp) {
-		String pathname = BASE_OUTPUT_PATH + SLASH + fileType.getType();
-		File baseFile = new File(pathname);
-		if (!baseFile.exists() || !baseFile.isDirectory()) {
-			log.info("{} path don't exist", pathname);
-			return;
-		}
-		List<String> expiredDirectories = new ArrayList<>();
-		List<String> dontExpiredDirectories = new ArrayList<>();
-		File[] reportIdDirectories = baseFile.listFiles();
-		log.info("Start to deleted expired {} file", fileType.getType());
-		for (File reportIdDirectory : reportIdDirectories) {
-			File[] files = reportIdDirectory.listFiles();
-			try {
-				if (files.length == 0) {
-					FileUtils.deleteDirectory(reportIdDirectory);
-					expiredDirectories.add(reportIdDirectory.getName());
-				}
-				else {
-					String timeStamp = files[0].getName().split("[-.]")[3];
-					if (isExpired(currentTimeStamp, Long.parseLong(timeStamp))) {
-						FileUtils.deleteDirectory(reportIdDirectory);
-						expiredDirectories.add(reportIdDirectory.getName());
-					}
-					else {
-						dontExpiredDirectories.add(reportIdDirectory.getName());
-					}
-				}
-			}
-			catch (Exception e) {
-				log.error("Failed to deleted expired {} file, file path: {}, reason: {}", fileType.getType(),
-						reportIdDirectory, e);
-			}
-		}
-		log.info("Successfully deleted expired {} file, expired files: {}, no expired files: {}", fileType.getType(),
-				expiredDirectories, dontExpiredDirectories);
+		storeOf(fileType).removeExpired(fileType, currentTimeStamp - getExpiredTime());
+	}
+
+	// removes only what the expiry index lists as due instead of walking every report directory
+	public int removeExpiredFilesByIndex(long currentTimeStamp) {
+		AtomicInteger removedCount = new AtomicInteger();
+		int entryCount = expiryIndex.popDue(currentTimeStamp - getExpiredTime(),
+				batch -> batch.forEach(entry -> removedCount.addAndGet(storeOf(entry.getFileType())
+					.removeByTimeStamp(entry.getFileType(), entry.getReportId(), entry.getTimeStamp()))));
+		log.info("Successfully deleted expired files by index, expired entries: {}, removed files: {}", entryCount,
+				removedCount.get());
+		return removedCount.get();
 	}
 
 	public List<String> getFiles(FileType fileType, String reportId) {
 		isCorrectFilePath(reportId);
 
 		String fileName = BASE_OUTPUT_PATH + SLASH + fileType.getPath() + reportId;
-		File folder = new File(fileName);
-
-		if (folder.exists() && folder.isDirectory()) {
-			log.info("Successfully get the {} folder in the report files", fileName);
-			return Arrays.stream(folder.listFiles()).map(File::getName).toList();
-		}
-		else {
+		List<String> fileNames = storeOf(fileType).getFileNames(fileType, reportId);
+		if (fileNames.isEmpty()) {
 			log.error("Failed to find the {} folder in the report files", fileName);
 			throw new NotFoundException(String.format("Don't find the %s folder in the report files", fileName));
 		}
+		log.info("Successfully get the {} folder in the report files", fileName);
+		return fileNames;
 	}
 
 	public String getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType fileType, String reportId,
 			String startTime, String endTime) {
 		isCorrectFilePath(reportId);
 
-		return getFiles(fileType, reportId).stream()
-			.map(it -> it.split(FILENAME_SEPARATOR))
-			.filter(it -> it.length == 4)
-			.filter(it -> Objects.equals(it[1], startTime) && Objects.equals(it[2], endTime))
-			.map(it -> it[1] + FILENAME_SEPARATOR + it[2] + FILENAME_SEPARATOR + it[3])
-			.findFirst()
-			.orElse(null);
-
+		return storeOf(fileType).findTimeRangeAndTimeStamp(fileType, reportId, startTime, endTime);
 	}
 
 	public boolean isExpired(long currentTimeStamp, long timeStamp) {
@@ -216,19 +188,18 @@ public class FileRepository {
 		return this.expiredDays * ONE_DAY_MILLISECONDS;
 	}
 
-	public InputStreamResource readStringFromCsvFile(String reportId, String fileName, FilePrefixType filePrefixType) {
+	public FileSystemResource readStringFromCsvFile(String reportId, String fileName, FilePrefixType filePrefixType) {
 		isCorrectFilePath(reportId);
 		isCorrectFilePath(fileName);
 
 		File file = new File(getFileName(CSV, reportId, filePrefixType.getPrefix() + fileName + CSV_EXTENSION));
-		try {
-			InputStream inputStream = new FileInputStream(file);
-			return new InputStreamResource(inputStream);
-		}
-		catch (IOException e) {
+		if (!file.isFile()) {
+			String reason = file.isDirectory() ? "Is a directory" : "No such file or directory";
+			FileNotFoundException e = new FileNotFoundException(String.format("%s (%s)", file.getPath(), reason));
 			log.error("Failed to read file", e);
 			throw new FileIOException(e);
 		}
+		return new FileSystemResource(file);
 	}
 
 	private void createFileHandler(FileType fileType, String reportId, String fileName, FilePrefixType fileNamePrefix,
@@ -238,36 +209,44 @@ public class FileRepository {
 		String realFileName = getFileName(fileType, reportId, realBaseFileName);
 		log.info("Start to write file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
 				realFileName);
-		synchronized (this) {
+		synchronized (fileLocks.of(realFileName)) {
 			handler.accept(realFileName);
 		}
+		addToExpiryIndex(fileType, reportId, fileName);
 		log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), reportId, realFileName);
 	}
 
-	private void createNormalFileHandler(FileType fileType, String reportId, String json, String realFileName) {
-		String tmpFileName = realFileName + SUFFIX_TMP;
-
-		try (FileWriter writer = new FileWriter(tmpFileName)) {
-			writer.write(json);
-			Files.move(Path.of(tmpFileName), Path.of(realFileName), StandardCopyOption.ATOMIC_MOVE);
-			log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), reportId, realFileName);
-		}
-		catch (Exception e) {
-			log.error("Failed to write file folder: {}, reportId: {}, file name: {}, reason: {}", fileType.getType(),
-					reportId, realFileName, e);
-			throw new GenerateReportException("Failed to write " + fileType.getType() + " " + realFileName);
+	private void addToExpiryIndex(FileType fileType, String reportId, String fileName) {
+		String timeStamp = StringUtils.substringAfterLast(StringUtils.removeEnd(fileName, CSV_EXTENSION),
+				FILENAME_SEPARATOR);
+		if (TIMESTAMP.matcher(timeStamp).matches()) {
+			expiryIndex.add(fileType, reportId, Long.parseLong(timeStamp));
 		}
 	}
 
-	private void createCSVFileHandler(FileType fileType, String reportId, String[][] json, String realFileName) {
-		try (CSVWriter writer = new CSVWriter(new FileWriter(realFileName))) {
-			writer.writeAll(Arrays.asList(json));
+	private void createCSVFileHandler(FileType fileType, String reportId, Stream<String[]> rows, String realFileName) {
+		Path tmpFile = Path.of(realFileName + SUFFIX_TMP);
+		try (rows; CSVWriter writer = new CSVWriter(Files.newBufferedWriter(tmpFile))) {
+			rows.forEachOrdered(writer::writeNext);
+			// the writer keeps write failures to itself, checking flushes the rows and reports them
+			if (writer.checkError()) {
+				throw new IOException("Failed to write rows to " + tmpFile);
+			}
+			Files.move(tmpFile, Path.of(realFileName), StandardCopyOption.ATOMIC_MOVE);
 			log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), reportId, realFileName);
 		}
 		catch (IOException e) {
 			log.error("Failed to write {} file", fileType.getType(), e);
 			throw new FileIOException(e);
 		}
+		finally {
+			// rows are produced lazily, so one failing while it is built leaves the temp file behind as well
+			FileUtils.deleteQuietly(tmpFile.toFile());
+		}
+	}
+
+	private ReportStore storeOf(FileType fileType) {
+		return fileType == CSV ? csvFiles : reportStore;
 	}
 
 	private void isCorrectFilePath(String filepath) {
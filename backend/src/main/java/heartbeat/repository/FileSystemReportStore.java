@@ -0,0 +1,179 @@
+package heartbeat.repository;
+
+import heartbeat.exception.GenerateReportException;
+import heartbeat.exception.NotFoundException;
+import heartbeat.util.StripedLock;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static heartbeat.repository.FileRepository.BASE_OUTPUT_PATH;
+import static heartbeat.repository.FileRepository.SUFFIX_TMP;
+
+// the directory layout of the output path, one directory per file type and report
+@Log4j2
+public class FileSystemReportStore implements ReportStore {
+
+	private static final String NORMALIZE_BASE_OUTPUT_PATH = "app/output";
+
+	private static final String SLASH = "/";
+
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private static final String CSV_EXTENSION = ".csv";
+
+	private static final int FILE_LOCK_STRIPES = 64;
+
+	// writers of the same file share its temporary file, writers of other files go on in parallel
+	private final StripedLock fileLocks = new StripedLock(FILE_LOCK_STRIPES);
+
+	@Override
+	public String read(FileType fileType, String reportId, String fileName) {
+		File file = new File(path(fileType, reportId, fileName));
+		if (!file.toPath().normalize().startsWith(NORMALIZE_BASE_OUTPUT_PATH) || !file.exists()) {
+			return null;
+		}
+		try {
+			String json = Files.readString(file.toPath());
+			log.info("Successfully read file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
+					fileName);
+			return json;
+		}
+		catch (Exception e) {
+			log.error("Failed to read file folder: {}, reportId: {}, file name: {}, reason: {}", fileType.getType(),
+					reportId, fileName, e);
+			throw new GenerateReportException(
+					"Failed to read file " + fileType.getType() + " " + reportId + " " + fileName);
+		}
+	}
+
+	@Override
+	public void write(FileType fileType, String reportId, String fileName, String json) {
+		String realFileName = path(fileType, reportId, fileName);
+		String tmpFileName = realFileName + SUFFIX_TMP;
+		synchronized (fileLocks.of(realFileName)) {
+			try {
+				Files.createDirectories(Path.of(realFileName).getParent());
+				try (FileWriter writer = new FileWriter(tmpFileName)) {
+					writer.write(json);
+				}
+				Files.move(Path.of(tmpFileName), Path.of(realFileName), StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (Exception e) {
+				log.error("Failed to write file folder: {}, reportId: {}, file name: {}, reason: {}",
+						fileType.getType(), reportId, realFileName, e);
+				throw new GenerateReportException("Failed to write " + fileType.getType() + " " + realFileName);
+			}
+		}
+	}
+
+	@Override
+	public void remove(FileType fileType, String reportId, String fileName) {
+		log.info("Start to remove file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
+				fileName);
+		try {
+			Files.deleteIfExists(Path.of(path(fileType, reportId, fileName)));
+			log.info("Successfully remove file folder: {}, file name: {}", fileType.getType(), fileName);
+		}
+		catch (Exception e) {
+			log.error("Failed to remove file folder: {}, reportId: {}, file name: {}", fileType.getType(), reportId,
+					fileName);
+			throw new GenerateReportException("Failed to remove " + fileType.getType() + ", reportId: " + reportId
+					+ " file with file:" + fileName);
+		}
+	}
+
+	@Override
+	public List<String> getFileNames(FileType fileType, String reportId) {
+		File[] files = new File(BASE_OUTPUT_PATH + SLASH + fileType.getPath() + reportId).listFiles();
+		return files == null ? List.of() : Arrays.stream(files).map(File::getName).toList();
+	}
+
+	@Override
+	public String findTimeRangeAndTimeStamp(FileType fileType, String reportId, String startTime, String endTime) {
+		String folder = BASE_OUTPUT_PATH + SLASH + fileType.getPath() + reportId;
+		if (!new File(folder).isDirectory()) {
+			throw new NotFoundException(String.format("Don't find the %s folder in the report files", folder));
+		}
+		return getFileNames(fileType, reportId).stream()
+			.map(it -> it.split(FILENAME_SEPARATOR))
+			.filter(it -> it.length == 4)
+			.filter(it -> Objects.equals(it[1], startTime) && Objects.equals(it[2], endTime))
+			.max(Comparator.comparingLong(it -> NumberUtils.toLong(it[3])))
+			.map(it -> it[1] + FILENAME_SEPARATOR + it[2] + FILENAME_SEPARATOR + it[3])
+			.orElse(null);
+	}
+
+	@Override
+	public int removeExpired(FileType fileType, long expiredBefore) {
+		String pathname = BASE_OUTPUT_PATH + SLASH + fileType.getType();
+		File baseFile = new File(pathname);
+		if (!baseFile.exists() || !baseFile.isDirectory()) {
+			log.info("{} path don't exist", pathname);
+			return 0;
+		}
+		List<String> expiredDirectories = new ArrayList<>();
+		List<String> dontExpiredDirectories = new ArrayList<>();
+		File[] reportIdDirectories = baseFile.listFiles();
+		log.info("Start to deleted expired {} file", fileType.getType());
+		for (File reportIdDirectory : reportIdDirectories) {
+			File[] files = reportIdDirectory.listFiles();
+			try {
+				if (files.length == 0) {
+					FileUtils.deleteDirectory(reportIdDirectory);
+					expiredDirectories.add(reportIdDirectory.getName());
+				}
+				else {
+					String timeStamp = files[0].getName().split("[-.]")[3];
+					if (Long.parseLong(timeStamp) < expiredBefore) {
+						FileUtils.deleteDirectory(reportIdDirectory);
+						expiredDirectories.add(reportIdDirectory.getName());
+					}
+					else {
+						dontExpiredDirectories.add(reportIdDirectory.getName());
+					}
+				}
+			}
+			catch (Exception e) {
+				log.error("Failed to deleted expired {} file, file path: {}, reason: {}", fileType.getType(),
+						reportIdDirectory, e);
+			}
+		}
+		log.info("Successfully deleted expired {} file, expired files: {}, no expired files: {}", fileType.getType(),
+				expiredDirectories, dontExpiredDirectories);
+		return expiredDirectories.size();
+	}
+
+	@Override
+	public int removeByTimeStamp(FileType fileType, String reportId, long timeStamp) {
+		File reportIdDirectory = new File(BASE_OUTPUT_PATH + SLASH + fileType.getType() + SLASH + reportId);
+		String suffix = FILENAME_SEPARATOR + timeStamp;
+		File[] files = reportIdDirectory
+			.listFiles(file -> file.getName().endsWith(suffix) || file.getName().endsWith(suffix + CSV_EXTENSION));
+		if (files == null) {
+			return 0;
+		}
+		int removedCount = (int) Arrays.stream(files).filter(FileUtils::deleteQuietly).count();
+		String[] remainingFiles = reportIdDirectory.list();
+		if (remainingFiles != null && remainingFiles.length == 0) {
+			FileUtils.deleteQuietly(reportIdDirectory);
+		}
+		return removedCount;
+	}
+
+	private static String path(FileType fileType, String reportId, String fileName) {
+		return BASE_OUTPUT_PATH + SLASH + fileType.getType() + SLASH + reportId + SLASH + fileName;
+	}
+
+}
@@ -0,0 +1,179 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import heartbeat.client.dto.codebase.github.CommitInfo;
+import heartbeat.client.dto.codebase.github.PullRequestInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// commits and merged pull requests never change, so they are kept by repository and sha regardless of the token
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubMetadataRepository {
+
+	private static final String BASE_METADATA_PATH = "./app/github";
+
+	private static final String JSON_EXTENSION = ".json";
+
+	private static final Pattern COMMIT_ID = Pattern.compile("[0-9a-fA-F]{7,64}");
+
+	private static final Type PULL_REQUEST_LIST = TypeToken.getParameterized(List.class, PullRequestInfo.class)
+		.getType();
+
+	// eviction frees a tenth of the budget at once so not every write near the limit walks the store
+	private static final double EVICTION_TARGET = 0.9;
+
+	@Value("${heartbeat.github.metadataStore.enabled:true}")
+	public boolean enabled = true;
+
+	@Value("#{${heartbeat.github.metadataStore.maxSizeMB:512} * 1024L * 1024}")
+	public long maxSizeBytes = 512L * 1024 * 1024;
+
+	private final Gson gson;
+
+	private long storedBytes = -1;
+
+	public Optional<CommitInfo> findCommit(String repository, String commitId) {
+		return read(commitPath(repository, commitId, ""), CommitInfo.class);
+	}
+
+	public void saveCommit(String repository, String commitId, CommitInfo commitInfo) {
+		write(commitPath(repository, commitId, ""), commitInfo);
+	}
+
+	public Optional<List<PullRequestInfo>> findCommitPullRequests(String repository, String commitId) {
+		return read(commitPath(repository, commitId, "-pulls"), PULL_REQUEST_LIST);
+	}
+
+	public void saveCommitPullRequests(String repository, String commitId, List<PullRequestInfo> pullRequestInfos) {
+		write(commitPath(repository, commitId, "-pulls"), pullRequestInfos);
+	}
+
+	public Optional<CommitInfo> findPullRequestFirstCommit(String repository, Integer pullNumber) {
+		return read(pullRequestPath(repository, pullNumber), CommitInfo.class);
+	}
+
+	public void savePullRequestFirstCommit(String repository, Integer pullNumber, CommitInfo commitInfo) {
+		write(pullRequestPath(repository, pullNumber), commitInfo);
+	}
+
+	private <T> Optional<T> read(Path path, Type type) {
+		if (!enabled || path == null || !Files.exists(path)) {
+			return Optional.empty();
+		}
+		try (Reader reader = Files.newBufferedReader(path)) {
+			T value = gson.fromJson(reader, type);
+			// reading refreshes the modified time so eviction drops the least recently used entities first
+			Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+			return Optional.ofNullable(value);
+		}
+		catch (Exception e) {
+			log.error("Failed to read GitHub metadata: {}, reason: {}", path, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void write(Path path, Object value) {
+		if (!enabled || path == null || value == null) {
+			return;
+		}
+		Path tmpPath = Path.of(path + FileRepository.SUFFIX_TMP + Thread.currentThread().getId());
+		try {
+			Files.createDirectories(path.getParent());
+			try (Writer writer = Files.newBufferedWriter(tmpPath)) {
+				gson.toJson(value, writer);
+			}
+			moveIntoStore(tmpPath, path);
+		}
+		catch (Exception e) {
+			log.error("Failed to write GitHub metadata: {}, reason: {}", path, e.getMessage());
+			FileUtils.deleteQuietly(tmpPath.toFile());
+		}
+	}
+
+	// sizes are measured, the file moved and the total updated under the lock eviction deletes by, so concurrent
+	// writes and evictions cannot count a replaced or removed file twice
+	private synchronized void moveIntoStore(Path tmpPath, Path path) throws IOException {
+		long replacedBytes = Files.exists(path) ? Files.size(path) : 0;
+		long writtenBytes = Files.size(tmpPath);
+		Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE);
+		storedBytes = storedBytes < 0 ? storedEntities().stream().mapToLong(File::length).sum()
+				: storedBytes + writtenBytes - replacedBytes;
+		evictIfOversized();
+	}
+
+	private void evictIfOversized() throws IOException {
+		if (storedBytes <= maxSizeBytes) {
+			return;
+		}
+		List<File> files = storedEntities().stream().sorted(Comparator.comparingLong(File::lastModified)).toList();
+		long targetBytes = (long) (maxSizeBytes * EVICTION_TARGET);
+		int removedCount = 0;
+		for (File file : files) {
+			if (storedBytes <= targetBytes) {
+				break;
+			}
+			long size = file.length();
+			if (FileUtils.deleteQuietly(file)) {
+				storedBytes -= size;
+				removedCount++;
+			}
+		}
+		log.info("Successfully evicted least recently used GitHub metadata, count: {}, stored bytes: {}",
+				removedCount, storedBytes);
+	}
+
+	// temporary files of writes still in progress are not part of the store yet
+	private static List<File> storedEntities() throws IOException {
+		try (Stream<Path> paths = Files.walk(Path.of(BASE_METADATA_PATH))) {
+			return paths.map(Path::toFile)
+				.filter(file -> file.isFile() && file.getName().endsWith(JSON_EXTENSION))
+				.toList();
+		}
+	}
+
+	private static Path commitPath(String repository, String commitId, String suffix) {
+		if (commitId == null || !COMMIT_ID.matcher(commitId).matches()) {
+			return null;
+		}
+		return repositoryPath(repository, "commit-" + commitId.toLowerCase() + suffix);
+	}
+
+	private static Path pullRequestPath(String repository, Integer pullNumber) {
+		return pullNumber == null ? null : repositoryPath(repository, "pull-" + pullNumber + "-first-commit");
+	}
+
+	// the repository name is hashed so any owner and name maps to a single safe directory
+	private static Path repositoryPath(String repository, String name) {
+		if (StringUtils.isBlank(repository)) {
+			return null;
+		}
+		String repositoryKey = DigestUtils
+			.md5DigestAsHex(repository.toLowerCase().getBytes(StandardCharsets.UTF_8));
+		return Path.of(BASE_METADATA_PATH, repositoryKey, name + JSON_EXTENSION);
+	}
+
+}
@@ -0,0 +1,147 @@
+package heartbeat.repository;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// a single-file store, the sorted maps double as indexes so lookups scan a key range instead of listing directories
+@Log4j2
+public class MVStoreReportStore implements ReportStore {
+
+	private static final String SEPARATOR = "/";
+
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private static final int TIMESTAMP_LENGTH = 19;
+
+	private static final Pattern TIMESTAMP = Pattern.compile("\\d{1,18}");
+
+	// fileType/reportId/fileName -> json
+	private final MVMap<String, String> documents;
+
+	// fileType/reportId/start-end-timestamp/fileName
+	private final MVMap<String, String> timeRangeIndex;
+
+	// zero padded timestamp/fileType/reportId/fileName, ordered by timestamp for the expiry sweep
+	private final MVMap<String, String> timeStampIndex;
+
+	public MVStoreReportStore(MVStore store) {
+		this.documents = store.openMap("documents");
+		this.timeRangeIndex = store.openMap("timeRangeIndex");
+		this.timeStampIndex = store.openMap("timeStampIndex");
+	}
+
+	@Override
+	public String read(FileType fileType, String reportId, String fileName) {
+		return documents.get(documentKey(fileType, reportId, fileName));
+	}
+
+	@Override
+	public void write(FileType fileType, String reportId, String fileName, String json) {
+		documents.put(documentKey(fileType, reportId, fileName), json);
+		String timeRangeAndTimeStamp = timeRangeAndTimeStamp(fileName);
+		if (timeRangeAndTimeStamp != null) {
+			timeRangeIndex.put(timeRangeKey(fileType, reportId, timeRangeAndTimeStamp, fileName), "");
+			timeStampIndex.put(timeStampKey(fileType, reportId, timeRangeAndTimeStamp, fileName), "");
+		}
+	}
+
+	@Override
+	public void remove(FileType fileType, String reportId, String fileName) {
+		documents.remove(documentKey(fileType, reportId, fileName));
+		String timeRangeAndTimeStamp = timeRangeAndTimeStamp(fileName);
+		if (timeRangeAndTimeStamp != null) {
+			timeRangeIndex.remove(timeRangeKey(fileType, reportId, timeRangeAndTimeStamp, fileName));
+			timeStampIndex.remove(timeStampKey(fileType, reportId, timeRangeAndTimeStamp, fileName));
+		}
+	}
+
+	@Override
+	public List<String> getFileNames(FileType fileType, String reportId) {
+		String prefix = fileType.getType() + SEPARATOR + reportId + SEPARATOR;
+		List<String> fileNames = new ArrayList<>();
+		Iterator<String> keys = documents.keyIterator(prefix);
+		while (keys.hasNext()) {
+			String key = keys.next();
+			if (!key.startsWith(prefix)) {
+				break;
+			}
+			fileNames.add(key.substring(prefix.length()));
+		}
+		return fileNames;
+	}
+
+	@Override
+	public String findTimeRangeAndTimeStamp(FileType fileType, String reportId, String startTime, String endTime) {
+		String reportPrefix = fileType.getType() + SEPARATOR + reportId + SEPARATOR;
+		String prefix = reportPrefix + startTime + FILENAME_SEPARATOR + endTime + FILENAME_SEPARATOR;
+		// the last key of the time range holds the newest timestamp
+		String key = timeRangeIndex.floorKey(prefix + '\uffff');
+		if (key == null || !key.startsWith(prefix)) {
+			return null;
+		}
+		return StringUtils.substringBefore(key.substring(reportPrefix.length()), SEPARATOR);
+	}
+
+	@Override
+	public int removeExpired(FileType fileType, long expiredBefore) {
+		List<String[]> expired = new ArrayList<>();
+		Iterator<String> keys = timeStampIndex.keyIterator(null);
+		while (keys.hasNext()) {
+			String key = keys.next();
+			if (Long.parseLong(key.substring(0, TIMESTAMP_LENGTH)) >= expiredBefore) {
+				break;
+			}
+			String[] parts = key.split(SEPARATOR);
+			if (fileType.getType().equals(parts[1])) {
+				expired.add(parts);
+			}
+		}
+		expired.forEach(parts -> remove(fileType, parts[2], parts[3]));
+		log.info("Successfully removed expired {} documents from report store, count: {}", fileType.getType(),
+				expired.size());
+		return expired.size();
+	}
+
+	@Override
+	public int removeByTimeStamp(FileType fileType, String reportId, long timeStamp) {
+		String suffix = FILENAME_SEPARATOR + timeStamp;
+		List<String> fileNames = getFileNames(fileType, reportId).stream()
+			.filter(fileName -> fileName.endsWith(suffix))
+			.toList();
+		fileNames.forEach(fileName -> remove(fileType, reportId, fileName));
+		return fileNames.size();
+	}
+
+	private static String documentKey(FileType fileType, String reportId, String fileName) {
+		return fileType.getType() + SEPARATOR + reportId + SEPARATOR + fileName;
+	}
+
+	private static String timeRangeKey(FileType fileType, String reportId, String timeRangeAndTimeStamp,
+			String fileName) {
+		return documentKey(fileType, reportId, timeRangeAndTimeStamp) + SEPARATOR + fileName;
+	}
+
+	private static String timeStampKey(FileType fileType, String reportId, String timeRangeAndTimeStamp,
+			String fileName) {
+		long timeStamp = Long.parseLong(StringUtils.substringAfterLast(timeRangeAndTimeStamp, FILENAME_SEPARATOR));
+		return String.format("%0" + TIMESTAMP_LENGTH + "d", timeStamp) + SEPARATOR
+				+ documentKey(fileType, reportId, fileName);
+	}
+
+	// names look like prefix-start-end-timestamp, others are kept but not indexed
+	private static String timeRangeAndTimeStamp(String fileName) {
+		String[] parts = fileName.split(FILENAME_SEPARATOR);
+		if (parts.length != 4 || !TIMESTAMP.matcher(parts[3]).matches()) {
+			return null;
+		}
+		return parts[1] + FILENAME_SEPARATOR + parts[2] + FILENAME_SEPARATOR + parts[3];
+	}
+
+}
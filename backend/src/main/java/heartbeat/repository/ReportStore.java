@@ -0,0 +1,23 @@
+package heartbeat.repository;
+
+import java.util.List;
+
+// keeps the json artefacts of reports, file names are the prefixed start-end-timestamp names used on disk
+public interface ReportStore {
+
+	String read(FileType fileType, String reportId, String fileName);
+
+	void write(FileType fileType, String reportId, String fileName, String json);
+
+	void remove(FileType fileType, String reportId, String fileName);
+
+	List<String> getFileNames(FileType fileType, String reportId);
+
+	String findTimeRangeAndTimeStamp(FileType fileType, String reportId, String startTime, String endTime);
+
+	int removeExpired(FileType fileType, long expiredBefore);
+
+	// removes what one report wrote at the timestamp, as listed by the expiry index
+	int removeByTimeStamp(FileType fileType, String reportId, long timeStamp);
+
+}
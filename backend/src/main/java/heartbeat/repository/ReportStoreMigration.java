@@ -0,0 +1,63 @@
+package heartbeat.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static heartbeat.repository.FileType.CSV;
+
+// moves the json artefacts of the directory layout into a report store, documents already in the store are kept
+@Log4j2
+@RequiredArgsConstructor
+public class ReportStoreMigration {
+
+	private final ReportStore reportStore;
+
+	public int migrate(Path outputPath) {
+		log.info("Start to migrate report files into report store, path: {}", outputPath);
+		int migratedCount = 0;
+		for (FileType fileType : FileType.values()) {
+			File[] reportIdDirectories = fileType == CSV ? null
+					: outputPath.resolve(fileType.getType()).toFile().listFiles(File::isDirectory);
+			if (reportIdDirectories == null) {
+				continue;
+			}
+			for (File reportIdDirectory : reportIdDirectories) {
+				migratedCount += migrate(fileType, reportIdDirectory);
+			}
+		}
+		log.info("Successfully migrate report files into report store, count: {}", migratedCount);
+		return migratedCount;
+	}
+
+	private int migrate(FileType fileType, File reportIdDirectory) {
+		String reportId = reportIdDirectory.getName();
+		File[] files = reportIdDirectory
+			.listFiles(file -> file.isFile() && !file.getName().contains(FileRepository.SUFFIX_TMP));
+		int migratedCount = 0;
+		for (File file : files) {
+			try {
+				if (reportStore.read(fileType, reportId, file.getName()) == null) {
+					reportStore.write(fileType, reportId, file.getName(), Files.readString(file.toPath()));
+					migratedCount++;
+				}
+				Files.delete(file.toPath());
+			}
+			catch (IOException e) {
+				log.error("Failed to migrate report file: {}, reason: {}", file, e.getMessage());
+			}
+		}
+		// nothing sweeps the json directories once a report store is used
+		if (ArrayUtils.isEmpty(reportIdDirectory.list())) {
+			FileUtils.deleteQuietly(reportIdDirectory);
+		}
+		return migratedCount;
+	}
+
+}
@@ -0,0 +1,158 @@
+package heartbeat.service.board.jira;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import heartbeat.client.dto.board.jira.AllCardsResponseDTO;
+import heartbeat.client.dto.board.jira.JiraCard;
+import heartbeat.client.dto.board.jira.Sprint;
+import heartbeat.controller.board.dto.response.CardCustomFieldKey;
+import heartbeat.controller.board.dto.response.TargetField;
+import heartbeat.exception.InternalServerErrorException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class JiraCardPageDecoder {
+
+	private static final String TOTAL = "total";
+
+	private static final String ISSUES = "issues";
+
+	private static final String FIELDS = "fields";
+
+	private static final String KEY = "key";
+
+	private static final Type SPRINT_LIST_TYPE = new TypeToken<List<Sprint>>() {
+	}.getType();
+
+	private final Gson gson;
+
+	public AllCardsResponseDTO decode(String allCardResponse, List<TargetField> targetFields,
+			CardCustomFieldKey cardCustomFieldKey) {
+		Map<String, String> resultMap = targetFields.stream()
+			.collect(Collectors.toMap(TargetField::getKey, TargetField::getName));
+		String total = null;
+		List<JiraCard> jiraCards = new ArrayList<>();
+		Map<String, Sprint> sprintMap = new HashMap<>();
+
+		try (JsonReader reader = new JsonReader(new StringReader(allCardResponse))) {
+			reader.setLenient(true);
+			reader.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+				if (TOTAL.equals(name) && reader.peek() != JsonToken.NULL) {
+					total = reader.peek() == JsonToken.BOOLEAN ? Boolean.toString(reader.nextBoolean())
+							: reader.nextString();
+				}
+				else if (ISSUES.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+					reader.beginArray();
+					while (reader.hasNext()) {
+						JsonObject issue = JsonParser.parseReader(reader).getAsJsonObject();
+						jiraCards.add(decodeIssue(issue, resultMap, cardCustomFieldKey, sprintMap));
+					}
+					reader.endArray();
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+		catch (IOException e) {
+			throw new InternalServerErrorException(
+					String.format("Failed to decode Jira cards, cause is %s", e.getMessage()));
+		}
+
+		jiraCards.forEach(jiraCard -> jiraCard.getFields().setSprint(sprintMap.get(jiraCard.getKey())));
+		return AllCardsResponseDTO.builder().total(total).issues(jiraCards).build();
+	}
+
+	private JiraCard decodeIssue(JsonObject issue, Map<String, String> resultMap,
+			CardCustomFieldKey cardCustomFieldKey, Map<String, Sprint> sprintMap) {
+		JiraCard jiraCard = gson.fromJson(issue, JiraCard.class);
+		JsonObject fields = issue.get(FIELDS).getAsJsonObject();
+
+		JsonElement storyPoints = fields.get(cardCustomFieldKey.getStoryPoints());
+		if (storyPoints == null || storyPoints.isJsonNull() || cardCustomFieldKey.isInTargetField()) {
+			jiraCard.getFields().setStoryPoints(0.0);
+		}
+		else {
+			jiraCard.getFields().setStoryPoints(storyPoints.getAsDouble());
+		}
+
+		Map<String, JsonElement> customFieldMap = new HashMap<>();
+		resultMap.forEach((customFieldKey, customFieldValue) -> {
+			if (fields.has(customFieldKey)) {
+				JsonElement fieldValue = mapFieldValue(issue, sprintMap, customFieldValue, fields.get(customFieldKey));
+				customFieldMap.put(customFieldKey, fieldValue);
+			}
+		});
+		jiraCard.getFields().setCustomFields(customFieldMap);
+		return jiraCard;
+	}
+
+	private JsonElement mapFieldValue(JsonObject issue, Map<String, Sprint> sprintMap, String customFieldValue,
+			JsonElement fieldValue) {
+		switch (customFieldValue) {
+			case "Sprint" -> {
+				Sprint sprint = getSprint(fieldValue);
+				if (sprint != null) {
+					sprintMap.put(issue.get(KEY).getAsString(), sprint);
+				}
+			}
+			case "Story point estimate" -> {
+				if (!fieldValue.isJsonNull() && fieldValue.isJsonPrimitive()) {
+					JsonPrimitive jsonPrimitive = fieldValue.getAsJsonPrimitive();
+					if (jsonPrimitive.isNumber()) {
+						fieldValue = new JsonPrimitive(jsonPrimitive.getAsNumber().doubleValue());
+					}
+				}
+			}
+			case "Flagged" -> {
+				if (!fieldValue.isJsonNull() && fieldValue.isJsonArray()) {
+					JsonArray jsonArray = fieldValue.getAsJsonArray();
+					if (!jsonArray.isEmpty()) {
+						JsonElement targetField = jsonArray.get(jsonArray.size() - 1);
+						fieldValue = targetField.getAsJsonObject().get("value");
+					}
+				}
+			}
+			default -> {
+			}
+		}
+		return fieldValue;
+	}
+
+	private Sprint getSprint(JsonElement fieldValue) {
+		if (!fieldValue.isJsonNull() && fieldValue.isJsonArray()) {
+			JsonArray jsonArray = fieldValue.getAsJsonArray();
+			if (!jsonArray.isEmpty()) {
+				List<Sprint> sprints = gson.fromJson(jsonArray, SPRINT_LIST_TYPE);
+				sprints.sort(Comparator.comparing(Sprint::getCompleteDate,
+						Comparator.nullsLast(Comparator.comparing(ZonedDateTime::parse))));
+				return sprints.get(sprints.size() - 1);
+			}
+		}
+		return null;
+	}
+
+}
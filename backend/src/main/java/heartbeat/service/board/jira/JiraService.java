@@ -1,14 +1,8 @@
 package heartbeat.service.board.jira;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.reflect.TypeToken;
 import heartbeat.client.JiraFeignClient;
 import heartbeat.client.component.JiraUriGenerator;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.board.jira.AllCardsResponseDTO;
 import heartbeat.client.dto.board.jira.Assignee;
 import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
@@ -21,7 +15,6 @@ import heartbeat.client.dto.board.jira.JiraBoardVerifyDTO;
 import heartbeat.client.dto.board.jira.JiraCard;
 import heartbeat.client.dto.board.jira.JiraCardWithFields;
 import heartbeat.client.dto.board.jira.JiraColumn;
-import heartbeat.client.dto.board.jira.Sprint;
 import heartbeat.client.dto.board.jira.StatusSelfDTO;
 import heartbeat.controller.board.dto.request.BoardRequestParam;
 import heartbeat.controller.board.dto.request.BoardType;
@@ -50,28 +43,28 @@ import heartbeat.exception.InternalServerErrorException;
 import heartbeat.exception.NoContentException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.PermissionDenyException;
+import heartbeat.repository.BoardSnapshotRepository;
 import heartbeat.util.BoardUtil;
 import heartbeat.util.SystemUtil;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StopWatch;
 
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.URI;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -80,13 +73,16 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static heartbeat.client.component.UpstreamExecutor.Upstream.JIRA;
 import static heartbeat.controller.board.dto.request.CardStepsEnum.BLOCK;
 import static heartbeat.controller.board.dto.request.CardStepsEnum.FLAG;
 import static heartbeat.controller.board.dto.request.CardStepsEnum.fromValue;
@@ -117,7 +113,7 @@ public class JiraService {
 
 	public static final String IMPEDIMENT = "impediment";
 
-	private final ThreadPoolTaskExecutor customTaskExecutor;
+	private final UpstreamExecutor upstreamExecutor;
 
 	private final JiraFeignClient jiraFeignClient;
 
@@ -127,11 +123,20 @@ public class JiraService {
 
 	private final SystemUtil systemUtil;
 
+	private final JiraCardPageDecoder jiraCardPageDecoder;
+
+	private final BoardSnapshotRepository boardSnapshotRepository;
+
 	private static final String STORY_POINT_KEY = "STORY_POINT_KEY";
 
+	private static final int DEFAULT_CARD_HISTORY_CONCURRENCY = 10;
+
+	@Value("${heartbeat.jira.cardHistoryConcurrency:" + DEFAULT_CARD_HISTORY_CONCURRENCY + "}")
+	private int cardHistoryConcurrency = DEFAULT_CARD_HISTORY_CONCURRENCY;
+
 	@PreDestroy
 	public void shutdownExecutor() {
-		customTaskExecutor.shutdown();
+		upstreamExecutor.shutdown();
 	}
 
 	public String verify(BoardType boardType, BoardVerifyRequestParam boardVerifyRequestParam) {
@@ -305,7 +310,7 @@ public class JiraService {
 
 	private CompletableFuture<JiraColumnResult> getJiraColumnsAsync(BoardRequestParam boardRequestParam, URI baseUrl,
 			JiraBoardConfigDTO jiraBoardConfigDTO) {
-		return CompletableFuture.supplyAsync(() -> getJiraColumns(boardRequestParam, baseUrl, jiraBoardConfigDTO));
+		return upstreamExecutor.fork(() -> getJiraColumns(boardRequestParam, baseUrl, jiraBoardConfigDTO));
 	}
 
 	public JiraColumnResult getJiraColumns(BoardRequestParam boardRequestParam, URI baseUrl,
@@ -317,7 +322,7 @@ public class JiraService {
 		List<CompletableFuture<JiraColumnDTO>> futures = jiraBoardConfigDTO.getColumnConfig()
 			.getColumns()
 			.stream()
-			.map(jiraColumn -> CompletableFuture.supplyAsync(
+			.map(jiraColumn -> upstreamExecutor.fork(
 					() -> getColumnNameAndStatus(jiraColumn, baseUrl, jiraColumns, boardRequestParam.getToken())))
 			.toList();
 
@@ -359,9 +364,9 @@ public class JiraService {
 		log.info("Start to get columns status self list, _columnName: {}", jiraColumn.getName());
 		List<CompletableFuture<StatusSelfDTO>> futures = jiraColumn.getStatuses()
 			.stream()
-			.map(jiraColumnStatus -> CompletableFuture
-				.supplyAsync(() -> jiraFeignClient.getColumnStatusCategory(baseUrl, jiraColumnStatus.getId(), token),
-						customTaskExecutor)
+			.map(jiraColumnStatus -> upstreamExecutor
+				.supplyAsync(JIRA,
+						() -> jiraFeignClient.getColumnStatusCategory(baseUrl, jiraColumnStatus.getId(), token))
 				.exceptionally(e -> {
 					log.error(
 							"Failed to get Jira column status category, with  column name: {}, status: {} reason: {}:",
@@ -391,7 +396,7 @@ public class JiraService {
 
 	private CompletableFuture<List<String>> getUserAsync(BoardType boardType, URI baseUrl,
 			BoardRequestParam boardRequestParam) {
-		return CompletableFuture.supplyAsync(() -> getUsers(boardType, baseUrl, boardRequestParam));
+		return upstreamExecutor.fork(() -> getUsers(boardType, baseUrl, boardRequestParam));
 	}
 
 	private List<String> getUsers(BoardType boardType, URI baseUrl, BoardRequestParam boardRequestParam) {
@@ -401,8 +406,8 @@ public class JiraService {
 			throw new NoContentException("There is no cards.");
 		}
 		List<CompletableFuture<List<String>>> futures = allCards.stream()
-			.map(jiraCard -> CompletableFuture
-				.supplyAsync(() -> getAssigneeSet(baseUrl, jiraCard, boardRequestParam.getToken()), customTaskExecutor))
+			.map(jiraCard -> upstreamExecutor.supplyAsync(JIRA,
+					() -> getAssigneeSet(baseUrl, jiraCard, boardRequestParam.getToken())))
 			.toList();
 
 		List<List<String>> assigneeList = futures.stream().map(CompletableFuture::join).toList();
@@ -430,103 +435,8 @@ public class JiraService {
 
 	private AllCardsResponseDTO formatAllCards(String allCardResponse, List<TargetField> targetFields,
 			List<TargetField> overrideFields) {
-		AllCardsResponseDTO allCardsResponseDTO = new Gson().fromJson(allCardResponse, AllCardsResponseDTO.class);
-		List<JiraCard> jiraCards = allCardsResponseDTO.getIssues();
-
-		JsonArray elements = JsonParser.parseString(allCardResponse).getAsJsonObject().get("issues").getAsJsonArray();
-		List<Map<String, JsonElement>> customFieldMapList = new ArrayList<>();
-		ArrayList<Double> storyPointList = new ArrayList<>();
-		Map<String, Sprint> sprintMap = new HashMap<>();
-		Map<String, String> resultMap = targetFields.stream()
-			.collect(Collectors.toMap(TargetField::getKey, TargetField::getName));
-		CardCustomFieldKey cardCustomFieldKey = covertCustomFieldKey(targetFields, overrideFields);
-		for (JsonElement element : elements) {
-			JsonObject jsonElement = element.getAsJsonObject().get("fields").getAsJsonObject();
-			JsonElement storyPoints = jsonElement.getAsJsonObject().get(cardCustomFieldKey.getStoryPoints());
-			if (storyPoints == null || storyPoints.isJsonNull() || cardCustomFieldKey.isInTargetField()) {
-				storyPointList.add(0.0);
-			}
-			else {
-				Double storyPoint = jsonElement.getAsJsonObject()
-					.get(cardCustomFieldKey.getStoryPoints())
-					.getAsDouble();
-				storyPointList.add(storyPoint);
-			}
-			for (int index = 0; index < jiraCards.size(); index++) {
-				if (storyPointList.size() > index) {
-					jiraCards.get(index).getFields().setStoryPoints(storyPointList.get(index));
-				}
-			}
-			customFieldMapList.add(getCustomFieldMap(element, resultMap, jsonElement, sprintMap));
-		}
-		for (int index = 0; index < customFieldMapList.size(); index++) {
-			jiraCards.get(index).getFields().setCustomFields(customFieldMapList.get(index));
-		}
-
-		jiraCards.forEach(jiraCard -> {
-			Sprint sprint = sprintMap.get(jiraCard.getKey());
-			jiraCard.getFields().setSprint(sprint);
-		});
-		return allCardsResponseDTO;
-	}
-
-	private Map<String, JsonElement> getCustomFieldMap(JsonElement element, Map<String, String> resultMap,
-			JsonObject jsonElement, Map<String, Sprint> sprintMap) {
-		Map<String, JsonElement> customFieldMap = new HashMap<>();
-		resultMap.forEach((customFieldKey, customFieldValue) -> {
-			if (jsonElement.has(customFieldKey)) {
-				JsonElement fieldValue = jsonElement.get(customFieldKey);
-				fieldValue = mapFieldValue(element, sprintMap, customFieldValue, fieldValue);
-				customFieldMap.put(customFieldKey, fieldValue);
-			}
-		});
-		return customFieldMap;
-	}
-
-	private JsonElement mapFieldValue(JsonElement element, Map<String, Sprint> sprintMap, String customFieldValue,
-			JsonElement fieldValue) {
-		switch (customFieldValue) {
-			case "Sprint" -> Optional.ofNullable(getSprint(fieldValue))
-				.ifPresentOrElse(it -> sprintMap.put(element.getAsJsonObject().get("key").getAsString(), it), () -> {
-				});
-			case "Story point estimate" -> {
-				if (!fieldValue.isJsonNull() && fieldValue.isJsonPrimitive()) {
-					JsonPrimitive jsonPrimitive = fieldValue.getAsJsonPrimitive();
-					if (jsonPrimitive.isNumber()) {
-						Number numberValue = jsonPrimitive.getAsNumber();
-						double doubleValue = numberValue.doubleValue();
-						fieldValue = new JsonPrimitive(doubleValue);
-					}
-				}
-			}
-			case "Flagged" -> {
-				if (!fieldValue.isJsonNull() && fieldValue.isJsonArray()) {
-					JsonArray jsonArray = fieldValue.getAsJsonArray();
-					if (!jsonArray.isEmpty()) {
-						JsonElement targetField = jsonArray.get(jsonArray.size() - 1);
-						fieldValue = targetField.getAsJsonObject().get("value");
-					}
-				}
-			}
-			default -> {
-			}
-		}
-		return fieldValue;
-	}
-
-	private Sprint getSprint(JsonElement fieldValue) {
-		if (!fieldValue.isJsonNull() && fieldValue.isJsonArray()) {
-			JsonArray jsonArray = fieldValue.getAsJsonArray();
-			if (!jsonArray.isEmpty()) {
-				Type listType = new TypeToken<List<Sprint>>() {
-				}.getType();
-				List<Sprint> sprints = new Gson().fromJson(jsonArray, listType);
-				sprints.sort(Comparator.comparing(Sprint::getCompleteDate,
-						Comparator.nullsLast(Comparator.comparing(ZonedDateTime::parse))));
-				return sprints.get(sprints.size() - 1);
-			}
-		}
-		return null;
+		return jiraCardPageDecoder.decode(allCardResponse, targetFields,
+				covertCustomFieldKey(targetFields, overrideFields));
 	}
 
 	private String parseJiraJql(BoardType boardType, List<String> doneColumns, BoardRequestParam boardRequestParam) {
@@ -571,7 +481,7 @@ public class JiraService {
 	}
 
 	private CompletableFuture<List<TargetField>> getTargetFieldAsync(URI baseUrl, BoardRequestParam boardRequestParam) {
-		return CompletableFuture.supplyAsync(() -> getTargetField(baseUrl, boardRequestParam), customTaskExecutor);
+		return upstreamExecutor.supplyAsync(JIRA, () -> getTargetField(baseUrl, boardRequestParam));
 	}
 
 	private List<TargetField> getTargetField(URI baseUrl, BoardRequestParam boardRequestParam) {
@@ -612,22 +522,28 @@ public class JiraService {
 		CardCustomFieldKey cardCustomFieldKey = covertCustomFieldKey(targetFields, request.getOverrideFields());
 		String keyFlagged = cardCustomFieldKey.getFlagged();
 		List<JiraCardDTO> realDoneCards = new ArrayList<>();
-		List<JiraCard> jiraCards = new ArrayList<>();
+		StopWatch stopWatch = new StopWatch("getRealDoneCards");
 
-		for (JiraCard allDoneCard : allDoneCards) {
-			CardHistoryResponseDTO jiraCardHistory = getJiraCardHistory(baseUrl, allDoneCard.getKey(), 0,
-					request.getToken());
-			if (isRealDoneCardByHistory(jiraCardHistory, request, allDoneCard)) {
-				jiraCards.add(allDoneCard);
-			}
-		}
-		jiraCards.forEach(doneCard -> {
-			CardHistoryResponseDTO cardHistoryResponseDTO = getJiraCardHistory(baseUrl, doneCard.getKey(), 0,
-					request.getToken());
+		stopWatch.start("fetchCardHistories");
+		List<CardHistoryResponseDTO> cardHistories = getJiraCardHistories(baseUrl, request.getBoardId(), allDoneCards,
+				request.getToken());
+		stopWatch.stop();
+
+		stopWatch.start("filterRealDoneCards");
+		List<Integer> realDoneCardIndexes = IntStream.range(0, allDoneCards.size())
+			.filter(index -> isRealDoneCardByHistory(cardHistories.get(index), request, allDoneCards.get(index)))
+			.boxed()
+			.toList();
+		stopWatch.stop();
+
+		stopWatch.start("calculateCycleTimeAndRework");
+		realDoneCardIndexes.forEach(index -> {
+			JiraCard doneCard = allDoneCards.get(index);
+			CardHistoryResponseDTO cardHistoryResponseDTO = cardHistories.get(index);
 			List<String> assigneeSet = getAssigneeSet(cardHistoryResponseDTO, filterMethod, doneCard);
-			CycleTimeInfoDTO cycleTimeInfoDTO = getCycleTime(cardHistoryResponseDTO, request.isTreatFlagCardAsBlock(),
-					keyFlagged, request.getStatus(), calendarTypeEnum, timezone);
 			if (users.stream().anyMatch(assigneeSet::contains)) {
+				CycleTimeInfoDTO cycleTimeInfoDTO = getCycleTime(cardHistoryResponseDTO,
+						request.isTreatFlagCardAsBlock(), keyFlagged, request.getStatus(), calendarTypeEnum, timezone);
 				JiraCardDTO jiraCardDTO = JiraCardDTO.builder()
 					.baseInfo(doneCard)
 					.cycleTime(cycleTimeInfoDTO.getCycleTimeInfos())
@@ -641,9 +557,58 @@ public class JiraService {
 				realDoneCards.add(jiraCardDTO);
 			}
 		});
+		stopWatch.stop();
+
+		log.info(
+				"Successfully get real done cards, _allDoneCardsSize: {}, _realDoneCardsSize: {}, _matchedCardsSize: {}, _stageTiming: {}",
+				allDoneCards.size(), realDoneCardIndexes.size(), realDoneCards.size(), stopWatch.prettyPrint());
 		return realDoneCards;
 	}
 
+	private List<CardHistoryResponseDTO> getJiraCardHistories(URI baseUrl, String boardId, List<JiraCard> cards,
+			String token) {
+		String boardKey = BoardSnapshotRepository.getBoardKey(baseUrl.getHost(), boardId);
+		int lanes = Math.max(1, Math.min(cardHistoryConcurrency, cards.size()));
+		CardHistoryResponseDTO[] cardHistories = new CardHistoryResponseDTO[cards.size()];
+		AtomicInteger snapshotHits = new AtomicInteger();
+		log.info("Start to get jira card histories, _cardsSize: {}, _concurrency: {}", cards.size(), lanes);
+		List<CompletableFuture<Void>> futures = IntStream.range(0, lanes)
+			.mapToObj(lane -> upstreamExecutor.runAsync(() -> {
+				for (int index = lane; index < cards.size(); index += lanes) {
+					JiraCard card = cards.get(index);
+					String updated = card.getFields() == null ? null : card.getFields().getUpdated();
+					Optional<CardHistoryResponseDTO> snapshot = boardSnapshotRepository.findCardHistory(boardKey,
+							card.getKey(), updated);
+					if (snapshot.isPresent()) {
+						snapshotHits.incrementAndGet();
+						cardHistories[index] = snapshot.get();
+					}
+					else {
+						cardHistories[index] = upstreamExecutor.call(JIRA,
+								() -> getJiraCardHistory(baseUrl, card.getKey(), 0, token));
+						boardSnapshotRepository.saveCardHistory(boardKey, card.getKey(), updated,
+								cardHistories[index]);
+					}
+				}
+			}))
+			.toList();
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException e) {
+			Throwable cause = Optional.ofNullable(e.getCause()).orElse(e);
+			log.error("Failed to get jira card histories, e: {}", cause.getMessage());
+			if (cause instanceof BaseException baseException) {
+				throw baseException;
+			}
+			throw new InternalServerErrorException(
+					String.format("Failed to get jira card histories, cause is %s", cause.getMessage()));
+		}
+		log.info("Successfully get jira card histories, _cardsSize: {}, _snapshotHits: {}", cards.size(),
+				snapshotHits.get());
+		return Arrays.asList(cardHistories);
+	}
+
 	private List<ReworkTimesInfo> getReworkTimesInfo(CardHistoryResponseDTO jiraCardHistory,
 			ReworkTimesSetting reworkTimesSetting, boolean considerFlagAsBlock,
 			List<RequestJiraBoardColumnSetting> boardColumns) {
@@ -805,8 +770,10 @@ public class JiraService {
 				queryCount, token);
 		if (Boolean.FALSE.equals(jiraCardHistory.getIsLast())) {
 			CardHistoryResponseDTO cardAllHistory = getJiraCardHistory(baseUrl, cardKey, startAt + queryCount, token);
-			jiraCardHistory.getItems().addAll(cardAllHistory.getItems());
-			jiraCardHistory.setIsLast(jiraCardHistory.getIsLast());
+			// the page may be the cached instance, so the merged history is built in a new list
+			List<HistoryDetail> items = new ArrayList<>(jiraCardHistory.getItems());
+			items.addAll(cardAllHistory.getItems());
+			return CardHistoryResponseDTO.builder().isLast(jiraCardHistory.getIsLast()).items(items).build();
 		}
 		return jiraCardHistory;
 	}
@@ -1156,11 +1123,10 @@ public class JiraService {
 		log.info("Start to get more xxx card information form kanban, _param {}", cardType);
 		List<Integer> range = IntStream.rangeClosed(1, pages - 1).boxed().toList();
 		List<CompletableFuture<AllCardsResponseDTO>> futures = range.stream()
-			.map(startFrom -> CompletableFuture
-				.supplyAsync(() -> (formatAllCards(
-						jiraFeignClient.getJiraCards(baseUrl, boardRequestParam.getBoardId(), QUERY_COUNT,
-								startFrom * QUERY_COUNT, jql, boardRequestParam.getToken()),
-						targetField, overrideFields)), customTaskExecutor))
+			.map(startFrom -> upstreamExecutor.supplyAsync(JIRA,
+					() -> formatAllCards(jiraFeignClient.getJiraCards(baseUrl, boardRequestParam.getBoardId(),
+							QUERY_COUNT, startFrom * QUERY_COUNT, jql, boardRequestParam.getToken()), targetField,
+							overrideFields)))
 			.toList();
 		log.info("Successfully get more xxx card information form kanban, _param {}", cardType);
 
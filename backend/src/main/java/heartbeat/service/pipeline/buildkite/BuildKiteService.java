@@ -1,6 +1,7 @@
 package heartbeat.service.pipeline.buildkite;
 
 import heartbeat.client.BuildKiteFeignClient;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteJob;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteOrganizationsInfo;
@@ -24,7 +25,6 @@ import heartbeat.util.TimeUtil;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -36,6 +36,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 
+import static heartbeat.client.component.UpstreamExecutor.Upstream.BUILDKITE;
 import static java.util.Optional.ofNullable;
 
 @Service
@@ -47,17 +48,21 @@ public class BuildKiteService {
 
 	private static final String CANCELED_STATE = "canceled";
 
+	private static final String PASSED_STATE = "passed";
+
+	private static final String FAILED_STATE = "failed";
+
 	public static final String BEARER_TITLE = "Bearer ";
 
 	private final CachePageService cachePageService;
 
-	private final ThreadPoolTaskExecutor customTaskExecutor;
+	private final UpstreamExecutor upstreamExecutor;
 
 	private final BuildKiteFeignClient buildKiteFeignClient;
 
 	@PreDestroy
 	public void shutdownExecutor() {
-		customTaskExecutor.shutdown();
+		upstreamExecutor.shutdown();
 	}
 
 	private void verifyTokenScopes(BuildKiteTokenInfo buildKiteTokenInfo) {
@@ -183,19 +188,19 @@ public class BuildKiteService {
 
 	private CompletableFuture<List<BuildKitePipelineDTO>> getBuildKitePipelineInfoAsync(String orgSlug,
 			String buildKiteToken, int page, String perPage) {
-		return CompletableFuture.supplyAsync(() -> {
+		return upstreamExecutor.supplyAsync(BUILDKITE, () -> {
 			log.info("Start to paginated pipeline info, orgId: {}, page:{}, perPage:{}", orgSlug, page, perPage);
 			var pipelineInfo = buildKiteFeignClient.getPipelineInfo(buildKiteToken, orgSlug, String.valueOf(page),
 					perPage);
 			log.info("Successfully get paginated pipeline info, orgSlug: {}, page:{}, perPage:{}", orgSlug, page,
 					perPage);
 			return pipelineInfo.getBody();
-		}, customTaskExecutor);
+		});
 	}
 
 	private CompletableFuture<List<BuildKiteBuildInfo>> getBuildKiteStepsAsync(String token, String organizationId,
 			String pipelineId, PipelineStepsParam stepsParam, String perPage, int page, List<String> branch) {
-		return CompletableFuture.supplyAsync(() -> {
+		return upstreamExecutor.supplyAsync(BUILDKITE, () -> {
 			log.info("Start to paginated pipeline steps info, orgId: {}, pipelineId: {}, stepsParam: {}, page:{}",
 					organizationId, pipelineId, stepsParam, page);
 			List<BuildKiteBuildInfo> pipelineStepsInfo = buildKiteFeignClient.getPipelineStepsInfo(token,
@@ -205,7 +210,7 @@ public class BuildKiteService {
 					"Successfully get paginated pipeline steps info, orgId: {}, pipelineId: {}, pipeline steps size: {}, page:{}",
 					organizationId, pipelineId, pipelineStepsInfo.size(), page);
 			return pipelineStepsInfo;
-		}, customTaskExecutor);
+		});
 	}
 
 	public List<BuildKiteBuildInfo> fetchPipelineBuilds(String token, DeploymentEnvironment deploymentEnvironment,
@@ -235,10 +240,23 @@ public class BuildKiteService {
 		if (deploymentEnvironment.getOrgId() == null) {
 			throw new NotFoundException("Failed to count deployment times due to miss orgId argument");
 		}
-		List<DeployInfo> passedBuilds = getBuildsByState(buildInfos, deploymentEnvironment, "passed", startTime,
-				endTime);
-		List<DeployInfo> failedBuilds = getBuildsByState(buildInfos, deploymentEnvironment, "failed", startTime,
+		DeployStepIndex deployStepIndex = new DeployStepIndex(
+				getStepsBeforeEndStep(deploymentEnvironment.getStep(), getPipelineStepNames(buildInfos)), startTime,
 				endTime);
+		List<DeployInfo> passedBuilds = new ArrayList<>();
+		List<DeployInfo> failedBuilds = new ArrayList<>();
+		for (BuildKiteBuildInfo buildInfo : buildInfos) {
+			BuildKiteJob job = deployStepIndex.getLatestJob(buildInfo.getJobs());
+			if (buildInfo.getPipelineCreateTime() == null || job == null || job.getStartedAt().isEmpty()) {
+				continue;
+			}
+			if (PASSED_STATE.equals(job.getState())) {
+				passedBuilds.add(toDeployInfo(buildInfo, job));
+			}
+			else if (FAILED_STATE.equals(job.getState())) {
+				failedBuilds.add(toDeployInfo(buildInfo, job));
+			}
+		}
 
 		return DeployTimes.builder()
 			.pipelineId(deploymentEnvironment.getId())
@@ -249,17 +267,6 @@ public class BuildKiteService {
 			.build();
 	}
 
-	private List<DeployInfo> getBuildsByState(List<BuildKiteBuildInfo> buildInfos,
-			DeploymentEnvironment deploymentEnvironment, String state, String startTime, String endTime) {
-		return buildInfos.stream()
-			.map(build -> this.mapToDeployInfo(build,
-					getStepsBeforeEndStep(deploymentEnvironment.getStep(), getPipelineStepNames(buildInfos)),
-					List.of(state), startTime, endTime))
-			.filter(job -> !job.equals(DeployInfo.builder().build()))
-			.filter(job -> !job.getJobStartTime().isEmpty())
-			.toList();
-	}
-
 	public void verifyToken(String token) {
 		try {
 			String buildKiteToken = BEARER_TITLE + token;
@@ -362,6 +369,10 @@ public class BuildKiteService {
 			return DeployInfo.builder().build();
 		}
 
+		return toDeployInfo(buildInfo, job);
+	}
+
+	private DeployInfo toDeployInfo(BuildKiteBuildInfo buildInfo, BuildKiteJob job) {
 		return new DeployInfo(buildInfo.getPipelineCreateTime(), job.getStartedAt(), job.getFinishedAt(),
 				buildInfo.getCommit(), job.getState(), CANCELED_STATE.equals(buildInfo.getState()), job.getName());
 	}
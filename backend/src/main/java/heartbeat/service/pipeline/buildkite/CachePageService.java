@@ -41,8 +41,9 @@ public class CachePageService {
 
 	private final GitHubFeignClient gitHubFeignClient;
 
-	@Cacheable(cacheNames = "pageStepsInfo", key = "#realToken+'-'+#orgId+'-'+#pipelineId+'-'+#page+'-'+#perPage+'-'"
-			+ "+#createdFrom+'-'+#createdTo+'-'+(#branches!=null ? #branches.toString() : '')")
+	@Cacheable(cacheNames = "pageStepsInfo",
+			key = "@cacheKeyGenerator.tenant(#realToken)+'-'+#orgId+'-'+#pipelineId+'-'+#page+'-'+#perPage+'-'"
+					+ "+#createdFrom+'-'+#createdTo+'-'+(#branches!=null ? #branches.toString() : '')")
 	public PageStepsInfoDto fetchPageStepsInfo(String realToken, String orgId, String pipelineId, String page,
 			String perPage, String createdFrom, String createdTo, List<String> branches) {
 		ResponseEntity<List<BuildKiteBuildInfo>> pipelineStepsInfo = buildKiteFeignClient.getPipelineSteps(realToken,
@@ -58,7 +59,8 @@ public class CachePageService {
 		return PageStepsInfoDto.builder().firstPageStepsInfo(firstPageStepsInfo).totalPage(totalPage).build();
 	}
 
-	@Cacheable(cacheNames = "pagePipelineInfo", key = "#buildKiteToken+'-'+#orgSlug+'-'+#page+'-'+#perPage")
+	@Cacheable(cacheNames = "pagePipelineInfo",
+			key = "@cacheKeyGenerator.tenant(#buildKiteToken)+'-'+#orgSlug+'-'+#page+'-'+#perPage")
 	public PageBuildKitePipelineInfoDTO getPipelineInfoList(String orgSlug, String buildKiteToken, String page,
 			String perPage) {
 		var pipelineInfoResponse = buildKiteFeignClient.getPipelineInfo(buildKiteToken, orgSlug, page, perPage);
@@ -73,7 +75,7 @@ public class CachePageService {
 			.build();
 	}
 
-	@Cacheable(cacheNames = "pageOrganization", key = "#token+'-'+#page+'-'+#perPage")
+	@Cacheable(cacheNames = "pageOrganization", key = "@cacheKeyGenerator.tenant(#token)+'-'+#page+'-'+#perPage")
 	public PageOrganizationsInfoDTO getGitHubOrganizations(String token, int page, int perPage) {
 		try {
 			log.info("Start to get paginated github organization info, page: {}", page);
@@ -93,7 +95,8 @@ public class CachePageService {
 		}
 	}
 
-	@Cacheable(cacheNames = "pageRepo", key = "#token+'-'+#organization+'-'+#page+'-'+#perPage")
+	@Cacheable(cacheNames = "pageRepo",
+			key = "@cacheKeyGenerator.tenant(#token)+'-'+#organization+'-'+#page+'-'+#perPage")
 	public PageReposInfoDTO getGitHubRepos(String token, String organization, int page, int perPage) {
 		try {
 			log.info("Start to get paginated github repo info, page: {}", page);
@@ -113,7 +116,8 @@ public class CachePageService {
 		}
 	}
 
-	@Cacheable(cacheNames = "pageBranch", key = "#token+'-'+#organization+'-'+#repo+'-'+#page+'-'+#perPage")
+	@Cacheable(cacheNames = "pageBranch",
+			key = "@cacheKeyGenerator.tenant(#token)+'-'+#organization+'-'+#repo+'-'+#page+'-'+#perPage")
 	public PageBranchesInfoDTO getGitHubBranches(String token, String organization, String repo, int page,
 			int perPage) {
 		try {
@@ -135,7 +139,7 @@ public class CachePageService {
 	}
 
 	@Cacheable(cacheNames = "pagePullRequest",
-			key = "#token+'-'+#organization+'-'+#repo+'-'+#branch+'-'+#page+'-'+#perPage")
+			key = "@cacheKeyGenerator.tenant(#token)+'-'+#organization+'-'+#repo+'-'+#branch+'-'+#page+'-'+#perPage")
 	public PagePullRequestInfo getGitHubPullRequest(String token, String organization, String repo, String branch,
 			int page, int perPage) {
 		try {
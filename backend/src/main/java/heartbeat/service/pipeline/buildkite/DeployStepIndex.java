@@ -0,0 +1,46 @@
+package heartbeat.service.pipeline.buildkite;
+
+import heartbeat.client.dto.pipeline.buildkite.BuildKiteJob;
+import heartbeat.util.TimeUtil;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class DeployStepIndex {
+
+	private final Set<String> steps;
+
+	private final Instant startDate;
+
+	private final Instant endDate;
+
+	public DeployStepIndex(List<String> steps, String startTime, String endTime) {
+		this.steps = new HashSet<>(steps);
+		this.startDate = Instant.ofEpochMilli(Long.parseLong(startTime));
+		this.endDate = Instant.ofEpochMilli(Long.parseLong(endTime));
+	}
+
+	public BuildKiteJob getLatestJob(List<BuildKiteJob> jobs) {
+		BuildKiteJob latestJob = null;
+		for (BuildKiteJob job : jobs) {
+			if (isFinishedInTimeRange(job)
+					&& (latestJob == null || job.getFinishedAt().compareTo(latestJob.getFinishedAt()) > 0)) {
+				latestJob = job;
+			}
+		}
+		return latestJob;
+	}
+
+	private boolean isFinishedInTimeRange(BuildKiteJob job) {
+		if (job == null || !steps.contains(job.getName()) || Objects.isNull(job.getFinishedAt())
+				|| Objects.isNull(job.getStartedAt())) {
+			return false;
+		}
+		Instant time = Instant.parse(job.getFinishedAt());
+		return TimeUtil.isAfterAndEqual(startDate, time) && TimeUtil.isBeforeAndEqual(endDate, time);
+	}
+
+}
@@ -6,7 +6,9 @@ import lombok.Builder;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Builder
 public class BoardSheetGenerator {
@@ -21,14 +23,15 @@ public class BoardSheetGenerator {
 
 	private CSVFileGenerator csvFileGenerator;
 
-	private String[][] sheet;
+	private Stream<String[]> sheet;
 
-	String[][] generate() {
+	Stream<String[]> generate() {
 		return sheet;
 	}
 
 	BoardSheetGenerator mergeBaseInfoAndCycleTimeSheet() {
-		String[][] baseInfoAndCycleTimeSheet = csvFileGenerator.assembleBoardData(jiraCardDTOList, fields, extraFields);
+		Stream<String[]> baseInfoAndCycleTimeSheet = csvFileGenerator.assembleBoardData(jiraCardDTOList, fields,
+				extraFields);
 		sheet = mergeSheetHorizontally(sheet, baseInfoAndCycleTimeSheet);
 		return this;
 	}
@@ -37,33 +40,29 @@ public class BoardSheetGenerator {
 		if (CollectionUtils.isEmpty(reworkFields)) {
 			return this;
 		}
-		int columnCount = reworkFields.size();
-		String[][] reworkTimesSheet = new String[jiraCardDTOList.size() + 1][columnCount];
-
-		for (int column = 0; column < columnCount; column++) {
-			reworkTimesSheet[0][column] = reworkFields.get(column).getLabel();
-		}
-		for (int row = 0; row < jiraCardDTOList.size(); row++) {
-			JiraCardDTO cardDTO = jiraCardDTOList.get(row);
-			for (int column = 0; column < columnCount; column++) {
-				reworkTimesSheet[row + 1][column] = csvFileGenerator.getExtraDataPerRow(cardDTO.getReworkTimesFlat(),
-						reworkFields.get(column));
-			}
-		}
+		String[] header = reworkFields.stream().map(BoardCSVConfig::getLabel).toArray(String[]::new);
+		Stream<String[]> reworkTimesSheet = Stream.concat(Stream.<String[]>of(header),
+				jiraCardDTOList.stream().map(this::getReworkTimesPerRow));
 		sheet = mergeSheetHorizontally(sheet, reworkTimesSheet);
 		return this;
 	}
 
-	private String[][] mergeSheetHorizontally(String[][] sheet, String[][] sheetToMerge) {
-		int rows = jiraCardDTOList.size() + 1;
-		String[][] combinedArray = new String[rows][];
-		if (ArrayUtils.isEmpty(sheet)) {
-			return sheetToMerge;
+	private String[] getReworkTimesPerRow(JiraCardDTO cardDTO) {
+		String[] rowData = new String[reworkFields.size()];
+		for (int column = 0; column < rowData.length; column++) {
+			rowData[column] = csvFileGenerator.getExtraDataPerRow(cardDTO.getReworkTimesFlat(),
+					reworkFields.get(column));
 		}
-		for (int i = 0; i < rows; i++) {
-			combinedArray[i] = ArrayUtils.addAll(sheet[i], sheetToMerge[i]);
+		return rowData;
+	}
+
+	private Stream<String[]> mergeSheetHorizontally(Stream<String[]> sheet, Stream<String[]> sheetToMerge) {
+		if (sheet == null) {
+			return sheetToMerge;
 		}
-		return combinedArray;
+		// both sheets are one header plus one row per card, so they can be zipped row by row
+		Iterator<String[]> rowsToMerge = sheetToMerge.iterator();
+		return sheet.map(row -> ArrayUtils.addAll(row, rowsToMerge.next())).onClose(sheetToMerge::close);
 	}
 
 }
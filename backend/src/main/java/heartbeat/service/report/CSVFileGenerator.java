@@ -37,13 +37,13 @@ import heartbeat.repository.FileRepository;
 import io.micrometer.core.instrument.util.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +63,15 @@ public class CSVFileGenerator {
 
 	private static final String REWORK_FIELD = "Rework";
 
+	private static final String CYCLE_TIME_LABEL = "Cycle Time";
+
+	private static final String[] PIPELINE_CSV_HEADERS = { "Organization", "Pipeline Name", "Repo Name",
+			"Pipeline Step", "Valid", "Build Number", "Pull Number", "Code Committer", "Build Creator",
+			"First Code Committed Time In PR", "PR Created Time", "PR Merged Time", "No PR Committed Time",
+			"Job Start Time", "Pipeline Start Time", "Pipeline Finish Time", "Non-Workdays (Hours)",
+			"Total Lead Time (HH:mm:ss)", "PR Lead Time (HH:mm:ss)", "Pipeline Lead Time (HH:mm:ss)", "Status",
+			"Branch", "Revert" };
+
 	private final FileRepository fileRepository;
 
 	private static Map<String, JsonElement> getCustomFields(JiraCardDTO perRowCardDTO) {
@@ -75,18 +84,10 @@ public class CSVFileGenerator {
 	}
 
 	public void convertPipelineDataToCSV(String uuid, List<PipelineCSVInfo> leadTimeData, String csvTimeStamp) {
-		String[] headers = { "Organization", "Pipeline Name", "Repo Name", "Pipeline Step", "Valid", "Build Number",
-				"Pull Number", "Code Committer", "Build Creator", "First Code Committed Time In PR", "PR Created Time",
-				"PR Merged Time", "No PR Committed Time", "Job Start Time", "Pipeline Start Time",
-				"Pipeline Finish Time", "Non-Workdays (Hours)", "Total Lead Time (HH:mm:ss)", "PR Lead Time (HH:mm:ss)",
-				"Pipeline Lead Time (HH:mm:ss)", "Status", "Branch", "Revert" };
+		Stream<String[]> pipelineData = Stream.concat(Stream.<String[]>of(PIPELINE_CSV_HEADERS),
+				leadTimeData.stream().map(this::getRowData));
 
-		List<String[]> pipelineData = new ArrayList<>();
-		pipelineData.add(headers);
-		pipelineData.addAll(leadTimeData.stream().map(this::getRowData).toList());
-		String[][] data = pipelineData.toArray(new String[0][0]);
-
-		fileRepository.createCSVFileByType(uuid, csvTimeStamp, data, FilePrefixType.PIPELINE_REPORT_PREFIX);
+		fileRepository.createCSVFileByRows(uuid, csvTimeStamp, pipelineData, FilePrefixType.PIPELINE_REPORT_PREFIX);
 	}
 
 	private String[] getRowData(PipelineCSVInfo csvInfo) {
@@ -134,7 +135,7 @@ public class CSVFileGenerator {
 				pipelineLeadTime, state, branch, isRevert };
 	}
 
-	public InputStreamResource getDataFromCSV(ReportType reportDataType, String uuid, String timeRangeAndTimeStamp) {
+	public FileSystemResource getDataFromCSV(ReportType reportDataType, String uuid, String timeRangeAndTimeStamp) {
 		if (timeRangeAndTimeStamp.contains("..") || timeRangeAndTimeStamp.contains("/")
 				|| timeRangeAndTimeStamp.contains("\\")) {
 			throw new IllegalArgumentException("Invalid time range time stamp");
@@ -149,76 +150,48 @@ public class CSVFileGenerator {
 		};
 	}
 
-	public String[][] assembleBoardData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> fields,
+	public Stream<String[]> assembleBoardData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> fields,
 			List<BoardCSVConfig> extraFields) {
 		List<BoardCSVConfig> fixedFields = new ArrayList<>(fields);
 		fixedFields.removeAll(extraFields);
-
-		String[][] fixedFieldsData = getFixedFieldsData(cardDTOList, fixedFields);
-		String[][] extraFieldsData = getExtraFieldsData(cardDTOList, extraFields);
-
-		String[] fixedFieldsRow = fixedFieldsData[0];
-		String targetElement = "Cycle Time";
-		List<String> fixedFieldsRowList = Arrays.asList(fixedFieldsRow);
-		int targetIndex = fixedFieldsRowList.indexOf(targetElement) + 1;
-
-		return mergeArrays(fixedFieldsData, extraFieldsData, targetIndex);
+		List<BoardCSVConfig> originCycleTimeFields = getOriginCycleTimeFields(fixedFields);
+		int fixedFieldColumnCount = fixedFields.size() - originCycleTimeFields.size();
+		List<String> fixedLabels = fixedFields.stream().map(BoardCSVConfig::getLabel).toList();
+		String[] extraLabels = extraFields.stream().map(BoardCSVConfig::getLabel).toArray(String[]::new);
+		int targetIndex = fixedLabels.indexOf(CYCLE_TIME_LABEL) + 1;
+
+		String[] header = mergeRow(fixedLabels.toArray(String[]::new), extraLabels, targetIndex);
+		Stream<String[]> rows = cardDTOList.stream().map(cardDTO -> {
+			String[] fixedFieldsRow = getFixedFieldsPerRow(cardDTO, fixedFieldColumnCount, originCycleTimeFields);
+			String[] extraFieldsRow = getExtraFieldsPerRow(cardDTO, extraFields);
+			return mergeRow(fixedFieldsRow, extraFieldsRow, targetIndex);
+		});
+		return Stream.concat(Stream.<String[]>of(header), rows);
 	}
 
-	private String[][] mergeArrays(String[][] fixedFieldsData, String[][] extraFieldsData, int fixedColumnCount) {
-		int mergedColumnLength = fixedFieldsData[0].length + extraFieldsData[0].length;
-		String[][] mergedArray = new String[fixedFieldsData.length][mergedColumnLength];
-		for (int i = 0; i < fixedFieldsData.length; i++) {
-			String[] mergedPerRowArray = new String[mergedColumnLength];
-			System.arraycopy(fixedFieldsData[i], 0, mergedPerRowArray, 0, fixedColumnCount);
-			System.arraycopy(extraFieldsData[i], 0, mergedPerRowArray, fixedColumnCount, extraFieldsData[i].length);
-			System.arraycopy(fixedFieldsData[i], fixedColumnCount, mergedPerRowArray,
-					fixedColumnCount + extraFieldsData[i].length, fixedFieldsData[i].length - fixedColumnCount);
-			mergedArray[i] = mergedPerRowArray;
-		}
-
-		return mergedArray;
+	private String[] mergeRow(String[] fixedFieldsRow, String[] extraFieldsRow, int fixedColumnCount) {
+		String[] mergedRow = new String[fixedFieldsRow.length + extraFieldsRow.length];
+		System.arraycopy(fixedFieldsRow, 0, mergedRow, 0, fixedColumnCount);
+		System.arraycopy(extraFieldsRow, 0, mergedRow, fixedColumnCount, extraFieldsRow.length);
+		System.arraycopy(fixedFieldsRow, fixedColumnCount, mergedRow, fixedColumnCount + extraFieldsRow.length,
+				fixedFieldsRow.length - fixedColumnCount);
+		return mergedRow;
 	}
 
-	private String[][] getExtraFieldsData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> extraFields) {
-		int rowCount = cardDTOList.size() + 1;
-		int columnCount = extraFields.size();
-		String[][] data = new String[rowCount][columnCount];
-
-		for (int column = 0; column < columnCount; column++) {
-			data[0][column] = extraFields.get(column).getLabel();
-		}
-		for (int row = 0; row < cardDTOList.size(); row++) {
-			JiraCardDTO perRowCardDTO = cardDTOList.get(row);
-			Map<String, JsonElement> customFields = getCustomFields(perRowCardDTO);
-			for (int column = 0; column < columnCount; column++) {
-				data[row + 1][column] = getExtraDataPerRow(customFields, extraFields.get(column));
-			}
+	private String[] getExtraFieldsPerRow(JiraCardDTO cardDTO, List<BoardCSVConfig> extraFields) {
+		Map<String, JsonElement> customFields = getCustomFields(cardDTO);
+		String[] rowData = new String[extraFields.size()];
+		for (int column = 0; column < rowData.length; column++) {
+			rowData[column] = getExtraDataPerRow(customFields, extraFields.get(column));
 		}
-		return data;
+		return rowData;
 	}
 
-	private String[][] getFixedFieldsData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> fixedFields) {
-
-		int rowCount = cardDTOList.size() + 1;
-		int columnCount = fixedFields.size();
-		List<BoardCSVConfig> originCycleTimeFields = getOriginCycleTimeFields(fixedFields);
-		int fixedFieldColumnCount = columnCount - originCycleTimeFields.size();
-
-		String[][] data = new String[rowCount][columnCount];
-
-		for (int column = 0; column < columnCount; column++) {
-			data[0][column] = fixedFields.get(column).getLabel();
-		}
-		for (int row = 0; row < cardDTOList.size(); row++) {
-			JiraCardDTO cardDTO = cardDTOList.get(row);
-
-			String[] fixedDataPerRow = getFixedDataPerRow(cardDTO, fixedFieldColumnCount);
-			String[] originCycleTimePerRow = getOriginCycleTimePerRow(cardDTO, originCycleTimeFields);
-			data[row + 1] = Stream.concat(Arrays.stream(fixedDataPerRow), Arrays.stream(originCycleTimePerRow))
-				.toArray(String[]::new);
-		}
-		return data;
+	private String[] getFixedFieldsPerRow(JiraCardDTO cardDTO, int fixedFieldColumnCount,
+			List<BoardCSVConfig> originCycleTimeFields) {
+		String[] fixedDataPerRow = getFixedDataPerRow(cardDTO, fixedFieldColumnCount);
+		String[] originCycleTimePerRow = getOriginCycleTimePerRow(cardDTO, originCycleTimeFields);
+		return ArrayUtils.addAll(fixedDataPerRow, originCycleTimePerRow);
 	}
 
 	private String[] getOriginCycleTimePerRow(JiraCardDTO cardDTO, List<BoardCSVConfig> originCycleTimeFields) {
@@ -0,0 +1,41 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.service.report.CalendarRegistry.CalendarSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class CalendarHealthIndicator implements HealthIndicator {
+
+	// reports still work on weekends alone while a year is missing, so this is not out of service
+	static final Status DEGRADED = new Status("DEGRADED", "Some calendar years failed to load");
+
+	private final CalendarRegistry calendarRegistry;
+
+	@Override
+	public Health health() {
+		Map<CalendarTypeEnum, CalendarSnapshot> snapshots = calendarRegistry.getSnapshots();
+		Health.Builder builder = statusOf(snapshots);
+		snapshots.forEach((calendarType, snapshot) -> builder.withDetail(calendarType.name(), Map
+			.of("loadedThroughYear", snapshot.getLoadedThroughYear(), "failedYears", snapshot.getFailedYears())));
+		return builder.build();
+	}
+
+	private Health.Builder statusOf(Map<CalendarTypeEnum, CalendarSnapshot> snapshots) {
+		if (!calendarRegistry.isReady()) {
+			return Health.outOfService();
+		}
+		if (snapshots.values().stream().anyMatch(snapshot -> !snapshot.getFailedYears().isEmpty())) {
+			return Health.status(DEGRADED);
+		}
+		return Health.up();
+	}
+
+}
@@ -0,0 +1,185 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+@Component
+public class CalendarRegistry {
+
+	public static final int FIRST_YEAR = 2020;
+
+	private static final long RETRY_DELAY_MINUTES = 10;
+
+	private final HolidayFactory holidayFactory;
+
+	private final Executor calendarTaskExecutor;
+
+	private final Executor retryExecutor;
+
+	private final Map<CalendarTypeEnum, Map<Integer, CompletableFuture<Void>>> yearLoads = new EnumMap<>(
+			CalendarTypeEnum.class);
+
+	private final CompletableFuture<Void> preloaded;
+
+	// readers only ever see a fully built map, writers publish a new one under the monitor
+	private volatile Map<CalendarTypeEnum, CalendarSnapshot> snapshots = Map.of();
+
+	@Autowired
+	public CalendarRegistry(HolidayFactory holidayFactory,
+			@Qualifier("calendarTaskExecutor") Executor calendarTaskExecutor) {
+		this(holidayFactory, calendarTaskExecutor,
+				CompletableFuture.delayedExecutor(RETRY_DELAY_MINUTES, TimeUnit.MINUTES, calendarTaskExecutor));
+	}
+
+	CalendarRegistry(HolidayFactory holidayFactory, Executor calendarTaskExecutor, Executor retryExecutor) {
+		this.holidayFactory = holidayFactory;
+		this.calendarTaskExecutor = calendarTaskExecutor;
+		this.retryExecutor = retryExecutor;
+		for (CalendarTypeEnum calendarType : CalendarTypeEnum.values()) {
+			yearLoads.put(calendarType, new ConcurrentHashMap<>());
+		}
+		this.preloaded = preload(getLastLoadableYear());
+	}
+
+	public WorkDayCalendar getCalendar(CalendarTypeEnum calendarType, int toYear) {
+		CalendarSnapshot snapshot = snapshots.get(calendarType);
+		if (snapshot != null && toYear <= snapshot.getLoadedThroughYear()
+				&& !isRetryDue(calendarType, snapshot, toYear)) {
+			return snapshot.getCalendar();
+		}
+		int lastYear = Math.min(toYear, getLastLoadableYear());
+		for (int year = FIRST_YEAR; year <= lastYear; year++) {
+			loadYear(calendarType, year).join();
+		}
+		snapshot = snapshots.get(calendarType);
+		return snapshot == null ? WorkDayCalendar.of(Map.of()) : snapshot.getCalendar();
+	}
+
+	public boolean isReady() {
+		return preloaded.isDone();
+	}
+
+	public Map<CalendarTypeEnum, CalendarSnapshot> getSnapshots() {
+		return snapshots;
+	}
+
+	private CompletableFuture<Void> preload(int lastYear) {
+		CompletableFuture<?>[] loads = new CompletableFuture<?>[(lastYear - FIRST_YEAR + 1)
+				* CalendarTypeEnum.values().length];
+		int index = 0;
+		for (int year = FIRST_YEAR; year <= lastYear; year++) {
+			for (CalendarTypeEnum calendarType : CalendarTypeEnum.values()) {
+				loads[index++] = loadYear(calendarType, year);
+			}
+		}
+		return CompletableFuture.allOf(loads);
+	}
+
+	private CompletableFuture<Void> loadYear(CalendarTypeEnum calendarType, int year) {
+		return yearLoads.get(calendarType)
+			.computeIfAbsent(year, key -> CompletableFuture.runAsync(() -> load(calendarType, year),
+					calendarTaskExecutor));
+	}
+
+	// a failed year is dropped once the retry delay has passed, the next calendar lookup then loads it again
+	private boolean isRetryDue(CalendarTypeEnum calendarType, CalendarSnapshot snapshot, int toYear) {
+		Map<Integer, CompletableFuture<Void>> loads = yearLoads.get(calendarType);
+		return snapshot.getFailedYears().stream().anyMatch(year -> year <= toYear && !loads.containsKey(year));
+	}
+
+	private void load(CalendarTypeEnum calendarType, int year) {
+		Map<String, Boolean> holidays;
+		boolean failed = false;
+		try {
+			holidays = holidayFactory.build(calendarType).loadHolidayList(String.valueOf(year));
+		}
+		catch (Exception e) {
+			log.error("Failed to load {} holidays of {}, fall back to weekends, reason: {}", calendarType, year,
+					e.getMessage());
+			holidays = Map.of();
+			failed = true;
+		}
+		publish(calendarType, year, holidays, failed);
+		if (failed) {
+			retryExecutor.execute(() -> yearLoads.get(calendarType).remove(year));
+		}
+	}
+
+	private synchronized void publish(CalendarTypeEnum calendarType, int year, Map<String, Boolean> holidays,
+			boolean failed) {
+		CalendarSnapshot previous = snapshots.getOrDefault(calendarType, CalendarSnapshot.EMPTY);
+		Map<String, Boolean> mergedHolidays = new HashMap<>(previous.getHolidays());
+		mergedHolidays.putAll(holidays);
+		Set<Integer> loadedYears = new TreeSet<>(previous.getLoadedYears());
+		loadedYears.add(year);
+		Set<Integer> failedYears = new TreeSet<>(previous.getFailedYears());
+		if (failed) {
+			failedYears.add(year);
+		}
+		else {
+			failedYears.remove(year);
+		}
+		int loadedThroughYear = FIRST_YEAR - 1;
+		while (loadedYears.contains(loadedThroughYear + 1)) {
+			loadedThroughYear++;
+		}
+		CalendarSnapshot snapshot = CalendarSnapshot.builder()
+			.holidays(Collections.unmodifiableMap(mergedHolidays))
+			.loadedYears(Collections.unmodifiableSet(loadedYears))
+			.failedYears(Collections.unmodifiableSet(failedYears))
+			.loadedThroughYear(loadedThroughYear)
+			.calendar(WorkDayCalendar.of(mergedHolidays))
+			.build();
+
+		Map<CalendarTypeEnum, CalendarSnapshot> nextSnapshots = new EnumMap<>(CalendarTypeEnum.class);
+		nextSnapshots.putAll(snapshots);
+		nextSnapshots.put(calendarType, snapshot);
+		snapshots = Collections.unmodifiableMap(nextSnapshots);
+	}
+
+	private static int getLastLoadableYear() {
+		return Year.now().getValue() + 1;
+	}
+
+	@Getter
+	@Builder
+	public static class CalendarSnapshot {
+
+		static final CalendarSnapshot EMPTY = CalendarSnapshot.builder()
+			.holidays(Map.of())
+			.loadedYears(Set.of())
+			.failedYears(Set.of())
+			.loadedThroughYear(FIRST_YEAR - 1)
+			.build();
+
+		private final Map<String, Boolean> holidays;
+
+		private final Set<Integer> loadedYears;
+
+		private final Set<Integer> failedYears;
+
+		private final int loadedThroughYear;
+
+		private final WorkDayCalendar calendar;
+
+	}
+
+}
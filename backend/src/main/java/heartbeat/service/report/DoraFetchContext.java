@@ -0,0 +1,45 @@
+package heartbeat.service.report;
+
+import heartbeat.client.component.UpstreamExecutor;
+import heartbeat.exception.BaseException;
+import heartbeat.service.report.calculator.model.FetchedData;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class DoraFetchContext {
+
+	private final UpstreamExecutor upstreamExecutor;
+
+	private final Supplier<FetchedData.BuildKiteData> buildKiteDataLoader;
+
+	private CompletableFuture<FetchedData.BuildKiteData> buildKiteDataFuture;
+
+	public FetchedData.BuildKiteData getBuildKiteData() {
+		return join(getBuildKiteDataFuture());
+	}
+
+	public static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof BaseException baseException) {
+				throw baseException;
+			}
+			throw e;
+		}
+	}
+
+	private synchronized CompletableFuture<FetchedData.BuildKiteData> getBuildKiteDataFuture() {
+		if (buildKiteDataFuture == null) {
+			// the loader waits on its own pipeline fetches, so it forks instead of holding an I/O thread
+			buildKiteDataFuture = upstreamExecutor.fork(buildKiteDataLoader);
+		}
+		return buildKiteDataFuture;
+	}
+
+}
@@ -1,5 +1,6 @@
 package heartbeat.service.report;
 
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.repository.FilePrefixType;
 import heartbeat.repository.FileType;
 import heartbeat.controller.board.dto.request.CardStepsEnum;
@@ -17,7 +18,9 @@ import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.RequestFailedException;
 import heartbeat.exception.ServiceUnavailableException;
 import heartbeat.handler.AsyncMetricsDataHandler;
+import heartbeat.handler.ReportProgressRegistry;
 import heartbeat.handler.base.AsyncExceptionDTO;
+import heartbeat.handler.base.ReportProgress;
 import heartbeat.service.report.calculator.ClassificationCalculator;
 import heartbeat.service.report.calculator.CycleTimeCalculator;
 import heartbeat.service.report.calculator.DeploymentFrequencyCalculator;
@@ -33,14 +36,23 @@ import heartbeat.service.source.github.GitHubService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static heartbeat.repository.FileType.ERROR;
 import static heartbeat.repository.FileType.REPORT;
+import static heartbeat.service.report.ReportStageMetrics.CALCULATE;
+import static heartbeat.service.report.ReportStageMetrics.CSV;
+import static heartbeat.service.report.ReportStageMetrics.FETCH;
+import static heartbeat.service.report.ReportStageMetrics.PERSIST;
 import static heartbeat.controller.report.dto.request.MetricType.BOARD;
 import static heartbeat.controller.report.dto.request.MetricType.DORA;
 import static heartbeat.util.ValueUtil.getValueOrNull;
@@ -81,11 +93,25 @@ public class GenerateReporterService {
 
 	private final FileRepository fileRepository;
 
+	private final ReportStageMetrics reportStageMetrics;
+
+	private final ReportProgressRegistry reportProgressRegistry;
+
+	private final UpstreamExecutor upstreamExecutor;
+
 	private static final char FILENAME_SEPARATOR = '-';
 
+	private static final String BOARD_REPORT = "board";
+
+	private static final String PIPELINE_REPORT = "pipeline";
+
+	private static final String SOURCE_CONTROL_REPORT = "sourceControl";
+
+	private static final String METRIC_REPORT = "metric";
+
 	public void generateBoardReport(String uuid, GenerateReportRequest request) {
 		String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
-		fileRepository.removeFileByType(ERROR, uuid, timeRangeAndTimeStamp, FilePrefixType.BOARD_REPORT_PREFIX);
+		removeErrorInHandler(uuid, timeRangeAndTimeStamp, FilePrefixType.BOARD_REPORT_PREFIX);
 		log.info(
 				"Start to generate board report, _metrics: {}, _country holiday: {}, _startTime: {}, _endTime: {}, _uuid: {}, _fileName: {}",
 				request.getMetrics(), request.getCalendarType(), request.getStartTime(), request.getEndTime(), uuid,
@@ -99,7 +125,7 @@ public class GenerateReporterService {
 					timeRangeAndTimeStamp);
 		}
 		catch (BaseException e) {
-			fileRepository.createFileByType(ERROR, uuid, timeRangeAndTimeStamp, e, FilePrefixType.BOARD_REPORT_PREFIX);
+			saveErrorInHandler(e, uuid, timeRangeAndTimeStamp, FilePrefixType.BOARD_REPORT_PREFIX);
 			if (List.of(401, 403, 404).contains(e.getStatus()))
 				asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(uuid, timeRangeAndTimeStamp, BOARD, false);
 		}
@@ -107,28 +133,34 @@ public class GenerateReporterService {
 
 	public void generateDoraReport(String uuid, GenerateReportRequest request) {
 		String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
-		fileRepository.removeFileByType(ERROR, uuid, timeRangeAndTimeStamp, FilePrefixType.PIPELINE_REPORT_PREFIX);
-		fileRepository.removeFileByType(ERROR, uuid, timeRangeAndTimeStamp, FilePrefixType.SOURCE_CONTROL_PREFIX);
+		removeErrorInHandler(uuid, timeRangeAndTimeStamp, FilePrefixType.PIPELINE_REPORT_PREFIX);
+		removeErrorInHandler(uuid, timeRangeAndTimeStamp, FilePrefixType.SOURCE_CONTROL_PREFIX);
 
 		FetchedData fetchedData = new FetchedData();
+		DoraFetchContext fetchContext = new DoraFetchContext(upstreamExecutor, () -> fetchBuildKiteData(request));
+		List<CompletableFuture<Void>> reportFutures = new ArrayList<>();
 		if (CollectionUtils.isNotEmpty(request.getPipelineMetrics())) {
 			GenerateReportRequest pipelineRequest = request.toPipelineRequest();
-			generatePipelineReport(uuid, pipelineRequest, fetchedData);
+			reportFutures.add(upstreamExecutor
+				.fork(() -> generatePipelineReport(uuid, pipelineRequest, fetchedData, fetchContext)));
 		}
 		if (CollectionUtils.isNotEmpty(request.getSourceControlMetrics())) {
 			GenerateReportRequest sourceControlRequest = request.toSourceControlRequest();
-			generateSourceControlReport(uuid, sourceControlRequest, fetchedData);
+			reportFutures.add(upstreamExecutor
+				.fork(() -> generateSourceControlReport(uuid, sourceControlRequest, fetchedData, fetchContext)));
 		}
+		CompletableFuture.allOf(reportFutures.toArray(CompletableFuture[]::new)).join();
 
 		MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED,
 				uuid, timeRangeAndTimeStamp, MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
 
 		if (previousMetricsCompleted != null && Boolean.FALSE.equals(previousMetricsCompleted.doraMetricsCompleted())) {
-			CompletableFuture.runAsync(() -> generateCSVForPipeline(uuid, request, fetchedData));
+			upstreamExecutor.runAsync(() -> generateCSVForPipeline(uuid, request, fetchedData));
 		}
 	}
 
-	private void generatePipelineReport(String uuid, GenerateReportRequest request, FetchedData fetchedData) {
+	private void generatePipelineReport(String uuid, GenerateReportRequest request, FetchedData fetchedData,
+			DoraFetchContext fetchContext) {
 		String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
 		log.info(
@@ -136,7 +168,7 @@ public class GenerateReporterService {
 				request.getPipelineMetrics(), request.getCalendarType(), request.getStartTime(), request.getEndTime(),
 				uuid, timeRangeAndTimeStamp);
 		try {
-			fetchBuildKiteData(request, fetchedData);
+			fetchedData.setBuildKiteData(fetchContext.getBuildKiteData());
 			saveReporterInHandler(generatePipelineReporter(request, fetchedData), uuid, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			log.info(
@@ -145,14 +177,14 @@ public class GenerateReporterService {
 					request.getEndTime(), uuid, timeRangeAndTimeStamp);
 		}
 		catch (BaseException e) {
-			fileRepository.createFileByType(ERROR, uuid, timeRangeAndTimeStamp, e,
-					FilePrefixType.PIPELINE_REPORT_PREFIX);
+			saveErrorInHandler(e, uuid, timeRangeAndTimeStamp, FilePrefixType.PIPELINE_REPORT_PREFIX);
 			if (List.of(401, 403, 404).contains(e.getStatus()))
 				asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(uuid, timeRangeAndTimeStamp, DORA, false);
 		}
 	}
 
-	private void generateSourceControlReport(String uuid, GenerateReportRequest request, FetchedData fetchedData) {
+	private void generateSourceControlReport(String uuid, GenerateReportRequest request, FetchedData fetchedData,
+			DoraFetchContext fetchContext) {
 		String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
 		log.info(
@@ -160,7 +192,7 @@ public class GenerateReporterService {
 				request.getSourceControlMetrics(), request.getCalendarType(), request.getStartTime(),
 				request.getEndTime(), uuid, timeRangeAndTimeStamp);
 		try {
-			fetchGitHubData(request, fetchedData);
+			fetchGitHubData(request, fetchedData, fetchContext);
 			saveReporterInHandler(generateSourceControlReporter(request, fetchedData), uuid, timeRangeAndTimeStamp,
 					FilePrefixType.SOURCE_CONTROL_PREFIX);
 			log.info(
@@ -169,8 +201,7 @@ public class GenerateReporterService {
 					request.getEndTime(), uuid, timeRangeAndTimeStamp);
 		}
 		catch (BaseException e) {
-			fileRepository.createFileByType(ERROR, uuid, timeRangeAndTimeStamp, e,
-					FilePrefixType.SOURCE_CONTROL_PREFIX);
+			saveErrorInHandler(e, uuid, timeRangeAndTimeStamp, FilePrefixType.SOURCE_CONTROL_PREFIX);
 			if (List.of(401, 403, 404).contains(e.getStatus()))
 				asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(uuid, timeRangeAndTimeStamp, DORA, false);
 		}
@@ -181,7 +212,7 @@ public class GenerateReporterService {
 
 		ReportResponse reportResponse = new ReportResponse(fileRepository.getExpiredTime());
 
-		request.getPipelineMetrics().forEach(metric -> {
+		reportStageMetrics.run(CALCULATE, PIPELINE_REPORT, () -> request.getPipelineMetrics().forEach(metric -> {
 			switch (metric) {
 				case "deployment frequency" -> reportResponse.setDeploymentFrequency(
 						deploymentFrequency.calculate(fetchedData.getBuildKiteData().getDeployTimesList(),
@@ -192,32 +223,34 @@ public class GenerateReporterService {
 				default -> reportResponse.setPipelineMeanTimeToRecovery(pipelineMeanToRecoveryCalculator
 					.calculate(fetchedData.getBuildKiteData().getDeployTimesList(), request));
 			}
-		});
+		}));
 
 		return reportResponse;
 	}
 
 	private synchronized ReportResponse generateBoardReporter(String uuid, GenerateReportRequest request) {
-		FetchedData fetchedData = fetchJiraBoardData(request, new FetchedData());
+		FetchedData fetchedData = reportStageMetrics.record(FETCH, BOARD_REPORT,
+				() -> fetchJiraBoardData(request, new FetchedData()));
 
 		ReportResponse reportResponse = new ReportResponse(fileRepository.getExpiredTime());
 		JiraBoardSetting jiraBoardSetting = request.getJiraBoardSetting();
 
-		request.getBoardMetrics().forEach(metric -> {
+		reportStageMetrics.run(CALCULATE, BOARD_REPORT, () -> request.getBoardMetrics().forEach(metric -> {
 			switch (metric) {
 				case "velocity" -> assembleVelocity(fetchedData, reportResponse);
 				case "cycle time" -> assembleCycleTime(fetchedData, reportResponse, jiraBoardSetting);
 				case "classification" -> assembleClassification(fetchedData, reportResponse, jiraBoardSetting);
 				default -> assembleReworkInfo(request, fetchedData, reportResponse);
 			}
-		});
+		}));
 
-		CompletableFuture.runAsync(() -> generateCsvForBoard(uuid, request, fetchedData));
+		upstreamExecutor.runAsync(() -> generateCsvForBoard(uuid, request, fetchedData));
 		return reportResponse;
 	}
 
 	private void generateCsvForBoard(String uuid, GenerateReportRequest request, FetchedData fetchedData) {
-		kanbanCsvService.generateCsvInfo(uuid, request, fetchedData.getCardCollectionInfo());
+		reportStageMetrics.run(CSV, BOARD_REPORT,
+				() -> kanbanCsvService.generateCsvInfo(uuid, request, fetchedData.getCardCollectionInfo()));
 		asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(uuid, request.getTimeRangeAndTimeStamp(), BOARD,
 				true);
 	}
@@ -254,24 +287,30 @@ public class GenerateReporterService {
 
 		ReportResponse reportResponse = new ReportResponse(fileRepository.getExpiredTime());
 
-		request.getSourceControlMetrics()
+		reportStageMetrics.run(CALCULATE, SOURCE_CONTROL_REPORT, () -> request.getSourceControlMetrics()
 			.forEach(metric -> reportResponse
-				.setLeadTimeForChanges(leadTimeForChangesCalculator.calculate(fetchedData, request)));
+				.setLeadTimeForChanges(leadTimeForChangesCalculator.calculate(fetchedData, request))));
 
 		return reportResponse;
 	}
 
-	private void fetchBuildKiteData(GenerateReportRequest request, FetchedData fetchedData) {
+	private BuildKiteData fetchBuildKiteData(GenerateReportRequest request) {
 		if (request.getBuildKiteSetting() == null)
 			throw new BadRequestException("Failed to fetch BuildKite info due to BuildKite setting is null.");
-		fetchedData.setBuildKiteData(pipelineService.fetchBuildKiteInfo(request));
+		return reportStageMetrics.record(FETCH, PIPELINE_REPORT, () -> pipelineService.fetchBuildKiteInfo(request));
 	}
 
-	private void fetchGitHubData(GenerateReportRequest request, FetchedData fetchedData) {
+	private void fetchGitHubData(GenerateReportRequest request, FetchedData fetchedData,
+			DoraFetchContext fetchContext) {
 		if (request.getCodebaseSetting() == null)
 			throw new BadRequestException("Failed to fetch Github info due to code base setting is null.");
-		fetchedData.setBuildKiteData(pipelineService.fetchGitHubData(request));
-		fetchedData.setRepoData(gitHubService.fetchRepoData(request));
+		BuildKiteData buildKiteData = fetchContext.getBuildKiteData();
+		reportStageMetrics.run(FETCH, SOURCE_CONTROL_REPORT, () -> {
+			CompletableFuture<FetchedData.RepoData> repoDataFuture = upstreamExecutor
+				.fork(() -> gitHubService.fetchRepoData(request));
+			fetchedData.setBuildKiteData(pipelineService.fetchGitHubData(request, buildKiteData));
+			fetchedData.setRepoData(DoraFetchContext.join(repoDataFuture));
+		});
 	}
 
 	private FetchedData fetchJiraBoardData(GenerateReportRequest request, FetchedData fetchedData) {
@@ -284,25 +323,40 @@ public class GenerateReporterService {
 	}
 
 	private void generateCSVForPipeline(String uuid, GenerateReportRequest request, FetchedData fetchedData) {
-		List<PipelineCSVInfo> pipelineData = pipelineService.generateCSVForPipeline(request.getStartTime(),
-				request.getEndTime(), fetchedData.getBuildKiteData(),
-				request.getBuildKiteSetting().getDeploymentEnvList());
+		reportStageMetrics.run(CSV, PIPELINE_REPORT, () -> {
+			List<PipelineCSVInfo> pipelineData = pipelineService.generateCSVForPipeline(request.getStartTime(),
+					request.getEndTime(), fetchedData.getBuildKiteData(),
+					request.getBuildKiteSetting().getDeploymentEnvList());
 
-		pipelineData.addAll(gitHubService.generateCSVForSourceControl(fetchedData.getRepoData(),
-				request.getCodebaseSetting().getCodebases()));
+			pipelineData.addAll(gitHubService.generateCSVForSourceControl(fetchedData.getRepoData(),
+					request.getCodebaseSetting().getCodebases()));
 
-		csvFileGenerator.convertPipelineDataToCSV(uuid, pipelineData, request.getTimeRangeAndTimeStamp());
+			csvFileGenerator.convertPipelineDataToCSV(uuid, pipelineData, request.getTimeRangeAndTimeStamp());
+		});
 		asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(uuid, request.getTimeRangeAndTimeStamp(), DORA,
 				true);
 	}
 
 	public void generateCSVForMetric(String uuid, ReportResponse reportContent, String csvTimeRangeTimeStamp) {
-		csvFileGenerator.convertMetricDataToCSV(uuid, reportContent, csvTimeRangeTimeStamp);
+		reportStageMetrics.run(CSV, METRIC_REPORT,
+				() -> csvFileGenerator.convertMetricDataToCSV(uuid, reportContent, csvTimeRangeTimeStamp));
 	}
 
 	private void saveReporterInHandler(ReportResponse reportContent, String uuid, String fileName,
 			FilePrefixType filePrefixType) {
-		fileRepository.createFileByType(REPORT, uuid, fileName, reportContent, filePrefixType);
+		reportStageMetrics.run(PERSIST, StringUtils.removeEnd(filePrefixType.getPrefix(), "-"),
+				() -> fileRepository.createFileByType(REPORT, uuid, fileName, reportContent, filePrefixType));
+		reportProgressRegistry.updateReport(uuid, fileName, filePrefixType);
+	}
+
+	private void saveErrorInHandler(BaseException e, String uuid, String fileName, FilePrefixType filePrefixType) {
+		fileRepository.createFileByType(ERROR, uuid, fileName, e, filePrefixType);
+		reportProgressRegistry.updateError(uuid, fileName, filePrefixType, true);
+	}
+
+	private void removeErrorInHandler(String uuid, String fileName, FilePrefixType filePrefixType) {
+		fileRepository.removeFileByType(ERROR, uuid, fileName, filePrefixType);
+		reportProgressRegistry.updateError(uuid, fileName, filePrefixType, false);
 	}
 
 	private ErrorInfo handleAsyncExceptionAndGetErrorInfo(AsyncExceptionDTO exception) {
@@ -322,17 +376,26 @@ public class GenerateReporterService {
 	}
 
 	public MetricsDataCompleted checkReportReadyStatus(String uuid, String timeRangeAndTimeStamp) {
+		checkReportExpired(timeRangeAndTimeStamp);
+		return readMetricsDataCompleted(uuid, timeRangeAndTimeStamp);
+	}
+
+	private void checkReportExpired(String timeRangeAndTimeStamp) {
 		String timeStamp = timeRangeAndTimeStamp.substring(timeRangeAndTimeStamp.lastIndexOf(FILENAME_SEPARATOR) + 1);
 		if (fileRepository.isExpired(System.currentTimeMillis(), Long.parseLong(timeStamp))) {
 			throw new GenerateReportException("Failed to get report due to report time expires");
 		}
+	}
+
+	private MetricsDataCompleted readMetricsDataCompleted(String uuid, String timeRangeAndTimeStamp) {
 		return fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, uuid, timeRangeAndTimeStamp,
 				MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
 	}
 
 	public ReportResponse getComposedReportResponse(String uuid, String startTime, String endTime) {
-		String timeRangeAndTimeStamp = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
-				FileType.METRICS_DATA_COMPLETED, uuid, startTime, endTime);
+		String timeRangeAndTimeStamp = reportProgressRegistry.findLatestTimeRangeAndTimeStamp(uuid, startTime, endTime)
+			.orElseGet(() -> fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
+					FileType.METRICS_DATA_COMPLETED, uuid, startTime, endTime));
 		if (timeRangeAndTimeStamp == null) {
 			return ReportResponse.builder()
 				.overallMetricsCompleted(false)
@@ -353,16 +416,27 @@ public class GenerateReporterService {
 	}
 
 	private ReportResponse getComposedReportResponse(String uuid, String timeRangeAndTimeStamp) {
-		MetricsDataCompleted reportReadyStatus = checkReportReadyStatus(uuid, timeRangeAndTimeStamp);
+		checkReportExpired(timeRangeAndTimeStamp);
+		// the stages are kept in memory, only their payloads are read, and those a load has just read are reused
+		Map<FilePrefixType, ReportResponse> reports = new EnumMap<>(FilePrefixType.class);
+		Map<FilePrefixType, AsyncExceptionDTO> errors = new EnumMap<>(FilePrefixType.class);
+		ReportProgress reportProgress = reportProgressRegistry.find(uuid, timeRangeAndTimeStamp,
+				() -> readReportProgress(uuid, timeRangeAndTimeStamp, reports, errors));
+		MetricsDataCompleted reportReadyStatus = reportProgress.getMetricsDataCompleted();
+		for (FilePrefixType filePrefixType : reportProgress.getReportedStages()) {
+			reports.computeIfAbsent(filePrefixType, prefix -> fileRepository.readFileByType(REPORT, uuid,
+					timeRangeAndTimeStamp, ReportResponse.class, prefix));
+		}
+		for (FilePrefixType filePrefixType : reportProgress.getFailedStages()) {
+			errors.computeIfAbsent(filePrefixType, prefix -> fileRepository.readFileByType(ERROR, uuid,
+					timeRangeAndTimeStamp, AsyncExceptionDTO.class, prefix));
+		}
 
-		ReportResponse boardReportResponse = fileRepository.readFileByType(REPORT, uuid, timeRangeAndTimeStamp,
-				ReportResponse.class, FilePrefixType.BOARD_REPORT_PREFIX);
-		ReportResponse pipelineReportResponse = fileRepository.readFileByType(REPORT, uuid, timeRangeAndTimeStamp,
-				ReportResponse.class, FilePrefixType.PIPELINE_REPORT_PREFIX);
-		ReportResponse sourceControlReportResponse = fileRepository.readFileByType(REPORT, uuid, timeRangeAndTimeStamp,
-				ReportResponse.class, FilePrefixType.SOURCE_CONTROL_PREFIX);
+		ReportResponse boardReportResponse = reports.get(FilePrefixType.BOARD_REPORT_PREFIX);
+		ReportResponse pipelineReportResponse = reports.get(FilePrefixType.PIPELINE_REPORT_PREFIX);
+		ReportResponse sourceControlReportResponse = reports.get(FilePrefixType.SOURCE_CONTROL_PREFIX);
 
-		ReportMetricsError reportMetricsError = getReportErrorAndHandleAsyncException(uuid, timeRangeAndTimeStamp);
+		ReportMetricsError reportMetricsError = getReportErrorAndHandleAsyncException(errors);
 		return ReportResponse.builder()
 			.velocity(getValueOrNull(boardReportResponse, ReportResponse::getVelocity))
 			.classificationList(getValueOrNull(boardReportResponse, ReportResponse::getClassificationList))
@@ -384,13 +458,10 @@ public class GenerateReporterService {
 			.build();
 	}
 
-	private ReportMetricsError getReportErrorAndHandleAsyncException(String uuid, String timeRangeAndTimeStamp) {
-		AsyncExceptionDTO boardException = fileRepository.readFileByType(ERROR, uuid, timeRangeAndTimeStamp,
-				AsyncExceptionDTO.class, FilePrefixType.BOARD_REPORT_PREFIX);
-		AsyncExceptionDTO pipelineException = fileRepository.readFileByType(ERROR, uuid, timeRangeAndTimeStamp,
-				AsyncExceptionDTO.class, FilePrefixType.PIPELINE_REPORT_PREFIX);
-		AsyncExceptionDTO sourceControlException = fileRepository.readFileByType(ERROR, uuid, timeRangeAndTimeStamp,
-				AsyncExceptionDTO.class, FilePrefixType.SOURCE_CONTROL_PREFIX);
+	private ReportMetricsError getReportErrorAndHandleAsyncException(Map<FilePrefixType, AsyncExceptionDTO> errors) {
+		AsyncExceptionDTO boardException = errors.get(FilePrefixType.BOARD_REPORT_PREFIX);
+		AsyncExceptionDTO pipelineException = errors.get(FilePrefixType.PIPELINE_REPORT_PREFIX);
+		AsyncExceptionDTO sourceControlException = errors.get(FilePrefixType.SOURCE_CONTROL_PREFIX);
 		return ReportMetricsError.builder()
 			.boardMetricsError(handleAsyncExceptionAndGetErrorInfo(boardException))
 			.pipelineMetricsError(handleAsyncExceptionAndGetErrorInfo(pipelineException))
@@ -398,4 +469,26 @@ public class GenerateReporterService {
 			.build();
 	}
 
+	private ReportProgress readReportProgress(String uuid, String timeRangeAndTimeStamp,
+			Map<FilePrefixType, ReportResponse> reports, Map<FilePrefixType, AsyncExceptionDTO> errors) {
+		for (FilePrefixType filePrefixType : List.of(FilePrefixType.BOARD_REPORT_PREFIX,
+				FilePrefixType.PIPELINE_REPORT_PREFIX, FilePrefixType.SOURCE_CONTROL_PREFIX)) {
+			ReportResponse report = fileRepository.readFileByType(REPORT, uuid, timeRangeAndTimeStamp,
+					ReportResponse.class, filePrefixType);
+			if (report != null) {
+				reports.put(filePrefixType, report);
+			}
+			AsyncExceptionDTO error = fileRepository.readFileByType(ERROR, uuid, timeRangeAndTimeStamp,
+					AsyncExceptionDTO.class, filePrefixType);
+			if (error != null) {
+				errors.put(filePrefixType, error);
+			}
+		}
+		return ReportProgress.builder()
+			.metricsDataCompleted(readMetricsDataCompleted(uuid, timeRangeAndTimeStamp))
+			.reportedStages(Set.copyOf(reports.keySet()))
+			.failedStages(Set.copyOf(errors.keySet()))
+			.build();
+	}
+
 }
@@ -175,7 +175,7 @@ public class KanbanCsvService {
 			card.setTotalCycleTimeDivideStoryPoints(card.getTotalCycleTimeDivideStoryPoints());
 			card.setReworkTimesFlat(card.buildReworkTimesFlatObject());
 		});
-		String[][] sheet = BoardSheetGenerator.builder()
+		Stream<String[]> sheet = BoardSheetGenerator.builder()
 			.csvFileGenerator(csvFileGenerator)
 			.jiraCardDTOList(cardDTOList)
 			.fields(allBoardFields)
@@ -186,7 +186,7 @@ public class KanbanCsvService {
 			.mergeReworkTimesSheet()
 			.generate();
 
-		fileRepository.createCSVFileByType(uuid, csvTimeRangeTimeStamp, sheet, FilePrefixType.BOARD_REPORT_PREFIX);
+		fileRepository.createCSVFileByRows(uuid, csvTimeRangeTimeStamp, sheet, FilePrefixType.BOARD_REPORT_PREFIX);
 	}
 
 	private void sortNonDoneCardsByStatusAndTime(List<JiraCardDTO> nonDoneCards, List<JiraColumnDTO> jiraColumns) {
@@ -1,5 +1,6 @@
 package heartbeat.service.report;
 
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.codebase.github.LeadTime;
 import heartbeat.client.dto.codebase.github.PipelineLeadTime;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
@@ -10,6 +11,8 @@ import heartbeat.controller.pipeline.dto.request.DeploymentEnvironment;
 import heartbeat.controller.report.dto.request.GenerateReportRequest;
 import heartbeat.controller.report.dto.response.LeadTimeInfo;
 import heartbeat.controller.report.dto.response.PipelineCSVInfo;
+import heartbeat.exception.BaseException;
+import heartbeat.exception.InternalServerErrorException;
 import heartbeat.service.pipeline.buildkite.BuildKiteService;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.source.github.GitHubService;
@@ -23,6 +26,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,8 +42,12 @@ public class PipelineService {
 
 	private final GitHubService gitHubService;
 
-	public FetchedData.BuildKiteData fetchGitHubData(GenerateReportRequest request) {
-		FetchedData.BuildKiteData buildKiteData = fetchBuildKiteInfo(request);
+	private final UpstreamExecutor upstreamExecutor;
+
+	private final Semaphore buildKitePipelineBudget;
+
+	public FetchedData.BuildKiteData fetchGitHubData(GenerateReportRequest request,
+			FetchedData.BuildKiteData buildKiteData) {
 		Map<String, String> repoMap = getRepoMap(request.getBuildKiteSetting().getDeploymentEnvList());
 		List<PipelineLeadTime> pipelineLeadTimes = Collections.emptyList();
 		if (Objects.nonNull(request.getCodebaseSetting())
@@ -53,44 +64,98 @@ public class PipelineService {
 		String endTime = request.getEndTime();
 		FetchedData.BuildKiteData result = new FetchedData.BuildKiteData();
 
-		request.getBuildKiteSetting().getDeploymentEnvList().forEach(deploymentEnvironment -> {
-			List<BuildKiteBuildInfo> buildKiteBuildInfo = getBuildKiteBuildInfo(startTime, endTime,
-					deploymentEnvironment, request.getBuildKiteSetting().getToken(),
-					request.getBuildKiteSetting().getPipelineCrews());
-			DeployTimes deployTimesList = buildKiteService.countDeployTimes(deploymentEnvironment, buildKiteBuildInfo,
-					startTime, endTime);
-			result.addBuildKiteBuildInfos(deploymentEnvironment.getId(), buildKiteBuildInfo);
-			result.addDeployTimes(deployTimesList);
-		});
+		List<CompletableFuture<Map.Entry<List<BuildKiteBuildInfo>, DeployTimes>>> futures = new ArrayList<>();
+		for (DeploymentEnvironment deploymentEnvironment : request.getBuildKiteSetting().getDeploymentEnvList()) {
+			futures.add(supplyWithPipelineBudget(() -> {
+				List<BuildKiteBuildInfo> buildKiteBuildInfo = getBuildKiteBuildInfo(startTime, endTime,
+						deploymentEnvironment, request.getBuildKiteSetting().getToken(),
+						request.getBuildKiteSetting().getPipelineCrews());
+				DeployTimes deployTimes = buildKiteService.countDeployTimes(deploymentEnvironment, buildKiteBuildInfo,
+						startTime, endTime);
+				return Map.entry(buildKiteBuildInfo, deployTimes);
+			}));
+		}
+
+		List<DeploymentEnvironment> deploymentEnvironments = request.getBuildKiteSetting().getDeploymentEnvList();
+		for (int index = 0; index < futures.size(); index++) {
+			Map.Entry<List<BuildKiteBuildInfo>, DeployTimes> pipelineResult = joinPipelineResult(futures.get(index));
+			result.addBuildKiteBuildInfos(deploymentEnvironments.get(index).getId(), pipelineResult.getKey());
+			result.addDeployTimes(pipelineResult.getValue());
+		}
 		return result;
 	}
 
+	// the permit goes back when the task ends, or right away when it cannot even be submitted
+	private <T> CompletableFuture<T> supplyWithPipelineBudget(Supplier<T> task) {
+		acquirePipelineBudget();
+		try {
+			return upstreamExecutor.supplyAsync(task)
+				.whenComplete((ignored, throwable) -> buildKitePipelineBudget.release());
+		}
+		catch (RuntimeException e) {
+			buildKitePipelineBudget.release();
+			throw e;
+		}
+	}
+
+	private void acquirePipelineBudget() {
+		try {
+			buildKitePipelineBudget.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InternalServerErrorException("Failed to fetch BuildKite builds, cause is interrupted");
+		}
+	}
+
+	private <T> T joinPipelineResult(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof BaseException baseException) {
+				throw baseException;
+			}
+			throw new InternalServerErrorException(
+					String.format("Failed to fetch BuildKite builds, cause is %s", e.getCause().getMessage()));
+		}
+	}
+
 	public List<PipelineCSVInfo> generateCSVForPipeline(String startTime, String endTime,
 			FetchedData.BuildKiteData buildKiteData, List<DeploymentEnvironment> deploymentEnvironments) {
-		List<PipelineCSVInfo> pipelineCSVInfos = new ArrayList<>();
-		deploymentEnvironments.parallelStream().forEach(deploymentEnvironment -> {
-			List<BuildKiteBuildInfo> buildInfos = getBuildInfos(buildKiteData.getBuildInfosList(),
-					deploymentEnvironment.getId());
-			if (!buildInfos.isEmpty()) {
-				List<String> pipelineSteps = buildKiteService.getPipelineStepNames(buildInfos);
-				if (!pipelineSteps.isEmpty()) {
-					List<String> validSteps = buildKiteService.getStepsBeforeEndStep(deploymentEnvironment.getStep(),
-							pipelineSteps);
-					List<PipelineCSVInfo> pipelineCSVInfoList = buildInfos.stream()
-						.filter(buildInfo -> isValidBuildInfo(buildInfo, validSteps, startTime, endTime))
-						.map(buildInfo -> getPipelineCSVInfo(startTime, endTime, buildKiteData, deploymentEnvironment,
-								buildInfo, validSteps))
-						.toList();
-					pipelineCSVInfos.addAll(pipelineCSVInfoList);
-				}
-			}
-		});
-		return pipelineCSVInfos;
+		Map<String, List<BuildKiteBuildInfo>> buildInfosByPipelineId = buildKiteData.indexBuildInfosByPipelineId();
+		Map<String, Map<String, LeadTime>> leadTimesByPipelineName = buildKiteData
+			.indexLeadTimesByPipelineNameAndCommitId();
+		return deploymentEnvironments.parallelStream()
+			.flatMap(deploymentEnvironment -> getPipelineCSVInfos(startTime, endTime, deploymentEnvironment,
+					buildInfosByPipelineId.getOrDefault(deploymentEnvironment.getId(), List.of()),
+					leadTimesByPipelineName.getOrDefault(deploymentEnvironment.getName(), Map.of()))
+				.stream())
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	private List<PipelineCSVInfo> getPipelineCSVInfos(String startTime, String endTime,
+			DeploymentEnvironment deploymentEnvironment, List<BuildKiteBuildInfo> buildInfos,
+			Map<String, LeadTime> leadTimesByCommitId) {
+		if (buildInfos.isEmpty()) {
+			return List.of();
+		}
+		List<String> pipelineSteps = buildKiteService.getPipelineStepNames(buildInfos);
+		if (pipelineSteps.isEmpty()) {
+			return List.of();
+		}
+		List<String> validSteps = buildKiteService.getStepsBeforeEndStep(deploymentEnvironment.getStep(),
+				pipelineSteps);
+		return buildInfos.stream()
+			.filter(buildInfo -> isValidBuildInfo(buildInfo, validSteps, startTime, endTime))
+			.map(buildInfo -> getPipelineCSVInfo(startTime, endTime, deploymentEnvironment, buildInfo, validSteps,
+					leadTimesByCommitId))
+			.toList();
 	}
 
 	private PipelineCSVInfo getPipelineCSVInfo(String startTime, String endTime,
-			FetchedData.BuildKiteData buildKiteData, DeploymentEnvironment deploymentEnvironment,
-			BuildKiteBuildInfo buildInfo, List<String> pipelineSteps) {
+			DeploymentEnvironment deploymentEnvironment, BuildKiteBuildInfo buildInfo, List<String> pipelineSteps,
+			Map<String, LeadTime> leadTimesByCommitId) {
 		DeployInfo deployInfo = buildKiteService.mapToDeployInfo(buildInfo, pipelineSteps, REQUIRED_STATES, startTime,
 				endTime);
 
@@ -103,7 +168,7 @@ public class PipelineService {
 			.piplineStatus(buildInfo.getState())
 			.buildInfo(buildInfo)
 			.deployInfo(deployInfo)
-			.leadTimeInfo(new LeadTimeInfo(filterLeadTime(buildKiteData, deploymentEnvironment, deployInfo)))
+			.leadTimeInfo(new LeadTimeInfo(getLeadTime(leadTimesByCommitId, deployInfo)))
 			.build();
 	}
 
@@ -114,28 +179,11 @@ public class PipelineService {
 		return buildKiteJob != null && !buildInfo.getCommit().isEmpty();
 	}
 
-	private List<BuildKiteBuildInfo> getBuildInfos(List<Map.Entry<String, List<BuildKiteBuildInfo>>> buildInfosList,
-			String deploymentEnvironmentId) {
-		return buildInfosList.stream()
-			.filter(entry -> entry.getKey().equals(deploymentEnvironmentId))
-			.findFirst()
-			.map(Map.Entry::getValue)
-			.orElse(new ArrayList<>());
-	}
-
-	private LeadTime filterLeadTime(FetchedData.BuildKiteData buildKiteData,
-			DeploymentEnvironment deploymentEnvironment, DeployInfo deployInfo) {
-		if (Objects.isNull(buildKiteData.getPipelineLeadTimes())) {
+	private LeadTime getLeadTime(Map<String, LeadTime> leadTimesByCommitId, DeployInfo deployInfo) {
+		if (deployInfo.getCommitId() == null) {
 			return null;
 		}
-		return buildKiteData.getPipelineLeadTimes()
-			.stream()
-			.filter(pipelineLeadTime -> Objects.equals(pipelineLeadTime.getPipelineName(),
-					deploymentEnvironment.getName()))
-			.flatMap(filteredPipeLineLeadTime -> filteredPipeLineLeadTime.getLeadTimes().stream())
-			.filter(leadTime -> leadTime.getCommitId().equals(deployInfo.getCommitId()))
-			.findFirst()
-			.orElse(null);
+		return leadTimesByCommitId.get(deployInfo.getCommitId());
 	}
 
 	private Map<String, String> getRepoMap(List<DeploymentEnvironment> deploymentEnvironments) {
@@ -0,0 +1,135 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.response.ReportResponse;
+import heartbeat.exception.BaseException;
+import heartbeat.handler.ReportProgressRegistry;
+import heartbeat.handler.base.AsyncExceptionDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+// pushes the composed report to subscribers whenever a generator changes a stage of it, instead of being polled
+@Log4j2
+@Service
+public class ReportProgressService {
+
+	private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private static final String SNAPSHOT_EVENT = "snapshot";
+
+	private static final String ERROR_EVENT = "reportError";
+
+	private final GenerateReporterService generateReporterService;
+
+	private final ReportProgressRegistry reportProgressRegistry;
+
+	private final Executor reportProgressExecutor;
+
+	private final Supplier<SseEmitter> emitterFactory;
+
+	@Autowired
+	public ReportProgressService(GenerateReporterService generateReporterService,
+			ReportProgressRegistry reportProgressRegistry,
+			@Qualifier("reportProgressExecutor") Executor reportProgressExecutor) {
+		this(generateReporterService, reportProgressRegistry, reportProgressExecutor,
+				() -> new SseEmitter(TIMEOUT_MILLIS));
+	}
+
+	ReportProgressService(GenerateReporterService generateReporterService,
+			ReportProgressRegistry reportProgressRegistry, Executor reportProgressExecutor,
+			Supplier<SseEmitter> emitterFactory) {
+		this.generateReporterService = generateReporterService;
+		this.reportProgressRegistry = reportProgressRegistry;
+		this.reportProgressExecutor = reportProgressExecutor;
+		this.emitterFactory = emitterFactory;
+	}
+
+	public SseEmitter subscribe(String uuid, String startTime, String endTime) {
+		Subscription subscription = new Subscription(emitterFactory.get());
+		String timeRange = startTime + FILENAME_SEPARATOR + endTime + FILENAME_SEPARATOR;
+		subscription.unsubscribe = reportProgressRegistry.subscribe(uuid, (timeRangeAndTimeStamp, stage) -> {
+			if (timeRangeAndTimeStamp.startsWith(timeRange)) {
+				String timeStamp = StringUtils.substringAfterLast(timeRangeAndTimeStamp, FILENAME_SEPARATOR);
+				subscription.enqueue(stage,
+						() -> generateReporterService.getComposedReportResponse(uuid, timeStamp, startTime, endTime));
+			}
+		});
+		subscription.emitter.onCompletion(subscription.unsubscribe);
+		log.info("Successfully subscribe report progress, reportId: {}, startTime: {}, endTime: {}", uuid, startTime,
+				endTime);
+		subscription.enqueue(SNAPSHOT_EVENT,
+				() -> generateReporterService.getComposedReportResponse(uuid, startTime, endTime));
+		return subscription.emitter;
+	}
+
+	// the events of one subscriber are sent in order on the progress executor, the generator thread only queues them
+	@RequiredArgsConstructor
+	private final class Subscription {
+
+		private final SseEmitter emitter;
+
+		private volatile Runnable unsubscribe;
+
+		private CompletableFuture<Void> lastSend = CompletableFuture.completedFuture(null);
+
+		private synchronized void enqueue(String stage, Supplier<ReportResponse> composer) {
+			lastSend = lastSend.thenRunAsync(() -> send(stage, composer), reportProgressExecutor).exceptionally(e -> {
+				log.error("Failed to send report progress, stage: {}, reason: {}", stage, e.getMessage());
+				return null;
+			});
+		}
+
+		private void send(String stage, Supplier<ReportResponse> composer) {
+			SseEmitter.SseEventBuilder event;
+			boolean isLastEvent;
+			try {
+				ReportResponse reportResponse = composer.get();
+				event = SseEmitter.event().name(stage).data(reportResponse);
+				isLastEvent = Boolean.TRUE.equals(reportResponse.getAllMetricsCompleted());
+			}
+			catch (BaseException e) {
+				event = SseEmitter.event().name(ERROR_EVENT).data(new AsyncExceptionDTO(e));
+				isLastEvent = true;
+			}
+			try {
+				emitter.send(event);
+				if (isLastEvent) {
+					cancel();
+					emitter.complete();
+				}
+			}
+			catch (IOException e) {
+				log.info("Failed to send report progress, stage: {}, reason: {}", stage, e.getMessage());
+				cancel();
+				emitter.completeWithError(e);
+			}
+			catch (IllegalStateException e) {
+				log.info("Skip report progress of completed subscriber, stage: {}, reason: {}", stage,
+						e.getMessage());
+				cancel();
+			}
+		}
+
+		// a change may be reported before subscribe has handed back the way to unsubscribe
+		private void cancel() {
+			Runnable registered = unsubscribe;
+			if (registered != null) {
+				registered.run();
+			}
+		}
+
+	}
+
+}
@@ -20,7 +20,7 @@ import heartbeat.util.TimeUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
@@ -54,7 +54,7 @@ public class ReportService {
 
 	private static final String FILENAME_SEPARATOR = "-";
 
-	public InputStreamResource exportCsv(ReportType reportDataType, String uuid, String startTime, String endTime) {
+	public FileSystemResource exportCsv(ReportType reportDataType, String uuid, String startTime, String endTime) {
 		String timeRangeAndTimeStamp = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT,
 				uuid, startTime, endTime);
 		if (timeRangeAndTimeStamp == null) {
@@ -0,0 +1,46 @@
+package heartbeat.service.report;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class ReportStageMetrics {
+
+	public static final String STAGE_TIMER = "heartbeat.report.stage";
+
+	public static final String FETCH = "fetch";
+
+	public static final String CALCULATE = "calculate";
+
+	public static final String CSV = "csv";
+
+	public static final String PERSIST = "persist";
+
+	private final MeterRegistry meterRegistry;
+
+	public <T> T record(String stage, String report, Supplier<T> action) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "error";
+		try {
+			T result = action.get();
+			outcome = "success";
+			return result;
+		}
+		finally {
+			sample.stop(meterRegistry.timer(STAGE_TIMER, "stage", stage, "report", report, "outcome", outcome));
+		}
+	}
+
+	public void run(String stage, String report, Runnable action) {
+		record(stage, report, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+}
@@ -0,0 +1,113 @@
+package heartbeat.service.report;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Map;
+
+public class WorkDayCalendar {
+
+	// 1970-01-01 is a Thursday, shifting by 3 makes Monday the start of each week
+	private static final int EPOCH_DAY_OF_WEEK_SHIFT = 3;
+
+	private static final int DAYS_PER_WEEK = 7;
+
+	private static final int FIRST_WEEKEND_DAY = 5;
+
+	private final long firstEpochDay;
+
+	private final int length;
+
+	private final BitSet nonWorkDays;
+
+	private final int[] nonWorkDayCounts;
+
+	private WorkDayCalendar(long firstEpochDay, int length, BitSet nonWorkDays) {
+		this.firstEpochDay = firstEpochDay;
+		this.length = length;
+		this.nonWorkDays = nonWorkDays;
+		this.nonWorkDayCounts = new int[length + 1];
+		for (int i = 0; i < length; i++) {
+			nonWorkDayCounts[i + 1] = nonWorkDayCounts[i] + (nonWorkDays.get(i) ? 1 : 0);
+		}
+	}
+
+	public static WorkDayCalendar of(Map<String, Boolean> holidayMap) {
+		if (holidayMap.isEmpty()) {
+			return new WorkDayCalendar(0, 0, new BitSet());
+		}
+		long first = Long.MAX_VALUE;
+		long last = Long.MIN_VALUE;
+		for (String date : holidayMap.keySet()) {
+			long epochDay = LocalDate.parse(date).toEpochDay();
+			first = Math.min(first, epochDay);
+			last = Math.max(last, epochDay);
+		}
+		int length = (int) (last - first + 1);
+		BitSet nonWorkDays = new BitSet(length);
+		for (int i = 0; i < length; i++) {
+			long epochDay = first + i;
+			Boolean holiday = holidayMap.get(LocalDate.ofEpochDay(epochDay).toString());
+			nonWorkDays.set(i, holiday == null ? isWeekend(epochDay) : holiday);
+		}
+		return new WorkDayCalendar(first, length, nonWorkDays);
+	}
+
+	public boolean isNonWorkDay(long epochDay) {
+		long index = epochDay - firstEpochDay;
+		if (index >= 0 && index < length) {
+			return nonWorkDays.get((int) index);
+		}
+		return isWeekend(epochDay);
+	}
+
+	public long countNonWorkDays(long fromEpochDay, long toEpochDay) {
+		if (toEpochDay < fromEpochDay) {
+			return 0;
+		}
+		long lastEpochDay = firstEpochDay + length - 1;
+		long inRangeFrom = Math.max(fromEpochDay, firstEpochDay);
+		long inRangeTo = Math.min(toEpochDay, lastEpochDay);
+		if (inRangeTo < inRangeFrom) {
+			return countWeekendDays(fromEpochDay, toEpochDay);
+		}
+		long count = nonWorkDayCounts[(int) (inRangeTo - firstEpochDay + 1)]
+				- nonWorkDayCounts[(int) (inRangeFrom - firstEpochDay)];
+		return count + countWeekendDays(fromEpochDay, inRangeFrom - 1) + countWeekendDays(inRangeTo + 1, toEpochDay);
+	}
+
+	// runs of non-work days are at most a holiday long, so these scans stay short
+	public long nextWorkDay(long fromEpochDay, long toEpochDay) {
+		long epochDay = fromEpochDay;
+		while (epochDay <= toEpochDay && isNonWorkDay(epochDay)) {
+			epochDay++;
+		}
+		return epochDay;
+	}
+
+	public long previousWorkDay(long toEpochDay, long fromEpochDay) {
+		long epochDay = toEpochDay;
+		while (epochDay >= fromEpochDay && isNonWorkDay(epochDay)) {
+			epochDay--;
+		}
+		return epochDay;
+	}
+
+	private static boolean isWeekend(long epochDay) {
+		return Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK_SHIFT, DAYS_PER_WEEK) >= FIRST_WEEKEND_DAY;
+	}
+
+	private static long countWeekendDays(long fromEpochDay, long toEpochDay) {
+		if (toEpochDay < fromEpochDay) {
+			return 0;
+		}
+		return countWeekendDaysBefore(toEpochDay + 1) - countWeekendDaysBefore(fromEpochDay);
+	}
+
+	private static long countWeekendDaysBefore(long epochDay) {
+		long shifted = epochDay + EPOCH_DAY_OF_WEEK_SHIFT;
+		long weeks = Math.floorDiv(shifted, DAYS_PER_WEEK);
+		long remainder = Math.floorMod(shifted, DAYS_PER_WEEK);
+		return weeks * 2 + Math.max(0, remainder - FIRST_WEEKEND_DAY);
+	}
+
+}
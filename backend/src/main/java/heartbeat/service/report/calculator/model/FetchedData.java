@@ -1,5 +1,6 @@
 package heartbeat.service.report.calculator.model;
 
+import heartbeat.client.dto.codebase.github.LeadTime;
 import heartbeat.client.dto.codebase.github.PipelineLeadTime;
 import heartbeat.client.dto.codebase.github.SourceControlLeadTime;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
@@ -7,8 +8,10 @@ import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
 import heartbeat.controller.board.dto.response.CardCollection;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import lombok.Data;
 import lombok.Builder;
@@ -58,6 +61,31 @@ public class FetchedData {
 			this.buildInfosList.add(Map.entry(key, buildKiteBuildInfos));
 		}
 
+		public Map<String, List<BuildKiteBuildInfo>> indexBuildInfosByPipelineId() {
+			Map<String, List<BuildKiteBuildInfo>> buildInfosByPipelineId = new HashMap<>();
+			if (buildInfosList != null) {
+				buildInfosList.forEach(entry -> buildInfosByPipelineId.putIfAbsent(entry.getKey(), entry.getValue()));
+			}
+			return buildInfosByPipelineId;
+		}
+
+		public Map<String, Map<String, LeadTime>> indexLeadTimesByPipelineNameAndCommitId() {
+			Map<String, Map<String, LeadTime>> leadTimesByPipelineName = new HashMap<>();
+			if (pipelineLeadTimes == null) {
+				return leadTimesByPipelineName;
+			}
+			for (PipelineLeadTime pipelineLeadTime : pipelineLeadTimes) {
+				Map<String, LeadTime> leadTimesByCommitId = leadTimesByPipelineName
+					.computeIfAbsent(pipelineLeadTime.getPipelineName(), pipelineName -> new HashMap<>());
+				Optional.ofNullable(pipelineLeadTime.getLeadTimes())
+					.orElse(List.of())
+					.stream()
+					.filter(leadTime -> leadTime.getCommitId() != null)
+					.forEach(leadTime -> leadTimesByCommitId.putIfAbsent(leadTime.getCommitId(), leadTime));
+			}
+			return leadTimesByPipelineName;
+		}
+
 	}
 
 	@Data
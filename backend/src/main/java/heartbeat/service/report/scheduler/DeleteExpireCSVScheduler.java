@@ -1,9 +1,14 @@
 package heartbeat.service.report.scheduler;
 
+import heartbeat.handler.ReportProgressRegistry;
+import heartbeat.repository.BoardSnapshotRepository;
 import heartbeat.repository.FileType;
 import heartbeat.repository.FileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -16,18 +21,48 @@ public class DeleteExpireCSVScheduler {
 
 	public static final int DELETE_INTERVAL_IN_MINUTES = 5;
 
+	public static final String SWEEP_TIMER = "heartbeat.expiry.sweep";
+
+	public static final String SWEEP_REMOVED_COUNTER = "heartbeat.expiry.sweep.removed";
+
 	private final FileRepository fileRepository;
 
+	private final BoardSnapshotRepository boardSnapshotRepository;
+
+	private final ReportProgressRegistry reportProgressRegistry;
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${heartbeat.expiry.fullScanIntervalHours:24}")
+	private long fullScanIntervalHours;
+
+	private long nextFullScanTimeStamp;
+
 	@Scheduled(fixedRate = DELETE_INTERVAL_IN_MINUTES, timeUnit = TimeUnit.MINUTES)
 	public void triggerBatchDelete() {
 		long currentTimeStamp = System.currentTimeMillis();
 		log.info("Start to delete expired files, currentTimeStamp: {}, expired days:{}", currentTimeStamp,
 				fileRepository.expiredDays);
-		fileRepository.removeExpiredFiles(FileType.CSV, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.REPORT, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.ERROR, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.METRICS_DATA_COMPLETED, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.CONFIGS, currentTimeStamp);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		boolean fullScan = currentTimeStamp >= nextFullScanTimeStamp;
+		String mode = fullScan ? "full" : "index";
+		if (!fullScan) {
+			int removedCount = fileRepository.removeExpiredFilesByIndex(currentTimeStamp);
+			meterRegistry.counter(SWEEP_REMOVED_COUNTER, "mode", mode).increment(removedCount);
+		}
+		else {
+			// a full scan at start and then once per interval finds what the index misses: files written before it
+			// existed or lost from it, and temporary files left behind by an interrupted write
+			fileRepository.removeExpiredFiles(FileType.CSV, currentTimeStamp);
+			fileRepository.removeExpiredFiles(FileType.REPORT, currentTimeStamp);
+			fileRepository.removeExpiredFiles(FileType.ERROR, currentTimeStamp);
+			fileRepository.removeExpiredFiles(FileType.METRICS_DATA_COMPLETED, currentTimeStamp);
+			fileRepository.removeExpiredFiles(FileType.CONFIGS, currentTimeStamp);
+			nextFullScanTimeStamp = currentTimeStamp + TimeUnit.HOURS.toMillis(fullScanIntervalHours);
+		}
+		boardSnapshotRepository.removeExpiredSnapshots(currentTimeStamp);
+		reportProgressRegistry.removeExpired(currentTimeStamp);
+		sample.stop(meterRegistry.timer(SWEEP_TIMER, "mode", mode));
 		log.info("Successfully delete expired files, currentTimeStamp: {}, expired days:{}", currentTimeStamp,
 				fileRepository.expiredDays);
 	}
@@ -0,0 +1,190 @@
+package heartbeat.service.source.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import heartbeat.client.GitHubFeignClient;
+import heartbeat.client.dto.codebase.github.Author;
+import heartbeat.client.dto.codebase.github.Commit;
+import heartbeat.client.dto.codebase.github.CommitInfo;
+import heartbeat.client.dto.codebase.github.Committer;
+import heartbeat.client.dto.codebase.github.PullRequestInfo;
+import heartbeat.exception.InternalServerErrorException;
+import heartbeat.service.source.github.model.CommitPullRequests;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+@Log4j2
+@Component
+public class GitHubGraphQLFetcher {
+
+	private static final int MAX_BATCH_SIZE = 100;
+
+	private static final String COMMIT_ALIAS = "c";
+
+	private static final String PULL_REQUEST_ALIAS = "p";
+
+	private static final String COMMIT_FIELDS = "oid committedDate message committer { name email } "
+			+ "author { name email date }";
+
+	private static final String FIRST_COMMIT = "commits(first: 1) { nodes { commit { " + COMMIT_FIELDS + " } } }";
+
+	private static final String COMMIT_PULL_REQUESTS = "... on Commit { " + COMMIT_FIELDS
+			+ " associatedPullRequests(first: 10) { nodes { number url createdAt mergedAt mergeCommit { oid } "
+			+ "author { login } " + FIRST_COMMIT + " } } }";
+
+	private final GitHubFeignClient gitHubFeignClient;
+
+	private final boolean enabled;
+
+	private final int batchSize;
+
+	public GitHubGraphQLFetcher(GitHubFeignClient gitHubFeignClient,
+			@Value("${heartbeat.github.graphql.enabled:false}") boolean enabled,
+			@Value("${heartbeat.github.graphql.batchSize:50}") int batchSize) {
+		this.gitHubFeignClient = gitHubFeignClient;
+		this.enabled = enabled;
+		this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, batchSize));
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public <T> List<List<T>> partition(List<T> values) {
+		List<List<T>> batches = new ArrayList<>();
+		for (int from = 0; from < values.size(); from += batchSize) {
+			batches.add(values.subList(from, Math.min(values.size(), from + batchSize)));
+		}
+		return batches;
+	}
+
+	// one round trip resolves the pull requests, merge sha, first commit and committer date of every commit
+	public Map<String, CommitPullRequests> fetchCommitPullRequests(String repository, List<String> commitIds,
+			String token) {
+		List<String> distinctCommitIds = commitIds.stream().distinct().toList();
+		log.info("Start to query GitHub GraphQL for commits, repository: {}, commits: {}", repository,
+				distinctCommitIds.size());
+		JsonNode found = queryRepository(repository, token, COMMIT_ALIAS, "GitObjectID", distinctCommitIds,
+				alias -> String.format("%s: object(oid: $%s) { %s }", alias, alias, COMMIT_PULL_REQUESTS));
+		Map<String, CommitPullRequests> commitPullRequests = new HashMap<>();
+		for (int index = 0; index < distinctCommitIds.size(); index++) {
+			JsonNode commit = found.path(COMMIT_ALIAS + index);
+			if (commit.isObject()) {
+				commitPullRequests.put(distinctCommitIds.get(index), toCommitPullRequests(commit));
+			}
+		}
+		log.info("Successfully query GitHub GraphQL for commits, repository: {}, found: {}", repository,
+				commitPullRequests.size());
+		return commitPullRequests;
+	}
+
+	public Map<Integer, CommitInfo> fetchFirstCommits(String repository, List<Integer> pullNumbers, String token) {
+		Map<Integer, CommitInfo> firstCommits = new HashMap<>();
+		for (List<Integer> batch : partition(pullNumbers.stream().distinct().toList())) {
+			log.info("Start to query GitHub GraphQL for first commits, repository: {}, pull requests: {}",
+					repository, batch.size());
+			JsonNode found = queryRepository(repository, token, PULL_REQUEST_ALIAS, "Int", batch,
+					alias -> String.format("%s: pullRequest(number: $%s) { %s }", alias, alias, FIRST_COMMIT));
+			for (int index = 0; index < batch.size(); index++) {
+				JsonNode firstCommit = firstCommit(found.path(PULL_REQUEST_ALIAS + index));
+				if (firstCommit.isObject()) {
+					firstCommits.put(batch.get(index), toCommitInfo(firstCommit));
+				}
+			}
+		}
+		return firstCommits;
+	}
+
+	private JsonNode queryRepository(String repository, String token, String aliasPrefix, String type,
+			List<?> values, UnaryOperator<String> selection) {
+		Map<String, Object> variables = new HashMap<>();
+		variables.put("owner", StringUtils.substringBefore(repository, "/"));
+		variables.put("name", StringUtils.substringAfter(repository, "/"));
+		StringBuilder declarations = new StringBuilder("$owner: String!, $name: String!");
+		StringBuilder selections = new StringBuilder();
+		for (int index = 0; index < values.size(); index++) {
+			String alias = aliasPrefix + index;
+			variables.put(alias, values.get(index));
+			declarations.append(", $").append(alias).append(": ").append(type).append('!');
+			selections.append(selection.apply(alias)).append(' ');
+		}
+		String query = String.format("query(%s) { repository(owner: $owner, name: $name) { %s} }", declarations,
+				selections);
+		JsonNode response = gitHubFeignClient.queryGraphQL(token, Map.of("query", query, "variables", variables));
+		JsonNode errors = response.path("errors");
+		// objects GitHub cannot resolve come back as null next to a NOT_FOUND error, like a 404 on the REST api
+		if (!errors.isEmpty()) {
+			log.warn("GitHub GraphQL returned partial data, repository: {}, errors: {}", repository, errors);
+		}
+		if (!response.path("data").isObject()) {
+			throw new InternalServerErrorException(
+					String.format("Failed to query GitHub GraphQL, cause is %s", errors));
+		}
+		return response.path("data").path("repository");
+	}
+
+	private static CommitPullRequests toCommitPullRequests(JsonNode commit) {
+		List<PullRequestInfo> pullRequests = new ArrayList<>();
+		Map<Integer, CommitInfo> firstCommits = new HashMap<>();
+		for (JsonNode pullRequest : commit.path("associatedPullRequests").path("nodes")) {
+			PullRequestInfo pullRequestInfo = PullRequestInfo.builder()
+				.number(pullRequest.path("number").asInt())
+				.url(text(pullRequest.path("url")))
+				.createdAt(text(pullRequest.path("createdAt")))
+				.mergedAt(text(pullRequest.path("mergedAt")))
+				.mergeCommitSha(text(pullRequest.path("mergeCommit").path("oid")))
+				.user(PullRequestInfo.PullRequestUser.builder()
+					.login(text(pullRequest.path("author").path("login")))
+					.build())
+				.build();
+			pullRequests.add(pullRequestInfo);
+			JsonNode firstCommit = firstCommit(pullRequest);
+			if (firstCommit.isObject()) {
+				firstCommits.put(pullRequestInfo.getNumber(), toCommitInfo(firstCommit));
+			}
+		}
+		return CommitPullRequests.builder()
+			.commitInfo(toCommitInfo(commit))
+			.pullRequests(pullRequests)
+			.firstCommits(firstCommits)
+			.build();
+	}
+
+	private static JsonNode firstCommit(JsonNode pullRequest) {
+		return pullRequest.path("commits").path("nodes").path(0).path("commit");
+	}
+
+	// committedDate is used as the committer date because GraphQL keeps the committer's offset on GitActor.date
+	private static CommitInfo toCommitInfo(JsonNode commit) {
+		JsonNode author = commit.path("author");
+		JsonNode committer = commit.path("committer");
+		return CommitInfo.builder()
+			.commitId(text(commit.path("oid")))
+			.commit(Commit.builder()
+				.author(Author.builder()
+					.name(text(author.path("name")))
+					.email(text(author.path("email")))
+					.date(text(author.path("date")))
+					.build())
+				.committer(Committer.builder()
+					.name(text(committer.path("name")))
+					.email(text(committer.path("email")))
+					.date(text(commit.path("committedDate")))
+					.build())
+				.message(text(commit.path("message")))
+				.build())
+			.build();
+	}
+
+	private static String text(JsonNode node) {
+		return node.isValueNode() && !node.isNull() ? node.asText() : null;
+	}
+
+}
@@ -1,6 +1,7 @@
 package heartbeat.service.source.github;
 
 import heartbeat.client.GitHubFeignClient;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.codebase.github.BranchesInfoDTO;
 import heartbeat.client.dto.codebase.github.CommitInfo;
 import heartbeat.client.dto.codebase.github.LeadTime;
@@ -25,10 +26,12 @@ import heartbeat.exception.InternalServerErrorException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.PermissionDenyException;
 import heartbeat.exception.UnauthorizedException;
+import heartbeat.repository.GitHubMetadataRepository;
 import heartbeat.service.pipeline.buildkite.CachePageService;
 import heartbeat.service.report.WorkDay;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.report.model.WorkInfo;
+import heartbeat.service.source.github.model.CommitPullRequests;
 import heartbeat.service.source.github.model.PipelineInfoOfRepository;
 import heartbeat.service.source.github.model.PullRequestFinishedInfo;
 import heartbeat.util.GithubUtil;
@@ -36,7 +39,6 @@ import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -44,13 +46,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.IntStream;
 
+import static heartbeat.client.component.UpstreamExecutor.Upstream.GITHUB;
 import static java.util.Optional.ofNullable;
 
 @Service
@@ -70,13 +77,17 @@ public class GitHubService {
 
 	private final CachePageService cachePageService;
 
-	private final ThreadPoolTaskExecutor customTaskExecutor;
+	private final UpstreamExecutor upstreamExecutor;
 
 	private final WorkDay workDay;
 
+	private final GitHubGraphQLFetcher gitHubGraphQLFetcher;
+
+	private final GitHubMetadataRepository gitHubMetadataRepository;
+
 	@PreDestroy
 	public void shutdownExecutor() {
-		customTaskExecutor.shutdown();
+		upstreamExecutor.shutdown();
 	}
 
 	public void verifyToken(String githubToken) {
@@ -173,21 +184,140 @@ public class GitHubService {
 
 	private List<CompletableFuture<LeadTime>> getLeadTimeFutures(String realToken, PipelineInfoOfRepository item,
 			GenerateReportRequest request) {
+		if (gitHubGraphQLFetcher.isEnabled()) {
+			return getLeadTimeFuturesByGraphQL(realToken, item, request);
+		}
+		String repository = item.getRepository();
 		return item.getPassedDeploy().stream().map(deployInfo -> {
-			CompletableFuture<List<PullRequestInfo>> pullRequestInfoFuture = CompletableFuture.supplyAsync(() -> {
-				try {
-					return gitHubFeignClient.getPullRequestListInfo(item.getRepository(), deployInfo.getCommitId(),
-							realToken);
-				}
-				catch (NotFoundException e) {
-					return Collections.emptyList();
-				}
-			});
-			return pullRequestInfoFuture.thenApply(pullRequestInfos -> getLeadTimeByPullRequest(realToken, item,
-					deployInfo, pullRequestInfos, request));
+			String commitId = deployInfo.getCommitId();
+			CompletableFuture<List<PullRequestInfo>> pullRequestInfoFuture = gitHubMetadataRepository
+				.findCommitPullRequests(repository, commitId)
+				.map(CompletableFuture::completedFuture)
+				.orElseGet(() -> upstreamExecutor.supplyAsync(GITHUB,
+						() -> getPullRequestListInfo(repository, commitId, realToken)));
+			return pullRequestInfoFuture.thenApply(pullRequestInfos -> getLeadTimeByPullRequest(item, deployInfo,
+					getDeployCommitInfo(item, deployInfo, realToken), pullRequestInfos,
+					mergedPull -> getPullRequestFirstCommit(repository, mergedPull, realToken), request));
 		}).filter(Objects::nonNull).toList();
 	}
 
+	private List<PullRequestInfo> getPullRequestListInfo(String repository, String commitId, String realToken) {
+		try {
+			List<PullRequestInfo> pullRequestInfos = gitHubFeignClient.getPullRequestListInfo(repository, commitId,
+					realToken);
+			if (isMergedAs(pullRequestInfos, commitId)) {
+				gitHubMetadataRepository.saveCommitPullRequests(repository, commitId, pullRequestInfos);
+			}
+			return pullRequestInfos;
+		}
+		catch (NotFoundException e) {
+			return Collections.emptyList();
+		}
+	}
+
+	// only merged pull requests are passed in, their commits can no longer change
+	private CommitInfo getPullRequestFirstCommit(String repository, PullRequestInfo pullRequestInfo,
+			String realToken) {
+		Optional<CommitInfo> storedFirstCommit = gitHubMetadataRepository.findPullRequestFirstCommit(repository,
+				pullRequestInfo.getNumber());
+		if (storedFirstCommit.isPresent()) {
+			return storedFirstCommit.get();
+		}
+		CommitInfo firstCommit = upstreamExecutor
+			.call(GITHUB,
+					() -> gitHubFeignClient.getPullRequestCommitInfo(repository,
+							pullRequestInfo.getNumber().toString(), realToken))
+			.get(0);
+		gitHubMetadataRepository.savePullRequestFirstCommit(repository, pullRequestInfo.getNumber(), firstCommit);
+		return firstCommit;
+	}
+
+	private List<CompletableFuture<LeadTime>> getLeadTimeFuturesByGraphQL(String realToken,
+			PipelineInfoOfRepository item, GenerateReportRequest request) {
+		String repository = item.getRepository();
+		Map<String, CommitPullRequests> storedCommitPullRequests = new HashMap<>();
+		List<String> missingCommitIds = new ArrayList<>();
+		item.getPassedDeploy()
+			.stream()
+			.map(DeployInfo::getCommitId)
+			.distinct()
+			.forEach(commitId -> findStoredCommitPullRequests(repository, commitId).ifPresentOrElse(
+					commitPullRequests -> storedCommitPullRequests.put(commitId, commitPullRequests),
+					() -> missingCommitIds.add(commitId)));
+
+		Map<String, CompletableFuture<Map<String, CommitPullRequests>>> commitPullRequestsFutures = new HashMap<>();
+		for (List<String> commitIds : gitHubGraphQLFetcher.partition(missingCommitIds)) {
+			CompletableFuture<Map<String, CommitPullRequests>> commitPullRequestsFuture = upstreamExecutor
+				.supplyAsync(GITHUB, () -> saveCommitPullRequests(repository,
+						gitHubGraphQLFetcher.fetchCommitPullRequests(repository, commitIds, realToken)));
+			commitIds.forEach(commitId -> commitPullRequestsFutures.put(commitId, commitPullRequestsFuture));
+		}
+		CompletableFuture<Map<String, CommitPullRequests>> storedFuture = CompletableFuture
+			.completedFuture(storedCommitPullRequests);
+
+		return item.getPassedDeploy()
+			.stream()
+			.map(deployInfo -> commitPullRequestsFutures.getOrDefault(deployInfo.getCommitId(), storedFuture)
+				.thenApply(found -> {
+					CommitPullRequests commitPullRequests = found.getOrDefault(deployInfo.getCommitId(),
+							CommitPullRequests.builder().build());
+					return getLeadTimeByPullRequest(item, deployInfo, commitPullRequests.getCommitInfo(),
+							commitPullRequests.getPullRequests(), mergedPull -> commitPullRequests.getFirstCommits()
+								.getOrDefault(mergedPull.getNumber(), new CommitInfo()),
+							request);
+				}))
+			.toList();
+	}
+
+	private Optional<CommitPullRequests> findStoredCommitPullRequests(String repository, String commitId) {
+		Optional<CommitInfo> commitInfo = gitHubMetadataRepository.findCommit(repository, commitId);
+		Optional<List<PullRequestInfo>> pullRequestInfos = gitHubMetadataRepository
+			.findCommitPullRequests(repository, commitId);
+		if (commitInfo.isEmpty() || pullRequestInfos.isEmpty()) {
+			return Optional.empty();
+		}
+		Map<Integer, CommitInfo> firstCommits = new HashMap<>();
+		pullRequestInfos.get()
+			.stream()
+			.filter(pullRequestInfo -> isMergedAs(List.of(pullRequestInfo), commitId))
+			.forEach(pullRequestInfo -> gitHubMetadataRepository
+				.findPullRequestFirstCommit(repository, pullRequestInfo.getNumber())
+				.ifPresent(firstCommit -> firstCommits.put(pullRequestInfo.getNumber(), firstCommit)));
+		if (firstCommits.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(CommitPullRequests.builder()
+			.commitInfo(commitInfo.get())
+			.pullRequests(pullRequestInfos.get())
+			.firstCommits(firstCommits)
+			.build());
+	}
+
+	private Map<String, CommitPullRequests> saveCommitPullRequests(String repository,
+			Map<String, CommitPullRequests> found) {
+		found.forEach((commitId, commitPullRequests) -> {
+			gitHubMetadataRepository.saveCommit(repository, commitId, commitPullRequests.getCommitInfo());
+			List<PullRequestInfo> pullRequestInfos = commitPullRequests.getPullRequests();
+			if (!isMergedAs(pullRequestInfos, commitId)) {
+				return;
+			}
+			gitHubMetadataRepository.saveCommitPullRequests(repository, commitId, pullRequestInfos);
+			pullRequestInfos.stream()
+				.filter(pullRequestInfo -> isMergedAs(List.of(pullRequestInfo), commitId))
+				.map(PullRequestInfo::getNumber)
+				.forEach(pullNumber -> gitHubMetadataRepository.savePullRequestFirstCommit(repository, pullNumber,
+						commitPullRequests.getFirstCommits().get(pullNumber)));
+		});
+		return found;
+	}
+
+	// the pull requests of a commit are final once one of them was merged as that commit
+	private static boolean isMergedAs(List<PullRequestInfo> pullRequestInfos, String commitId) {
+		return pullRequestInfos.stream()
+			.anyMatch(pullRequestInfo -> pullRequestInfo.getMergedAt() != null
+					&& Objects.equals(commitId, pullRequestInfo.getMergeCommitSha()));
+	}
+
 	private List<PipelineInfoOfRepository> getInfoOfRepositories(List<DeployTimes> deployTimes,
 			Map<String, String> repositories) {
 		return deployTimes.stream().map(deployTime -> {
@@ -206,9 +336,10 @@ public class GitHubService {
 		}).toList();
 	}
 
-	private LeadTime getLeadTimeByPullRequest(String realToken, PipelineInfoOfRepository item, DeployInfo deployInfo,
-			List<PullRequestInfo> pullRequestInfos, GenerateReportRequest request) {
-		LeadTime noPrLeadTime = parseNoMergeLeadTime(deployInfo, item, realToken);
+	private LeadTime getLeadTimeByPullRequest(PipelineInfoOfRepository item, DeployInfo deployInfo,
+			CommitInfo deployCommitInfo, List<PullRequestInfo> pullRequestInfos,
+			Function<PullRequestInfo, CommitInfo> firstCommitOf, GenerateReportRequest request) {
+		LeadTime noPrLeadTime = parseNoMergeLeadTime(deployInfo, deployCommitInfo);
 		if (pullRequestInfos.isEmpty()) {
 			return noPrLeadTime;
 		}
@@ -222,29 +353,38 @@ public class GitHubService {
 			return noPrLeadTime;
 		}
 
-		List<CommitInfo> commitInfos = gitHubFeignClient.getPullRequestCommitInfo(item.getRepository(),
-				mergedPull.get().getNumber().toString(), realToken);
-		CommitInfo firstCommitInfo = commitInfos.get(0);
+		CommitInfo firstCommitInfo = firstCommitOf.apply(mergedPull.get());
 		if (!mergedPull.get().getMergeCommitSha().equals(deployInfo.getCommitId())) {
 			return noPrLeadTime;
 		}
 		return mapLeadTimeWithInfo(mergedPull.get(), deployInfo, firstCommitInfo, request);
 	}
 
-	private LeadTime parseNoMergeLeadTime(DeployInfo deployInfo, PipelineInfoOfRepository item, String realToken) {
-		long jobFinishTime = Instant.parse(deployInfo.getJobFinishTime()).toEpochMilli();
-		long jobStartTime = Instant.parse(deployInfo.getJobStartTime()).toEpochMilli();
-		long pipelineCreateTime = Instant.parse(deployInfo.getPipelineCreateTime()).toEpochMilli();
-		long prLeadTime = 0;
-		long firstCommitTime;
-		CommitInfo commitInfo = new CommitInfo();
+	private CommitInfo getDeployCommitInfo(PipelineInfoOfRepository item, DeployInfo deployInfo, String realToken) {
+		Optional<CommitInfo> storedCommitInfo = gitHubMetadataRepository.findCommit(item.getRepository(),
+				deployInfo.getCommitId());
+		if (storedCommitInfo.isPresent()) {
+			return storedCommitInfo.get();
+		}
 		try {
-			commitInfo = gitHubFeignClient.getCommitInfo(item.getRepository(), deployInfo.getCommitId(), realToken);
+			CommitInfo commitInfo = upstreamExecutor.call(GITHUB,
+					() -> gitHubFeignClient.getCommitInfo(item.getRepository(), deployInfo.getCommitId(), realToken));
+			gitHubMetadataRepository.saveCommit(item.getRepository(), deployInfo.getCommitId(), commitInfo);
+			return commitInfo;
 		}
 		catch (Exception e) {
 			log.error("Failed to get commit info_repoId: {},commitId: {}, error: {}", item.getRepository(),
 					deployInfo.getCommitId(), e.getMessage());
+			return new CommitInfo();
 		}
+	}
+
+	private LeadTime parseNoMergeLeadTime(DeployInfo deployInfo, CommitInfo commitInfo) {
+		long jobFinishTime = Instant.parse(deployInfo.getJobFinishTime()).toEpochMilli();
+		long jobStartTime = Instant.parse(deployInfo.getJobStartTime()).toEpochMilli();
+		long pipelineCreateTime = Instant.parse(deployInfo.getPipelineCreateTime()).toEpochMilli();
+		long prLeadTime = 0;
+		long firstCommitTime;
 
 		Long noPRCommitTime = null;
 		if (commitInfo.getCommit() != null && commitInfo.getCommit().getCommitter() != null
@@ -392,10 +532,10 @@ public class GitHubService {
 		}
 		if (totalPage > 1) {
 			for (int i = initPage + 1; i < totalPage + 1; i = i + BATCH_SIZE) {
-				List<OrganizationsInfoDTO> organizationNamesOtherFirstPageList = IntStream
-					.range(i, Math.min(i + BATCH_SIZE, totalPage + 1))
-					.parallel()
-					.mapToObj(page -> cachePageService.getGitHubOrganizations(realToken, page, PER_PAGE).getPageInfo())
+				List<OrganizationsInfoDTO> organizationNamesOtherFirstPageList = fetchPages(i,
+						Math.min(i + BATCH_SIZE, totalPage + 1),
+						page -> cachePageService.getGitHubOrganizations(realToken, page, PER_PAGE).getPageInfo())
+					.stream()
 					.flatMap(Collection::stream)
 					.toList();
 				List<String> orgNamesOtherFirstPage = organizationNamesOtherFirstPageList.stream()
@@ -427,11 +567,10 @@ public class GitHubService {
 		}
 		if (totalPage > 1) {
 			for (int i = initPage + 1; i < totalPage + 1; i = i + BATCH_SIZE) {
-				List<ReposInfoDTO> repoNamesOtherFirstPageList = IntStream
-					.range(i, Math.min(i + BATCH_SIZE, totalPage + 1))
-					.parallel()
-					.mapToObj(page -> cachePageService.getGitHubRepos(realToken, organization, page, PER_PAGE)
-						.getPageInfo())
+				List<ReposInfoDTO> repoNamesOtherFirstPageList = fetchPages(i, Math.min(i + BATCH_SIZE, totalPage + 1),
+						page -> cachePageService.getGitHubRepos(realToken, organization, page, PER_PAGE)
+							.getPageInfo())
+					.stream()
 					.flatMap(Collection::stream)
 					.filter(it -> Instant.parse(it.getCreatedAt()).isBefore(endTimeInstant))
 					.toList();
@@ -458,11 +597,11 @@ public class GitHubService {
 		}
 		if (totalPage > 1) {
 			for (int i = initPage + 1; i < totalPage + 1; i = i + BATCH_SIZE) {
-				List<BranchesInfoDTO> branchNamesOtherFirstPageList = IntStream
-					.range(i, Math.min(i + BATCH_SIZE, totalPage + 1))
-					.parallel()
-					.mapToObj(page -> cachePageService.getGitHubBranches(realToken, organization, repo, page, PER_PAGE)
-						.getPageInfo())
+				List<BranchesInfoDTO> branchNamesOtherFirstPageList = fetchPages(i,
+						Math.min(i + BATCH_SIZE, totalPage + 1),
+						page -> cachePageService.getGitHubBranches(realToken, organization, repo, page, PER_PAGE)
+							.getPageInfo())
+					.stream()
 					.flatMap(Collection::stream)
 					.toList();
 				List<String> branchNamesOtherFirstPage = branchNamesOtherFirstPageList.stream()
@@ -475,6 +614,23 @@ public class GitHubService {
 		return branchNames;
 	}
 
+	// pages of a batch share the github permits with every other outbound call instead of the common pool
+	private <T> List<T> fetchPages(int fromPage, int toPage, IntFunction<T> fetchPage) {
+		List<CompletableFuture<T>> pages = IntStream.range(fromPage, toPage)
+			.mapToObj(page -> upstreamExecutor.supplyAsync(GITHUB, () -> fetchPage.apply(page)))
+			.toList();
+		try {
+			return pages.stream().map(CompletableFuture::join).toList();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof BaseException baseException) {
+				throw baseException;
+			}
+			throw new InternalServerErrorException(
+					String.format("Failed to get github pages, cause is %s", e.getCause().getMessage()));
+		}
+	}
+
 	public List<String> getAllCrews(String token, String organization, String repo, String branch, long startTime,
 			long endTime) {
 		log.info("Start to get all crews, organization: {}, repo: {}, branch: {}, startTime: {}, endTime: {}",
@@ -538,8 +694,8 @@ public class GitHubService {
 				String repo = codeBase.getRepo();
 				List<String> branches = codeBase.getBranches();
 				return branches.stream().map(branch -> {
-					List<LeadTime> leadTimes = getValidPullRequestInfo(realToken, organization, repo, branch, startTime,
-							endTime)
+					List<PullRequestInfo> pullRequestInfos = getValidPullRequestInfo(realToken, organization, repo,
+							branch, startTime, endTime)
 						.stream()
 						.filter(pullRequestInfo -> {
 							if (crews.isEmpty()) {
@@ -548,19 +704,11 @@ public class GitHubService {
 							return crews.stream()
 								.anyMatch(crew -> Objects.equals(pullRequestInfo.getUser().getLogin(), crew));
 						})
-						.map(pullRequestInfo -> {
-							String pullNumber = pullRequestInfo.getNumber().toString();
-							log.info("Start to get first code commit, organization: {}, repo: {}, pull number: {}",
-									organization, repo, pullNumber);
-							CommitInfo firstCodeCommit = gitHubFeignClient
-								.getPullRequestCommitInfo(String.format("%s/%s", organization, repo), pullNumber,
-										realToken)
-								.get(0);
-							log.info(
-									"Successfully to get first code commit, organization: {}, repo: {}, pull number: {}",
-									organization, repo, pullNumber);
-							return Pair.of(pullRequestInfo, firstCodeCommit);
-						})
+						.toList();
+					Function<PullRequestInfo, CommitInfo> firstCodeCommitOf = getFirstCodeCommitLookup(realToken,
+							organization, repo, pullRequestInfos);
+					List<LeadTime> leadTimes = pullRequestInfos.stream()
+						.map(pullRequestInfo -> Pair.of(pullRequestInfo, firstCodeCommitOf.apply(pullRequestInfo)))
 						.map(pair -> mapLeadTimeWithInfo(pair.getLeft(), new DeployInfo(), pair.getRight(), request))
 						.toList();
 					return SourceControlLeadTime.builder()
@@ -578,6 +726,34 @@ public class GitHubService {
 		return FetchedData.RepoData.builder().sourceControlLeadTimes(sourceControlLeadTimes).build();
 	}
 
+	private Function<PullRequestInfo, CommitInfo> getFirstCodeCommitLookup(String realToken, String organization,
+			String repo, List<PullRequestInfo> pullRequestInfos) {
+		String repository = String.format("%s/%s", organization, repo);
+		if (gitHubGraphQLFetcher.isEnabled()) {
+			Map<Integer, CommitInfo> firstCodeCommits = new HashMap<>();
+			List<Integer> missingPullNumbers = new ArrayList<>();
+			pullRequestInfos.forEach(pullRequestInfo -> gitHubMetadataRepository
+				.findPullRequestFirstCommit(repository, pullRequestInfo.getNumber())
+				.ifPresentOrElse(firstCommit -> firstCodeCommits.put(pullRequestInfo.getNumber(), firstCommit),
+						() -> missingPullNumbers.add(pullRequestInfo.getNumber())));
+			gitHubGraphQLFetcher.fetchFirstCommits(repository, missingPullNumbers, realToken)
+				.forEach((pullNumber, firstCommit) -> {
+					gitHubMetadataRepository.savePullRequestFirstCommit(repository, pullNumber, firstCommit);
+					firstCodeCommits.put(pullNumber, firstCommit);
+				});
+			return pullRequestInfo -> firstCodeCommits.getOrDefault(pullRequestInfo.getNumber(), new CommitInfo());
+		}
+		return pullRequestInfo -> {
+			String pullNumber = pullRequestInfo.getNumber().toString();
+			log.info("Start to get first code commit, organization: {}, repo: {}, pull number: {}", organization,
+					repo, pullNumber);
+			CommitInfo firstCodeCommit = getPullRequestFirstCommit(repository, pullRequestInfo, realToken);
+			log.info("Successfully to get first code commit, organization: {}, repo: {}, pull number: {}",
+					organization, repo, pullNumber);
+			return firstCodeCommit;
+		};
+	}
+
 	private List<PullRequestInfo> getValidPullRequestInfo(String realToken, String organization, String repo,
 			String branch, long startTime, long endTime) {
 		log.info("Start to get all pull request, organization: {}, repo: {}, branch: {}, startTime: {}, endTime: {}",
@@ -597,12 +773,12 @@ public class GitHubService {
 			boolean isGetNextPage = pullRequestFinishedInfo.isGetNextPage();
 			if (totalPage > 1 && isGetNextPage) {
 				for (int i = initPage + 1; i < totalPage + 1; i = i + BATCH_SIZE) {
-					List<PullRequestFinishedInfo> pullRequestFinishedInfoList = IntStream
-						.range(i, Math.min(i + BATCH_SIZE, totalPage + 1))
-						.parallel()
-						.mapToObj(page -> cachePageService
-							.getGitHubPullRequest(realToken, organization, repo, branch, page, PER_PAGE)
-							.getPageInfo())
+					List<PullRequestFinishedInfo> pullRequestFinishedInfoList = fetchPages(i,
+							Math.min(i + BATCH_SIZE, totalPage + 1),
+							page -> cachePageService
+								.getGitHubPullRequest(realToken, organization, repo, branch, page, PER_PAGE)
+								.getPageInfo())
+						.stream()
 						.map(it -> filterPullRequestByTimeRange(it, startTime, endTime))
 						.toList();
 					pullRequestFinishedInfoList.forEach(it -> pullRequestInfoList.addAll(it.getPullRequestInfoList()));
@@ -620,7 +796,7 @@ public class GitHubService {
 	}
 
 	public List<PipelineCSVInfo> generateCSVForSourceControl(FetchedData.RepoData repoData, List<CodeBase> codeBases) {
-		return codeBases.stream().parallel().map(codeBase -> {
+		return codeBases.stream().map(codeBase -> {
 			String organization = codeBase.getOrganization();
 			String repo = codeBase.getRepo();
 			return repoData.getSourceControlLeadTimes()
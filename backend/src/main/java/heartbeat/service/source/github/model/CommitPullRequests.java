@@ -0,0 +1,25 @@
+package heartbeat.service.source.github.model;
+
+import heartbeat.client.dto.codebase.github.CommitInfo;
+import heartbeat.client.dto.codebase.github.PullRequestInfo;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@Data
+public class CommitPullRequests {
+
+	@Builder.Default
+	private CommitInfo commitInfo = new CommitInfo();
+
+	@Builder.Default
+	private List<PullRequestInfo> pullRequests = List.of();
+
+	// first commit of each pull request, keyed by pull request number
+	@Builder.Default
+	private Map<Integer, CommitInfo> firstCommits = Map.of();
+
+}
@@ -85,26 +85,35 @@ public class BoardUtil {
 			List<StatusTimeStamp> columnTimeStamp, CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
 		List<CycleTimeInfo> cycleTimeInfos = new ArrayList<>();
 		double totalFlagTimeInDays = calculateTotalFlagCycleTime(flagTimeStamp, calendarTypeEnum, timezone);
-		double totalFlagAndRealDoneOverlapTime = calculateTotalFlagAndRealDoneOverlapTime(realDoneStatus, flagTimeStamp,
-				columnTimeStamp, calendarTypeEnum, timezone);
-		for (StatusTimeStamp columnTimeStampItem : columnTimeStamp) {
+		double[] overlapTimeInDays = calculateOverlapTimeByColumn(columnTimeStamp, flagTimeStamp, calendarTypeEnum,
+				timezone);
+		boolean[] isRealDone = new boolean[columnTimeStamp.size()];
+		double totalFlagAndRealDoneOverlapTime = 0.0;
+		boolean isBlockColumnExisted = false;
+		for (int i = 0; i < columnTimeStamp.size(); i++) {
+			String status = columnTimeStamp.get(i).getStatus();
+			isRealDone[i] = realDoneStatus.contains(status.toUpperCase());
+			if (isRealDone[i]) {
+				totalFlagAndRealDoneOverlapTime += overlapTimeInDays[i];
+			}
+			isBlockColumnExisted |= Objects.equals(status, CardStepsEnum.BLOCK.getValue().toUpperCase());
+		}
+
+		for (int i = 0; i < columnTimeStamp.size(); i++) {
+			StatusTimeStamp columnTimeStampItem = columnTimeStamp.get(i);
 			double originColumnTimeInDays = workDay.calculateWorkDaysToTwoScale(columnTimeStampItem.getStartTimestamp(),
 					columnTimeStampItem.getEndTimestamp(), calendarTypeEnum, timezone);
 			double realColumnTimeInDays;
 
-			if (realDoneStatus.contains(columnTimeStampItem.getStatus().toUpperCase())) {
+			if (isRealDone[i]) {
 				realColumnTimeInDays = originColumnTimeInDays;
 			}
+			else if (Objects.equals(columnTimeStampItem.getStatus(), CardStepsEnum.BLOCK.getValue().toUpperCase())) {
+				realColumnTimeInDays = originColumnTimeInDays + totalFlagTimeInDays - overlapTimeInDays[i]
+						- totalFlagAndRealDoneOverlapTime;
+			}
 			else {
-				double totalOverlapTimeInDays = calculateTotalOverlapTime(columnTimeStampItem, flagTimeStamp,
-						calendarTypeEnum, timezone);
-				if (Objects.equals(columnTimeStampItem.getStatus(), CardStepsEnum.BLOCK.getValue().toUpperCase())) {
-					realColumnTimeInDays = originColumnTimeInDays + totalFlagTimeInDays - totalOverlapTimeInDays
-							- totalFlagAndRealDoneOverlapTime;
-				}
-				else {
-					realColumnTimeInDays = originColumnTimeInDays - totalOverlapTimeInDays;
-				}
+				realColumnTimeInDays = originColumnTimeInDays - overlapTimeInDays[i];
 			}
 
 			cycleTimeInfos.add(CycleTimeInfo.builder()
@@ -112,7 +121,7 @@ public class BoardUtil {
 				.column(columnTimeStampItem.getStatus().toUpperCase())
 				.build());
 		}
-		if (!isBlockColumnExisted(columnTimeStamp) && totalFlagTimeInDays > 0) {
+		if (!isBlockColumnExisted && totalFlagTimeInDays > 0) {
 			double blockDays = totalFlagTimeInDays - totalFlagAndRealDoneOverlapTime;
 			cycleTimeInfos.add(
 					CycleTimeInfo.builder().day(blockDays).column(CardStepsEnum.FLAG.getValue().toUpperCase()).build());
@@ -121,26 +130,28 @@ public class BoardUtil {
 		return cycleTimeInfos;
 	}
 
-	private boolean isBlockColumnExisted(List<StatusTimeStamp> columnTimeStamp) {
-		for (StatusTimeStamp columnTimeStampItem : columnTimeStamp) {
-			if (Objects.equals(columnTimeStampItem.getStatus(), CardStepsEnum.BLOCK.getValue().toUpperCase())) {
-				return true;
+	// both lists come from one sorted change log, so starts only move forward and a flag that ended before
+	// a column started cannot overlap any later column either
+	private double[] calculateOverlapTimeByColumn(List<StatusTimeStamp> columnTimeStamp,
+			List<StatusTimeStamp> flagTimeStamp, CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
+		double[] overlapTimeInDays = new double[columnTimeStamp.size()];
+		int firstFlag = 0;
+		for (int i = 0; i < columnTimeStamp.size(); i++) {
+			StatusTimeStamp columnTimeStampItem = columnTimeStamp.get(i);
+			while (firstFlag < flagTimeStamp.size()
+					&& flagTimeStamp.get(firstFlag).getEndTimestamp() <= columnTimeStampItem.getStartTimestamp()) {
+				firstFlag++;
 			}
-		}
-		return false;
-	}
-
-	private double calculateTotalFlagAndRealDoneOverlapTime(List<String> realDoneStatus,
-			List<StatusTimeStamp> flagTimeStamp, List<StatusTimeStamp> columnTimeStamp,
-			CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
-		double totalFlagAndRealDoneColumnOverlapTime = 0.0;
-		for (StatusTimeStamp columnTimeStampItem : columnTimeStamp) {
-			if (realDoneStatus.contains(columnTimeStampItem.getStatus().toUpperCase())) {
-				totalFlagAndRealDoneColumnOverlapTime += calculateTotalOverlapTime(columnTimeStampItem, flagTimeStamp,
-						calendarTypeEnum, timezone);
+			for (int j = firstFlag; j < flagTimeStamp.size()
+					&& flagTimeStamp.get(j).getStartTimestamp() < columnTimeStampItem.getEndTimestamp(); j++) {
+				StatusTimeStamp overlapTime = calculateOverlapTime(columnTimeStampItem, flagTimeStamp.get(j));
+				if (overlapTime.getStartTimestamp() < overlapTime.getEndTimestamp()) {
+					overlapTimeInDays[i] += workDay.calculateWorkDaysToTwoScale(overlapTime.getStartTimestamp(),
+							overlapTime.getEndTimestamp(), calendarTypeEnum, timezone);
+				}
 			}
 		}
-		return totalFlagAndRealDoneColumnOverlapTime;
+		return overlapTimeInDays;
 	}
 
 	private static List<StatusChangedItem> getStatusChangedBySorted(List<StatusChangedItem> statusChangedArray) {
@@ -169,23 +180,6 @@ public class BoardUtil {
 		return getStatusTimeStamp(flagChangedArray);
 	}
 
-	private double calculateTotalOverlapTime(StatusTimeStamp columnTimeStampItem, List<StatusTimeStamp> flagTimeStamp,
-			CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
-		double totalOverlapTimeInDays = 0.0;
-
-		for (StatusTimeStamp flagTimeStampItem : flagTimeStamp) {
-			StatusTimeStamp overlapTime = calculateOverlapTime(columnTimeStampItem, flagTimeStampItem);
-
-			if (overlapTime.getStartTimestamp() < overlapTime.getEndTimestamp()) {
-				double overlapTimeInDays = workDay.calculateWorkDaysToTwoScale(overlapTime.getStartTimestamp(),
-						overlapTime.getEndTimestamp(), calendarTypeEnum, timezone);
-				totalOverlapTimeInDays += overlapTimeInDays;
-			}
-		}
-
-		return totalOverlapTimeInDays;
-	}
-
 	private double calculateTotalFlagCycleTime(List<StatusTimeStamp> flagTimeStamp, CalendarTypeEnum calendarTypeEnum,
 			ZoneId timezone) {
 		double totalFlagTimeInDays = 0.0;
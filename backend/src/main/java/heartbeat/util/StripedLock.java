@@ -0,0 +1,18 @@
+package heartbeat.util;
+
+import java.util.stream.IntStream;
+
+// a fixed set of monitors picked by key, so work on different keys rarely waits on the same monitor
+public class StripedLock {
+
+	private final Object[] locks;
+
+	public StripedLock(int stripes) {
+		this.locks = IntStream.range(0, Math.max(1, stripes)).mapToObj(i -> new Object()).toArray();
+	}
+
+	public Object of(String key) {
+		return locks[Math.floorMod(key.hashCode(), locks.length)];
+	}
+
+}
@@ -0,0 +1,90 @@
+package heartbeat.client.component;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import heartbeat.client.JiraFeignClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static heartbeat.client.component.FeignClientMetrics.ERROR_COUNTER;
+import static heartbeat.client.component.FeignClientMetrics.REQUEST_TIMER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FeignClientMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final FeignClientMetrics feignClientMetrics = new FeignClientMetrics(meterRegistry);
+
+	@Test
+	void shouldTimeCachedMethodAsCacheMissWithResponseStatus() throws IOException {
+		Request request = request(template("getJiraCards"));
+		Client client = feignClientMetrics
+			.enrich((req, options) -> Response.builder().status(200).request(req).headers(Map.of()).build());
+
+		client.execute(request, new Request.Options());
+
+		assertEquals(1, meterRegistry.get(REQUEST_TIMER)
+			.tags("client", "jiraFeignClient", "method", "getJiraCards", "status", "200", "cache", "miss")
+			.timer()
+			.count());
+		assertNull(meterRegistry.find(ERROR_COUNTER).counter());
+	}
+
+	@Test
+	void shouldCountErrorStatusForUncachedMethod() throws IOException {
+		Request request = request(template("getBoard"));
+		Client client = feignClientMetrics
+			.enrich((req, options) -> Response.builder().status(404).request(req).headers(Map.of()).build());
+
+		client.execute(request, new Request.Options());
+
+		assertEquals(1, meterRegistry.get(REQUEST_TIMER).tags("method", "getBoard", "cache", "none").timer().count());
+		assertEquals(1, meterRegistry.get(ERROR_COUNTER).tags("method", "getBoard", "status", "404").counter().count());
+	}
+
+	@Test
+	void shouldRecordIoErrorWhenRequestHasNoTemplate() {
+		Request request = request(null);
+		Client client = feignClientMetrics.enrich((req, options) -> {
+			throw new IOException("connection reset");
+		});
+
+		assertThrows(IOException.class, () -> client.execute(request, new Request.Options()));
+
+		assertEquals(1, meterRegistry.get(REQUEST_TIMER)
+			.tags("client", "unknown", "method", "unknown", "status", "IO_ERROR")
+			.timer()
+			.count());
+		assertEquals(1, meterRegistry.get(ERROR_COUNTER).tags("status", "IO_ERROR").counter().count());
+	}
+
+	private RequestTemplate template(String methodName) {
+		MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(JiraFeignClient.class)
+			.stream()
+			.filter(it -> it.method().getName().equals(methodName))
+			.findFirst()
+			.orElseThrow();
+		RequestTemplate template = new RequestTemplate();
+		template.methodMetadata(metadata);
+		template.feignTarget(new Target.HardCodedTarget<>(JiraFeignClient.class, "jiraFeignClient", "http://jira"));
+		return template;
+	}
+
+	private Request request(RequestTemplate template) {
+		return Request.create(Request.HttpMethod.GET, "http://jira/rest", Map.of(), null, StandardCharsets.UTF_8,
+				template);
+	}
+
+}
@@ -0,0 +1,244 @@
+package heartbeat.client.component;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import heartbeat.client.GitHubFeignClient;
+import heartbeat.client.component.UpstreamExecutor.Upstream;
+import heartbeat.exception.InternalServerErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static heartbeat.client.component.RateLimitScheduler.QUEUE_GAUGE;
+import static heartbeat.client.component.RateLimitScheduler.THROTTLED_COUNTER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitSchedulerTest {
+
+	private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AtomicLong clock = new AtomicLong(ONE_SECOND);
+
+	private final List<Long> sleeps = new ArrayList<>();
+
+	private final List<Integer> queueDepthsWhileWaiting = new ArrayList<>();
+
+	private final Deque<Response.Builder> responses = new ArrayDeque<>();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private RateLimitScheduler scheduler = scheduler(100);
+
+	private final Client upstream = (request, options) -> {
+		calls.incrementAndGet();
+		Response.Builder response = responses.isEmpty() ? ok() : responses.poll();
+		return response.request(request).build();
+	};
+
+	@Test
+	void shouldPassThroughClientsWithoutUpstreamLimit() throws IOException {
+		Request request = Request.create(Request.HttpMethod.GET, "https://holiday/2024.json", Map.of(), null,
+				StandardCharsets.UTF_8, null);
+
+		Response response = scheduler.enrich(upstream).execute(request, new Request.Options());
+
+		assertEquals(200, response.status());
+		assertTrue(sleeps.isEmpty());
+	}
+
+	@Test
+	void shouldWaitForRetryAfterAndQueueInsteadOfFailing() throws IOException {
+		responses.add(status(429).headers(headers("Retry-After", "2")));
+
+		Response response = execute();
+
+		assertEquals(200, response.status());
+		assertEquals(2, calls.get());
+		assertEquals(1, sleeps.size());
+		assertTrue(sleeps.get(0) >= 2 * ONE_SECOND && sleeps.get(0) <= 2.2 * ONE_SECOND);
+		assertEquals(List.of(1), queueDepthsWhileWaiting);
+		assertEquals(1, meterRegistry.get(THROTTLED_COUNTER)
+			.tags("upstream", "github", "status", "429")
+			.counter()
+			.count());
+	}
+
+	@Test
+	void shouldReturnRejectionAndHoldLaterRequestsForMaxBackoffWhenRetryAfterExceedsIt() throws IOException {
+		responses.add(status(429).headers(headers("Retry-After", "120")));
+
+		Response rejected = execute();
+		Response response = execute();
+
+		assertEquals(429, rejected.status());
+		assertEquals(200, response.status());
+		assertEquals(2, calls.get());
+		assertEquals(List.of(60 * ONE_SECOND), sleeps);
+	}
+
+	@Test
+	void shouldWaitUntilGitHubRateLimitResetsWhenSecondaryLimitRejects() throws IOException {
+		long resetEpochSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 30;
+		responses.add(status(403).headers(Map.of("X-RateLimit-Remaining", List.of("0"), "X-RateLimit-Reset",
+				List.of(String.valueOf(resetEpochSeconds)))));
+
+		Response response = execute();
+
+		assertEquals(200, response.status());
+		assertTrue(sleeps.get(0) > 25 * ONE_SECOND && sleeps.get(0) <= 34 * ONE_SECOND);
+	}
+
+	@Test
+	void shouldBackOffExponentiallyAndReturnRejectionAfterMaxRetries() throws IOException {
+		for (int attempt = 0; attempt < 4; attempt++) {
+			responses.add(status(429).headers(headers("Retry-After", "soon")));
+		}
+
+		Response response = execute();
+
+		assertEquals(429, response.status());
+		assertEquals(3, calls.get());
+		assertEquals(2, sleeps.size());
+		assertTrue(sleeps.get(0) >= ONE_SECOND / 2 && sleeps.get(0) <= ONE_SECOND);
+		assertTrue(sleeps.get(1) >= ONE_SECOND && sleeps.get(1) <= 2 * ONE_SECOND);
+	}
+
+	@Test
+	void shouldNotRetryForbiddenResponseWithoutRateLimitHeaders() throws IOException {
+		responses.add(status(403));
+
+		Response response = execute();
+
+		assertEquals(403, response.status());
+		assertEquals(1, calls.get());
+		assertTrue(sleeps.isEmpty());
+	}
+
+	@Test
+	void shouldPaceRequestsOfSameTokenWithTokenBucket() throws IOException {
+		scheduler = scheduler(1);
+
+		execute();
+		execute();
+		execute(request("another-token"));
+
+		assertEquals(List.of(ONE_SECOND), sleeps);
+	}
+
+	@Test
+	void shouldDropBucketsThatWentUnusedForLongerThanIdleTime() throws IOException {
+		execute(request("idle-token"));
+		execute(request("recent-token"));
+		clock.addAndGet(RateLimitScheduler.BUCKET_IDLE_NANOS / 2);
+		execute(request("recent-token"));
+		clock.addAndGet(RateLimitScheduler.BUCKET_IDLE_NANOS / 2 + 1);
+
+		execute(request("new-token"));
+
+		assertEquals(2, scheduler.bucketCount());
+	}
+
+	@Test
+	void shouldKeepNoMoreThanMaxBucketsWhenManyTokensAreUsed() throws IOException {
+		for (int token = 0; token <= RateLimitScheduler.MAX_BUCKETS; token++) {
+			execute(request("token-" + token));
+		}
+
+		assertEquals(RateLimitScheduler.MAX_BUCKETS, scheduler.bucketCount());
+		assertEquals(RateLimitScheduler.MAX_BUCKETS + 1, calls.get());
+	}
+
+	@Test
+	void shouldHoldRequestsUntilWindowResetsWhenRemainingIsExhausted() throws IOException {
+		responses.add(ok().headers(Map.of("X-RateLimit-Remaining", List.of("0"), "RateLimit-Reset", List.of("5"))));
+
+		execute();
+		execute();
+
+		assertEquals(1, sleeps.size());
+		assertTrue(sleeps.get(0) >= 5 * ONE_SECOND);
+	}
+
+	@Test
+	void shouldThrowInternalServerErrorExceptionWhenInterruptedWhileQueued() {
+		scheduler = new RateLimitScheduler(meterRegistry, Map.of(Upstream.GITHUB, 1.0), 2, 60 * ONE_SECOND,
+				clock::get, nanos -> {
+					throw new InterruptedException();
+				});
+		responses.add(status(429).headers(headers("Retry-After", "1")));
+
+		InternalServerErrorException exception = assertThrows(InternalServerErrorException.class, this::execute);
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Failed to call github, cause is interrupted", exception.getMessage());
+		assertEquals(0, scheduler.queueDepth(Upstream.GITHUB));
+		assertEquals(0, meterRegistry.get(QUEUE_GAUGE).tags("upstream", "github").gauge().value());
+	}
+
+	@Test
+	void shouldPaceWithSystemClockWhenCreatedFromProperties() throws IOException {
+		scheduler = new RateLimitScheduler(meterRegistry, 1000, 1000, 1000, 1, 1);
+
+		execute();
+		Response response = execute();
+
+		assertEquals(200, response.status());
+		assertEquals(2, calls.get());
+	}
+
+	private RateLimitScheduler scheduler(double requestsPerSecond) {
+		return new RateLimitScheduler(meterRegistry, Map.of(Upstream.JIRA, requestsPerSecond, Upstream.BUILDKITE,
+				requestsPerSecond, Upstream.GITHUB, requestsPerSecond), 2, 60 * ONE_SECOND, clock::get, nanos -> {
+					sleeps.add(nanos);
+					queueDepthsWhileWaiting.add(scheduler.queueDepth(Upstream.GITHUB));
+					clock.addAndGet(nanos);
+				});
+	}
+
+	private Response execute() throws IOException {
+		return execute(request("token"));
+	}
+
+	private Response execute(Request request) throws IOException {
+		return scheduler.enrich(upstream).execute(request, new Request.Options());
+	}
+
+	private static Request request(String token) {
+		RequestTemplate template = new RequestTemplate();
+		template.feignTarget(new Target.HardCodedTarget<>(GitHubFeignClient.class, "githubFeignClient",
+				"https://api.github.com"));
+		return Request.create(Request.HttpMethod.GET, "https://api.github.com/repos/org/repo/commits/sha/pulls",
+				Map.of("Authorization", List.of("token " + token)), null, StandardCharsets.UTF_8, template);
+	}
+
+	private static Map<String, Collection<String>> headers(String name, String value) {
+		return Map.of(name, List.of(value));
+	}
+
+	private static Response.Builder ok() {
+		return status(200);
+	}
+
+	private static Response.Builder status(int status) {
+		return Response.builder().status(status).headers(Map.of());
+	}
+
+}
@@ -0,0 +1,153 @@
+package heartbeat.client.component;
+
+import heartbeat.client.component.UpstreamExecutor.Upstream;
+import heartbeat.exception.InternalServerErrorException;
+import heartbeat.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpstreamExecutorTest {
+
+	private final ThreadPoolTaskExecutor platformExecutor = getTaskExecutor();
+
+	private final UpstreamExecutor upstreamExecutor = new UpstreamExecutor(platformExecutor, 2, 1, 3);
+
+	@AfterEach
+	void tearDown() {
+		platformExecutor.shutdown();
+	}
+
+	@Test
+	void shouldHoldPermitOfUpstreamWhileCallRuns() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<String> future = upstreamExecutor.supplyAsync(Upstream.BUILDKITE, () -> {
+			started.countDown();
+			await(release);
+			return "builds";
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		assertEquals(0, upstreamExecutor.availablePermits(Upstream.BUILDKITE));
+		assertEquals(2, upstreamExecutor.availablePermits(Upstream.JIRA));
+		release.countDown();
+		assertEquals("builds", future.get(5, TimeUnit.SECONDS));
+		assertEquals(1, upstreamExecutor.availablePermits(Upstream.BUILDKITE));
+	}
+
+	@Test
+	void shouldReleasePermitWhenCallFails() {
+		assertThrows(NotFoundException.class, () -> upstreamExecutor.call(Upstream.GITHUB, () -> {
+			throw new NotFoundException("not found");
+		}));
+
+		assertEquals(3, upstreamExecutor.availablePermits(Upstream.GITHUB));
+	}
+
+	@Test
+	void shouldThrowInternalServerErrorExceptionWhenInterruptedWhileWaitingForPermit() {
+		UpstreamExecutor exhausted = new UpstreamExecutor(platformExecutor, 0, 0, 0);
+
+		Thread.currentThread().interrupt();
+		InternalServerErrorException exception = assertThrows(InternalServerErrorException.class,
+				() -> exhausted.call(Upstream.JIRA, () -> "cards"));
+
+		assertTrue(Thread.interrupted());
+		assertEquals("Failed to call jira, cause is interrupted", exception.getMessage());
+	}
+
+	@Test
+	void shouldRunTasksWithoutPermitsOnIoExecutor() throws Exception {
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		upstreamExecutor.runAsync(() -> threadName.set(Thread.currentThread().getName())).get(5, TimeUnit.SECONDS);
+
+		assertTrue(threadName.get().startsWith("Test-"));
+		assertEquals("pipeline", upstreamExecutor.supplyAsync(() -> "pipeline").get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void shouldForkOffBoundedPlatformPool() throws Exception {
+		String threadName = upstreamExecutor.fork(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+		assertFalse(threadName.startsWith("Test-"));
+		assertTrue(threadName.startsWith("Heartbeat-Fork-"));
+	}
+
+	@Test
+	void shouldForkTaskWithoutResultOffBoundedPlatformPool() throws Exception {
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		upstreamExecutor.fork(() -> threadName.set(Thread.currentThread().getName())).get(5, TimeUnit.SECONDS);
+
+		assertTrue(threadName.get().startsWith("Heartbeat-Fork-"));
+	}
+
+	@Test
+	void shouldForkOnIoExecutorAndShutItDownWhenItIsNotAPlatformPool() throws Exception {
+		ExecutorService executorService = Executors.newCachedThreadPool();
+		UpstreamExecutor perTaskExecutor = new UpstreamExecutor(executorService, 1, 1, 1);
+		AtomicBoolean onCommonPool = new AtomicBoolean(true);
+
+		perTaskExecutor.fork(() -> {
+			onCommonPool.set(ForkJoinPool.commonPool().equals(ForkJoinPool.getPool()));
+			return null;
+		}).get(5, TimeUnit.SECONDS);
+		perTaskExecutor.shutdown();
+
+		assertFalse(onCommonPool.get());
+		assertTrue(executorService.isShutdown());
+	}
+
+	@Test
+	void shouldShutdownPlatformPool() {
+		upstreamExecutor.shutdown();
+
+		assertTrue(platformExecutor.getThreadPoolExecutor().isShutdown());
+	}
+
+	@Test
+	void shouldIgnoreShutdownOfPlainExecutor() {
+		UpstreamExecutor directExecutor = new UpstreamExecutor(Runnable::run, 1, 1, 1);
+
+		directExecutor.shutdown();
+
+		assertEquals("direct", directExecutor.supplyAsync(() -> "direct").join());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ThreadPoolTaskExecutor getTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("Test-");
+		executor.initialize();
+		return executor;
+	}
+
+}
@@ -0,0 +1,49 @@
+package heartbeat.config;
+
+import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
+import heartbeat.client.dto.board.jira.HistoryDetail;
+import heartbeat.client.dto.board.jira.Status;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CacheConfigTest {
+
+	private static final String CACHE_NAME = "jiraCardHistoryByCount";
+
+	@Test
+	void shouldKeepCachedEntryWhenReadersChangeTheValueTheyGot() {
+		CacheConfig cacheConfig = new CacheConfig(new TieredCacheProperties());
+		EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+			.getCachingProvider(EhcacheCachingProvider.class.getName());
+		try (CacheManager cacheManager = provider.getCacheManager(URI.create("heartbeat-cache-config-test"),
+				provider.getDefaultClassLoader())) {
+			Cache<String, CardHistoryResponseDTO> cache = cacheManager.createCache(CACHE_NAME,
+					cacheConfig.<String, CardHistoryResponseDTO>getCacheConfiguration(CACHE_NAME,
+							CardHistoryResponseDTO.class));
+			cache.put("card-1", CardHistoryResponseDTO.builder()
+				.isLast(false)
+				.items(new ArrayList<>(List.of(history(1))))
+				.build());
+
+			for (int i = 0; i < 2; i++) {
+				cache.get("card-1").getItems().add(history(2));
+			}
+
+			assertEquals(List.of(history(1)), cache.get("card-1").getItems());
+		}
+	}
+
+	private static HistoryDetail history(long timestamp) {
+		return new HistoryDetail(timestamp, "status", new Status("Done"), new Status("Doing"), null, null);
+	}
+
+}
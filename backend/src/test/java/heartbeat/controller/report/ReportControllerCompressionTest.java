@@ -0,0 +1,77 @@
+package heartbeat.controller.report;
+
+import heartbeat.controller.report.dto.request.ReportType;
+import heartbeat.service.report.ReportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ReportControllerCompressionTest {
+
+	public static final String START_TIME = "20240310";
+
+	public static final String END_TIME = "20240409";
+
+	@MockBean
+	private ReportService reportService;
+
+	@LocalServerPort
+	private int port;
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void shouldReturnGzipCsvWhenExportCsvGivenAcceptEncodingGzip() throws Exception {
+		String csv = "header\n" + "row,of,report\n".repeat(500);
+		Path csvFile = tempDir.resolve("report.csv");
+		Files.writeString(csvFile, csv);
+		when(reportService.exportCsv(ReportType.BOARD, "test-uuid", START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvFile));
+		URI uri = URI.create(String.format("http://localhost:%d/api/v1/reports/%s/test-uuid?startTime=%s&endTime=%s",
+				port, ReportType.BOARD.getValue(), START_TIME, END_TIME));
+		HttpRequest request = HttpRequest.newBuilder(uri)
+			.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+			.GET()
+			.build();
+
+		HttpResponse<byte[]> response = HttpClient.newHttpClient()
+			.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+		assertEquals(200, response.statusCode());
+		assertEquals(Optional.of("gzip"), response.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+		assertThat(response.headers().firstValue(HttpHeaders.ETAG).orElseThrow()).startsWith("W/");
+		assertEquals(csv, gunzip(response.body()));
+	}
+
+	private static String gunzip(byte[] body) throws IOException {
+		try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
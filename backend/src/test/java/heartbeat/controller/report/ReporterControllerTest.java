@@ -10,24 +10,30 @@ import heartbeat.controller.report.dto.response.UuidResponse;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.service.report.GenerateReporterService;
+import heartbeat.service.report.ReportProgressService;
 import heartbeat.service.report.ReportService;
 import heartbeat.tools.TimeUtils;
 import lombok.extern.log4j.Log4j2;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +47,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ReportController.class)
@@ -57,6 +64,9 @@ class ReporterControllerTest {
 	@MockBean
 	private ReportService reporterService;
 
+	@MockBean
+	private ReportProgressService reportProgressService;
+
 	@Autowired
 	private MockMvc mockMvc;
 
@@ -66,6 +76,9 @@ class ReporterControllerTest {
 
 	public static final String END_TIME = "20240409";
 
+	@TempDir
+	private Path tempDir;
+
 	@Test
 	void shouldGetSuccessDataGivenReportId() throws Exception {
 		String timeStamp = Long.toString(System.currentTimeMillis());
@@ -93,6 +106,21 @@ class ReporterControllerTest {
 		assertEquals(true, response.getAllMetricsCompleted());
 	}
 
+	@Test
+	void shouldSubscribeReportProgressAsServerSentEvents() throws Exception {
+		String reportId = Long.toString(System.currentTimeMillis());
+		when(reportProgressService.subscribe(reportId, START_TIME, END_TIME)).thenReturn(new SseEmitter());
+
+		mockMvc
+			.perform(get("/reports/{reportId}/progress", reportId).param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(status().isOk())
+			.andExpect(request().asyncStarted());
+
+		verify(reportProgressService).subscribe(reportId, START_TIME, END_TIME);
+	}
+
 	@Test
 	void shouldReturn500StatusWhenRequestGenerateReportGivenReportTimeIsExpired() throws Exception {
 		String reportId = Long.toString(System.currentTimeMillis());
@@ -114,7 +142,7 @@ class ReporterControllerTest {
 		String expectedResponse = "csv data";
 
 		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
-			.thenReturn(new InputStreamResource(new ByteArrayInputStream(expectedResponse.getBytes())));
+			.thenReturn(mockCsvResource(expectedResponse));
 
 		MockHttpServletResponse response = mockMvc
 			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
@@ -125,6 +153,58 @@ class ReporterControllerTest {
 			.getResponse();
 
 		assertThat(response.getContentAsString()).isEqualTo(expectedResponse);
+		assertThat(response.getContentType()).isEqualTo("text/csv");
+		assertThat(response.getContentLength()).isEqualTo(expectedResponse.length());
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+		assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+	}
+
+	@Test
+	void shouldReturnPartialContentWhenExportCsvGivenRangeHeader() throws Exception {
+		when(reporterService.exportCsv(ReportType.BOARD, "test-uuid", START_TIME, END_TIME))
+			.thenReturn(mockCsvResource("header\nrow"));
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{reportId}", ReportType.BOARD.getValue(), "test-uuid")
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.RANGE, "bytes=7-"))
+			.andExpect(status().isPartialContent())
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEqualTo("row");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+	}
+
+	@Test
+	void shouldReturnNotModifiedWhenExportCsvGivenSameETag() throws Exception {
+		when(reporterService.exportCsv(ReportType.METRIC, "test-uuid", START_TIME, END_TIME))
+			.thenReturn(mockCsvResource("csv data"));
+		String eTag = mockMvc
+			.perform(get("/reports/{reportType}/{reportId}", ReportType.METRIC.getValue(), "test-uuid")
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{reportId}", ReportType.METRIC.getValue(), "test-uuid")
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified())
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEmpty();
+	}
+
+	private FileSystemResource mockCsvResource(String content) throws IOException {
+		Path csvFile = tempDir.resolve("report.csv");
+		Files.writeString(csvFile, content);
+		return new FileSystemResource(csvFile);
 	}
 
 	@Test
@@ -5,8 +5,10 @@ import heartbeat.controller.report.dto.request.MetricType;
 import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.InternalServerErrorException;
+import heartbeat.repository.ExpiryIndex;
 import heartbeat.repository.FilePrefixType;
 import heartbeat.repository.FileRepository;
+import heartbeat.repository.FileSystemReportStore;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.RepeatedTest;
@@ -32,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,6 +50,9 @@ class AsyncMetricsDataHandlerTest {
 	@Mock
 	FileRepository fileRepository;
 
+	@Mock
+	ReportProgressRegistry reportProgressRegistry;
+
 	@InjectMocks
 	AsyncMetricsDataHandler asyncMetricsDataHandler;
 
@@ -180,9 +186,11 @@ class AsyncMetricsDataHandlerTest {
 	@Nested
 	class UpdateAllMetricsCompletedInHandlerAtTheSameTime {
 
-		FileRepository fileRepository = new FileRepository(new Gson());
+		FileRepository fileRepository = new FileRepository(new Gson(), new FileSystemReportStore(),
+				mock(ExpiryIndex.class));
 
-		AsyncMetricsDataHandler asyncMetricsDataHandler = new AsyncMetricsDataHandler(fileRepository);
+		AsyncMetricsDataHandler asyncMetricsDataHandler = new AsyncMetricsDataHandler(fileRepository,
+				new ReportProgressRegistry(fileRepository));
 
 		// The test should be moved to integration test next.
 		@RepeatedTest(100)
@@ -271,6 +279,8 @@ class AsyncMetricsDataHandlerTest {
 			assertFalse(metricsDataCompletedCapture.doraMetricsCompleted());
 			assertFalse(metricsDataCompletedCapture.overallMetricCompleted());
 			assertFalse(metricsDataCompletedCapture.isSuccessfulCreateCsvFile());
+			verify(reportProgressRegistry).updateMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp,
+					metricsDataCompletedCapture);
 		}
 
 		@Test
@@ -0,0 +1,203 @@
+package heartbeat.handler;
+
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.handler.base.ReportProgress;
+import heartbeat.repository.FilePrefixType;
+import heartbeat.repository.FileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportProgressRegistryTest {
+
+	private static final String TEST_UUID = "test-uuid";
+
+	private static final String TIME_RANGE_AND_TIME_STAMP = "20240310-20240409-1683734399999";
+
+	@Mock
+	FileRepository fileRepository;
+
+	@InjectMocks
+	ReportProgressRegistry reportProgressRegistry;
+
+	@Test
+	void shouldLoadReportInProgressOnceAndApplyLaterStagesInMemory() {
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<ReportProgress> loader = () -> {
+			loadCount.incrementAndGet();
+			return ReportProgress.builder()
+				.metricsDataCompleted(inProgress())
+				.failedStages(Set.of(FilePrefixType.BOARD_REPORT_PREFIX))
+				.build();
+		};
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+		MetricsDataCompleted boardCompleted = MetricsDataCompleted.builder()
+			.boardMetricsCompleted(true)
+			.doraMetricsCompleted(false)
+			.overallMetricCompleted(false)
+			.build();
+
+		reportProgressRegistry.updateReport(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, FilePrefixType.BOARD_REPORT_PREFIX);
+		reportProgressRegistry.updateError(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, FilePrefixType.BOARD_REPORT_PREFIX,
+				false);
+		reportProgressRegistry.updateError(TEST_UUID, TIME_RANGE_AND_TIME_STAMP,
+				FilePrefixType.PIPELINE_REPORT_PREFIX, true);
+		reportProgressRegistry.updateMetricsDataCompleted(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, boardCompleted);
+		ReportProgress reportProgress = reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+
+		assertEquals(1, loadCount.get());
+		assertSame(boardCompleted, reportProgress.getMetricsDataCompleted());
+		assertEquals(Set.of(FilePrefixType.BOARD_REPORT_PREFIX), reportProgress.getReportedStages());
+		assertEquals(Set.of(FilePrefixType.PIPELINE_REPORT_PREFIX), reportProgress.getFailedStages());
+	}
+
+	@Test
+	void shouldDropReportOnceAllItsMetricsAreCompleted() {
+		MetricsDataCompleted completed = MetricsDataCompleted.builder()
+			.boardMetricsCompleted(true)
+			.doraMetricsCompleted(true)
+			.overallMetricCompleted(true)
+			.build();
+		List<MetricsDataCompleted> statuses = new ArrayList<>(List.of(inProgress(), completed, completed));
+		Supplier<ReportProgress> loader = () -> ReportProgress.builder()
+			.metricsDataCompleted(statuses.remove(0))
+			.build();
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+
+		reportProgressRegistry.updateMetricsDataCompleted(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, completed);
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+		ReportProgress reportProgress = reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+
+		assertSame(completed, reportProgress.getMetricsDataCompleted());
+		assertTrue(statuses.isEmpty());
+	}
+
+	@Test
+	void shouldNotKeepProgressUntilItsCompletedStatusIsWritten() {
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<ReportProgress> loader = () -> {
+			loadCount.incrementAndGet();
+			return ReportProgress.builder().build();
+		};
+
+		assertNull(reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader).getMetricsDataCompleted());
+		reportProgressRegistry.updateMetricsDataCompleted(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, inProgress());
+		assertNull(reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader).getMetricsDataCompleted());
+
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	void shouldLoadReportAgainWhenItChangedWhileItWasLoaded() {
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<ReportProgress> loader = () -> {
+			if (loadCount.incrementAndGet() == 1) {
+				reportProgressRegistry.updateReport(TEST_UUID, TIME_RANGE_AND_TIME_STAMP,
+						FilePrefixType.BOARD_REPORT_PREFIX);
+			}
+			return ReportProgress.builder().metricsDataCompleted(inProgress()).build();
+		};
+
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	void shouldLoadReportEveryTimeOnceTheLimitOfReportsInProgressIsReached() {
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<ReportProgress> loader = () -> {
+			loadCount.incrementAndGet();
+			return ReportProgress.builder().metricsDataCompleted(inProgress()).build();
+		};
+		for (int i = 0; i < 1024; i++) {
+			reportProgressRegistry.find("uuid-" + i, TIME_RANGE_AND_TIME_STAMP, loader);
+		}
+
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+		reportProgressRegistry.find(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, loader);
+		reportProgressRegistry.find("uuid-0", TIME_RANGE_AND_TIME_STAMP, loader);
+
+		assertEquals(1026, loadCount.get());
+	}
+
+	@Test
+	void shouldNotifySubscribersOfReportWithChangedStageUntilTheyUnsubscribe() {
+		List<String> events = new ArrayList<>();
+		Runnable unsubscribe = reportProgressRegistry.subscribe(TEST_UUID,
+				(timeRangeAndTimeStamp, stage) -> events.add(timeRangeAndTimeStamp + " " + stage));
+		Runnable failingUnsubscribe = reportProgressRegistry.subscribe(TEST_UUID, (timeRangeAndTimeStamp, stage) -> {
+			throw new IllegalStateException("closed");
+		});
+		reportProgressRegistry.subscribe("other-uuid", (timeRangeAndTimeStamp, stage) -> events.add("other"));
+
+		reportProgressRegistry.updateReport(TEST_UUID, TIME_RANGE_AND_TIME_STAMP,
+				FilePrefixType.SOURCE_CONTROL_PREFIX);
+		reportProgressRegistry.updateMetricsDataCompleted(TEST_UUID, TIME_RANGE_AND_TIME_STAMP,
+				MetricsDataCompleted.builder().build());
+		unsubscribe.run();
+		failingUnsubscribe.run();
+		failingUnsubscribe.run();
+		reportProgressRegistry.updateError(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, FilePrefixType.BOARD_REPORT_PREFIX,
+				false);
+
+		assertEquals(
+				List.of(TIME_RANGE_AND_TIME_STAMP + " sourceControl", TIME_RANGE_AND_TIME_STAMP + " dataCompleted"),
+				events);
+	}
+
+	@Test
+	void shouldFindLatestTimeRangeAndTimeStampUntilItExpires() {
+		String expiredTimeRangeAndTimeStamp = "20240101-20240131-1000";
+		reportProgressRegistry.updateMetricsDataCompleted(TEST_UUID, TIME_RANGE_AND_TIME_STAMP,
+				MetricsDataCompleted.builder().build());
+		reportProgressRegistry.updateMetricsDataCompleted(TEST_UUID, expiredTimeRangeAndTimeStamp,
+				MetricsDataCompleted.builder().build());
+		reportProgressRegistry.find(TEST_UUID, expiredTimeRangeAndTimeStamp,
+				() -> ReportProgress.builder().metricsDataCompleted(inProgress()).build());
+		when(fileRepository.isExpired(anyLong(), eq(1683734399999L))).thenReturn(false);
+		when(fileRepository.isExpired(anyLong(), eq(1000L))).thenReturn(true);
+
+		assertEquals(Optional.of(TIME_RANGE_AND_TIME_STAMP),
+				reportProgressRegistry.findLatestTimeRangeAndTimeStamp(TEST_UUID, "20240310", "20240409"));
+		reportProgressRegistry.removeExpired(System.currentTimeMillis());
+
+		assertEquals(Optional.of(TIME_RANGE_AND_TIME_STAMP),
+				reportProgressRegistry.findLatestTimeRangeAndTimeStamp(TEST_UUID, "20240310", "20240409"));
+		assertFalse(reportProgressRegistry.findLatestTimeRangeAndTimeStamp(TEST_UUID, "20240101", "20240131")
+			.isPresent());
+		assertNull(reportProgressRegistry
+			.find(TEST_UUID, expiredTimeRangeAndTimeStamp, () -> ReportProgress.builder().build())
+			.getMetricsDataCompleted());
+	}
+
+	private static MetricsDataCompleted inProgress() {
+		return MetricsDataCompleted.builder()
+			.boardMetricsCompleted(false)
+			.doraMetricsCompleted(false)
+			.overallMetricCompleted(false)
+			.build();
+	}
+
+}
@@ -0,0 +1,112 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
+import heartbeat.client.dto.board.jira.HistoryDetail;
+import heartbeat.client.dto.board.jira.Status;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardSnapshotRepositoryTest {
+
+	private static final String BASE_PATH = "./app/snapshot";
+
+	private static final String BOARD_KEY = BoardSnapshotRepository.getBoardKey("site.atlassian.net", "1");
+
+	private static final String UPDATED = "2023-05-29T11:51:24.898+0800";
+
+	private final BoardSnapshotRepository boardSnapshotRepository = new BoardSnapshotRepository(new Gson());
+
+	private final CardHistoryResponseDTO history = new CardHistoryResponseDTO(true, new ArrayList<>(
+			List.of(new HistoryDetail(1, "status", new Status("Done"), new Status("Testing"), null, null))));
+
+	@AfterEach
+	void tearDown() throws IOException {
+		FileUtils.deleteDirectory(new File(BASE_PATH));
+	}
+
+	@Test
+	void shouldReturnSavedCardHistoryWhenUpdatedTimeIsSame() {
+		boardSnapshotRepository.saveCardHistory(BOARD_KEY, "ADM-1", UPDATED, history);
+
+		Optional<CardHistoryResponseDTO> result = boardSnapshotRepository.findCardHistory(BOARD_KEY, "ADM-1",
+				UPDATED);
+
+		assertTrue(result.isPresent());
+		assertEquals(1, result.get().getItems().size());
+		assertEquals("status", result.get().getItems().get(0).getFieldId());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenCardUpdatedAfterSnapshot() {
+		boardSnapshotRepository.saveCardHistory(BOARD_KEY, "ADM-1", UPDATED, history);
+
+		assertFalse(boardSnapshotRepository.findCardHistory(BOARD_KEY, "ADM-1", "2023-06-01T11:51:24.898+0800")
+			.isPresent());
+		assertFalse(boardSnapshotRepository.findCardHistory(BOARD_KEY, "ADM-2", UPDATED).isPresent());
+	}
+
+	@Test
+	void shouldNotCacheWhenUpdatedTimeIsMissingOrKeyIsInvalid() {
+		boardSnapshotRepository.saveCardHistory(BOARD_KEY, "ADM-1", null, history);
+		boardSnapshotRepository.saveCardHistory(BOARD_KEY, "../ADM-1", UPDATED, history);
+
+		assertFalse(new File(BASE_PATH).exists());
+		assertFalse(boardSnapshotRepository.findCardHistory(BOARD_KEY, "ADM-1", null).isPresent());
+		assertFalse(boardSnapshotRepository.findCardHistory("", "ADM-1", UPDATED).isPresent());
+	}
+
+	@Test
+	void shouldNotCacheWhenSnapshotIsDisabled() {
+		boardSnapshotRepository.enabled = false;
+
+		boardSnapshotRepository.saveCardHistory(BOARD_KEY, "ADM-1", UPDATED, history);
+
+		assertFalse(new File(BASE_PATH).exists());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenSnapshotIsBroken() throws IOException {
+		Files.createDirectories(Path.of(BASE_PATH, BOARD_KEY));
+		Files.writeString(Path.of(BASE_PATH, BOARD_KEY, "ADM-1.json"), "{broken");
+
+		assertFalse(boardSnapshotRepository.findCardHistory(BOARD_KEY, "ADM-1", UPDATED).isPresent());
+	}
+
+	@Test
+	void shouldRemoveExpiredSnapshotsAndEmptyBoardDirectories() {
+		boardSnapshotRepository.saveCardHistory(BOARD_KEY, "ADM-1", UPDATED, history);
+
+		boardSnapshotRepository.removeExpiredSnapshots(System.currentTimeMillis());
+		assertTrue(boardSnapshotRepository.findCardHistory(BOARD_KEY, "ADM-1", UPDATED).isPresent());
+
+		boardSnapshotRepository.removeExpiredSnapshots(System.currentTimeMillis() + 31 * 24 * 3600 * 1000L);
+		assertFalse(new File(BASE_PATH + "/" + BOARD_KEY).exists());
+	}
+
+	@Test
+	void shouldDoNothingWhenSnapshotPathDoesNotExist() {
+		boardSnapshotRepository.removeExpiredSnapshots(System.currentTimeMillis());
+
+		assertFalse(new File(BASE_PATH).exists());
+	}
+
+	@Test
+	void shouldReplaceSpecialCharactersInBoardKey() {
+		assertEquals("site.atlassian.net-1_2", BoardSnapshotRepository.getBoardKey("site.atlassian.net", "1/2"));
+	}
+
+}
@@ -0,0 +1,100 @@
+package heartbeat.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpiryIndexTest {
+
+	private static final String TEST_UUID = "test-uuid";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldPopOnlyDueBucketsInOrderOfTime() throws IOException {
+		ExpiryIndex expiryIndex = new ExpiryIndex(tempDir.resolve("expiry"), 100);
+		expiryIndex.add(FileType.CSV, TEST_UUID, 250);
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+		expiryIndex.add(FileType.CONFIGS, TEST_UUID, 199);
+		expiryIndex.add(FileType.ERROR, TEST_UUID, 10);
+		Files.writeString(tempDir.resolve("expiry").resolve("100.idx"), "unknown/test-uuid/150\nbroken\n",
+				StandardOpenOption.APPEND);
+		Files.writeString(tempDir.resolve("expiry").resolve("not-a-bucket.idx"), "report/test-uuid/1");
+		List<List<ExpiryIndex.Entry>> batches = new ArrayList<>();
+
+		int poppedCount = expiryIndex.popDue(250, batches::add);
+
+		assertEquals(3, poppedCount);
+		assertEquals(List.of(List.of(new ExpiryIndex.Entry(FileType.ERROR, TEST_UUID, 10)),
+				List.of(new ExpiryIndex.Entry(FileType.REPORT, TEST_UUID, 120),
+						new ExpiryIndex.Entry(FileType.CONFIGS, TEST_UUID, 199))),
+				batches);
+		assertEquals("report/test-uuid/120", batches.get(1).get(0).toString());
+		assertFalse(Files.exists(tempDir.resolve("expiry").resolve("0.idx")));
+		assertTrue(Files.exists(tempDir.resolve("expiry").resolve("200.idx")));
+		assertEquals(0, expiryIndex.popDue(299, batches::add));
+		assertEquals(1, expiryIndex.popDue(300, batches::add));
+	}
+
+	@Test
+	void shouldIndexEntryAgainAfterItsBucketWasPopped() throws IOException {
+		ExpiryIndex expiryIndex = new ExpiryIndex(tempDir, 100);
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+		expiryIndex.popDue(200, batch -> {
+		});
+
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+
+		assertEquals(List.of("report/test-uuid/120"), Files.readAllLines(tempDir.resolve("100.idx")));
+	}
+
+	@Test
+	void shouldKeepManifestWhenBatchCannotBeHandled() {
+		ExpiryIndex expiryIndex = new ExpiryIndex(tempDir, 100);
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+
+		assertThrows(IllegalStateException.class, () -> expiryIndex.popDue(200, batch -> {
+			throw new IllegalStateException("disk is busy");
+		}));
+
+		assertTrue(Files.exists(tempDir.resolve("100.idx")));
+	}
+
+	@Test
+	void shouldSkipManifestThatCannotBeRead() throws IOException {
+		Files.createDirectories(tempDir.resolve("100.idx").resolve("occupied"));
+		ExpiryIndex expiryIndex = new ExpiryIndex(tempDir, 100);
+
+		assertEquals(0, expiryIndex.popDue(200, batch -> {
+		}));
+		assertTrue(Files.isDirectory(tempDir.resolve("100.idx")));
+	}
+
+	@Test
+	void shouldNotIndexWhenManifestCannotBeWrittenAndRetryLater() throws IOException {
+		Path occupied = Files.writeString(tempDir.resolve("expiry"), "");
+		ExpiryIndex expiryIndex = new ExpiryIndex(occupied, 100);
+
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+		Files.delete(occupied);
+		expiryIndex.add(FileType.REPORT, TEST_UUID, 120);
+
+		assertEquals(List.of("report/test-uuid/120"), Files.readAllLines(occupied.resolve("100.idx")));
+		assertEquals(0, new ExpiryIndex(tempDir.resolve("missing"), 100).popDue(Long.MAX_VALUE, batch -> {
+		}));
+	}
+
+}
@@ -3,7 +3,7 @@ package heartbeat.repository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
-import com.google.gson.stream.JsonReader;
+import com.opencsv.CSVWriter;
 import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.exception.FileIOException;
 import heartbeat.exception.GenerateReportException;
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.MockedConstruction;
@@ -24,8 +25,10 @@ import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.BufferedReader;
@@ -39,6 +42,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -47,7 +51,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -67,6 +74,9 @@ class FileRepositoryTest {
 
 	private static final long ONE_DAY_MILLISECONDS = 1000L * 3600 * 24;
 
+	@TempDir
+	static Path expiryIndexPath;
+
 	@MockBean
 	Gson gson;
 
@@ -75,6 +85,11 @@ class FileRepositoryTest {
 
 	ObjectMapper objectMapper = new ObjectMapper();
 
+	@DynamicPropertySource
+	static void expiryIndexProperties(DynamicPropertyRegistry registry) {
+		registry.add("heartbeat.expiry.indexPath", () -> expiryIndexPath.toString());
+	}
+
 	@BeforeAll
 	static void beforeAll() throws IOException {
 		Path path = Paths.get(BASE_PATH);
@@ -213,7 +228,7 @@ class FileRepositoryTest {
 				writer.write(json);
 			}
 
-			when(gson.fromJson(any(JsonReader.class), eq(MetricsDataCompleted.class))).thenReturn(metricsDataCompleted);
+			when(gson.fromJson(anyString(), eq(MetricsDataCompleted.class))).thenReturn(metricsDataCompleted);
 
 			MetricsDataCompleted result = fileRepository.readFileByType(FileType.REPORT, TEST_UUID, testFileName,
 					MetricsDataCompleted.class, FilePrefixType.BOARD_REPORT_PREFIX);
@@ -248,7 +263,7 @@ class FileRepositoryTest {
 				writer.write(json);
 			}
 
-			when(gson.fromJson(any(JsonReader.class), any(Class.class))).thenThrow(JsonParseException.class);
+			when(gson.fromJson(anyString(), any(Class.class))).thenThrow(JsonParseException.class);
 
 			GenerateReportException generateReportException = assertThrows(GenerateReportException.class,
 					() -> fileRepository.readFileByType(FileType.REPORT, TEST_UUID, testFileName,
@@ -496,11 +511,79 @@ class FileRepositoryTest {
 			FileIOException fileIOException = assertThrows(FileIOException.class,
 					() -> fileRepository.createCSVFileByType(TEST_UUID, fileName, data, boardReportPrefix));
 
-			assertEquals("File handle error: ./app/output/csv/test-uuid/board-test-filename.csv (Is a directory)",
-					fileIOException.getMessage());
+			String expectedMessage = "File handle error: ./app/output/csv/test-uuid/board-test-filename.csv.tmp -> "
+					+ "./app/output/csv/test-uuid/board-test-filename.csv: Is a directory";
+			assertEquals(expectedMessage, fileIOException.getMessage());
 
 			File realFile = new File(expectedFilepath);
 			assertTrue(realFile.exists());
+			assertFalse(new File(expectedFilepath + FileRepository.SUFFIX_TMP).exists());
+		}
+
+		@Test
+		void shouldCreateCsvFileByRowsSuccessfully() throws IOException {
+			String fileName = "test-filename";
+			FilePrefixType pipelineReportPrefix = FilePrefixType.PIPELINE_REPORT_PREFIX;
+			String expectedFilepath = "./app/output/csv/" + TEST_UUID + "/" + pipelineReportPrefix.getPrefix()
+					+ fileName + ".csv";
+			Stream<String[]> rows = Stream.of("a", "c").map(it -> new String[] { it, it + "1" });
+
+			fileRepository.createCSVFileByRows(TEST_UUID, fileName, rows, pipelineReportPrefix);
+
+			List<String> realContent = Files.readAllLines(Paths.get(expectedFilepath));
+			assertEquals(List.of("\"a\",\"a1\"", "\"c\",\"c1\""), realContent);
+			assertFalse(new File(expectedFilepath + FileRepository.SUFFIX_TMP).exists());
+		}
+
+		@Test
+		void shouldRemoveTmpFileWhenCreateCsvFileByRowsGivenRowFailsWhileProduced() {
+			String fileName = "failed-rows";
+			FilePrefixType pipelineReportPrefix = FilePrefixType.PIPELINE_REPORT_PREFIX;
+			String expectedFilepath = "./app/output/csv/" + TEST_UUID + "/" + pipelineReportPrefix.getPrefix()
+					+ fileName + ".csv";
+			Stream<String[]> rows = Stream.of("a", "c").map(it -> {
+				if ("c".equals(it)) {
+					throw new IllegalStateException("broken row");
+				}
+				return new String[] { it };
+			});
+
+			IllegalStateException exception = assertThrows(IllegalStateException.class,
+					() -> fileRepository.createCSVFileByRows(TEST_UUID, fileName, rows, pipelineReportPrefix));
+
+			assertEquals("broken row", exception.getMessage());
+			assertFalse(new File(expectedFilepath).exists());
+			assertFalse(new File(expectedFilepath + FileRepository.SUFFIX_TMP).exists());
+		}
+
+		@Test
+		void shouldThrowFileIOExceptionAndRemoveTmpFileWhenCsvWriterHasError() {
+			String fileName = "unwritable-rows";
+			FilePrefixType pipelineReportPrefix = FilePrefixType.PIPELINE_REPORT_PREFIX;
+			String expectedFilepath = "./app/output/csv/" + TEST_UUID + "/" + pipelineReportPrefix.getPrefix()
+					+ fileName + ".csv";
+
+			try (MockedConstruction<CSVWriter> ignored = mockConstruction(CSVWriter.class,
+					(writer, context) -> when(writer.checkError()).thenReturn(true))) {
+				FileIOException exception = assertThrows(FileIOException.class,
+						() -> fileRepository.createCSVFileByRows(TEST_UUID, fileName, Stream.<String[]>of(),
+								pipelineReportPrefix));
+
+				assertEquals(
+						"File handle error: Failed to write rows to " + expectedFilepath + FileRepository.SUFFIX_TMP,
+						exception.getMessage());
+			}
+			assertFalse(new File(expectedFilepath).exists());
+			assertFalse(new File(expectedFilepath + FileRepository.SUFFIX_TMP).exists());
+		}
+
+		@Test
+		void shouldThrowExceptionWhenCreateCsvFileByRowsGivenInvalidUuid() {
+			IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> fileRepository.createCSVFileByRows("..abc", "test", Stream.empty(),
+							FilePrefixType.PIPELINE_REPORT_PREFIX));
+
+			assertEquals("Invalid filepath, filepath: ..abc", exception.getMessage());
 		}
 
 	}
@@ -587,7 +670,7 @@ class FileRepositoryTest {
 				GenerateReportException generateReportException = assertThrows(GenerateReportException.class,
 						() -> fileRepository.removeFileByType(fileType, TEST_UUID, fileName, boardReportPrefix));
 
-				assertEquals("Failed to remove csv, reportId: test-uuid file with file:test-remove-file",
+				assertEquals("Failed to remove csv, reportId: test-uuid file with file:board-test-remove-file",
 						generateReportException.getMessage());
 
 				File realFile = new File(expectedFilepath);
@@ -936,10 +1019,10 @@ class FileRepositoryTest {
 			Path path = Paths.get("./app/output/csv/test-uuid/board-1-2-3.csv");
 			Files.createFile(path);
 
-			InputStreamResource inputStreamResource = fileRepository.readStringFromCsvFile(TEST_UUID, "1-2-3",
+			FileSystemResource fileSystemResource = fileRepository.readStringFromCsvFile(TEST_UUID, "1-2-3",
 					FilePrefixType.BOARD_REPORT_PREFIX);
 
-			InputStream inputStream = inputStreamResource.getInputStream();
+			InputStream inputStream = fileSystemResource.getInputStream();
 			String returnData = new BufferedReader(new InputStreamReader(inputStream)).lines()
 				.collect(Collectors.joining("\n"));
 
@@ -962,6 +1045,155 @@ class FileRepositoryTest {
 			Files.deleteIfExists(path);
 		}
 
+		@Test
+		void shouldReadCsvFileErrorWhenFileDoesNotExist() {
+			FileIOException fileIOException = assertThrows(FileIOException.class,
+					() -> fileRepository.readStringFromCsvFile(TEST_UUID, "1-2-3", FilePrefixType.BOARD_REPORT_PREFIX));
+
+			assertEquals("File handle error: ./app/output/csv/test-uuid/board-1-2-3.csv (No such file or directory)",
+					fileIOException.getMessage());
+		}
+
+	}
+
+	@Nested
+	class RemoveExpiredFilesByIndex {
+
+		private static final String[][] DATA = new String[][] { { "a", "b" } };
+
+		@BeforeEach
+		void beforeEach() throws IOException {
+			FileUtils.cleanDirectory(expiryIndexPath.toFile());
+		}
+
+		@AfterEach
+		void afterEach() throws IOException {
+			FileUtils.deleteDirectory(new File("./app/output/csv"));
+			FileUtils.cleanDirectory(expiryIndexPath.toFile());
+		}
+
+		@Test
+		void shouldRemoveOnlyIndexedFilesThatAreDue() throws IOException {
+			String currentTimeStamp = Long.toString(System.currentTimeMillis());
+			fileRepository.createCSVFileByType(TEST_UUID, "20240101-20240102-1000", DATA,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			fileRepository.createCSVFileByType(TEST_UUID, "20240101-20240102-1000", DATA,
+					FilePrefixType.PIPELINE_REPORT_PREFIX);
+			fileRepository.createCSVFileByType(TEST_UUID, "20240101-20240102-" + currentTimeStamp, DATA,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			fileRepository.createCSVFileByType("other-uuid", "20240101-20240102-1000", DATA,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			FileUtils.deleteDirectory(new File("./app/output/csv/other-uuid"));
+
+			int removedCount = fileRepository.removeExpiredFilesByIndex(System.currentTimeMillis());
+
+			assertEquals(2, removedCount);
+			assertFalse(new File("./app/output/csv/test-uuid/board-20240101-20240102-1000.csv").exists());
+			assertFalse(new File("./app/output/csv/test-uuid/pipeline-20240101-20240102-1000.csv").exists());
+			assertTrue(new File("./app/output/csv/test-uuid/board-20240101-20240102-" + currentTimeStamp + ".csv")
+				.exists());
+			assertEquals(0, fileRepository.removeExpiredFilesByIndex(System.currentTimeMillis()));
+		}
+
+		@Test
+		void shouldRemoveReportDirectoryWhenAllOfItsFilesAreRemoved() {
+			fileRepository.createCSVFileByType(TEST_UUID, "20240101-20240102-1000", DATA,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			fileRepository.createCSVFileByType(TEST_UUID, "test-filename", DATA, FilePrefixType.METRIC_REPORT_PREFIX);
+			new File("./app/output/csv/test-uuid/metric-test-filename.csv").delete();
+
+			int removedCount = fileRepository.removeExpiredFilesByIndex(System.currentTimeMillis());
+
+			assertEquals(1, removedCount);
+			assertFalse(new File("./app/output/csv/test-uuid").exists());
+		}
+
+	}
+
+	@Nested
+	class WithReportStore {
+
+		private final ReportStore reportStore = mock(ReportStore.class);
+
+		private final FileRepository storeRepository = new FileRepository(new Gson(), reportStore,
+				new ExpiryIndex(expiryIndexPath, ONE_DAY_MILLISECONDS));
+
+		@Test
+		void shouldWriteAndReadJsonThroughReportStore() {
+			MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder()
+				.boardMetricsCompleted(true)
+				.build();
+			when(reportStore.read(FileType.METRICS_DATA_COMPLETED, TEST_UUID, "dataCompleted-1-2-3"))
+				.thenReturn("{\"boardMetricsCompleted\":true}");
+
+			storeRepository.createFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, "1-2-3", metricsDataCompleted,
+					FilePrefixType.DATA_COMPLETED_PREFIX);
+			MetricsDataCompleted result = storeRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
+					"1-2-3", MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+
+			verify(reportStore).write(FileType.METRICS_DATA_COMPLETED, TEST_UUID, "dataCompleted-1-2-3",
+					"{\"boardMetricsCompleted\":true}");
+			assertTrue(result.getBoardMetricsCompleted());
+			assertNull(storeRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, "4-5-6",
+					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX));
+		}
+
+		@Test
+		void shouldThrowExceptionWhenJsonInReportStoreIsBroken() {
+			when(reportStore.read(FileType.REPORT, TEST_UUID, "board-1-2-3")).thenReturn("{broken");
+
+			GenerateReportException exception = assertThrows(GenerateReportException.class,
+					() -> storeRepository.readFileByType(FileType.REPORT, TEST_UUID, "1-2-3",
+							MetricsDataCompleted.class, FilePrefixType.BOARD_REPORT_PREFIX));
+
+			assertEquals("Failed to read file report test-uuid board-1-2-3", exception.getMessage());
+		}
+
+		@Test
+		void shouldRemoveAndLookUpFilesThroughReportStore() {
+			when(reportStore.getFileNames(FileType.REPORT, TEST_UUID)).thenReturn(List.of("board-1-2-3"));
+			when(reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "1", "2")).thenReturn("1-2-3");
+
+			storeRepository.removeFileByType(FileType.ERROR, TEST_UUID, "1-2-3", FilePrefixType.BOARD_REPORT_PREFIX);
+
+			verify(reportStore).remove(FileType.ERROR, TEST_UUID, "board-1-2-3");
+			assertEquals(List.of("board-1-2-3"), storeRepository.getFiles(FileType.REPORT, TEST_UUID));
+			assertEquals("1-2-3",
+					storeRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT, TEST_UUID, "1",
+							"2"));
+			NotFoundException exception = assertThrows(NotFoundException.class,
+					() -> storeRepository.getFiles(FileType.CONFIGS, TEST_UUID));
+			assertEquals("Don't find the ./app/output/config/test-uuid folder in the report files",
+					exception.getMessage());
+		}
+
+		@Test
+		void shouldRemoveExpiredJsonFromReportStoreAndKeepCsvOnDisk() {
+			storeRepository.expiredDays = 1;
+
+			storeRepository.removeExpiredFiles(FileType.ERROR, ONE_DAY_MILLISECONDS + 10);
+			storeRepository.removeExpiredFiles(FileType.CSV, ONE_DAY_MILLISECONDS + 10);
+
+			verify(reportStore).removeExpired(FileType.ERROR, 10);
+			verify(reportStore, never()).removeExpired(eq(FileType.CSV), anyLong());
+		}
+
+		@Test
+		void shouldRemoveIndexedJsonFromReportStoreWhenSweepingByIndex() throws IOException {
+			FileUtils.cleanDirectory(expiryIndexPath.toFile());
+			storeRepository.expiredDays = 1;
+			when(reportStore.removeByTimeStamp(FileType.REPORT, TEST_UUID, 10)).thenReturn(2);
+			storeRepository.createFileByType(FileType.REPORT, TEST_UUID, "1-2-10", "data",
+					FilePrefixType.BOARD_REPORT_PREFIX);
+
+			int removedCount = storeRepository.removeExpiredFilesByIndex(2 * ONE_DAY_MILLISECONDS);
+
+			assertEquals(2, removedCount);
+			verify(reportStore).removeByTimeStamp(FileType.REPORT, TEST_UUID, 10);
+			verify(reportStore, never()).removeExpired(any(), anyLong());
+			FileUtils.cleanDirectory(expiryIndexPath.toFile());
+		}
+
 	}
 
 }
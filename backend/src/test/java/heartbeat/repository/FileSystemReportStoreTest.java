@@ -0,0 +1,64 @@
+package heartbeat.repository;
+
+import heartbeat.exception.GenerateReportException;
+import heartbeat.exception.NotFoundException;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+
+class FileSystemReportStoreTest {
+
+	private static final String TEST_UUID = "file-system-report-store-test";
+
+	private final FileSystemReportStore reportStore = new FileSystemReportStore();
+
+	@AfterEach
+	void afterEach() throws IOException {
+		FileUtils.deleteDirectory(new File("./app/output/report/" + TEST_UUID));
+	}
+
+	@Test
+	void shouldFindNewestTimeStampWhenTimeRangeWasGeneratedMoreThanOnce() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-1704153600000", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-1704067200000", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240103-1704240000000", "{}");
+
+		assertEquals("20240101-20240102-1704153600000",
+				reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
+	}
+
+	@Test
+	void shouldThrowNotFoundExceptionWhenLookingUpTimeRangeOfUnknownReport() {
+		NotFoundException exception = assertThrows(NotFoundException.class,
+				() -> reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
+
+		assertEquals("Don't find the ./app/output/report/file-system-report-store-test folder in the report files",
+				exception.getMessage());
+	}
+
+	@Test
+	void shouldThrowGenerateReportExceptionWhenFileCannotBeRead() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123", "{}");
+
+		try (MockedStatic<Files> files = mockStatic(Files.class)) {
+			files.when(() -> Files.readString(any())).thenThrow(new IOException("Permission denied"));
+
+			GenerateReportException exception = assertThrows(GenerateReportException.class,
+					() -> reportStore.read(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123"));
+
+			assertEquals("Failed to read file report file-system-report-store-test board-20240101-20240102-123",
+					exception.getMessage());
+		}
+	}
+
+}
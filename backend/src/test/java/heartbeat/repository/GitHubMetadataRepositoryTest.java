@@ -0,0 +1,165 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.codebase.github.Commit;
+import heartbeat.client.dto.codebase.github.CommitInfo;
+import heartbeat.client.dto.codebase.github.Committer;
+import heartbeat.client.dto.codebase.github.PullRequestInfo;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GitHubMetadataRepositoryTest {
+
+	private static final String BASE_PATH = "./app/github";
+
+	private static final String REPOSITORY = "au-heartbeat/HeartBeat";
+
+	private static final String COMMIT_ID = "0a1b2c3d4e5f60718293a4b5c6d7e8f901234567";
+
+	private final GitHubMetadataRepository gitHubMetadataRepository = new GitHubMetadataRepository(new Gson());
+
+	private final CommitInfo commitInfo = CommitInfo.builder()
+		.commitId(COMMIT_ID)
+		.commit(Commit.builder()
+			.committer(Committer.builder().date("2024-05-31T17:00:00Z").build())
+			.message("feat: add store")
+			.build())
+		.build();
+
+	@AfterEach
+	void tearDown() throws IOException {
+		FileUtils.deleteDirectory(new File(BASE_PATH));
+	}
+
+	@Test
+	void shouldFindSavedEntitiesByRepositoryAndShaRegardlessOfCase() {
+		PullRequestInfo pullRequestInfo = PullRequestInfo.builder()
+			.number(1)
+			.mergedAt("2024-06-01T00:00:00Z")
+			.mergeCommitSha(COMMIT_ID)
+			.user(PullRequestInfo.PullRequestUser.builder().login("alice").build())
+			.build();
+
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, commitInfo);
+		gitHubMetadataRepository.saveCommitPullRequests(REPOSITORY, COMMIT_ID, List.of(pullRequestInfo));
+		gitHubMetadataRepository.savePullRequestFirstCommit(REPOSITORY, 1, commitInfo);
+
+		assertEquals(Optional.of(commitInfo),
+				gitHubMetadataRepository.findCommit(REPOSITORY.toLowerCase(), COMMIT_ID.toUpperCase()));
+		List<PullRequestInfo> pullRequestInfos = gitHubMetadataRepository.findCommitPullRequests(REPOSITORY, COMMIT_ID)
+			.orElseThrow();
+		assertEquals(1, pullRequestInfos.size());
+		assertEquals(COMMIT_ID, pullRequestInfos.get(0).getMergeCommitSha());
+		assertEquals("alice", pullRequestInfos.get(0).getUser().getLogin());
+		assertEquals(Optional.of(commitInfo), gitHubMetadataRepository.findPullRequestFirstCommit(REPOSITORY, 1));
+		assertFalse(gitHubMetadataRepository.findPullRequestFirstCommit(REPOSITORY, 2).isPresent());
+		assertFalse(gitHubMetadataRepository.findCommit("au-heartbeat/other", COMMIT_ID).isPresent());
+	}
+
+	@Test
+	void shouldNotStoreWhenKeyIsInvalidOrValueIsMissing() {
+		gitHubMetadataRepository.saveCommit(REPOSITORY, "../../etc", commitInfo);
+		gitHubMetadataRepository.saveCommit(REPOSITORY, null, commitInfo);
+		gitHubMetadataRepository.saveCommit("", COMMIT_ID, commitInfo);
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, null);
+		gitHubMetadataRepository.savePullRequestFirstCommit(REPOSITORY, null, commitInfo);
+
+		assertFalse(new File(BASE_PATH).exists());
+		assertFalse(gitHubMetadataRepository.findCommit(REPOSITORY, "not-a-sha").isPresent());
+		assertFalse(gitHubMetadataRepository.findPullRequestFirstCommit(null, 1).isPresent());
+	}
+
+	@Test
+	void shouldNotStoreWhenStoreIsDisabled() {
+		gitHubMetadataRepository.enabled = false;
+
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, commitInfo);
+
+		assertFalse(new File(BASE_PATH).exists());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenStoredEntityIsBroken() throws IOException {
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, commitInfo);
+		Files.writeString(storedFiles().get(0), "{broken");
+
+		assertFalse(gitHubMetadataRepository.findCommit(REPOSITORY, COMMIT_ID).isPresent());
+	}
+
+	@Test
+	void shouldKeepStoreWhenEntityCannotBeWritten() throws IOException {
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, commitInfo);
+		Path stored = storedFiles().get(0);
+		Files.delete(stored);
+		Files.createDirectories(stored.resolve("occupied"));
+
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, commitInfo);
+
+		assertTrue(Files.isDirectory(stored));
+		try (Stream<Path> files = Files.list(stored.getParent())) {
+			assertEquals(1, files.count());
+		}
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEntitiesWhenStoreExceedsItsSize() throws IOException {
+		String secondCommitId = COMMIT_ID.replace('0', 'f');
+		String thirdCommitId = COMMIT_ID.replace('1', 'e');
+		gitHubMetadataRepository.saveCommit(REPOSITORY, COMMIT_ID, commitInfo);
+		gitHubMetadataRepository.saveCommit(REPOSITORY, secondCommitId, commitInfo);
+		List<Path> files = storedFiles();
+		long entityBytes = Files.size(files.get(0));
+		long now = System.currentTimeMillis();
+		for (Path file : files) {
+			Files.setLastModifiedTime(file, FileTime.fromMillis(now - 60_000));
+		}
+		gitHubMetadataRepository.maxSizeBytes = entityBytes * 5 / 2;
+
+		assertTrue(gitHubMetadataRepository.findCommit(REPOSITORY, COMMIT_ID).isPresent());
+		gitHubMetadataRepository.saveCommit(REPOSITORY, thirdCommitId, commitInfo);
+
+		assertTrue(gitHubMetadataRepository.findCommit(REPOSITORY, COMMIT_ID).isPresent());
+		assertFalse(gitHubMetadataRepository.findCommit(REPOSITORY, secondCommitId).isPresent());
+		assertTrue(gitHubMetadataRepository.findCommit(REPOSITORY, thirdCommitId).isPresent());
+	}
+
+	@Test
+	void shouldKeepStoredSizeInLineWithStoreWhenTheSameEntitiesAreWrittenConcurrently() throws IOException {
+		CompletableFuture.allOf(IntStream.range(0, 64)
+			.mapToObj(index -> CompletableFuture.runAsync(() -> gitHubMetadataRepository.saveCommit(REPOSITORY,
+					COMMIT_ID.substring(0, 7 + index % 4),
+					CommitInfo.builder().commitId("x".repeat(index)).build())))
+			.toArray(CompletableFuture[]::new)).join();
+
+		long size = 0;
+		for (Path file : storedFiles()) {
+			size += Files.size(file);
+		}
+		assertEquals(4, storedFiles().size());
+		assertEquals(size, ReflectionTestUtils.getField(gitHubMetadataRepository, "storedBytes"));
+	}
+
+	private static List<Path> storedFiles() throws IOException {
+		try (Stream<Path> paths = Files.walk(Path.of(BASE_PATH))) {
+			return paths.filter(Files::isRegularFile).sorted().toList();
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+package heartbeat.repository;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MVStoreReportStoreTest {
+
+	private static final String TEST_UUID = "test-uuid";
+
+	private final MVStore store = MVStore.open(null);
+
+	private final MVStoreReportStore reportStore = new MVStoreReportStore(store);
+
+	@AfterEach
+	void tearDown() {
+		store.close();
+	}
+
+	@Test
+	void shouldReadWrittenDocumentsAndListThemByReportId() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123", "{\"board\":1}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-123", "{\"pipeline\":1}");
+		reportStore.write(FileType.REPORT, TEST_UUID + "-other", "board-20240101-20240102-123", "{}");
+		reportStore.write(FileType.CONFIGS, TEST_UUID, "userConfig-20240101-20240102-123", "{}");
+
+		assertEquals("{\"board\":1}", reportStore.read(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123"));
+		assertNull(reportStore.read(FileType.ERROR, TEST_UUID, "board-20240101-20240102-123"));
+		assertEquals(List.of("board-20240101-20240102-123", "pipeline-20240101-20240102-123"),
+				reportStore.getFileNames(FileType.REPORT, TEST_UUID));
+		assertEquals(List.of(), reportStore.getFileNames(FileType.REPORT, "unknown"));
+	}
+
+	@Test
+	void shouldFindTimeRangeAndTimeStampByStartTimeAndEndTime() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240103-456", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "test-name", "{}");
+
+		assertEquals("20240101-20240102-123",
+				reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
+		assertEquals("20240101-20240103-456",
+				reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240103"));
+		assertNull(reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240100", "20240102"));
+		assertNull(reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240102", "20240103"));
+		assertNull(reportStore.findTimeRangeAndTimeStamp(FileType.CONFIGS, TEST_UUID, "20240101", "20240102"));
+	}
+
+	@Test
+	void shouldFindNewestTimeStampWhenTimeRangeWasGeneratedMoreThanOnce() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-1704067200000", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-1704153600000", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240103-1704240000000", "{}");
+
+		assertEquals("20240101-20240102-1704153600000",
+				reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
+	}
+
+	@Test
+	void shouldRemoveDocumentTogetherWithItsIndexes() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "test-name", "{}");
+
+		reportStore.remove(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123");
+		reportStore.remove(FileType.REPORT, TEST_UUID, "test-name");
+
+		assertNull(reportStore.read(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123"));
+		assertEquals(List.of(), reportStore.getFileNames(FileType.REPORT, TEST_UUID));
+		assertNull(reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
+		assertEquals(0, reportStore.removeExpired(FileType.REPORT, Long.MAX_VALUE));
+	}
+
+	@Test
+	void shouldRemoveOnlyExpiredDocumentsOfTheGivenType() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-100", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240103-300", "{}");
+		reportStore.write(FileType.CONFIGS, TEST_UUID, "userConfig-20240101-20240102-100", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240104-99999999999999999999", "{}");
+
+		int removedCount = reportStore.removeExpired(FileType.REPORT, 200);
+
+		assertEquals(2, removedCount);
+		assertEquals(List.of("board-20240101-20240103-300", "board-20240101-20240104-99999999999999999999"),
+				reportStore.getFileNames(FileType.REPORT, TEST_UUID));
+		assertEquals(List.of("userConfig-20240101-20240102-100"),
+				reportStore.getFileNames(FileType.CONFIGS, TEST_UUID));
+		assertNull(reportStore.findTimeRangeAndTimeStamp(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
+	}
+
+	@Test
+	void shouldRemoveDocumentsOfReportWrittenAtTimeStamp() {
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-100", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-1100", "{}");
+		reportStore.write(FileType.REPORT, TEST_UUID + "-other", "board-20240101-20240102-100", "{}");
+
+		int removedCount = reportStore.removeByTimeStamp(FileType.REPORT, TEST_UUID, 100);
+
+		assertEquals(2, removedCount);
+		assertEquals(List.of("board-20240101-20240102-1100"), reportStore.getFileNames(FileType.REPORT, TEST_UUID));
+		assertEquals(List.of("board-20240101-20240102-100"),
+				reportStore.getFileNames(FileType.REPORT, TEST_UUID + "-other"));
+	}
+
+}
@@ -0,0 +1,89 @@
+package heartbeat.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportStoreMigrationTest {
+
+	private static final String TEST_UUID = "test-uuid";
+
+	@Mock
+	ReportStore reportStore;
+
+	@TempDir
+	Path outputPath;
+
+	@Test
+	void shouldMoveJsonFilesThatAreNotInStoreYet() throws IOException {
+		Path reportPath = Files.createDirectories(outputPath.resolve("report").resolve(TEST_UUID));
+		Files.writeString(reportPath.resolve("board-20240101-20240102-123"), "{\"board\":1}");
+		Files.writeString(reportPath.resolve("pipeline-20240101-20240102-123"), "{\"pipeline\":1}");
+		Files.writeString(reportPath.resolve("pipeline-20240101-20240102-123.tmp"), "{");
+		Files.createDirectories(reportPath.resolve("occupied"));
+		Files.writeString(outputPath.resolve("report").resolve("not-a-report"), "");
+		Path csvPath = Files.createDirectories(outputPath.resolve("csv").resolve(TEST_UUID));
+		Files.writeString(csvPath.resolve("board-20240101-20240102-123.csv"), "a,b");
+		when(reportStore.read(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-123")).thenReturn("{}");
+
+		int migratedCount = new ReportStoreMigration(reportStore).migrate(outputPath);
+
+		assertEquals(1, migratedCount);
+		verify(reportStore).write(FileType.REPORT, TEST_UUID, "board-20240101-20240102-123", "{\"board\":1}");
+		verify(reportStore, never()).write(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-123",
+				"{\"pipeline\":1}");
+		verify(reportStore, never()).write(eq(FileType.CSV), anyString(), anyString(), anyString());
+		assertFalse(reportPath.resolve("board-20240101-20240102-123").toFile().exists());
+		assertFalse(reportPath.resolve("pipeline-20240101-20240102-123").toFile().exists());
+		assertTrue(reportPath.resolve("pipeline-20240101-20240102-123.tmp").toFile().exists());
+		assertTrue(csvPath.resolve("board-20240101-20240102-123.csv").toFile().exists());
+	}
+
+	@Test
+	void shouldRemoveReportDirectoryOnceAllOfItsFilesAreMoved() throws IOException {
+		Path reportPath = Files.createDirectories(outputPath.resolve("error").resolve(TEST_UUID));
+		Files.writeString(reportPath.resolve("board-20240101-20240102-123"), "{}");
+
+		int migratedCount = new ReportStoreMigration(reportStore).migrate(outputPath);
+
+		assertEquals(1, migratedCount);
+		assertFalse(reportPath.toFile().exists());
+	}
+
+	@Test
+	void shouldSkipFilesThatCannotBeRead() throws IOException {
+		Path reportPath = Files.createDirectories(outputPath.resolve("config").resolve(TEST_UUID));
+		Files.writeString(reportPath.resolve("userConfig-20240101-20240102-123"), "{}");
+
+		int migratedCount;
+		try (MockedStatic<Files> files = mockStatic(Files.class)) {
+			files.when(() -> Files.readString(any())).thenThrow(new IOException("Permission denied"));
+
+			migratedCount = new ReportStoreMigration(reportStore).migrate(outputPath);
+		}
+
+		assertEquals(0, migratedCount);
+		verify(reportStore, never()).write(any(), anyString(), anyString(), anyString());
+		assertTrue(reportPath.resolve("userConfig-20240101-20240102-123").toFile().exists());
+	}
+
+}
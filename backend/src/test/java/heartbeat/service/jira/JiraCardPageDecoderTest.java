@@ -0,0 +1,88 @@
+package heartbeat.service.jira;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.board.jira.AllCardsResponseDTO;
+import heartbeat.client.dto.board.jira.JiraCard;
+import heartbeat.controller.board.dto.response.CardCustomFieldKey;
+import heartbeat.controller.board.dto.response.TargetField;
+import heartbeat.exception.InternalServerErrorException;
+import heartbeat.service.board.jira.JiraCardPageDecoder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JiraCardPageDecoderTest {
+
+	private final JiraCardPageDecoder decoder = new JiraCardPageDecoder(new Gson());
+
+	private final List<TargetField> targetFields = List.of(
+			new TargetField("customfield_10016", "Story point estimate", false),
+			new TargetField("customfield_10020", "Sprint", false),
+			new TargetField("customfield_10021", "Flagged", false));
+
+	private final CardCustomFieldKey cardCustomFieldKey = CardCustomFieldKey.builder()
+		.storyPoints("customfield_10016")
+		.sprint("customfield_10020")
+		.flagged("customfield_10021")
+		.build();
+
+	@Test
+	void shouldDecodeIssuesWithStoryPointsSprintAndCustomFieldsInOnePass() {
+		String page = """
+				{"expand":"names","startAt":0,"total":2,"issues":[
+				{"key":"ADM-1","fields":{"customfield_10016":3,"summary":"first","customfield_10020":[
+				{"name":"Sprint 1","completeDate":"2023-05-01T03:51:24.898Z"},
+				{"name":"Sprint 2","completeDate":"2023-05-29T03:51:24.898Z"}],
+				"customfield_10021":[{"value":"Impediment"}]}},
+				{"key":"ADM-2","fields":{"customfield_10016":null,"customfield_10020":[]}}]}
+				""";
+
+		AllCardsResponseDTO result = decoder.decode(page, targetFields, cardCustomFieldKey);
+
+		assertThat(result.getTotal()).isEqualTo("2");
+		assertThat(result.getIssues()).extracting(JiraCard::getKey).containsExactly("ADM-1", "ADM-2");
+		JiraCard first = result.getIssues().get(0);
+		assertThat(first.getFields().getStoryPoints()).isEqualTo(3.0);
+		assertThat(first.getFields().getSummary()).isEqualTo("first");
+		assertThat(first.getFields().getSprint().getName()).isEqualTo("Sprint 2");
+		assertThat(first.getFields().getCustomFields().get("customfield_10016").getAsDouble()).isEqualTo(3.0);
+		assertThat(first.getFields().getCustomFields().get("customfield_10021").getAsString()).isEqualTo("Impediment");
+		JiraCard second = result.getIssues().get(1);
+		assertThat(second.getFields().getStoryPoints()).isZero();
+		assertThat(second.getFields().getSprint()).isNull();
+		assertThat(second.getFields().getCustomFields()).containsKeys("customfield_10016", "customfield_10020");
+	}
+
+	@Test
+	void shouldIgnoreStoryPointsWhenOverrideKeyIsInTargetField() {
+		cardCustomFieldKey.setInTargetField(true);
+		String page = """
+				{"total":true,"issues":[{"key":"ADM-1","fields":{"customfield_10016":3}}]}
+				""";
+
+		AllCardsResponseDTO result = decoder.decode(page, targetFields, cardCustomFieldKey);
+
+		assertThat(result.getTotal()).isEqualTo("true");
+		assertThat(result.getIssues().get(0).getFields().getStoryPoints()).isZero();
+	}
+
+	@Test
+	void shouldReturnEmptyIssuesWhenPageHasNoIssues() {
+		AllCardsResponseDTO result = decoder.decode("{\"total\":null,\"issues\":null}", targetFields,
+				cardCustomFieldKey);
+
+		assertThat(result.getTotal()).isNull();
+		assertThat(result.getIssues()).isEmpty();
+	}
+
+	@Test
+	void shouldThrowInternalServerErrorExceptionWhenPageIsMalformed() {
+		assertThatThrownBy(() -> decoder.decode("{\"total\":1,\"issues\":[", targetFields, cardCustomFieldKey))
+			.isInstanceOf(InternalServerErrorException.class)
+			.hasMessageContaining("Failed to decode Jira cards");
+	}
+
+}
@@ -2,8 +2,10 @@ package heartbeat.service.jira;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
 import heartbeat.client.JiraFeignClient;
 import heartbeat.client.component.JiraUriGenerator;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
 import heartbeat.client.dto.board.jira.FieldResponseDTO;
 import heartbeat.client.dto.board.jira.HistoryDetail;
@@ -40,7 +42,9 @@ import heartbeat.exception.NoContentException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.PermissionDenyException;
 import heartbeat.exception.UnauthorizedException;
+import heartbeat.repository.BoardSnapshotRepository;
 import heartbeat.service.board.jira.AssigneeFilterMethod;
+import heartbeat.service.board.jira.JiraCardPageDecoder;
 import heartbeat.service.board.jira.JiraService;
 import heartbeat.util.BoardUtil;
 import heartbeat.util.SystemUtil;
@@ -62,6 +66,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletionException;
 
 import static heartbeat.controller.board.BoardRequestFixture.BOARD_REQUEST_BUILDER;
@@ -130,6 +135,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -163,6 +169,9 @@ class JiraServiceTest {
 	@Mock
 	SystemUtil systemUtil;
 
+	@Mock
+	BoardSnapshotRepository boardSnapshotRepository;
+
 	ObjectMapper objectMapper = new ObjectMapper();
 
 	String token = "token";
@@ -171,8 +180,9 @@ class JiraServiceTest {
 
 	@BeforeEach
 	public void setUp() {
-		jiraService = new JiraService(executor = getTaskExecutor(), jiraFeignClient, urlGenerator, boardUtil,
-				systemUtil);
+		UpstreamExecutor upstreamExecutor = new UpstreamExecutor(executor = getTaskExecutor(), 100, 100, 100);
+		jiraService = new JiraService(upstreamExecutor, jiraFeignClient, urlGenerator, boardUtil, systemUtil,
+				new JiraCardPageDecoder(new Gson()), boardSnapshotRepository);
 	}
 
 	@AfterEach
@@ -318,6 +328,46 @@ class JiraServiceTest {
 			assertThat(boardConfigDTO.getTargetFields()).isEqualTo(expectTargetField);
 		}
 
+		@Test
+		void shouldNotChangeFetchedHistoryPageWhenMergingPagesOfCardHistory() throws JsonProcessingException {
+			JiraBoardConfigDTO jiraBoardConfigDTO = JIRA_BOARD_CONFIG_RESPONSE_BUILDER().build();
+			URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+			BoardRequestParam boardRequestParam = BOARD_REQUEST_BUILDER().build();
+			String jql = String.format(ALL_CARDS_JQL, boardRequestParam.getStartTime(), boardRequestParam.getEndTime());
+			String allDoneCards = objectMapper
+				.writeValueAsString(ALL_DONE_CARDS_RESPONSE_FOR_STORY_POINT_BUILDER().build())
+				.replaceAll("sprint", "customfield_10020")
+				.replaceAll("partner", "customfield_10037")
+				.replaceAll("flagged", "customfield_10021")
+				.replaceAll("development", "customfield_10000");
+			// the same instances are returned on every call, like entries of a cache that stores by reference
+			CardHistoryResponseDTO firstPage = CARD_HISTORY_RESPONSE_BUILDER().isLast(false)
+				.items(new ArrayList<>(CARD_HISTORY_RESPONSE_BUILDER().build().getItems()))
+				.build();
+			CardHistoryResponseDTO lastPage = CARD_HISTORY_RESPONSE_BUILDER().build();
+			doReturn(jiraBoardConfigDTO).when(jiraFeignClient).getJiraBoardConfiguration(baseUrl, BOARD_ID, token);
+			when(urlGenerator.getUri(any())).thenReturn(URI.create(SITE_ATLASSIAN_NET));
+			when(jiraFeignClient.getProject(baseUrl, "project key", token))
+				.thenReturn(JiraBoardProject.builder().style("next-gen").build());
+			when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token))
+				.thenReturn(DONE_STATUS_SELF_RESPONSE_BUILDER().build());
+			when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token))
+				.thenReturn(DOING_STATUS_SELF_RESPONSE_BUILDER().build());
+			when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+			when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), eq(0), anyInt(), any())).thenReturn(firstPage);
+			when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), eq(100), anyInt(), any()))
+				.thenReturn(lastPage);
+			when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
+				.thenReturn(FIELD_RESPONSE_BUILDER().build());
+
+			jiraService.getInfo(boardTypeJira, boardRequestParam);
+			jiraService.getInfo(boardTypeJira, boardRequestParam);
+			jiraService.shutdownExecutor();
+
+			assertThat(firstPage.getItems()).hasSize(5);
+			assertThat(lastPage.getItems()).hasSize(5);
+		}
+
 		@Test
 		void shouldReturnBoardInfoResponseWhenGetJiraBoardInfoHasTwoPage() throws IOException {
 			JiraBoardConfigDTO jiraBoardConfigDTO = JIRA_BOARD_CONFIG_RESPONSE_BUILDER().build();
@@ -1373,6 +1423,78 @@ class JiraServiceTest {
 			assertThat(doneCards.getCardsNumber()).isEqualTo(1);
 		}
 
+		@Test
+		void shouldFetchCardHistoryOnlyOnceWhenCallGetStoryPointsAndCycleTimeGivenRealDoneCard() {
+			URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+			StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = STORY_POINTS_FORM_ALL_DONE_CARD().build();
+			JiraBoardSetting jiraBoardSetting = JIRA_BOARD_SETTING_BUILD().build();
+			when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+			when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(
+					"{\"total\":1,\"issues\":[{\"expand\":\"expand\",\"id\":\"1\",\"self\":\"https:xxxx/issue/1\",\"key\":\"ADM-455\",\"fields\":{\"customfield_10016\":1,\"assignee\":{\"displayName\":\"Zhang San\"}}}]}");
+			when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(FIELD_RESPONSE_BUILDER().build());
+			when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
+				.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
+			when(boardUtil.getCycleTimeInfos(any(), any(), any(), any(), any())).thenReturn(CYCLE_TIME_INFO_LIST());
+			when(boardUtil.getOriginCycleTimeInfos(any(), any(), any(), any())).thenReturn(CYCLE_TIME_INFO_LIST());
+
+			CardCollection doneCards = jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+					storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
+					CalendarTypeEnum.REGULAR, zoneId);
+
+			assertThat(doneCards.getCardsNumber()).isEqualTo(1);
+			verify(jiraFeignClient, times(1)).getJiraCardHistoryByCount(any(), eq("ADM-455"), anyInt(), anyInt(),
+					any());
+		}
+
+		@Test
+		void shouldUseCardHistorySnapshotWhenCallGetStoryPointsAndCycleTimeGivenCardNotUpdatedSinceLastSync() {
+			URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+			StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = STORY_POINTS_FORM_ALL_DONE_CARD().build();
+			JiraBoardSetting jiraBoardSetting = JIRA_BOARD_SETTING_BUILD().build();
+			String updated = "2023-05-29T11:51:24.898+0800";
+			when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+			when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(
+					"{\"total\":2,\"issues\":[{\"key\":\"ADM-455\",\"fields\":{\"updated\":\"2023-05-29T11:51:24.898+0800\",\"assignee\":{\"displayName\":\"Zhang San\"}}},{\"key\":\"ADM-456\",\"fields\":{\"updated\":\"2023-05-30T11:51:24.898+0800\",\"assignee\":{\"displayName\":\"Zhang San\"}}}]}");
+			when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(FIELD_RESPONSE_BUILDER().build());
+			when(boardSnapshotRepository.findCardHistory(any(), eq("ADM-455"), eq(updated)))
+				.thenReturn(Optional.of(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build()));
+			when(jiraFeignClient.getJiraCardHistoryByCount(any(), eq("ADM-456"), anyInt(), anyInt(), any()))
+				.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
+			when(boardUtil.getCycleTimeInfos(any(), any(), any(), any(), any())).thenReturn(CYCLE_TIME_INFO_LIST());
+			when(boardUtil.getOriginCycleTimeInfos(any(), any(), any(), any())).thenReturn(CYCLE_TIME_INFO_LIST());
+
+			CardCollection doneCards = jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+					storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
+					CalendarTypeEnum.REGULAR, zoneId);
+
+			assertThat(doneCards.getCardsNumber()).isEqualTo(2);
+			verify(jiraFeignClient, never()).getJiraCardHistoryByCount(any(), eq("ADM-455"), anyInt(), anyInt(),
+					any());
+			verify(boardSnapshotRepository).saveCardHistory(any(), eq("ADM-456"), eq("2023-05-30T11:51:24.898+0800"),
+					any());
+			verify(boardSnapshotRepository, never()).saveCardHistory(any(), eq("ADM-455"), any(), any());
+		}
+
+		@Test
+		void shouldThrowPermissionDenyExceptionWhenCallGetStoryPointsAndCycleTimeGivenCardHistoryForbidden() {
+			URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+			StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = STORY_POINTS_FORM_ALL_DONE_CARD().build();
+			JiraBoardSetting jiraBoardSetting = JIRA_BOARD_SETTING_BUILD().build();
+			List<RequestJiraBoardColumnSetting> boardColumns = jiraBoardSetting.getBoardColumns();
+			List<String> users = List.of("Zhang San");
+			when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+			when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(
+					"{\"total\":1,\"issues\":[{\"expand\":\"expand\",\"id\":\"1\",\"self\":\"https:xxxx/issue/1\",\"key\":\"ADM-455\",\"fields\":{\"customfield_10016\":1,\"assignee\":{\"displayName\":\"Zhang San\"}}}]}");
+			when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(FIELD_RESPONSE_BUILDER().build());
+			when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
+				.thenThrow(new PermissionDenyException("no permission"));
+
+			assertThatThrownBy(() -> jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+					storyPointsAndCycleTimeRequest, boardColumns, users, "", CalendarTypeEnum.REGULAR, zoneId))
+				.isInstanceOf(PermissionDenyException.class)
+				.hasMessageContaining("no permission");
+		}
+
 		@Test
 		void shouldReturnNullWhenCallGetStoryPointsAndCycleTimeAndHistoryIsNull() {
 			URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
@@ -3,6 +3,7 @@ package heartbeat.service.pipeline.buildkite;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import heartbeat.client.BuildKiteFeignClient;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteJob;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteOrganizationsInfo;
@@ -102,7 +103,8 @@ class BuildKiteServiceTest {
 
 	@BeforeEach
 	public void setUp() {
-		buildKiteService = new BuildKiteService(cachePageService, getTaskExecutor(), buildKiteFeignClient);
+		UpstreamExecutor upstreamExecutor = new UpstreamExecutor(getTaskExecutor(), 100, 100, 100);
+		buildKiteService = new BuildKiteService(cachePageService, upstreamExecutor, buildKiteFeignClient);
 	}
 
 	public ThreadPoolTaskExecutor getTaskExecutor() {
@@ -440,6 +442,35 @@ class BuildKiteServiceTest {
 		assertThat(expectedDeployTimes).isEqualTo(deployTimes);
 	}
 
+	@Test
+	void shouldClassifyPassedAndFailedBuildsByLatestJobBeforeEndStepWhenCountDeployTimes() {
+		DeploymentEnvironment mockDeployment = DeploymentEnvironmentBuilder.withDefault().build();
+		List<BuildKiteBuildInfo> mockBuildKiteBuildInfos = List.of(
+				BuildKiteBuildInfoBuilder.withDefault()
+					.withJobs(Arrays.asList(null, BuildKiteJobBuilder.withDefault().withState(PASSED_STATE).build(),
+							BuildKiteJobBuilder.withDefault()
+								.withName("yy")
+								.withState(FAILED_STATE)
+								.withFinishedAt("2022-09-09T05:00:00.000Z")
+								.build()))
+					.build(),
+				BuildKiteBuildInfoBuilder.withDefault().build(),
+				BuildKiteBuildInfoBuilder.withDefault()
+					.withJobs(List.of(BuildKiteJobBuilder.withDefault().withState("canceled").build()))
+					.build(),
+				BuildKiteBuildInfoBuilder.withDefault()
+					.withJobs(List.of(BuildKiteJobBuilder.withDefault().withState(PASSED_STATE).build(),
+							BuildKiteJobBuilder.withDefault().withState(FAILED_STATE).build()))
+					.build());
+
+		DeployTimes deployTimes = buildKiteService.countDeployTimes(mockDeployment, mockBuildKiteBuildInfos,
+				MOCK_START_TIME, MOCK_END_TIME);
+
+		assertThat(deployTimes.getPassed()).hasSize(2);
+		assertThat(deployTimes.getFailed()).hasSize(1);
+		assertThat(deployTimes.getPassed()).extracting(DeployInfo::getJobName).containsOnly("xx");
+	}
+
 	@Test
 	void shouldReturnStepBeforeEndStepsGivenStepsArray() {
 		List<String> stepArray = Arrays.asList("Test", "Build", "Deploy qa", "Deploy prod");
@@ -48,13 +48,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -79,6 +81,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -95,6 +98,9 @@ class CSVFileGeneratorTest {
 	@InjectMocks
 	CSVFileGenerator csvFileGenerator;
 
+	@Captor
+	ArgumentCaptor<Stream<String[]>> csvRowsCaptor;
+
 	String mockTimeStamp = "168369327000";
 
 	public static final String TEST_UUID = "test-uuid";
@@ -114,7 +120,7 @@ class CSVFileGeneratorTest {
 					"Branch", "Revert" }, respectedData };
 			csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-			verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+			verifySavedPipelineData(expectedSavedData);
 		}
 
 		@Test
@@ -134,7 +140,7 @@ class CSVFileGeneratorTest {
 
 			csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-			verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+			verifySavedPipelineData(expectedSavedData);
 		}
 
 		@Test
@@ -154,7 +160,7 @@ class CSVFileGeneratorTest {
 
 			csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-			verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+			verifySavedPipelineData(expectedSavedData);
 		}
 
 		@Test
@@ -174,7 +180,7 @@ class CSVFileGeneratorTest {
 
 			csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-			verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+			verifySavedPipelineData(expectedSavedData);
 		}
 
 		@Test
@@ -194,7 +200,7 @@ class CSVFileGeneratorTest {
 
 			csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-			verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+			verifySavedPipelineData(expectedSavedData);
 		}
 
 		@Test
@@ -223,7 +229,13 @@ class CSVFileGeneratorTest {
 
 			csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-			verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+			verifySavedPipelineData(expectedSavedData);
+		}
+
+		private void verifySavedPipelineData(String[][] expectedSavedData) {
+			verify(fileRepository, times(1)).createCSVFileByRows(any(), any(), csvRowsCaptor.capture(),
+					eq(PIPELINE_REPORT_PREFIX));
+			assertArrayEquals(expectedSavedData, csvRowsCaptor.getValue().toArray(String[][]::new));
 		}
 
 		private static Stream<Arguments> generatePipelineCSVInfos() {
@@ -268,10 +280,12 @@ class CSVFileGeneratorTest {
 		void shouldReadMetricCsvDataWhenReportTypeIsMetric() throws IOException {
 			String mockTimeRangeTimeStamp = "123-456-789";
 
+			FileSystemResource csvResource = mock(FileSystemResource.class);
+			when(csvResource.getInputStream()).thenReturn(new ByteArrayInputStream("csv data".getBytes()));
 			when(fileRepository.readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, METRIC_REPORT_PREFIX))
-				.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+				.thenReturn(csvResource);
 
-			InputStreamResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.METRIC, TEST_UUID,
+			FileSystemResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.METRIC, TEST_UUID,
 					mockTimeRangeTimeStamp);
 
 			InputStream inputStream = dataFromCSV.getInputStream();
@@ -291,10 +305,12 @@ class CSVFileGeneratorTest {
 		void shouldReadPipelineCsvDataWhenReportTypeIsPipeline() throws IOException {
 			String mockTimeRangeTimeStamp = "123-456-789";
 
+			FileSystemResource csvResource = mock(FileSystemResource.class);
+			when(csvResource.getInputStream()).thenReturn(new ByteArrayInputStream("csv data".getBytes()));
 			when(fileRepository.readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, PIPELINE_REPORT_PREFIX))
-				.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+				.thenReturn(csvResource);
 
-			InputStreamResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.PIPELINE, TEST_UUID,
+			FileSystemResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.PIPELINE, TEST_UUID,
 					mockTimeRangeTimeStamp);
 
 			InputStream inputStream = dataFromCSV.getInputStream();
@@ -314,10 +330,12 @@ class CSVFileGeneratorTest {
 		void shouldReadBoardCsvDataWhenReportTypeIsBoard() throws IOException {
 			String mockTimeRangeTimeStamp = "123-456-789";
 
+			FileSystemResource csvResource = mock(FileSystemResource.class);
+			when(csvResource.getInputStream()).thenReturn(new ByteArrayInputStream("csv data".getBytes()));
 			when(fileRepository.readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, BOARD_REPORT_PREFIX))
-				.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+				.thenReturn(csvResource);
 
-			InputStreamResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.BOARD, TEST_UUID,
+			FileSystemResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.BOARD, TEST_UUID,
 					mockTimeRangeTimeStamp);
 
 			InputStream inputStream = dataFromCSV.getInputStream();
@@ -414,7 +432,8 @@ class CSVFileGeneratorTest {
 					"ADM", "Auto Dora Metrics", "Medium", null, null, "", null, null, null, null, null, null, null,
 					null, null, null, null, null, null, null, null, null, null };
 
-			String[][] result = csvFileGenerator.assembleBoardData(cardDTOList, fields, extraFields);
+			String[][] result = csvFileGenerator.assembleBoardData(cardDTOList, fields, extraFields)
+				.toArray(String[][]::new);
 
 			assertEquals(5, result.length);
 			assertArrayEquals(expectKey, result[0]);
@@ -0,0 +1,80 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.service.report.CalendarRegistry.CalendarSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarHealthIndicatorTest {
+
+	@Mock
+	private CalendarRegistry calendarRegistry;
+
+	@InjectMocks
+	private CalendarHealthIndicator calendarHealthIndicator;
+
+	@Test
+	void shouldBeUpWithLoadedYearsWhenCalendarsAreReady() {
+		CalendarSnapshot snapshot = CalendarSnapshot.builder()
+			.holidays(Map.of())
+			.loadedYears(Set.of(2020, 2021))
+			.failedYears(Set.of())
+			.loadedThroughYear(2021)
+			.build();
+		when(calendarRegistry.isReady()).thenReturn(true);
+		when(calendarRegistry.getSnapshots()).thenReturn(Map.of(CalendarTypeEnum.CN, snapshot));
+
+		Health health = calendarHealthIndicator.health();
+
+		assertEquals(Status.UP, health.getStatus());
+		assertEquals(Map.of("loadedThroughYear", 2021, "failedYears", Set.of()), health.getDetails().get("CN"));
+	}
+
+	@Test
+	void shouldBeDegradedWithFailedYearsWhenSomeYearsFailedToLoad() {
+		CalendarSnapshot loaded = CalendarSnapshot.builder()
+			.holidays(Map.of())
+			.loadedYears(Set.of(2020, 2021))
+			.failedYears(Set.of())
+			.loadedThroughYear(2021)
+			.build();
+		CalendarSnapshot failed = CalendarSnapshot.builder()
+			.holidays(Map.of())
+			.loadedYears(Set.of(2020, 2021))
+			.failedYears(Set.of(2021))
+			.loadedThroughYear(2021)
+			.build();
+		when(calendarRegistry.isReady()).thenReturn(true);
+		when(calendarRegistry.getSnapshots())
+			.thenReturn(Map.of(CalendarTypeEnum.REGULAR, loaded, CalendarTypeEnum.CN, failed));
+
+		Health health = calendarHealthIndicator.health();
+
+		assertEquals(CalendarHealthIndicator.DEGRADED, health.getStatus());
+		assertEquals(Map.of("loadedThroughYear", 2021, "failedYears", Set.of(2021)), health.getDetails().get("CN"));
+	}
+
+	@Test
+	void shouldBeOutOfServiceWhenCalendarsAreStillLoading() {
+		when(calendarRegistry.isReady()).thenReturn(false);
+		when(calendarRegistry.getSnapshots()).thenReturn(Map.of());
+
+		Health health = calendarHealthIndicator.health();
+
+		assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+		assertEquals(Map.of(), health.getDetails());
+	}
+
+}
@@ -0,0 +1,135 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.service.report.CalendarRegistry.CalendarSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarRegistryTest {
+
+	private static final int LAST_YEAR = Year.now().getValue() + 1;
+
+	@Mock
+	private ChinaHoliday chinaHoliday;
+
+	@Mock
+	private VietnamHoliday vietnamHoliday;
+
+	@Mock
+	private RegularHoliday regularHoliday;
+
+	@InjectMocks
+	private HolidayFactory holidayFactory;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(regularHoliday.loadHolidayList(any())).thenReturn(Map.of());
+		lenient().when(vietnamHoliday.loadHolidayList(any())).thenReturn(Map.of());
+	}
+
+	@Test
+	void shouldPreloadEveryYearAndPublishSnapshots() {
+		when(chinaHoliday.loadHolidayList(anyString()))
+			.thenAnswer(invocation -> Map.of(invocation.getArgument(0) + "-04-04", true));
+
+		CalendarRegistry calendarRegistry = new CalendarRegistry(holidayFactory, Runnable::run);
+
+		assertTrue(calendarRegistry.isReady());
+		CalendarSnapshot snapshot = calendarRegistry.getSnapshots().get(CalendarTypeEnum.CN);
+		assertEquals(LAST_YEAR, snapshot.getLoadedThroughYear());
+		assertEquals(LAST_YEAR - CalendarRegistry.FIRST_YEAR + 1, snapshot.getLoadedYears().size());
+		assertEquals(Set.of(), snapshot.getFailedYears());
+		assertTrue(calendarRegistry.getCalendar(CalendarTypeEnum.CN, 2024)
+			.isNonWorkDay(LocalDate.parse("2024-04-04").toEpochDay()));
+		assertTrue(calendarRegistry.getCalendar(CalendarTypeEnum.CN, LAST_YEAR + 10)
+			.isNonWorkDay(LocalDate.parse("2020-04-04").toEpochDay()));
+		verify(chinaHoliday, times(LAST_YEAR - CalendarRegistry.FIRST_YEAR + 1)).loadHolidayList(anyString());
+	}
+
+	@Test
+	void shouldFallBackToWeekendsWhenYearFailedToLoad() {
+		when(chinaHoliday.loadHolidayList(anyString())).thenAnswer(invocation -> {
+			if ("2024".equals(invocation.getArgument(0))) {
+				throw new IllegalStateException("calendar is unavailable");
+			}
+			return Map.of(invocation.getArgument(0) + "-04-04", true);
+		});
+
+		CalendarRegistry calendarRegistry = new CalendarRegistry(holidayFactory, Runnable::run);
+
+		CalendarSnapshot snapshot = calendarRegistry.getSnapshots().get(CalendarTypeEnum.CN);
+		assertEquals(Set.of(2024), snapshot.getFailedYears());
+		assertEquals(LAST_YEAR, snapshot.getLoadedThroughYear());
+		WorkDayCalendar calendar = calendarRegistry.getCalendar(CalendarTypeEnum.CN, 2024);
+		assertFalse(calendar.isNonWorkDay(LocalDate.parse("2024-04-04").toEpochDay()));
+		assertTrue(calendar.isNonWorkDay(LocalDate.parse("2023-04-04").toEpochDay()));
+	}
+
+	@Test
+	void shouldReloadFailedYearOnNextLookupOnceRetryDelayHasPassed() {
+		AtomicBoolean unavailable = new AtomicBoolean(true);
+		when(chinaHoliday.loadHolidayList(anyString())).thenAnswer(invocation -> {
+			if (unavailable.get() && "2024".equals(invocation.getArgument(0))) {
+				throw new IllegalStateException("calendar is unavailable");
+			}
+			return Map.of(invocation.getArgument(0) + "-04-04", true);
+		});
+		List<Runnable> pendingRetries = new ArrayList<>();
+
+		CalendarRegistry calendarRegistry = new CalendarRegistry(holidayFactory, Runnable::run, pendingRetries::add);
+		unavailable.set(false);
+
+		assertFalse(calendarRegistry.getCalendar(CalendarTypeEnum.CN, 2024)
+			.isNonWorkDay(LocalDate.parse("2024-04-04").toEpochDay()));
+		pendingRetries.forEach(Runnable::run);
+
+		assertTrue(calendarRegistry.getCalendar(CalendarTypeEnum.CN, 2024)
+			.isNonWorkDay(LocalDate.parse("2024-04-04").toEpochDay()));
+		assertEquals(Set.of(), calendarRegistry.getSnapshots().get(CalendarTypeEnum.CN).getFailedYears());
+		verify(chinaHoliday, times(LAST_YEAR - CalendarRegistry.FIRST_YEAR + 2)).loadHolidayList(anyString());
+	}
+
+	@Test
+	void shouldLoadMissingYearsOnDemandWhenPreloadIsStillRunning() {
+		when(chinaHoliday.loadHolidayList(anyString()))
+			.thenAnswer(invocation -> Map.of(invocation.getArgument(0) + "-04-04", true));
+		List<Runnable> pendingLoads = new ArrayList<>();
+
+		CalendarRegistry calendarRegistry = new CalendarRegistry(holidayFactory, pendingLoads::add);
+
+		assertFalse(calendarRegistry.isReady());
+		assertEquals(Map.of(), calendarRegistry.getSnapshots());
+		assertFalse(calendarRegistry.getCalendar(CalendarTypeEnum.CN, 2019)
+			.isNonWorkDay(LocalDate.parse("2019-04-04").toEpochDay()));
+
+		pendingLoads.forEach(Runnable::run);
+
+		assertTrue(calendarRegistry.isReady());
+		assertTrue(calendarRegistry.getCalendar(CalendarTypeEnum.CN, 2021)
+			.isNonWorkDay(LocalDate.parse("2021-04-04").toEpochDay()));
+	}
+
+}
@@ -1,21 +1,30 @@
 package heartbeat.service.report;
 
+import heartbeat.handler.ReportProgressRegistry;
+import heartbeat.repository.BoardSnapshotRepository;
 import heartbeat.repository.FileRepository;
 import heartbeat.repository.FileType;
 import heartbeat.service.report.scheduler.DeleteExpireCSVScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -24,9 +33,23 @@ class DeleteExpireCSVSchedulerTest {
 	@Mock
 	FileRepository fileRepository;
 
+	@Mock
+	BoardSnapshotRepository boardSnapshotRepository;
+
+	@Mock
+	ReportProgressRegistry reportProgressRegistry;
+
+	@Spy
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 	@InjectMocks
 	private DeleteExpireCSVScheduler deleteExpireCSVScheduler;
 
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(deleteExpireCSVScheduler, "fullScanIntervalHours", 24L);
+	}
+
 	@Test
 	void shouldTriggerBatchDeleteCSV() {
 
@@ -36,7 +59,38 @@ class DeleteExpireCSVSchedulerTest {
 		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.ERROR), anyLong());
 		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.METRICS_DATA_COMPLETED), anyLong());
 		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.CONFIGS), anyLong());
+		verify(boardSnapshotRepository, times(1)).removeExpiredSnapshots(anyLong());
+		verify(reportProgressRegistry, times(1)).removeExpired(anyLong());
+
+	}
+
+	@Test
+	void shouldSweepByExpiryIndexAfterFirstFullScanAndRecordSweepMetrics() {
+		when(fileRepository.removeExpiredFilesByIndex(anyLong())).thenReturn(3);
+
+		deleteExpireCSVScheduler.triggerBatchDelete();
+		deleteExpireCSVScheduler.triggerBatchDelete();
+		deleteExpireCSVScheduler.triggerBatchDelete();
+
+		verify(fileRepository, times(5)).removeExpiredFiles(any(), anyLong());
+		verify(fileRepository, times(2)).removeExpiredFilesByIndex(anyLong());
+		verify(boardSnapshotRepository, times(3)).removeExpiredSnapshots(anyLong());
+		assertEquals(1, meterRegistry.timer(DeleteExpireCSVScheduler.SWEEP_TIMER, "mode", "full").count());
+		assertEquals(2, meterRegistry.timer(DeleteExpireCSVScheduler.SWEEP_TIMER, "mode", "index").count());
+		assertEquals(6,
+				meterRegistry.counter(DeleteExpireCSVScheduler.SWEEP_REMOVED_COUNTER, "mode", "index").count());
+	}
+
+	@Test
+	void shouldFallBackToFullScanOnceFullScanIntervalHasPassed() {
+		ReflectionTestUtils.setField(deleteExpireCSVScheduler, "fullScanIntervalHours", 0L);
+
+		deleteExpireCSVScheduler.triggerBatchDelete();
+		deleteExpireCSVScheduler.triggerBatchDelete();
 
+		verify(fileRepository, times(10)).removeExpiredFiles(any(), anyLong());
+		verify(fileRepository, times(0)).removeExpiredFilesByIndex(anyLong());
+		assertEquals(2, meterRegistry.timer(DeleteExpireCSVScheduler.SWEEP_TIMER, "mode", "full").count());
 	}
 
 }
@@ -0,0 +1,60 @@
+package heartbeat.service.report;
+
+import heartbeat.client.component.UpstreamExecutor;
+import heartbeat.exception.NotFoundException;
+import heartbeat.service.report.calculator.model.FetchedData;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DoraFetchContextTest {
+
+	private final UpstreamExecutor upstreamExecutor = new UpstreamExecutor(Runnable::run, 1, 1, 1);
+
+	@Test
+	void shouldLoadBuildKiteDataOnlyOnceWhenGetBuildKiteDataMoreThanOnce() {
+		AtomicInteger loadTimes = new AtomicInteger();
+		FetchedData.BuildKiteData buildKiteData = new FetchedData.BuildKiteData();
+		DoraFetchContext fetchContext = new DoraFetchContext(upstreamExecutor, () -> {
+			loadTimes.incrementAndGet();
+			return buildKiteData;
+		});
+
+		CompletableFuture<FetchedData.BuildKiteData> first = CompletableFuture
+			.supplyAsync(fetchContext::getBuildKiteData);
+		CompletableFuture<FetchedData.BuildKiteData> second = CompletableFuture
+			.supplyAsync(fetchContext::getBuildKiteData);
+
+		assertSame(buildKiteData, first.join());
+		assertSame(buildKiteData, second.join());
+		assertSame(buildKiteData, fetchContext.getBuildKiteData());
+		assertEquals(1, loadTimes.get());
+	}
+
+	@Test
+	void shouldThrowBaseExceptionWhenLoadBuildKiteDataFailed() {
+		DoraFetchContext fetchContext = new DoraFetchContext(upstreamExecutor, () -> {
+			throw new NotFoundException("pipeline not found");
+		});
+
+		NotFoundException exception = assertThrows(NotFoundException.class, fetchContext::getBuildKiteData);
+
+		assertEquals("pipeline not found", exception.getMessage());
+	}
+
+	@Test
+	void shouldThrowCompletionExceptionWhenFutureFailedWithUnexpectedException() {
+		CompletableFuture<String> future = CompletableFuture.failedFuture(new IllegalStateException("unexpected"));
+
+		CompletionException exception = assertThrows(CompletionException.class, () -> DoraFetchContext.join(future));
+
+		assertEquals(IllegalStateException.class, exception.getCause().getClass());
+	}
+
+}
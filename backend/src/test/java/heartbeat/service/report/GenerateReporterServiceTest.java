@@ -1,6 +1,7 @@
 package heartbeat.service.report;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.controller.report.dto.response.PipelineMeanTimeToRecovery;
 import heartbeat.exception.GenerateReportException;
@@ -30,6 +31,8 @@ import heartbeat.controller.report.dto.response.Velocity;
 import heartbeat.exception.BaseException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.handler.AsyncMetricsDataHandler;
+import heartbeat.handler.ReportProgressRegistry;
+import heartbeat.handler.base.ReportProgress;
 import heartbeat.service.report.calculator.ClassificationCalculator;
 import heartbeat.service.report.calculator.CycleTimeCalculator;
 import heartbeat.service.report.calculator.DeploymentFrequencyCalculator;
@@ -40,6 +43,7 @@ import heartbeat.service.report.calculator.ReworkCalculator;
 import heartbeat.service.report.calculator.VelocityCalculator;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.source.github.GitHubService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -49,6 +53,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -57,7 +62,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static heartbeat.controller.report.dto.request.MetricType.BOARD;
 import static heartbeat.controller.report.dto.request.MetricType.DORA;
@@ -129,9 +137,18 @@ class GenerateReporterServiceTest {
 	@Mock
 	AsyncMetricsDataHandler asyncMetricsDataHandler;
 
+	@Mock
+	ReportProgressRegistry reportProgressRegistry;
+
 	@Mock
 	KanbanCsvService kanbanCsvService;
 
+	@Spy
+	ReportStageMetrics reportStageMetrics = new ReportStageMetrics(new SimpleMeterRegistry());
+
+	@Spy
+	UpstreamExecutor upstreamExecutor = new UpstreamExecutor(Runnable::run, 10, 10, 10);
+
 	@Captor
 	ArgumentCaptor<ReportResponse> responseArgumentCaptor;
 
@@ -193,6 +210,10 @@ class GenerateReporterServiceTest {
 			assertEquals(4, response.getRework().getTotalReworkTimes());
 			assertEquals(2, response.getRework().getTotalReworkCards());
 			assertNull(response.getRework().getFromDone());
+			verify(reportProgressRegistry).updateReport(TEST_UUID, timeRangeAndTimeStamp,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			verify(reportProgressRegistry).updateError(TEST_UUID, timeRangeAndTimeStamp,
+					FilePrefixType.BOARD_REPORT_PREFIX, false);
 
 			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
 				verify(reworkCalculator, times(1)).calculateRework(any(), any());
@@ -255,7 +276,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, never()).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -307,6 +328,8 @@ class GenerateReporterServiceTest {
 			assertEquals("Failed to fetch Jira info due to Jira board setting is null.",
 					exceptionCaptor.getValue().getMessage());
 			assertEquals(400, exceptionCaptor.getValue().getStatus());
+			verify(reportProgressRegistry).updateError(TEST_UUID, timeRangeAndTimeStamp,
+					FilePrefixType.BOARD_REPORT_PREFIX, true);
 		}
 
 		@Test
@@ -333,7 +356,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -378,7 +401,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -421,7 +444,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -457,7 +480,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(kanbanCsvService, never()).generateCsvInfo(eq(TEST_UUID), eq(request), any());
 			verify(asyncMetricsDataHandler, times(1)).updateMetricsDataCompletedInHandler(TEST_UUID,
 					timeRangeAndTimeStamp, BOARD, false);
@@ -499,7 +522,7 @@ class GenerateReporterServiceTest {
 
 			verify(reworkCalculator, times(1)).calculateRework(any(), any());
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -811,7 +834,7 @@ class GenerateReporterServiceTest {
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(false).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = new ArrayList<>();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
-			when(pipelineService.fetchGitHubData(request))
+			when(pipelineService.fetchGitHubData(any(), any()))
 				.thenReturn(FetchedData.BuildKiteData.builder().buildInfosList(List.of()).build());
 			when(gitHubService.fetchRepoData(any()))
 				.thenReturn(FetchedData.RepoData.builder().sourceControlLeadTimes(List.of()).build());
@@ -867,7 +890,7 @@ class GenerateReporterServiceTest {
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(false).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = new ArrayList<>();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
-			when(pipelineService.fetchGitHubData(any()))
+			when(pipelineService.fetchGitHubData(any(), any()))
 				.thenReturn(FetchedData.BuildKiteData.builder().buildInfosList(List.of()).build());
 			when(gitHubService.fetchRepoData(any()))
 				.thenReturn(FetchedData.RepoData.builder().sourceControlLeadTimes(List.of()).build());
@@ -880,6 +903,10 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateDoraReport(TEST_UUID, request);
 
 			verify(kanbanService, never()).fetchDataFromKanban(request);
+			verify(pipelineService, times(1)).fetchBuildKiteInfo(any());
+			verify(pipelineService, times(1)).fetchGitHubData(any(), any());
+			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
+					any(), eq(FilePrefixType.PIPELINE_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -924,7 +951,7 @@ class GenerateReporterServiceTest {
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(true).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
-			when(pipelineService.fetchGitHubData(request)).thenReturn(
+			when(pipelineService.fetchGitHubData(any(), any())).thenReturn(
 					FetchedData.BuildKiteData.builder().pipelineLeadTimes(List.of()).buildInfosList(List.of()).build());
 			when(gitHubService.fetchRepoData(any()))
 				.thenReturn(FetchedData.RepoData.builder().sourceControlLeadTimes(List.of()).build());
@@ -954,6 +981,49 @@ class GenerateReporterServiceTest {
 			assertEquals(404, exceptionCaptor.getValue().getStatus());
 		}
 
+		@Test
+		void shouldSaveErrorFileOnlyForSourceControlWhenFetchRepoDataFailed() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.calendarType(CalendarTypeEnum.REGULAR)
+				.startTime("10000")
+				.endTime("20000")
+				.metrics(List.of(MetricEnum.LEAD_TIME_FOR_CHANGES.getValue(),
+						MetricEnum.PIPELINE_CHANGE_FAILURE_RATE.getValue()))
+				.codebaseSetting(CodebaseSetting.builder().build())
+				.buildKiteSetting(BuildKiteSetting.builder().build())
+				.csvTimeStamp(TIMESTAMP)
+				.timezone("Asia/Shanghai")
+				.build();
+			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
+			FetchedData.BuildKiteData buildKiteData = FetchedData.BuildKiteData.builder()
+				.buildInfosList(List.of())
+				.build();
+
+			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
+					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(true).build());
+			when(pipelineService.fetchBuildKiteInfo(any())).thenReturn(buildKiteData);
+			when(pipelineService.fetchGitHubData(any(), eq(buildKiteData))).thenReturn(buildKiteData);
+			when(gitHubService.fetchRepoData(any())).thenThrow(new NotFoundException("repo not found"));
+
+			generateReporterService.generateDoraReport(TEST_UUID, request);
+
+			verify(pipelineService, times(1)).fetchBuildKiteInfo(any());
+			verify(leadTimeForChangesCalculator, never()).calculate(any(), any());
+			verify(pipelineChangeFailureRate, times(1)).calculate(any());
+			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
+					any(), eq(FilePrefixType.PIPELINE_REPORT_PREFIX));
+			verify(fileRepository, never()).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
+					any(), eq(FilePrefixType.SOURCE_CONTROL_PREFIX));
+			verify(fileRepository, times(1)).createFileByType(eq(ERROR), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
+					exceptionCaptor.capture(), eq(FilePrefixType.SOURCE_CONTROL_PREFIX));
+			verify(asyncMetricsDataHandler, times(1)).updateMetricsDataCompletedInHandler(TEST_UUID,
+					timeRangeAndTimeStamp, DORA, false);
+
+			assertEquals("repo not found", exceptionCaptor.getValue().getMessage());
+			assertEquals(404, exceptionCaptor.getValue().getStatus());
+		}
+
 	}
 
 	@Nested
@@ -1012,6 +1082,8 @@ class GenerateReporterServiceTest {
 		void setUp() {
 			reportId = String.valueOf(System.currentTimeMillis() + 2000000);
 			dataCompletedId = FileType.METRICS_DATA_COMPLETED + START_TIME + "-" + END_TIME + "-" + reportId;
+			when(reportProgressRegistry.find(eq(TEST_UUID), any(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<ReportProgress>>getArgument(2).get());
 		}
 
 		@Test
@@ -1283,6 +1355,40 @@ class GenerateReporterServiceTest {
 			assertFalse(res.getAllMetricsCompleted());
 		}
 
+		@Test
+		void shouldReadOnlyThePayloadsOfTheStagesKeptInMemory() {
+			String timeRangeAndTimeStamp = START_TIME + "-" + END_TIME + "-1234";
+			when(reportProgressRegistry.findLatestTimeRangeAndTimeStamp(TEST_UUID, START_TIME, END_TIME))
+				.thenReturn(Optional.of(timeRangeAndTimeStamp));
+			when(reportProgressRegistry.find(eq(TEST_UUID), eq(timeRangeAndTimeStamp), any()))
+				.thenReturn(ReportProgress.builder()
+					.metricsDataCompleted(MetricsDataCompleted.builder()
+						.boardMetricsCompleted(true)
+						.doraMetricsCompleted(false)
+						.overallMetricCompleted(false)
+						.build())
+					.reportedStages(Set.of(FilePrefixType.BOARD_REPORT_PREFIX))
+					.failedStages(Set.of(FilePrefixType.PIPELINE_REPORT_PREFIX))
+					.build());
+			when(fileRepository.readFileByType(REPORT, TEST_UUID, timeRangeAndTimeStamp, ReportResponse.class,
+					FilePrefixType.BOARD_REPORT_PREFIX))
+				.thenReturn(ReportResponse.builder().velocity(Velocity.builder().velocityForSP(3).build()).build());
+			when(fileRepository.readFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp, AsyncExceptionDTO.class,
+					FilePrefixType.PIPELINE_REPORT_PREFIX))
+				.thenReturn(new AsyncExceptionDTO(new NotFoundException("error")));
+
+			ReportResponse res = generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME);
+
+			assertTrue(res.getBoardMetricsCompleted());
+			assertFalse(res.getDoraMetricsCompleted());
+			assertEquals(3.0, res.getVelocity().getVelocityForSP());
+			assertEquals(404, res.getReportMetricsError().getPipelineMetricsError().getStatus());
+			assertNull(res.getReportMetricsError().getSourceControlMetricsError());
+			verify(fileRepository, never()).getFileTimeRangeAndTimeStampByStartTimeAndEndTime(any(), any(), any(),
+					any());
+			verify(fileRepository, times(2)).readFileByType(any(), any(), any(), any(), any());
+		}
+
 		@Test
 		void shouldGetDataFromCacheWhenGetComposedReportResponse() {
 			String timeRangeAndTimeStamp = START_TIME + "-" + END_TIME + "-" + reportId;
@@ -92,7 +92,7 @@ class KanbanCsvServiceTest {
 	private ArgumentCaptor<List<BoardCSVConfig>> csvFieldsCaptor;
 
 	@Captor
-	private ArgumentCaptor<String[][]> csvSheetCaptor;
+	private ArgumentCaptor<Stream<String[]>> csvSheetCaptor;
 
 	@Captor
 	private ArgumentCaptor<List<BoardCSVConfig>> csvNewFieldsCaptor;
@@ -1026,7 +1026,7 @@ class KanbanCsvServiceTest {
 			.realDoneCardCollection(CardCollection.builder().jiraCardDTOList(jiraCardDTOS).build())
 			.nonDoneCardCollection(CardCollection.builder().jiraCardDTOList(NonDoneJiraCardDTOList).build())
 			.build();
-		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(fakeSringArray);
+		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(Stream.of(fakeSringArray));
 		kanbanCsvService.generateCsvInfo(TEST_UUID, GenerateReportRequest.builder()
 			.jiraBoardSetting(JiraBoardSetting.builder()
 				.boardColumns(List.of(RequestJiraBoardColumnSetting.builder().name("TODO").value("To do").build(),
@@ -1046,7 +1046,7 @@ class KanbanCsvServiceTest {
 			.build(), cardCollectionInfo);
 
 		verify(csvFileGenerator).assembleBoardData(anyList(), csvFieldsCaptor.capture(), anyList());
-		verify(fileRepository).createCSVFileByType(eq(TEST_UUID), anyString(), csvSheetCaptor.capture(),
+		verify(fileRepository).createCSVFileByRows(eq(TEST_UUID), anyString(), csvSheetCaptor.capture(),
 				eq(FilePrefixType.BOARD_REPORT_PREFIX));
 
 		assertEquals(26, csvFieldsCaptor.getValue().size());
@@ -1055,13 +1055,14 @@ class KanbanCsvServiceTest {
 		assertEquals("Waiting For Deployment Days", targetValue.getLabel());
 		assertNull(targetValue.getOriginKey());
 
-		assertEquals(5, csvSheetCaptor.getValue().length);
-		assertEquals("cycle time", csvSheetCaptor.getValue()[0][0]);
-		assertEquals("Rework: total - In dev", csvSheetCaptor.getValue()[0][1]);
-		assertEquals("Rework: from Block", csvSheetCaptor.getValue()[0][2]);
-		assertEquals("Rework: from Waiting for testing", csvSheetCaptor.getValue()[0][3]);
-		assertEquals("Rework: from Testing", csvSheetCaptor.getValue()[0][4]);
-		assertEquals("Rework: from Done", csvSheetCaptor.getValue()[0][5]);
+		String[][] sheet = csvSheetCaptor.getValue().toArray(String[][]::new);
+		assertEquals(5, sheet.length);
+		assertEquals("cycle time", sheet[0][0]);
+		assertEquals("Rework: total - In dev", sheet[0][1]);
+		assertEquals("Rework: from Block", sheet[0][2]);
+		assertEquals("Rework: from Waiting for testing", sheet[0][3]);
+		assertEquals("Rework: from Testing", sheet[0][4]);
+		assertEquals("Rework: from Done", sheet[0][5]);
 	}
 
 	@Test
@@ -1101,7 +1102,7 @@ class KanbanCsvServiceTest {
 			.nonDoneCardCollection(CardCollection.builder().jiraCardDTOList(NonDoneJiraCardDTOList).build())
 			.build();
 		String[][] fakeSringArray = new String[][] { { "cycle time" }, { "1" }, { "2" }, { "3" }, { "4" } };
-		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(fakeSringArray);
+		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(Stream.of(fakeSringArray));
 		kanbanCsvService.generateCsvInfo(TEST_UUID, GenerateReportRequest.builder()
 			.jiraBoardSetting(JiraBoardSetting.builder()
 				.boardColumns(List.of(RequestJiraBoardColumnSetting.builder().name("TODO").value("To do").build(),
@@ -1121,7 +1122,7 @@ class KanbanCsvServiceTest {
 			.build(), cardCollectionInfo);
 
 		verify(csvFileGenerator).assembleBoardData(anyList(), csvFieldsCaptor.capture(), anyList());
-		verify(fileRepository).createCSVFileByType(eq(TEST_UUID), anyString(), csvSheetCaptor.capture(),
+		verify(fileRepository).createCSVFileByRows(eq(TEST_UUID), anyString(), csvSheetCaptor.capture(),
 				eq(FilePrefixType.BOARD_REPORT_PREFIX));
 
 		assertEquals(26, csvFieldsCaptor.getValue().size());
@@ -1130,13 +1131,14 @@ class KanbanCsvServiceTest {
 		assertEquals("Waiting For Deployment Days", targetValue.getLabel());
 		assertNull(targetValue.getOriginKey());
 
-		assertEquals(5, csvSheetCaptor.getValue().length);
-		assertEquals("cycle time", csvSheetCaptor.getValue()[0][0]);
-		assertEquals("Rework: total - In dev", csvSheetCaptor.getValue()[0][1]);
-		assertEquals("Rework: from Block", csvSheetCaptor.getValue()[0][2]);
-		assertEquals("Rework: from Waiting for testing", csvSheetCaptor.getValue()[0][3]);
-		assertEquals("Rework: from Testing", csvSheetCaptor.getValue()[0][4]);
-		assertEquals("Rework: from Done", csvSheetCaptor.getValue()[0][5]);
+		String[][] sheet = csvSheetCaptor.getValue().toArray(String[][]::new);
+		assertEquals(5, sheet.length);
+		assertEquals("cycle time", sheet[0][0]);
+		assertEquals("Rework: total - In dev", sheet[0][1]);
+		assertEquals("Rework: from Block", sheet[0][2]);
+		assertEquals("Rework: from Waiting for testing", sheet[0][3]);
+		assertEquals("Rework: from Testing", sheet[0][4]);
+		assertEquals("Rework: from Done", sheet[0][5]);
 	}
 
 	private static Stream<GenerateReportRequest> generateReportRequest() {
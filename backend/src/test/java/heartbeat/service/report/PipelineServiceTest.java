@@ -1,5 +1,6 @@
 package heartbeat.service.report;
 
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.codebase.github.LeadTime;
 import heartbeat.client.dto.codebase.github.PipelineLeadTime;
 import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
@@ -11,27 +12,36 @@ import heartbeat.controller.report.dto.request.BuildKiteSetting;
 import heartbeat.controller.report.dto.request.CodebaseSetting;
 import heartbeat.controller.report.dto.request.GenerateReportRequest;
 import heartbeat.controller.report.dto.response.PipelineCSVInfo;
+import heartbeat.exception.InternalServerErrorException;
+import heartbeat.exception.NotFoundException;
 import heartbeat.service.pipeline.buildkite.BuildKiteService;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.source.github.GitHubService;
 import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -43,7 +53,6 @@ import static org.mockito.Mockito.when;
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class PipelineServiceTest {
 
-	@InjectMocks
 	private PipelineService pipelineService;
 
 	@Mock
@@ -52,6 +61,8 @@ public class PipelineServiceTest {
 	@Mock
 	private GitHubService gitHubService;
 
+	private ThreadPoolTaskExecutor executor;
+
 	@Captor
 	ArgumentCaptor<Map<String, String>> roadMapArgumentCaptor;
 
@@ -61,6 +72,22 @@ public class PipelineServiceTest {
 
 	private final String MOCK_END_TIME = "1662739199000";
 
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(8);
+		executor.setQueueCapacity(100);
+		executor.initialize();
+		UpstreamExecutor upstreamExecutor = new UpstreamExecutor(executor, 10, 10, 10);
+		pipelineService = new PipelineService(buildKiteService, gitHubService, upstreamExecutor, new Semaphore(2));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
 	@Nested
 	class FetchGithubData {
 
@@ -71,7 +98,8 @@ public class PipelineServiceTest {
 				.metrics(new ArrayList<>())
 				.codebaseSetting(CodebaseSetting.builder().token(MOCK_TOKEN).build())
 				.build();
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData buildKiteData = pipelineService.fetchBuildKiteInfo(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request, buildKiteData);
 
 			assertEquals(0, result.getBuildInfosList().size());
 			verify(buildKiteService, never()).countDeployTimes(any(), any(), any(), any());
@@ -84,7 +112,8 @@ public class PipelineServiceTest {
 				.buildKiteSetting(BuildKiteSetting.builder().deploymentEnvList(new ArrayList<>()).build())
 				.metrics(new ArrayList<>())
 				.build();
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData buildKiteData = pipelineService.fetchBuildKiteInfo(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request, buildKiteData);
 
 			assertEquals(0, result.getPipelineLeadTimes().size());
 			verify(gitHubService, never()).fetchPipelinesLeadTime(any(), any(), any(), any());
@@ -112,7 +141,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData buildKiteData = pipelineService.fetchBuildKiteInfo(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request, buildKiteData);
 
 			assertEquals(1, result.getPipelineLeadTimes().size());
 			assertEquals(2, result.getBuildInfosList().size());
@@ -144,7 +174,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData buildKiteData = pipelineService.fetchBuildKiteInfo(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request, buildKiteData);
 
 			assertEquals(0, result.getPipelineLeadTimes().size());
 			assertEquals(2, result.getBuildInfosList().size());
@@ -176,7 +207,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData buildKiteData = pipelineService.fetchBuildKiteInfo(request);
+			pipelineService.fetchGitHubData(request, buildKiteData);
 
 			verify(gitHubService).fetchPipelinesLeadTime(any(), roadMapArgumentCaptor.capture(), any(), eq(request));
 			assertEquals("repo2", roadMapArgumentCaptor.getValue().get("env1"));
@@ -211,7 +243,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData buildKiteData = pipelineService.fetchBuildKiteInfo(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request, buildKiteData);
 
 			assertEquals(1, result.getPipelineLeadTimes().size());
 			assertEquals(1, result.getBuildInfosList().size());
@@ -321,6 +354,124 @@ public class PipelineServiceTest {
 
 		}
 
+		@Test
+		void shouldMergeResultsInDeploymentEnvOrderWhenEarlierPipelineIsSlower() {
+			List<DeploymentEnvironment> deploymentEnvironments = List.of(
+					DeploymentEnvironment.builder().id("env1").orgId("org").build(),
+					DeploymentEnvironment.builder().id("env2").orgId("org").build(),
+					DeploymentEnvironment.builder().id("env3").orgId("org").build());
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder().deploymentEnvList(deploymentEnvironments).build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.metrics(new ArrayList<>())
+				.build();
+
+			when(buildKiteService.fetchPipelineBuilds(any(), any(), any(), any())).thenAnswer(invocation -> {
+				DeploymentEnvironment deploymentEnvironment = invocation.getArgument(1);
+				if ("env1".equals(deploymentEnvironment.getId())) {
+					Thread.sleep(200);
+				}
+				return List.of();
+			});
+			when(buildKiteService.countDeployTimes(any(), any(), any(), any())).thenAnswer(invocation -> DeployTimes
+				.builder()
+				.pipelineId(invocation.<DeploymentEnvironment>getArgument(0).getId())
+				.build());
+
+			FetchedData.BuildKiteData result = pipelineService.fetchBuildKiteInfo(request);
+
+			assertEquals(List.of("env1", "env2", "env3"),
+					result.getBuildInfosList().stream().map(Map.Entry::getKey).toList());
+			assertEquals(List.of("env1", "env2", "env3"),
+					result.getDeployTimesList().stream().map(DeployTimes::getPipelineId).toList());
+			verify(buildKiteService, times(3)).fetchPipelineBuilds(any(), any(), any(), any());
+		}
+
+		@Test
+		void shouldThrowBaseExceptionWhenFetchPipelineBuildsFailed() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.deploymentEnvList(List.of(DeploymentEnvironment.builder().id("env1").build()))
+					.build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.metrics(new ArrayList<>())
+				.build();
+
+			when(buildKiteService.fetchPipelineBuilds(any(), any(), any(), any()))
+				.thenThrow(new NotFoundException("pipeline not found"));
+
+			NotFoundException exception = assertThrows(NotFoundException.class,
+					() -> pipelineService.fetchBuildKiteInfo(request));
+
+			assertEquals("pipeline not found", exception.getMessage());
+		}
+
+		@Test
+		void shouldThrowInternalServerErrorExceptionWhenCountDeployTimesFailedUnexpectedly() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.deploymentEnvList(List.of(DeploymentEnvironment.builder().id("env1").build()))
+					.build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.metrics(new ArrayList<>())
+				.build();
+
+			when(buildKiteService.fetchPipelineBuilds(any(), any(), any(), any())).thenReturn(List.of());
+			when(buildKiteService.countDeployTimes(any(), any(), any(), any()))
+				.thenThrow(new IllegalStateException("unexpected"));
+
+			InternalServerErrorException exception = assertThrows(InternalServerErrorException.class,
+					() -> pipelineService.fetchBuildKiteInfo(request));
+
+			assertEquals("Failed to fetch BuildKite builds, cause is unexpected", exception.getMessage());
+		}
+
+		@Test
+		void shouldThrowInternalServerErrorExceptionWhenInterruptedWhileWaitingForPipelineBudget() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.deploymentEnvList(List.of(DeploymentEnvironment.builder().id("env1").build()))
+					.build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.metrics(new ArrayList<>())
+				.build();
+			pipelineService = new PipelineService(buildKiteService, gitHubService,
+					new UpstreamExecutor(executor, 10, 10, 10), new Semaphore(0));
+
+			Thread.currentThread().interrupt();
+			InternalServerErrorException exception = assertThrows(InternalServerErrorException.class,
+					() -> pipelineService.fetchBuildKiteInfo(request));
+
+			assertTrue(Thread.interrupted());
+			assertEquals("Failed to fetch BuildKite builds, cause is interrupted", exception.getMessage());
+			verify(buildKiteService, never()).fetchPipelineBuilds(any(), any(), any(), any());
+		}
+
+		@Test
+		void shouldReleasePipelineBudgetWhenPipelineTaskCannotBeSubmitted() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.deploymentEnvList(List.of(DeploymentEnvironment.builder().id("env1").build()))
+					.build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.metrics(new ArrayList<>())
+				.build();
+			Semaphore pipelineBudget = new Semaphore(1);
+			pipelineService = new PipelineService(buildKiteService, gitHubService,
+					new UpstreamExecutor(executor, 10, 10, 10), pipelineBudget);
+			executor.shutdown();
+
+			assertThrows(RejectedExecutionException.class, () -> pipelineService.fetchBuildKiteInfo(request));
+
+			assertEquals(1, pipelineBudget.availablePermits());
+			verify(buildKiteService, never()).fetchPipelineBuilds(any(), any(), any(), any());
+		}
+
 	}
 
 	@Nested
@@ -530,6 +681,48 @@ public class PipelineServiceTest {
 			verify(buildKiteService, times(1)).getBuildKiteJob(any(), any(), any(), any(), any());
 		}
 
+
+		@Test
+		void shouldJoinLeadTimeByPipelineNameAndCommitIdAndKeepDeploymentEnvOrder() {
+			BuildKiteBuildInfo firstBuild = BuildKiteBuildInfo.builder().commit("commit1").build();
+			BuildKiteBuildInfo secondBuild = BuildKiteBuildInfo.builder().commit("commit2").build();
+			BuildKiteBuildInfo thirdBuild = BuildKiteBuildInfo.builder().commit("commit3").build();
+			LeadTime firstLeadTime = LeadTime.builder().commitId("commitId1").pullNumber(1).build();
+			when(buildKiteService.getPipelineStepNames(any())).thenReturn(List.of("check"));
+			when(buildKiteService.getStepsBeforeEndStep(any(), any())).thenReturn(List.of("check"));
+			when(buildKiteService.getBuildKiteJob(any(), any(), any(), eq(MOCK_START_TIME), eq(MOCK_END_TIME)))
+				.thenReturn(BuildKiteJob.builder().build());
+			when(buildKiteService.mapToDeployInfo(eq(firstBuild), any(), any(), any(), any()))
+				.thenReturn(DeployInfo.builder().commitId("commitId1").jobName("check").build());
+			when(buildKiteService.mapToDeployInfo(eq(secondBuild), any(), any(), any(), any()))
+				.thenReturn(DeployInfo.builder().jobName("check").build());
+			when(buildKiteService.mapToDeployInfo(eq(thirdBuild), any(), any(), any(), any()))
+				.thenReturn(DeployInfo.builder().commitId("commitId1").jobName("check").build());
+
+			List<PipelineCSVInfo> result = pipelineService.generateCSVForPipeline(MOCK_START_TIME, MOCK_END_TIME,
+					FetchedData.BuildKiteData.builder()
+						.pipelineLeadTimes(List.of(
+								PipelineLeadTime.builder()
+									.pipelineName("pipeline1")
+									.leadTimes(List.of(LeadTime.builder().build(), firstLeadTime,
+											LeadTime.builder().commitId("commitId1").pullNumber(2).build()))
+									.build(),
+								PipelineLeadTime.builder().pipelineName("pipeline2").build()))
+						.buildInfosList(List.of(Map.entry("env1", List.of(firstBuild, secondBuild)),
+								Map.entry("env2", List.of(thirdBuild)), Map.entry("env1", List.of(thirdBuild))))
+						.build(),
+					List.of(DeploymentEnvironment.builder().id("env1").name("pipeline1").build(),
+							DeploymentEnvironment.builder().id("env2").name("pipeline2").build(),
+							DeploymentEnvironment.builder().id("env3").name("pipeline3").build()));
+
+			assertEquals(3, result.size());
+			assertEquals(List.of(firstBuild, secondBuild, thirdBuild),
+					result.stream().map(PipelineCSVInfo::getBuildInfo).toList());
+			assertEquals(1, result.get(0).getLeadTimeInfo().getPullNumber());
+			assertNull(result.get(1).getLeadTimeInfo().getPullNumber());
+			assertNull(result.get(2).getLeadTimeInfo().getPullNumber());
+		}
+
 	}
 
 }
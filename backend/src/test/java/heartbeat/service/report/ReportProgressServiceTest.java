@@ -0,0 +1,190 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.response.ReportResponse;
+import heartbeat.exception.GenerateReportException;
+import heartbeat.handler.ReportProgressRegistry;
+import heartbeat.handler.base.AsyncExceptionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportProgressServiceTest {
+
+	private static final String TEST_UUID = "test-uuid";
+
+	private static final String START_TIME = "20240310";
+
+	private static final String END_TIME = "20240409";
+
+	@Mock
+	GenerateReporterService generateReporterService;
+
+	@Mock
+	ReportProgressRegistry reportProgressRegistry;
+
+	@Captor
+	ArgumentCaptor<BiConsumer<String, String>> listenerCaptor;
+
+	@Captor
+	ArgumentCaptor<SseEmitter.SseEventBuilder> eventCaptor;
+
+	private final SseEmitter emitter = mock(SseEmitter.class);
+
+	private final Runnable unsubscribe = mock(Runnable.class);
+
+	private ReportProgressService reportProgressService;
+
+	@BeforeEach
+	void setUp() {
+		reportProgressService = new ReportProgressService(generateReporterService, reportProgressRegistry,
+				Runnable::run, () -> emitter);
+		when(reportProgressRegistry.subscribe(eq(TEST_UUID), listenerCaptor.capture())).thenReturn(unsubscribe);
+	}
+
+	@Test
+	void shouldSendSnapshotThenEveryChangedStageOfTheSubscribedTimeRangeUntilAllMetricsCompleted()
+			throws IOException {
+		ReportResponse inProgress = ReportResponse.builder().allMetricsCompleted(false).build();
+		ReportResponse completed = ReportResponse.builder().allMetricsCompleted(true).build();
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenReturn(inProgress);
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, "1234", START_TIME, END_TIME))
+			.thenReturn(completed);
+
+		SseEmitter result = reportProgressService.subscribe(TEST_UUID, START_TIME, END_TIME);
+		listenerCaptor.getValue().accept("20240101-20240131-1234", "board");
+		listenerCaptor.getValue().accept(START_TIME + "-" + END_TIME + "-1234", "board");
+
+		assertSame(emitter, result);
+		verify(emitter).onCompletion(unsubscribe);
+		verify(emitter, times(2)).send(eventCaptor.capture());
+		assertEquals(List.of("event:snapshot\ndata:", inProgress, "\n\n"), dataOf(eventCaptor.getAllValues().get(0)));
+		assertEquals(List.of("event:board\ndata:", completed, "\n\n"), dataOf(eventCaptor.getAllValues().get(1)));
+		InOrder inOrder = inOrder(unsubscribe, emitter);
+		inOrder.verify(unsubscribe).run();
+		inOrder.verify(emitter, times(1)).complete();
+	}
+
+	@Test
+	void shouldOnlyQueueEventsOnGeneratorThreadAndSendThemInOrderOnProgressExecutor() throws IOException {
+		List<Runnable> tasks = new ArrayList<>();
+		reportProgressService = new ReportProgressService(generateReporterService, reportProgressRegistry, tasks::add,
+				() -> emitter);
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().allMetricsCompleted(false).build());
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, "1234", START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().allMetricsCompleted(false).build());
+
+		reportProgressService.subscribe(TEST_UUID, START_TIME, END_TIME);
+		listenerCaptor.getValue().accept(START_TIME + "-" + END_TIME + "-1234", "board");
+
+		verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+		while (!tasks.isEmpty()) {
+			tasks.remove(0).run();
+		}
+		verify(emitter, times(2)).send(eventCaptor.capture());
+		assertEquals("event:snapshot\ndata:", dataOf(eventCaptor.getAllValues().get(0)).get(0));
+		assertEquals("event:board\ndata:", dataOf(eventCaptor.getAllValues().get(1)).get(0));
+	}
+
+	@Test
+	void shouldKeepSendingLaterEventsWhenComposingAnEventFailsUnexpectedly() throws IOException {
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenThrow(new IllegalArgumentException("broken report"));
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, "1234", START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().allMetricsCompleted(false).build());
+
+		reportProgressService.subscribe(TEST_UUID, START_TIME, END_TIME);
+		listenerCaptor.getValue().accept(START_TIME + "-" + END_TIME + "-1234", "board");
+
+		verify(emitter).send(eventCaptor.capture());
+		assertEquals("event:board\ndata:", dataOf(eventCaptor.getValue()).get(0));
+	}
+
+	@Test
+	void shouldUnsubscribeWithoutCompletingWhenEmitterIsAlreadyCompleted() throws IOException {
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().build());
+		doThrow(new IllegalStateException("ResponseBodyEmitter has already completed")).when(emitter)
+			.send(any(SseEmitter.SseEventBuilder.class));
+
+		reportProgressService.subscribe(TEST_UUID, START_TIME, END_TIME);
+
+		verify(unsubscribe).run();
+		verify(emitter, never()).complete();
+		verify(emitter, never()).completeWithError(any());
+	}
+
+	@Test
+	void shouldSendReportErrorAndCompleteWhenReportCannotBeComposed() throws IOException {
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenThrow(new GenerateReportException("Failed to get report due to report time expires"));
+
+		reportProgressService.subscribe(TEST_UUID, START_TIME, END_TIME);
+
+		verify(emitter).send(eventCaptor.capture());
+		List<Object> data = dataOf(eventCaptor.getValue());
+		assertEquals("event:reportError\ndata:", data.get(0));
+		assertEquals(new AsyncExceptionDTO("Failed to get report due to report time expires", 500), data.get(1));
+		verify(emitter).complete();
+	}
+
+	@Test
+	void shouldCompleteWithErrorWhenSubscriberIsGone() throws IOException {
+		IOException exception = new IOException("Broken pipe");
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().build());
+		doThrow(exception).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+		reportProgressService.subscribe(TEST_UUID, START_TIME, END_TIME);
+
+		verify(unsubscribe).run();
+		verify(emitter).completeWithError(exception);
+		verify(emitter, never()).complete();
+	}
+
+	@Test
+	void shouldCreateEmitterWithTimeoutWhenCreatedBySpring() {
+		ReportProgressService service = new ReportProgressService(generateReporterService, reportProgressRegistry,
+				Runnable::run);
+		when(generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().build());
+
+		SseEmitter result = service.subscribe(TEST_UUID, START_TIME, END_TIME);
+
+		assertNotNull(result.getTimeout());
+		assertTrue(result.getTimeout() > 0);
+	}
+
+	private static List<Object> dataOf(SseEmitter.SseEventBuilder event) {
+		return event.build().stream().map(ResponseBodyEmitter.DataWithMediaType::getData).toList();
+	}
+
+}
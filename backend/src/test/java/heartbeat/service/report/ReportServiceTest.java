@@ -29,7 +29,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -51,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -94,8 +95,10 @@ public class ReportServiceTest {
 		void shouldCallCsvFileGeneratorToGotTheStreamWhenTimestampIsValid() throws IOException {
 			long validTimestamp = System.currentTimeMillis() + 20000L;
 			String mockTimeRangeTimeStamp = START_TIME + "-" + END_TIME + "-" + validTimestamp;
+			FileSystemResource csvResource = mock(FileSystemResource.class);
+			when(csvResource.getInputStream()).thenReturn(new ByteArrayInputStream("csv data".getBytes()));
 			when(csvFileGenerator.getDataFromCSV(ReportType.METRIC, TEST_UUID, mockTimeRangeTimeStamp))
-				.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+				.thenReturn(csvResource);
 			when(fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT, TEST_UUID,
 					START_TIME, END_TIME))
 				.thenReturn(START_TIME + "-" + END_TIME + "-" + validTimestamp);
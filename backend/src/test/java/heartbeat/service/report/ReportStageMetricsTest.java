@@ -0,0 +1,54 @@
+package heartbeat.service.report;
+
+import heartbeat.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static heartbeat.service.report.ReportStageMetrics.CSV;
+import static heartbeat.service.report.ReportStageMetrics.FETCH;
+import static heartbeat.service.report.ReportStageMetrics.STAGE_TIMER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportStageMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ReportStageMetrics reportStageMetrics = new ReportStageMetrics(meterRegistry);
+
+	@Test
+	void shouldReturnResultAndTimeSuccessfulStage() {
+		String result = reportStageMetrics.record(FETCH, "board", () -> "cards");
+
+		assertEquals("cards", result);
+		assertEquals(1, meterRegistry.get(STAGE_TIMER)
+			.tags("stage", FETCH, "report", "board", "outcome", "success")
+			.timer()
+			.count());
+	}
+
+	@Test
+	void shouldTimeFailedStageAndRethrow() {
+		assertThrows(BadRequestException.class, () -> reportStageMetrics.run(CSV, "pipeline", () -> {
+			throw new BadRequestException("setting is null");
+		}));
+
+		assertEquals(1, meterRegistry.get(STAGE_TIMER)
+			.tags("stage", CSV, "report", "pipeline", "outcome", "error")
+			.timer()
+			.count());
+	}
+
+	@Test
+	void shouldRunAction() {
+		AtomicBoolean ran = new AtomicBoolean();
+
+		reportStageMetrics.run(CSV, "board", () -> ran.set(true));
+
+		assertTrue(ran.get());
+	}
+
+}
@@ -0,0 +1,75 @@
+package heartbeat.service.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkDayCalendarTest {
+
+	private final WorkDayCalendar calendar = WorkDayCalendar.of(Map.of("2024-04-04", true, "2024-04-05", true,
+			"2024-04-06", true, "2024-04-07", false, "2024-05-01", true));
+
+	private static long day(String date) {
+		return LocalDate.parse(date).toEpochDay();
+	}
+
+	private static boolean isWeekend(long epochDay) {
+		DayOfWeek dayOfWeek = LocalDate.ofEpochDay(epochDay).getDayOfWeek();
+		return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+	}
+
+	@Test
+	void shouldUseHolidaysInsideRangeAndWeekendsOutsideRange() {
+		assertTrue(calendar.isNonWorkDay(day("2024-04-04")));
+		assertFalse(calendar.isNonWorkDay(day("2024-04-07")));
+		assertTrue(calendar.isNonWorkDay(day("2024-04-13")));
+		assertFalse(calendar.isNonWorkDay(day("2024-04-08")));
+		assertTrue(calendar.isNonWorkDay(day("2023-12-31")));
+		assertFalse(calendar.isNonWorkDay(day("2024-05-02")));
+	}
+
+	@Test
+	void shouldCountNonWorkDaysSameAsDayByDayWalk() {
+		long from = day("2024-03-20");
+		long to = day("2024-05-20");
+		for (long start = from; start <= to; start += 3) {
+			for (long end = start; end <= to; end += 5) {
+				long expected = 0;
+				for (long epochDay = start; epochDay <= end; epochDay++) {
+					expected += calendar.isNonWorkDay(epochDay) ? 1 : 0;
+				}
+				assertEquals(expected, calendar.countNonWorkDays(start, end));
+			}
+		}
+		assertEquals(0, calendar.countNonWorkDays(to, from));
+	}
+
+	@Test
+	void shouldCountWeekendsWhenCalendarIsEmpty() {
+		WorkDayCalendar emptyCalendar = WorkDayCalendar.of(Map.of());
+		long from = day("1969-12-01");
+		long to = day("1970-02-01");
+		long expected = 0;
+		for (long epochDay = from; epochDay <= to; epochDay++) {
+			assertEquals(isWeekend(epochDay), emptyCalendar.isNonWorkDay(epochDay));
+			expected += isWeekend(epochDay) ? 1 : 0;
+		}
+
+		assertEquals(expected, emptyCalendar.countNonWorkDays(from, to));
+	}
+
+	@Test
+	void shouldFindNearestWorkDaysInsideRange() {
+		assertEquals(day("2024-04-07"), calendar.nextWorkDay(day("2024-04-04"), day("2024-04-10")));
+		assertEquals(day("2024-04-03"), calendar.previousWorkDay(day("2024-04-06"), day("2024-04-01")));
+		assertEquals(day("2024-04-07"), calendar.nextWorkDay(day("2024-04-04"), day("2024-04-06")));
+		assertEquals(day("2024-04-03"), calendar.previousWorkDay(day("2024-04-06"), day("2024-04-04")));
+	}
+
+}
@@ -22,6 +22,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -66,7 +67,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
+			workDay = new WorkDay(new CalendarRegistry(holidayFactory, ForkJoinPool.commonPool()));
 
 			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
 				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
@@ -120,7 +121,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
+			workDay = new WorkDay(new CalendarRegistry(holidayFactory, ForkJoinPool.commonPool()));
 
 			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
 				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
@@ -165,7 +166,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
+			workDay = new WorkDay(new CalendarRegistry(holidayFactory, ForkJoinPool.commonPool()));
 
 			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
 				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
@@ -249,7 +250,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
+			workDay = new WorkDay(new CalendarRegistry(holidayFactory, ForkJoinPool.commonPool()));
 
 			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
 				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
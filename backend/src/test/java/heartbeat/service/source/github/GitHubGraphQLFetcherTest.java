@@ -0,0 +1,199 @@
+package heartbeat.service.source.github;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import heartbeat.client.GitHubFeignClient;
+import heartbeat.client.dto.codebase.github.CommitInfo;
+import heartbeat.client.dto.codebase.github.PullRequestInfo;
+import heartbeat.exception.InternalServerErrorException;
+import heartbeat.service.source.github.model.CommitPullRequests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubGraphQLFetcherTest {
+
+	private static final String TOKEN = "Bearer mockToken";
+
+	private static final String REPOSITORY = "mockOrg/mockRepo";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	GitHubFeignClient gitHubFeignClient;
+
+	@Test
+	void shouldResolvePullRequestsAndFirstCommitsOfCommitsInOneQuery() throws JsonProcessingException {
+		GitHubGraphQLFetcher fetcher = new GitHubGraphQLFetcher(gitHubFeignClient, true, 50);
+		when(gitHubFeignClient.queryGraphQL(eq(TOKEN), any())).thenReturn(json("""
+				{
+				  "data": {
+				    "repository": {
+				      "c0": {
+				        "oid": "111",
+				        "committedDate": "2022-07-23T04:05:00Z",
+				        "message": "Merge pull request #1",
+				        "committer": { "name": "GitHub", "email": "noreply@github.com" },
+				        "author": {
+				          "name": "test-user",
+				          "email": "test@heartbeat.com",
+				          "date": "2022-07-23T12:05:00+08:00"
+				        },
+				        "associatedPullRequests": {
+				          "nodes": [
+				            {
+				              "number": 1,
+				              "url": "https://github.com/mockOrg/mockRepo/pull/1",
+				              "createdAt": "2022-07-23T04:03:00Z",
+				              "mergedAt": "2022-07-23T04:04:00Z",
+				              "mergeCommit": { "oid": "111" },
+				              "author": { "login": "test-user" },
+				              "commits": {
+				                "nodes": [
+				                  {
+				                    "commit": { "oid": "100", "committedDate": "2022-07-23T04:02:00Z", "message": "a" }
+				                  }
+				                ]
+				              }
+				            },
+				            {
+				              "number": 2,
+				              "url": "https://github.com/mockOrg/mockRepo/pull/2",
+				              "createdAt": "2022-07-23T04:01:00Z",
+				              "mergedAt": null,
+				              "mergeCommit": null,
+				              "author": null,
+				              "commits": { "nodes": [] }
+				            }
+				          ]
+				        }
+				      },
+				      "c1": null
+				    }
+				  },
+				  "errors": [ { "type": "NOT_FOUND", "path": [ "repository", "c1" ] } ]
+				}
+				"""));
+
+		Map<String, CommitPullRequests> result = fetcher.fetchCommitPullRequests(REPOSITORY,
+				List.of("111", "222", "111"), TOKEN);
+
+		ArgumentCaptor<Map<String, Object>> body = bodyCaptor();
+		verify(gitHubFeignClient).queryGraphQL(eq(TOKEN), body.capture());
+		String query = (String) body.getValue().get("query");
+		assertTrue(query.startsWith("query($owner: String!, $name: String!, $c0: GitObjectID!, $c1: GitObjectID!)"));
+		assertTrue(query.contains("c0: object(oid: $c0) { ... on Commit {"));
+		assertFalse(query.contains("$c2"));
+		assertEquals(Map.of("owner", "mockOrg", "name", "mockRepo", "c0", "111", "c1", "222"),
+				body.getValue().get("variables"));
+
+		assertEquals(1, result.size());
+		CommitPullRequests commitPullRequests = result.get("111");
+		CommitInfo commitInfo = commitPullRequests.getCommitInfo();
+		assertEquals("111", commitInfo.getCommitId());
+		assertEquals("2022-07-23T04:05:00Z", commitInfo.getCommit().getCommitter().getDate());
+		assertEquals("GitHub", commitInfo.getCommit().getCommitter().getName());
+		assertEquals("test-user", commitInfo.getCommit().getAuthor().getName());
+		assertEquals("Merge pull request #1", commitInfo.getCommit().getMessage());
+
+		List<PullRequestInfo> pullRequests = commitPullRequests.getPullRequests();
+		assertEquals(2, pullRequests.size());
+		assertEquals(1, pullRequests.get(0).getNumber());
+		assertEquals("2022-07-23T04:04:00Z", pullRequests.get(0).getMergedAt());
+		assertEquals("111", pullRequests.get(0).getMergeCommitSha());
+		assertEquals("test-user", pullRequests.get(0).getUser().getLogin());
+		assertNull(pullRequests.get(1).getMergedAt());
+		assertNull(pullRequests.get(1).getMergeCommitSha());
+		assertNull(pullRequests.get(1).getUser().getLogin());
+
+		assertEquals(1, commitPullRequests.getFirstCommits().size());
+		CommitInfo firstCommit = commitPullRequests.getFirstCommits().get(1);
+		assertEquals("100", firstCommit.getCommitId());
+		assertEquals("2022-07-23T04:02:00Z", firstCommit.getCommit().getCommitter().getDate());
+		assertNull(firstCommit.getCommit().getAuthor().getName());
+	}
+
+	@Test
+	void shouldFetchFirstCommitsOfPullRequestsInBatches() throws JsonProcessingException {
+		GitHubGraphQLFetcher fetcher = new GitHubGraphQLFetcher(gitHubFeignClient, true, 2);
+		when(gitHubFeignClient.queryGraphQL(eq(TOKEN), any())).thenReturn(json("""
+				{ "data": { "repository": {
+				  "p0": {
+				    "commits": { "nodes": [ { "commit": { "oid": "a", "committedDate": "2024-05-31T17:00:00Z" } } ] }
+				  },
+				  "p1": null
+				} } }
+				"""), json("""
+				{ "data": { "repository": {
+				  "p0": {
+				    "commits": { "nodes": [ { "commit": { "oid": "c", "committedDate": "2024-06-01T17:00:00Z" } } ] }
+				  }
+				} } }
+				"""));
+
+		Map<Integer, CommitInfo> result = fetcher.fetchFirstCommits(REPOSITORY, List.of(1, 2, 3, 1), TOKEN);
+
+		ArgumentCaptor<Map<String, Object>> body = bodyCaptor();
+		verify(gitHubFeignClient, times(2)).queryGraphQL(eq(TOKEN), body.capture());
+		assertTrue(((String) body.getAllValues().get(0).get("query")).contains("p1: pullRequest(number: $p1)"));
+		assertEquals(Map.of("owner", "mockOrg", "name", "mockRepo", "p0", 3),
+				body.getAllValues().get(1).get("variables"));
+		assertEquals(2, result.size());
+		assertEquals("a", result.get(1).getCommitId());
+		assertEquals("2024-06-01T17:00:00Z", result.get(3).getCommit().getCommitter().getDate());
+	}
+
+	@Test
+	void shouldThrowInternalServerErrorExceptionWhenGraphQLReturnsNoData() throws JsonProcessingException {
+		GitHubGraphQLFetcher fetcher = new GitHubGraphQLFetcher(gitHubFeignClient, true, 50);
+		when(gitHubFeignClient.queryGraphQL(eq(TOKEN), any()))
+			.thenReturn(json("{ \"errors\": [ { \"type\": \"RATE_LIMITED\" } ] }"));
+
+		InternalServerErrorException exception = assertThrows(InternalServerErrorException.class,
+				() -> fetcher.fetchCommitPullRequests(REPOSITORY, List.of("111"), TOKEN));
+
+		assertEquals("Failed to query GitHub GraphQL, cause is [{\"type\":\"RATE_LIMITED\"}]",
+				exception.getMessage());
+	}
+
+	@Test
+	void shouldPartitionByBatchSizeWithinGitHubNodeLimit() {
+		GitHubGraphQLFetcher tooSmall = new GitHubGraphQLFetcher(gitHubFeignClient, false, 0);
+		GitHubGraphQLFetcher tooLarge = new GitHubGraphQLFetcher(gitHubFeignClient, true, 500);
+
+		assertFalse(tooSmall.isEnabled());
+		assertTrue(tooLarge.isEnabled());
+		assertEquals(List.of(List.of(1), List.of(2), List.of(3)), tooSmall.partition(List.of(1, 2, 3)));
+		assertEquals(List.of(100, 50),
+				tooLarge.partition(Collections.nCopies(150, "sha")).stream().map(List::size).toList());
+	}
+
+	private JsonNode json(String content) throws JsonProcessingException {
+		return objectMapper.readTree(content);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ArgumentCaptor<Map<String, Object>> bodyCaptor() {
+		return ArgumentCaptor.forClass(Map.class);
+	}
+
+}
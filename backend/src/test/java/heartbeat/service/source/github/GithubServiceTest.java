@@ -1,6 +1,7 @@
 package heartbeat.service.source.github;
 
 import heartbeat.client.GitHubFeignClient;
+import heartbeat.client.component.UpstreamExecutor;
 import heartbeat.client.dto.codebase.github.Author;
 import heartbeat.client.dto.codebase.github.BranchesInfoDTO;
 import heartbeat.client.dto.codebase.github.Commit;
@@ -29,10 +30,12 @@ import heartbeat.exception.InternalServerErrorException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.PermissionDenyException;
 import heartbeat.exception.UnauthorizedException;
+import heartbeat.repository.GitHubMetadataRepository;
 import heartbeat.service.pipeline.buildkite.CachePageService;
 import heartbeat.service.report.WorkDay;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.report.model.WorkInfo;
+import heartbeat.service.source.github.model.CommitPullRequests;
 import heartbeat.service.source.github.model.PipelineInfoOfRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +53,7 @@ import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletionException;
 
 import static heartbeat.TestFixtures.GITHUB_REPOSITORY;
@@ -66,6 +70,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -78,6 +83,8 @@ class GithubServiceTest {
 
 	private static final String JOB_NAME = PIPELINE_STEP;
 
+	private static final String GITHUB_REPOSITORY_NAME = "XXXX-fs/fs-platform-onboarding";
+
 	@Mock
 	GitHubFeignClient gitHubFeignClient;
 
@@ -87,6 +94,12 @@ class GithubServiceTest {
 	@Mock
 	CachePageService cachePageService;
 
+	@Mock
+	GitHubGraphQLFetcher gitHubGraphQLFetcher;
+
+	@Mock
+	GitHubMetadataRepository gitHubMetadataRepository;
+
 	GitHubService githubService;
 
 	@Mock
@@ -182,7 +195,9 @@ class GithubServiceTest {
 			.pipelineName(deployTimes.get(0).getPipelineName())
 			.build();
 
-		githubService = new GitHubService(gitHubFeignClient, cachePageService, getTaskExecutor(), workDay);
+		githubService = new GitHubService(gitHubFeignClient, cachePageService,
+				new UpstreamExecutor(getTaskExecutor(), 100, 100, 100), workDay, gitHubGraphQLFetcher,
+				gitHubMetadataRepository);
 	}
 
 	@AfterEach
@@ -714,6 +729,167 @@ class GithubServiceTest {
 		assertEquals(expect, result);
 	}
 
+	@Test
+	void shouldReturnPipeLineLeadTimeByGraphQLWhenGraphQLIsEnabled() {
+		String mockToken = "mockToken";
+		GenerateReportRequest request = GenerateReportRequest.builder()
+			.timezone("Asia/Shanghai")
+			.calendarType(CalendarTypeEnum.REGULAR)
+			.build();
+		when(gitHubGraphQLFetcher.isEnabled()).thenReturn(true);
+		when(gitHubGraphQLFetcher.partition(any())).thenAnswer(invocation -> List.of(invocation.getArgument(0)));
+		when(gitHubMetadataRepository.findCommit(any(), any())).thenReturn(Optional.of(commitInfo));
+		when(gitHubMetadataRepository.findCommitPullRequests(any(), any()))
+			.thenReturn(Optional.of(List.of(pullRequestInfo)));
+		when(gitHubGraphQLFetcher.fetchCommitPullRequests("XXXX-fs/fs-platform-onboarding", List.of("111"),
+				"Bearer mockToken"))
+			.thenReturn(Map.of("111", CommitPullRequests.builder()
+				.commitInfo(commitInfo)
+				.pullRequests(List.of(pullRequestInfo))
+				.firstCommits(Map.of(1, commitInfo))
+				.build()));
+		when(workDay.calculateWorkTimeAndHolidayBetween(any(Long.class), any(Long.class), any(CalendarTypeEnum.class),
+				any(ZoneId.class)))
+			.thenAnswer(invocation -> {
+				long firstParam = invocation.getArgument(0);
+				long secondParam = invocation.getArgument(1);
+				return WorkInfo.builder().workTime(secondParam - firstParam).build();
+			});
+
+		List<PipelineLeadTime> result = githubService.fetchPipelinesLeadTime(deployTimes, repositoryMap, mockToken,
+				request);
+
+		assertEquals(pipelineLeadTimes, result);
+		verify(gitHubFeignClient, never()).getPullRequestListInfo(any(), any(), any());
+		verify(gitHubFeignClient, never()).getPullRequestCommitInfo(any(), any(), any());
+		verify(gitHubFeignClient, never()).getCommitInfo(any(), any(), any());
+		verify(gitHubMetadataRepository).saveCommit(GITHUB_REPOSITORY_NAME, "111", commitInfo);
+		verify(gitHubMetadataRepository).saveCommitPullRequests(GITHUB_REPOSITORY_NAME, "111",
+				List.of(pullRequestInfo));
+		verify(gitHubMetadataRepository).savePullRequestFirstCommit(GITHUB_REPOSITORY_NAME, 1, commitInfo);
+	}
+
+	@Test
+	void shouldReturnPipeLineLeadTimeByGraphQLFromMetadataStoreWithoutCallingGitHub() {
+		GenerateReportRequest request = GenerateReportRequest.builder()
+			.timezone("Asia/Shanghai")
+			.calendarType(CalendarTypeEnum.REGULAR)
+			.build();
+		when(gitHubGraphQLFetcher.isEnabled()).thenReturn(true);
+		when(gitHubMetadataRepository.findCommit(GITHUB_REPOSITORY_NAME, "111")).thenReturn(Optional.of(commitInfo));
+		when(gitHubMetadataRepository.findCommitPullRequests(GITHUB_REPOSITORY_NAME, "111"))
+			.thenReturn(Optional.of(List.of(pullRequestInfo)));
+		when(gitHubMetadataRepository.findPullRequestFirstCommit(GITHUB_REPOSITORY_NAME, 1))
+			.thenReturn(Optional.of(commitInfo));
+		when(workDay.calculateWorkTimeAndHolidayBetween(any(Long.class), any(Long.class), any(CalendarTypeEnum.class),
+				any(ZoneId.class)))
+			.thenAnswer(invocation -> {
+				long firstParam = invocation.getArgument(0);
+				long secondParam = invocation.getArgument(1);
+				return WorkInfo.builder().workTime(secondParam - firstParam).build();
+			});
+
+		List<PipelineLeadTime> result = githubService.fetchPipelinesLeadTime(deployTimes, repositoryMap, "mockToken",
+				request);
+
+		assertEquals(pipelineLeadTimes, result);
+		verify(gitHubGraphQLFetcher, never()).fetchCommitPullRequests(any(), any(), any());
+	}
+
+	@Test
+	void shouldStoreOnlyCommitWhenGraphQLFindsNoMergedPullRequest() {
+		GenerateReportRequest request = GenerateReportRequest.builder().build();
+		when(gitHubGraphQLFetcher.isEnabled()).thenReturn(true);
+		when(gitHubGraphQLFetcher.partition(any())).thenAnswer(invocation -> List.of(invocation.getArgument(0)));
+		when(gitHubGraphQLFetcher.fetchCommitPullRequests(any(), any(), any()))
+			.thenReturn(Map.of("111", CommitPullRequests.builder().commitInfo(commitInfo).build()));
+
+		List<PipelineLeadTime> result = githubService.fetchPipelinesLeadTime(deployTimes, repositoryMap, "mockToken",
+				request);
+
+		assertEquals(1658548980000L, result.get(0).getLeadTimes().get(0).getNoPRCommitTime());
+		verify(gitHubMetadataRepository).saveCommit(GITHUB_REPOSITORY_NAME, "111", commitInfo);
+		verify(gitHubMetadataRepository, never()).saveCommitPullRequests(any(), any(), any());
+	}
+
+	@Test
+	void shouldReturnPipeLineLeadTimeFromMetadataStoreWithoutCallingGitHub() {
+		GenerateReportRequest request = GenerateReportRequest.builder()
+			.timezone("Asia/Shanghai")
+			.calendarType(CalendarTypeEnum.REGULAR)
+			.build();
+		when(gitHubMetadataRepository.findCommit(GITHUB_REPOSITORY_NAME, "111")).thenReturn(Optional.of(commitInfo));
+		when(gitHubMetadataRepository.findCommitPullRequests(GITHUB_REPOSITORY_NAME, "111"))
+			.thenReturn(Optional.of(List.of(pullRequestInfo)));
+		when(gitHubMetadataRepository.findPullRequestFirstCommit(GITHUB_REPOSITORY_NAME, 1))
+			.thenReturn(Optional.of(commitInfo));
+		when(workDay.calculateWorkTimeAndHolidayBetween(any(Long.class), any(Long.class), any(CalendarTypeEnum.class),
+				any(ZoneId.class)))
+			.thenAnswer(invocation -> {
+				long firstParam = invocation.getArgument(0);
+				long secondParam = invocation.getArgument(1);
+				return WorkInfo.builder().workTime(secondParam - firstParam).build();
+			});
+
+		List<PipelineLeadTime> result = githubService.fetchPipelinesLeadTime(deployTimes, repositoryMap, "mockToken",
+				request);
+
+		assertEquals(pipelineLeadTimes, result);
+		verify(gitHubFeignClient, never()).getPullRequestListInfo(any(), any(), any());
+		verify(gitHubFeignClient, never()).getPullRequestCommitInfo(any(), any(), any());
+		verify(gitHubFeignClient, never()).getCommitInfo(any(), any(), any());
+	}
+
+	@Test
+	void shouldStoreMergedPullRequestsAndCommitsFetchedFromGitHub() {
+		GenerateReportRequest request = GenerateReportRequest.builder()
+			.timezone("Asia/Shanghai")
+			.calendarType(CalendarTypeEnum.REGULAR)
+			.build();
+		when(gitHubFeignClient.getPullRequestListInfo(any(), any(), any())).thenReturn(List.of(pullRequestInfo));
+		when(gitHubFeignClient.getPullRequestCommitInfo(any(), any(), any())).thenReturn(List.of(commitInfo));
+		when(gitHubFeignClient.getCommitInfo(any(), any(), any())).thenReturn(commitInfo);
+		when(workDay.calculateWorkTimeAndHolidayBetween(any(Long.class), any(Long.class), any(CalendarTypeEnum.class),
+				any(ZoneId.class)))
+			.thenReturn(WorkInfo.builder().workTime(60000L).build());
+
+		githubService.fetchPipelinesLeadTime(deployTimes, repositoryMap, "mockToken", request);
+
+		verify(gitHubMetadataRepository).saveCommit(GITHUB_REPOSITORY_NAME, "111", commitInfo);
+		verify(gitHubMetadataRepository).saveCommitPullRequests(GITHUB_REPOSITORY_NAME, "111",
+				List.of(pullRequestInfo));
+		verify(gitHubMetadataRepository).savePullRequestFirstCommit(GITHUB_REPOSITORY_NAME, 1, commitInfo);
+	}
+
+	@Test
+	void shouldReturnNoMergeLeadTimeByGraphQLWhenCommitIsNotFound() {
+		String mockToken = "mockToken";
+		GenerateReportRequest request = GenerateReportRequest.builder().build();
+		List<PipelineLeadTime> expect = List.of(PipelineLeadTime.builder()
+			.pipelineStep(PIPELINE_STEP)
+			.pipelineName("Name")
+			.leadTimes(List.of(LeadTime.builder()
+				.commitId("111")
+				.jobStartTime(1658549040000L)
+				.jobFinishTime(1658549160000L)
+				.pipelineCreateTime(1658549100000L)
+				.prLeadTime(0L)
+				.pipelineLeadTime(120000)
+				.totalTime(120000)
+				.firstCommitTime(1658549040000L)
+				.isRevert(null)
+				.build()))
+			.build());
+		when(gitHubGraphQLFetcher.isEnabled()).thenReturn(true);
+		when(gitHubGraphQLFetcher.partition(any())).thenAnswer(invocation -> List.of(invocation.getArgument(0)));
+		when(gitHubGraphQLFetcher.fetchCommitPullRequests(any(), any(), any())).thenReturn(Map.of());
+
+		List<PipelineLeadTime> result = githubService.fetchPipelinesLeadTime(deployTimes, repositoryMap, mockToken,
+				request);
+
+		assertEquals(expect, result);
+	}
+
 	@Test
 	void shouldReturnEmptyMergeLeadTimeWhenPullRequestInfoGot404Error() {
 		String mockToken = "mockToken";
@@ -960,6 +1136,39 @@ class GithubServiceTest {
 				allOrganizations);
 	}
 
+	@Test
+	void shouldThrowExceptionOfPageWhenGetOtherPageOfOrganizationsFailed() {
+		String mockToken = "mockToken";
+		PageOrganizationsInfoDTO firstPage = PageOrganizationsInfoDTO.builder()
+			.totalPage(2)
+			.pageInfo(List.of(OrganizationsInfoDTO.builder().login("test-org1").build()))
+			.build();
+		when(cachePageService.getGitHubOrganizations("Bearer " + mockToken, 1, 100)).thenReturn(firstPage);
+		when(cachePageService.getGitHubOrganizations("Bearer " + mockToken, 2, 100))
+			.thenThrow(new NotFoundException("page not found"));
+
+		var exception = assertThrows(NotFoundException.class, () -> githubService.getAllOrganizations(mockToken));
+
+		assertEquals("page not found", exception.getMessage());
+	}
+
+	@Test
+	void shouldThrowInternalServerErrorExceptionWhenGetOtherPageOfOrganizationsFailedUnexpectedly() {
+		String mockToken = "mockToken";
+		PageOrganizationsInfoDTO firstPage = PageOrganizationsInfoDTO.builder()
+			.totalPage(2)
+			.pageInfo(List.of(OrganizationsInfoDTO.builder().login("test-org1").build()))
+			.build();
+		when(cachePageService.getGitHubOrganizations("Bearer " + mockToken, 1, 100)).thenReturn(firstPage);
+		when(cachePageService.getGitHubOrganizations("Bearer " + mockToken, 2, 100))
+			.thenThrow(new IllegalStateException("broken page"));
+
+		var exception = assertThrows(InternalServerErrorException.class,
+				() -> githubService.getAllOrganizations(mockToken));
+
+		assertEquals("Failed to get github pages, cause is broken page", exception.getMessage());
+	}
+
 	@Test
 	void shouldReturnNoOrganizationsWhenOrganizationIsNullInTheFirstPage() {
 		String mockToken = "mockToken";
@@ -1351,6 +1560,76 @@ class GithubServiceTest {
 		assertNull(leadTime.getPipelineCreateTime());
 	}
 
+	@Test
+	void shouldFetchFirstCodeCommitsByGraphQLWhenGraphQLIsEnabled() {
+		String mockToken = "mockToken";
+		GenerateReportRequest request = GenerateReportRequest.builder()
+			.timezone("Asia/Shanghai")
+			.calendarType(CalendarTypeEnum.CN)
+			.startTime("1717171200000")
+			.endTime("1719763199999")
+			.codebaseSetting(CodebaseSetting.builder()
+				.token(mockToken)
+				.crews(List.of())
+				.codebases(List.of(CodeBase.builder()
+					.organization("mockOrg")
+					.repo("mockRepo")
+					.branches(List.of("mockBranch1"))
+					.build()))
+				.build())
+			.build();
+		CommitInfo firstCodeCommit = CommitInfo.builder()
+			.commit(Commit.builder()
+				.committer(Committer.builder().date("2024-05-31T17:00:00Z").build())
+				.message("mockMessage")
+				.build())
+			.build();
+		pullRequestInfo = PullRequestInfo.builder()
+			.number(1)
+			.createdAt("2024-05-31T17:00:00Z")
+			.mergedAt("2024-06-30T15:59:59Z")
+			.user(PullRequestInfo.PullRequestUser.builder().login("mockCrew1").build())
+			.build();
+		PullRequestInfo pullRequestWithoutStoredCommit = PullRequestInfo.builder()
+			.number(2)
+			.createdAt("2024-05-31T17:00:00Z")
+			.mergedAt("2024-06-30T15:59:59Z")
+			.user(PullRequestInfo.PullRequestUser.builder().login("mockCrew2").build())
+			.build();
+		when(cachePageService.getGitHubPullRequest(eq("Bearer " + mockToken), eq("mockOrg"), eq("mockRepo"),
+				anyString(), anyInt(), eq(100)))
+			.thenReturn(PagePullRequestInfo.builder()
+				.totalPage(1)
+				.pageInfo(List.of(pullRequestInfo, pullRequestWithoutStoredCommit))
+				.build());
+		when(gitHubGraphQLFetcher.isEnabled()).thenReturn(true);
+		when(gitHubMetadataRepository.findPullRequestFirstCommit("mockOrg/mockRepo", 1))
+			.thenReturn(Optional.of(firstCodeCommit));
+		when(gitHubGraphQLFetcher.fetchFirstCommits("mockOrg/mockRepo", List.of(2), "Bearer mockToken"))
+			.thenReturn(Map.of(2, firstCodeCommit));
+		when(workDay.calculateWorkTimeAndHolidayBetween(any(Long.class), any(Long.class), any(CalendarTypeEnum.class),
+				any(ZoneId.class)))
+			.thenAnswer(invocation -> {
+				long firstParam = invocation.getArgument(0);
+				long secondParam = invocation.getArgument(1);
+				return WorkInfo.builder().workTime(secondParam - firstParam).build();
+			});
+
+		List<LeadTime> leadTimes = githubService.fetchRepoData(request)
+			.getSourceControlLeadTimes()
+			.get(0)
+			.getLeadTimes();
+
+		assertEquals(2, leadTimes.size());
+		assertEquals(1717174800000L, leadTimes.get(0).getFirstCommitTimeInPr());
+		assertEquals(2588399000L, leadTimes.get(0).getPrLeadTime());
+		assertEquals(1717174800000L, leadTimes.get(1).getFirstCommitTimeInPr());
+		assertEquals(2588399000L, leadTimes.get(1).getPrLeadTime());
+		verify(gitHubFeignClient, never()).getPullRequestCommitInfo(any(), any(), any());
+		verify(gitHubMetadataRepository).savePullRequestFirstCommit("mockOrg/mockRepo", 2, firstCodeCommit);
+		verify(gitHubMetadataRepository, never()).savePullRequestFirstCommit("mockOrg/mockRepo", 1, firstCodeCommit);
+	}
+
 	@Test
 	void shouldFetchAllReportDataWhenCrewIsEmpty() {
 		String mockToken = "mockToken";
@@ -13,6 +13,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -116,4 +118,32 @@ class BoardUtilTest {
 		Assertions.assertEquals(statusChangedItemsWithoutFlagExpect, result);
 	}
 
+	@Test
+	void shouldSubtractEachFlagOnlyFromTheColumnsItOverlaps() {
+		long oneDay = 1000L * 60 * 60 * 24;
+		List<StatusChangedItem> statusChangedItems = List.of(
+				StatusChangedItem.builder().timestamp(0).status("To do").build(),
+				StatusChangedItem.builder().timestamp(oneDay).status("FLAG").build(),
+				StatusChangedItem.builder().timestamp(2 * oneDay).status("Doing").build(),
+				StatusChangedItem.builder().timestamp(3 * oneDay).status("removeFlag").build(),
+				StatusChangedItem.builder().timestamp(5 * oneDay).status("FLAG").build(),
+				StatusChangedItem.builder().timestamp(6 * oneDay).status("Testing").build(),
+				StatusChangedItem.builder().timestamp(7 * oneDay).status("removeFlag").build(),
+				StatusChangedItem.builder().timestamp(8 * oneDay).status("Done").build(),
+				StatusChangedItem.builder().timestamp(9 * oneDay).status("FLAG").build(),
+				StatusChangedItem.builder().timestamp(10 * oneDay).status("removeFlag").build());
+
+		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
+			.thenAnswer(invocation -> (double) (invocation.<Long>getArgument(1) - invocation.<Long>getArgument(0))
+					/ oneDay);
+		Map<String, Double> result = boardUtil
+			.getCycleTimeInfos(statusChangedItems, List.of("DONE"), true, CalendarTypeEnum.REGULAR,
+					ZoneId.of("Asia/Shanghai"))
+			.stream()
+			.filter(cycleTimeInfo -> !"DONE".equals(cycleTimeInfo.getColumn()))
+			.collect(Collectors.toMap(CycleTimeInfo::getColumn, CycleTimeInfo::getDay));
+
+		Assertions.assertEquals(Map.of("TO DO", 1.0, "DOING", 2.0, "TESTING", 1.0, "FLAG", 4.0), result);
+	}
+
 }
@@ -0,0 +1,31 @@
+package heartbeat.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StripedLockTest {
+
+	@Test
+	void shouldReturnSameLockForSameKeyAndSpreadDifferentKeys() {
+		StripedLock stripedLock = new StripedLock(64);
+
+		assertSame(stripedLock.of("uuid/20240310-20240409-1710000000000"),
+				stripedLock.of("uuid/20240310-20240409-1710000000000"));
+		assertEquals(64, IntStream.range(0, 10_000).mapToObj(i -> stripedLock.of("report-" + i)).distinct().count());
+		assertNotSame(stripedLock.of("a"), stripedLock.of("b"));
+	}
+
+	@Test
+	void shouldKeepOneLockGivenNoStripes() {
+		StripedLock stripedLock = new StripedLock(0);
+
+		assertSame(stripedLock.of("a"), stripedLock.of("b"));
+		assertSame(stripedLock.of(""), stripedLock.of("\u0000"));
+	}
+
+}